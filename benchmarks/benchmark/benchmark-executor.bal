@@ -15,6 +15,7 @@ public function main(string... args) {
     addFunctions();
     function() func = getFunction(functionName);
     executeBenchmark(func, functionName, warmupIterations, benchmarkIterations);
+    runCleanupFunction(functionName);
 }
 
 function executeBenchmark(function () f, string functionName, int warmupIterations, int benchmarkIterations) {
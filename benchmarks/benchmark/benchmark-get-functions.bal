@@ -1,14 +1,29 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkmime;
+import benchmarkcrypto;
+import benchmarklog;
+import benchmarkobserve;
+import benchmarktask;
+import benchmarkfile;
 import ballerina/io;
 
 map<function()> functions;
+// Functions run once after the iterations of a benchmark, to release the resources created by the benchmark
+map<function()> cleanupFunctions;
 
 function getFunction(string name) returns (function()) {
     return functions[name];
 }
 
+function runCleanupFunction(string name) {
+    var cleanup = cleanupFunctions[name];
+    if (cleanup is function()) {
+        cleanup();
+    }
+}
+
 function addFunctions() {
     addJSONFunctions();
     addIntFunctions();
@@ -16,7 +31,20 @@ function addFunctions() {
     addTimeFunctions();
     addSprintfFunctions();
     addIoFunctions();
+    addMimeFunctions();
+    addCryptoFunctions();
+    addLogFunctions();
+    addObserveFunctions();
+    addTaskFunctions();
+    addFileFunctions();
     addStringFunctions();
+    addUnionFunctions();
+    addJsonSerializationFunctions();
+    addDecimalFunctions();
+    addCloneFunctions();
+    addDeepValueFunctions();
+    addXmlFunctions();
+    addXmlNavigationFunctions();
 }
 
 function addJSONFunctions() {
@@ -89,6 +117,8 @@ function addTimeFunctions() {
     functions["benchmarkTimeGetFunctions"] = benchmarktypes:benchmarkTimeGetFunctions;
     functions["benchmarkGetDateFunction"] = benchmarktypes:benchmarkGetDateFunction;
     functions["benchmarkGetTimeFunction"] = benchmarktypes:benchmarkGetTimeFunction;
+    functions["benchmarkGetFieldsFunction"] = benchmarktypes:benchmarkGetFieldsFunction;
+    functions["benchmarkFormatLogTimestampFunction"] = benchmarktypes:benchmarkFormatLogTimestampFunction;
     functions["benchmarkAddDurationFunction"] = benchmarktypes:benchmarkAddDurationFunction;
     functions["benchmarkSubtractDurationFunction"] = benchmarktypes:benchmarkSubtractDurationFunction;
     functions["benchmarkToTimezoneFunction"] = benchmarktypes:benchmarkToTimezoneFunction;
@@ -113,6 +143,54 @@ function addIoFunctions() {
     functions["benchmarkInitFileChannelAppendMode"] = benchmarkio:benchmarkInitFileChannelAppendMode;
     functions["benchmarkReadBytes"] = benchmarkio:benchmarkReadBytes;
     functions["benchmarkWriteBytes"] = benchmarkio:benchmarkWriteBytes;
+    functions["benchmarkWriteJson"] = benchmarkio:benchmarkWriteJson;
+    functions["benchmarkReadCsvStream"] = benchmarkio:benchmarkReadCsvStream;
+    functions["benchmarkReadCsvTable"] = benchmarkio:benchmarkReadCsvTable;
+    functions["benchmarkReadCsvRecordTable"] = benchmarkio:benchmarkReadCsvRecordTable;
+    functions["benchmarkReadCsvRecordStreamWithColumns"] = benchmarkio:benchmarkReadCsvRecordStreamWithColumns;
+    functions["benchmarkConcurrentReadBlocking"] = benchmarkio:benchmarkConcurrentReadBlocking;
+    functions["benchmarkConcurrentReadNonBlocking"] = benchmarkio:benchmarkConcurrentReadNonBlocking;
+    functions["benchmarkScanFile"] = benchmarkio:benchmarkScanFile;
+    functions["benchmarkScanMappedFile"] = benchmarkio:benchmarkScanMappedFile;
+    cleanupFunctions["benchmarkScanFile"] = benchmarkio:cleanupScanFile;
+    cleanupFunctions["benchmarkScanMappedFile"] = benchmarkio:cleanupScanFile;
+    functions["benchmarkReadBytesInChunks"] = benchmarkio:benchmarkReadBytesInChunks;
+    functions["benchmarkReadCharactersInChunks"] = benchmarkio:benchmarkReadCharactersInChunks;
+    functions["benchmarkReadDataValues"] = benchmarkio:benchmarkReadDataValues;
+}
+
+function addMimeFunctions() {
+    functions["benchmarkReadMultipartBodyParts"] = benchmarkmime:benchmarkReadMultipartBodyParts;
+    functions["benchmarkStreamMultipartBodyParts"] = benchmarkmime:benchmarkStreamMultipartBodyParts;
+}
+
+function addCryptoFunctions() {
+    functions["benchmarkHashSha256"] = benchmarkcrypto:benchmarkHashSha256;
+    functions["benchmarkHmacSha256"] = benchmarkcrypto:benchmarkHmacSha256;
+    functions["benchmarkEncryptAesCbc"] = benchmarkcrypto:benchmarkEncryptAesCbc;
+    functions["benchmarkHashChannelSha256"] = benchmarkcrypto:benchmarkHashChannelSha256;
+    functions["benchmarkHmacChannelSha256"] = benchmarkcrypto:benchmarkHmacChannelSha256;
+}
+
+function addLogFunctions() {
+    functions["benchmarkPrintInfo"] = benchmarklog:benchmarkPrintInfo;
+    functions["benchmarkPrintError"] = benchmarklog:benchmarkPrintError;
+    functions["benchmarkPrintDebugDisabled"] = benchmarklog:benchmarkPrintDebugDisabled;
+    functions["benchmarkPrintDebugDisabledLazyMessage"] = benchmarklog:benchmarkPrintDebugDisabledLazyMessage;
+}
+
+function addObserveFunctions() {
+    functions["benchmarkObservedFunctionCall"] = benchmarkobserve:benchmarkObservedFunctionCall;
+    functions["benchmarkObservedMethodCall"] = benchmarkobserve:benchmarkObservedMethodCall;
+    functions["benchmarkObservedNestedCalls"] = benchmarkobserve:benchmarkObservedNestedCalls;
+}
+
+function addTaskFunctions() {
+    functions["benchmarkConcurrentTimers"] = benchmarktask:benchmarkConcurrentTimers;
+}
+
+function addFileFunctions() {
+    functions["benchmarkDirectoryListenerEvents"] = benchmarkfile:benchmarkDirectoryListenerEvents;
 }
 
 function addStringFunctions() {
@@ -140,3 +218,55 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addUnionFunctions() {
+    functions["benchmarkIsUnion2LastMember"] = benchmarktypes:benchmarkIsUnion2LastMember;
+    functions["benchmarkIsUnion10LastMember"] = benchmarktypes:benchmarkIsUnion10LastMember;
+    functions["benchmarkIsUnion50LastMember"] = benchmarktypes:benchmarkIsUnion50LastMember;
+    functions["benchmarkIsUnion50NonMember"] = benchmarktypes:benchmarkIsUnion50NonMember;
+    functions["benchmarkIsSimpleUnion50"] = benchmarktypes:benchmarkIsSimpleUnion50;
+    functions["benchmarkMatchUnion50"] = benchmarktypes:benchmarkMatchUnion50;
+}
+
+function addJsonSerializationFunctions() {
+    functions["benchmarkJsonToJsonString"] = benchmarktypes:benchmarkJsonToJsonString;
+    functions["benchmarkRecordArrayToJsonString"] = benchmarktypes:benchmarkRecordArrayToJsonString;
+    functions["benchmarkIntArrayToJsonString"] = benchmarktypes:benchmarkIntArrayToJsonString;
+}
+
+function addDecimalFunctions() {
+    functions["benchmarkDecimalAddition"] = benchmarktypes:benchmarkDecimalAddition;
+    functions["benchmarkDecimalMultiplication"] = benchmarktypes:benchmarkDecimalMultiplication;
+    functions["benchmarkDecimalDivision"] = benchmarktypes:benchmarkDecimalDivision;
+    functions["benchmarkDecimalInvoiceTotal"] = benchmarktypes:benchmarkDecimalInvoiceTotal;
+    functions["benchmarkDecimalInterestAccrual"] = benchmarktypes:benchmarkDecimalInterestAccrual;
+}
+
+function addCloneFunctions() {
+    functions["benchmarkCloneDeepJson"] = benchmarktypes:benchmarkCloneDeepJson;
+    functions["benchmarkCloneReadOnlyDeepJson"] = benchmarktypes:benchmarkCloneReadOnlyDeepJson;
+    functions["benchmarkCloneReadOnlySubtree"] = benchmarktypes:benchmarkCloneReadOnlySubtree;
+    functions["benchmarkCloneIntArray"] = benchmarktypes:benchmarkCloneIntArray;
+    functions["benchmarkCloneIntArrayAndUpdate"] = benchmarktypes:benchmarkCloneIntArrayAndUpdate;
+    functions["benchmarkCloneRecordArray"] = benchmarktypes:benchmarkCloneRecordArray;
+}
+
+function addDeepValueFunctions() {
+    functions["benchmarkDeepJsonEquality"] = benchmarktypes:benchmarkDeepJsonEquality;
+    functions["benchmarkDeepJsonInequality"] = benchmarktypes:benchmarkDeepJsonInequality;
+    functions["benchmarkLongChainEquality"] = benchmarktypes:benchmarkLongChainEquality;
+    functions["benchmarkLongChainClone"] = benchmarktypes:benchmarkLongChainClone;
+    functions["benchmarkDeepJsonCloneWithType"] = benchmarktypes:benchmarkDeepJsonCloneWithType;
+    functions["benchmarkDeepJsonToString"] = benchmarktypes:benchmarkDeepJsonToString;
+}
+
+function addXmlFunctions() {
+    functions["benchmarkXmlConcatElements"] = benchmarktypes:benchmarkXmlConcatElements;
+    functions["benchmarkXmlConcatMixedContent"] = benchmarktypes:benchmarkXmlConcatMixedContent;
+    functions["benchmarkXmlConcatSequences"] = benchmarktypes:benchmarkXmlConcatSequences;
+}
+
+function addXmlNavigationFunctions() {
+    functions["benchmarkXmlSelectDescendants"] = benchmarktypes:benchmarkXmlSelectDescendants;
+    functions["benchmarkXmlSelectNestedDescendants"] = benchmarktypes:benchmarkXmlSelectNestedDescendants;
+}
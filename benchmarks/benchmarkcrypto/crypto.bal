@@ -0,0 +1,46 @@
+import ballerina/crypto;
+import ballerina/io;
+
+// Size of a typical signed JWT header and payload
+const int TOKEN_SIZE = 512;
+const int CHANNEL_CONTENT_SIZE = 1048576;
+
+byte[] token = createContent(TOKEN_SIZE);
+byte[] channelContent = createContent(CHANNEL_CONTENT_SIZE);
+byte[] hmacKey = "some-secret-key-of-32-characters".toBytes();
+byte[] aesKey = "16-byte-aes-key!".toBytes();
+byte[] aesIv = "16-byte-aes-iv!!".toBytes();
+
+function createContent(int size) returns byte[] {
+    byte[] content = [];
+    int i = 0;
+    while (i < size) {
+        content[i] = <byte> (i % 256);
+        i = i + 1;
+    }
+    return content;
+}
+
+public function benchmarkHashSha256() {
+    _ = crypto:hashSha256(token);
+}
+
+public function benchmarkHmacSha256() {
+    _ = crypto:hmacSha256(token, hmacKey);
+}
+
+public function benchmarkEncryptAesCbc() {
+    _ = checkpanic crypto:encryptAesCbc(token, aesKey, aesIv);
+}
+
+public function benchmarkHashChannelSha256() {
+    io:ReadableByteChannel byteChannel = checkpanic io:createReadableChannel(channelContent);
+    _ = checkpanic crypto:hashChannel(byteChannel, crypto:SHA256);
+    checkpanic byteChannel.close();
+}
+
+public function benchmarkHmacChannelSha256() {
+    io:ReadableByteChannel byteChannel = checkpanic io:createReadableChannel(channelContent);
+    _ = checkpanic crypto:hmacChannel(byteChannel, hmacKey, crypto:SHA256);
+    checkpanic byteChannel.close();
+}
@@ -0,0 +1,47 @@
+import ballerina/file;
+import ballerina/runtime;
+
+// Number of files created in the watched directory in each iteration
+const int CREATED_FILES = 10000;
+
+int receivedEvents = 0;
+int iteration = 0;
+
+service fileEventService = service {
+    resource function onEvents(file:FileEvent[] events) {
+        lock {
+            receivedEvents = receivedEvents + events.length();
+        }
+    }
+};
+
+function getReceivedEvents() returns int {
+    lock {
+        return receivedEvents;
+    }
+}
+
+public function benchmarkDirectoryListenerEvents() {
+    lock {
+        receivedEvents = 0;
+    }
+    iteration = iteration + 1;
+    string directory = checkpanic file:createDir(file:tempDir() + "/ballerina-file-events-" + iteration.toString());
+    file:Listener directoryListener = new({
+        path: directory,
+        batchWindowInMillis: 100,
+        maxBatchSize: 1000
+    });
+    checkpanic directoryListener.__attach(fileEventService);
+    checkpanic directoryListener.__start();
+    int i = 0;
+    while (i < CREATED_FILES) {
+        _ = checkpanic file:createFile(directory + "/file-" + i.toString() + ".txt");
+        i = i + 1;
+    }
+    while (getReceivedEvents() < CREATED_FILES) {
+        runtime:sleep(10);
+    }
+    checkpanic directoryListener.__immediateStop();
+    checkpanic file:remove(directory, true);
+}
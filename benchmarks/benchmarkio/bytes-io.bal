@@ -28,3 +28,16 @@ public function benchmarkWriteBytes() {
     var results = byteChannel.close();
 }
 
+
+public function benchmarkWriteJson() {
+    map<json> content = {};
+    int i = 0;
+    while (i < 1000) {
+        content["key" + i.toString()] = {id: i, name: "name" + i.toString(), active: true};
+        i = i + 1;
+    }
+    io:WritableByteChannel byteChannel = checkpanic io:openWritableFile("benchmarkio/resources/testJson.txt");
+    io:WritableCharacterChannel characterChannel = new (byteChannel, "UTF-8");
+    var result = characterChannel.writeJson(content);
+    var results = characterChannel.close();
+}
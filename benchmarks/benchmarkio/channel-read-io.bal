@@ -0,0 +1,72 @@
+import ballerina/io;
+
+const int CHANNEL_READ_CHUNK_SIZE = 1024;
+const int CHANNEL_READ_VALUE_COUNT = 65536;
+const string CHANNEL_READ_FILE_PATH = "benchmarkio/resources/channel-read.bin";
+const string CHANNEL_READ_TEXT_FILE_PATH = "benchmarkio/resources/channel-read.txt";
+
+boolean channelReadFilesCreated = false;
+
+function createChannelReadFiles() {
+    io:WritableByteChannel byteChannel = checkpanic io:openWritableFile(CHANNEL_READ_FILE_PATH);
+    io:WritableDataChannel dataChannel = new (byteChannel);
+    int i = 0;
+    while (i < CHANNEL_READ_VALUE_COUNT) {
+        checkpanic dataChannel.writeInt64(i);
+        i = i + 1;
+    }
+    checkpanic dataChannel.close();
+
+    io:WritableByteChannel textByteChannel = checkpanic io:openWritableFile(CHANNEL_READ_TEXT_FILE_PATH);
+    io:WritableCharacterChannel characterChannel = new (textByteChannel, "UTF-8");
+    i = 0;
+    while (i < CHANNEL_READ_VALUE_COUNT) {
+        _ = checkpanic characterChannel.write("Ballerina I/O " + i.toString() + "\n", 0);
+        i = i + 1;
+    }
+    checkpanic characterChannel.close();
+    channelReadFilesCreated = true;
+}
+
+function initChannelReadFiles() {
+    if (!channelReadFilesCreated) {
+        createChannelReadFiles();
+    }
+}
+
+public function benchmarkReadBytesInChunks() {
+    initChannelReadFiles();
+    io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile(CHANNEL_READ_FILE_PATH);
+    while (true) {
+        byte[]|io:Error content = byteChannel.read(CHANNEL_READ_CHUNK_SIZE);
+        if (!(content is byte[] && content.length() > 0)) {
+            break;
+        }
+    }
+    checkpanic byteChannel.close();
+}
+
+public function benchmarkReadCharactersInChunks() {
+    initChannelReadFiles();
+    io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile(CHANNEL_READ_TEXT_FILE_PATH);
+    io:ReadableCharacterChannel characterChannel = new (byteChannel, "UTF-8");
+    while (true) {
+        string|io:Error content = characterChannel.read(CHANNEL_READ_CHUNK_SIZE);
+        if (!(content is string && content.length() > 0)) {
+            break;
+        }
+    }
+    checkpanic characterChannel.close();
+}
+
+public function benchmarkReadDataValues() {
+    initChannelReadFiles();
+    io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile(CHANNEL_READ_FILE_PATH);
+    io:ReadableDataChannel dataChannel = new (byteChannel);
+    int i = 0;
+    while (i < CHANNEL_READ_VALUE_COUNT) {
+        _ = checkpanic dataChannel.readInt64();
+        i = i + 1;
+    }
+    checkpanic dataChannel.close();
+}
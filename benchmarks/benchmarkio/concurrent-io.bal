@@ -0,0 +1,67 @@
+import ballerina/io;
+
+const int CONCURRENT_READERS = 64;
+const int READ_CHUNK_SIZE = 8192;
+// Size of the file read by each reader, in chunks
+const int READ_FILE_CHUNK_COUNT = 1024;
+const string READ_FILE_PATH = "benchmarkio/resources/concurrentRead.txt";
+
+boolean readFileCreated = false;
+
+function createReadFile() {
+    byte[] chunk = [];
+    int i = 0;
+    while (i < READ_CHUNK_SIZE) {
+        chunk[i] = 97;
+        i = i + 1;
+    }
+    io:WritableByteChannel byteChannel = checkpanic io:openWritableFile(READ_FILE_PATH);
+    i = 0;
+    while (i < READ_FILE_CHUNK_COUNT) {
+        int offset = 0;
+        while (offset < chunk.length()) {
+            offset = offset + checkpanic byteChannel.write(chunk, offset);
+        }
+        i = i + 1;
+    }
+    checkpanic byteChannel.close();
+    readFileCreated = true;
+}
+
+function readConcurrently(boolean nonBlocking) {
+    if (!readFileCreated) {
+        createReadFile();
+    }
+    future<int>[] readers = [];
+    int i = 0;
+    while (i < CONCURRENT_READERS) {
+        readers.push(start readFile(nonBlocking));
+        i = i + 1;
+    }
+    foreach var reader in readers {
+        int count = wait reader;
+    }
+}
+
+function readFile(boolean nonBlocking) returns int {
+    io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile(READ_FILE_PATH, nonBlocking);
+    int count = 0;
+    while (true) {
+        byte[]|io:Error content = byteChannel.read(READ_CHUNK_SIZE);
+        if (content is byte[] && content.length() > 0) {
+            count = count + content.length();
+        } else {
+            break;
+        }
+    }
+    checkpanic byteChannel.close();
+    return count;
+}
+
+public function benchmarkConcurrentReadBlocking() {
+    readConcurrently(false);
+}
+
+public function benchmarkConcurrentReadNonBlocking() {
+    readConcurrently(true);
+}
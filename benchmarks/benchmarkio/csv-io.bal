@@ -0,0 +1,79 @@
+import ballerina/io;
+
+// Number of records in the benchmark CSV file, which makes a file of about 1GB
+const int CSV_RECORD_COUNT = 15000000;
+const string CSV_FILE_PATH = "benchmarkio/resources/benchmark.csv";
+// Tables hold all records in memory, hence are read from a smaller file
+const int CSV_TABLE_RECORD_COUNT = 500000;
+const string CSV_TABLE_FILE_PATH = "benchmarkio/resources/benchmarkTable.csv";
+
+type Order record {
+    int id;
+    string customer;
+    string address;
+    float amount;
+    string status;
+};
+
+type OrderAmount record {
+    int id;
+    float amount;
+};
+
+boolean csvFileCreated = false;
+boolean csvTableFileCreated = false;
+
+function createCsvFile(string path, int recordCount) {
+    io:WritableCSVChannel csvChannel = checkpanic io:openWritableCsvFile(path);
+    int i = 0;
+    while (i < recordCount) {
+        string id = i.toString();
+        checkpanic csvChannel.write([id, "Customer " + id, "Main Street, Colombo", "1234.56", "pending"]);
+        i = i + 1;
+    }
+    checkpanic csvChannel.close();
+}
+
+function openTableFile() returns io:ReadableCSVChannel {
+    if (!csvTableFileCreated) {
+        createCsvFile(CSV_TABLE_FILE_PATH, CSV_TABLE_RECORD_COUNT);
+        csvTableFileCreated = true;
+    }
+    return checkpanic io:openReadableCsvFile(CSV_TABLE_FILE_PATH);
+}
+
+public function benchmarkReadCsvStream() {
+    if (!csvFileCreated) {
+        createCsvFile(CSV_FILE_PATH, CSV_RECORD_COUNT);
+        csvFileCreated = true;
+    }
+    io:ReadableCSVChannel csvChannel = checkpanic io:openReadableCsvFile(CSV_FILE_PATH);
+    stream<string[], io:Error> records = csvChannel.csvStream();
+    var nextRecord = records.next();
+    while (nextRecord is record {| string[] value; |}) {
+        nextRecord = records.next();
+    }
+    checkpanic csvChannel.close();
+}
+
+public function benchmarkReadCsvTable() {
+    io:ReadableCSVChannel csvChannel = openTableFile();
+    table<record {}> orders = checkpanic csvChannel.getTable(Order);
+    checkpanic csvChannel.close();
+}
+
+public function benchmarkReadCsvRecordTable() {
+    io:ReadableCSVChannel csvChannel = openTableFile();
+    table<record {}> orders = checkpanic csvChannel.recordTable(Order);
+    checkpanic csvChannel.close();
+}
+
+public function benchmarkReadCsvRecordStreamWithColumns() {
+    io:ReadableCSVChannel csvChannel = openTableFile();
+    stream<record {}, io:Error> orders = checkpanic csvChannel.recordStream(OrderAmount, [0, 3]);
+    var nextOrder = orders.next();
+    while (nextOrder is record {| record {} value; |}) {
+        nextOrder = orders.next();
+    }
+    checkpanic csvChannel.close();
+}
@@ -0,0 +1,59 @@
+import ballerina/file;
+import ballerina/io;
+
+const int SCAN_CHUNK_SIZE = 65536;
+// Size of the scanned file in chunks, which makes a file of 1GB
+const int SCAN_FILE_CHUNK_COUNT = 16384;
+
+// The scanned file is created under the temp directory on first use, and removed by cleanupScanFile
+string scanFilePath = "";
+
+function createScanFile() {
+    byte[] chunk = [];
+    int i = 0;
+    while (i < SCAN_CHUNK_SIZE) {
+        chunk[i] = <byte> (i % 256);
+        i = i + 1;
+    }
+    string path = file:tempDir() + "/ballerina-benchmark-scan.bin";
+    io:WritableByteChannel byteChannel = checkpanic io:openWritableFile(path);
+    i = 0;
+    while (i < SCAN_FILE_CHUNK_COUNT) {
+        int offset = 0;
+        while (offset < chunk.length()) {
+            offset = offset + checkpanic byteChannel.write(chunk, offset);
+        }
+        i = i + 1;
+    }
+    checkpanic byteChannel.close();
+    scanFilePath = path;
+}
+
+function scanFile(boolean memoryMapped) {
+    if (scanFilePath == "") {
+        createScanFile();
+    }
+    io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile(scanFilePath, memoryMapped = memoryMapped);
+    while (true) {
+        byte[]|io:Error content = byteChannel.read(SCAN_CHUNK_SIZE);
+        if (!(content is byte[] && content.length() > 0)) {
+            break;
+        }
+    }
+    checkpanic byteChannel.close();
+}
+
+public function benchmarkScanFile() {
+    scanFile(false);
+}
+
+public function benchmarkScanMappedFile() {
+    scanFile(true);
+}
+
+public function cleanupScanFile() {
+    if (scanFilePath != "") {
+        checkpanic file:remove(scanFilePath);
+        scanFilePath = "";
+    }
+}
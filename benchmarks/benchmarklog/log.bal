@@ -0,0 +1,35 @@
+import ballerina/log;
+
+// Size of a typical log message
+const int MESSAGE_SIZE = 128;
+
+string message = createMessage(MESSAGE_SIZE);
+
+function createMessage(int size) returns string {
+    string content = "";
+    int i = 0;
+    while (i < size) {
+        content = content + "a";
+        i = i + 1;
+    }
+    return content;
+}
+
+public function benchmarkPrintInfo() {
+    log:printInfo(message);
+}
+
+public function benchmarkPrintError() {
+    log:printError(message, err = error("benchmark error"));
+}
+
+// Debug logs are disabled by default, hence this measures checking the log level of a call
+public function benchmarkPrintDebugDisabled() {
+    log:printDebug(message);
+}
+
+public function benchmarkPrintDebugDisabledLazyMessage() {
+    log:printDebug(function () returns string {
+        return message;
+    });
+}
@@ -0,0 +1,79 @@
+import ballerina/io;
+import ballerina/mime;
+
+const int MULTIPART_CHUNK_SIZE = 65536;
+// Size of the large body part in chunks, which makes a payload of 1GB
+const int MULTIPART_CHUNK_COUNT = 16384;
+const string MULTIPART_BOUNDARY = "e3a0b9ad7b4e7cdt";
+const string MULTIPART_FILE_PATH = "benchmarkmime/resources/multipart.bin";
+
+boolean multipartFileCreated = false;
+
+function writeFully(io:WritableByteChannel byteChannel, byte[] content) {
+    int offset = 0;
+    while (offset < content.length()) {
+        offset = offset + checkpanic byteChannel.write(content, offset);
+    }
+}
+
+function createMultipartFile() {
+    byte[] chunk = [];
+    int i = 0;
+    while (i < MULTIPART_CHUNK_SIZE) {
+        chunk[i] = <byte> (i % 256);
+        i = i + 1;
+    }
+    io:WritableByteChannel byteChannel = checkpanic io:openWritableFile(MULTIPART_FILE_PATH);
+    string partHeaders = "Content-Type: application/octet-stream\r\n\r\n";
+    writeFully(byteChannel, ("--" + MULTIPART_BOUNDARY + "\r\n" + partHeaders).toBytes());
+    i = 0;
+    while (i < MULTIPART_CHUNK_COUNT) {
+        writeFully(byteChannel, chunk);
+        i = i + 1;
+    }
+    string textPart = "Content-Type: text/plain\r\n\r\nBallerina text body part";
+    writeFully(byteChannel, ("\r\n--" + MULTIPART_BOUNDARY + "\r\n" + textPart + "\r\n--" + MULTIPART_BOUNDARY +
+                             "--\r\n").toBytes());
+    checkpanic byteChannel.close();
+    multipartFileCreated = true;
+}
+
+function getMultipartEntity() returns mime:Entity {
+    if (!multipartFileCreated) {
+        createMultipartFile();
+    }
+    io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile(MULTIPART_FILE_PATH);
+    mime:Entity entity = new;
+    entity.setByteChannel(byteChannel, mime:MULTIPART_MIXED + "; boundary=" + MULTIPART_BOUNDARY);
+    return entity;
+}
+
+function consumeBodyPart(mime:Entity bodyPart) {
+    io:ReadableByteChannel byteChannel = checkpanic bodyPart.getByteChannel();
+    while (true) {
+        byte[]|io:Error content = byteChannel.read(MULTIPART_CHUNK_SIZE);
+        if (!(content is byte[] && content.length() > 0)) {
+            break;
+        }
+    }
+    checkpanic byteChannel.close();
+}
+
+public function benchmarkReadMultipartBodyParts() {
+    mime:Entity[] bodyParts = checkpanic getMultipartEntity().getBodyParts();
+    foreach mime:Entity bodyPart in bodyParts {
+        consumeBodyPart(bodyPart);
+    }
+}
+
+public function benchmarkStreamMultipartBodyParts() {
+    stream<mime:Entity, mime:ParserError> bodyPartStream = checkpanic getMultipartEntity().getBodyPartsAsStream();
+    var bodyPart = bodyPartStream.next();
+    while (bodyPart is record {| mime:Entity value; |}) {
+        consumeBodyPart(bodyPart.value);
+        bodyPart = bodyPartStream.next();
+    }
+    if (bodyPart is error) {
+        panic bodyPart;
+    }
+}
@@ -0,0 +1,33 @@
+// Calls to these functions are observed when observability is enabled. Running the benchmarks with and without
+// --b7a.observability.enabled=true gives the per-call overhead of observing a call.
+
+Calculator calculator = new;
+
+class Calculator {
+    function add(int a, int b) returns int {
+        return a + b;
+    }
+}
+
+function add(int a, int b) returns int {
+    return a + b;
+}
+
+public function benchmarkObservedFunctionCall() {
+    _ = add(1, 2);
+}
+
+public function benchmarkObservedMethodCall() {
+    _ = calculator.add(1, 2);
+}
+
+public function benchmarkObservedNestedCalls() {
+    _ = sum(10);
+}
+
+function sum(int n) returns int {
+    if (n == 0) {
+        return 0;
+    }
+    return n + sum(n - 1);
+}
@@ -0,0 +1,47 @@
+import ballerina/runtime;
+import ballerina/task;
+
+// Timers are started with their initial delays spread over an interval, as per-session timeouts would be.
+const int CONCURRENT_TIMERS = 100000;
+const int TIMER_INTERVAL_MILLIS = 1000;
+
+int triggeredTimers = 0;
+
+service timerService = service {
+    resource function onTrigger() {
+        lock {
+            triggeredTimers = triggeredTimers + 1;
+        }
+    }
+};
+
+function getTriggeredTimers() returns int {
+    lock {
+        return triggeredTimers;
+    }
+}
+
+public function benchmarkConcurrentTimers() {
+    lock {
+        triggeredTimers = 0;
+    }
+    task:Scheduler[] timers = [];
+    int i = 0;
+    while (i < CONCURRENT_TIMERS) {
+        task:Scheduler timer = new({
+            intervalInMillis: TIMER_INTERVAL_MILLIS,
+            initialDelayInMillis: i % TIMER_INTERVAL_MILLIS,
+            noOfRecurrences: 2
+        });
+        checkpanic timer.attach(timerService);
+        checkpanic timer.'start();
+        timers.push(timer);
+        i = i + 1;
+    }
+    while (getTriggeredTimers() < CONCURRENT_TIMERS * 2) {
+        runtime:sleep(10);
+    }
+    foreach var timer in timers {
+        checkpanic timer.stop();
+    }
+}
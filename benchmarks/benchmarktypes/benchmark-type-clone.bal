@@ -0,0 +1,69 @@
+type Reading record {
+    string sensor;
+    int[] samples;
+    float[] weights;
+};
+
+final json deepJson = createDeepJson(6);
+final json & readonly readOnlyJson = createDeepJson(6).cloneReadOnly();
+final int[] largeIntArray = createIntArray(10000);
+final Reading[] readings = createReadings();
+
+function createDeepJson(int depth) returns json {
+    if (depth == 0) {
+        return {id: depth, name: "leaf", active: true, values: [1, 2, 3, 4]};
+    }
+    map<json> node = {};
+    int i = 0;
+    while (i < 4) {
+        node["child" + i.toString()] = createDeepJson(depth - 1);
+        i = i + 1;
+    }
+    return node;
+}
+
+function createIntArray(int size) returns int[] {
+    int[] result = [];
+    int i = 0;
+    while (i < size) {
+        result.push(i);
+        i = i + 1;
+    }
+    return result;
+}
+
+function createReadings() returns Reading[] {
+    Reading[] result = [];
+    int i = 0;
+    while (i < 100) {
+        result.push({sensor: "sensor" + i.toString(), samples: createIntArray(100), weights: [0.5, 0.25, 0.25]});
+        i = i + 1;
+    }
+    return result;
+}
+
+public function benchmarkCloneDeepJson() {
+    json copy = deepJson.clone();
+}
+
+public function benchmarkCloneReadOnlyDeepJson() {
+    json copy = deepJson.cloneReadOnly();
+}
+
+public function benchmarkCloneReadOnlySubtree() {
+    map<json> tree = {header: {version: 1}, body: readOnlyJson};
+    json copy = tree.clone();
+}
+
+public function benchmarkCloneIntArray() {
+    int[] copy = largeIntArray.clone();
+}
+
+public function benchmarkCloneIntArrayAndUpdate() {
+    int[] copy = largeIntArray.clone();
+    copy[0] = 1;
+}
+
+public function benchmarkCloneRecordArray() {
+    Reading[] copy = readings.clone();
+}
@@ -0,0 +1,38 @@
+public function benchmarkDecimalAddition() {
+    decimal a = 1250.75;
+    decimal b = 99.99;
+    decimal c = a + b;
+}
+
+public function benchmarkDecimalMultiplication() {
+    decimal price = 19.99;
+    decimal quantity = 3;
+    decimal total = price * quantity;
+}
+
+public function benchmarkDecimalDivision() {
+    decimal total = 100.00;
+    decimal parts = 4;
+    decimal share = total / parts;
+}
+
+public function benchmarkDecimalInvoiceTotal() {
+    decimal[] prices = [19.99, 5.25, 100.00, 0.99, 42.50, 7.75, 12.00, 3.33];
+    decimal taxRate = 0.0825;
+    decimal discount = 0.10;
+    decimal total = 0;
+    foreach decimal price in prices {
+        decimal discounted = price - (price * discount);
+        total = total + discounted + (discounted * taxRate);
+    }
+}
+
+public function benchmarkDecimalInterestAccrual() {
+    decimal balance = 10000.00;
+    decimal dailyRate = 0.0001;
+    int day = 0;
+    while (day < 30) {
+        balance = balance + (balance * dailyRate);
+        day = day + 1;
+    }
+}
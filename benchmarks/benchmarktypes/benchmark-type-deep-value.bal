@@ -0,0 +1,44 @@
+type Node record {
+    int id;
+    Node? next;
+};
+
+type MapJson map<json>;
+
+final json deepJsonCopy = deepJson.clone();
+final Node longChain = createChain(500);
+final Node longChainCopy = createChain(500);
+
+function createChain(int length) returns Node {
+    Node head = {id: 0, next: ()};
+    int i = 1;
+    while (i < length) {
+        head = {id: i, next: head};
+        i = i + 1;
+    }
+    return head;
+}
+
+public function benchmarkDeepJsonEquality() {
+    boolean result = deepJson == deepJsonCopy;
+}
+
+public function benchmarkDeepJsonInequality() {
+    boolean result = deepJson != longChain.toJson();
+}
+
+public function benchmarkLongChainEquality() {
+    boolean result = longChain == longChainCopy;
+}
+
+public function benchmarkLongChainClone() {
+    Node copy = longChain.clone();
+}
+
+public function benchmarkDeepJsonCloneWithType() {
+    map<json>|error result = deepJson.cloneWithType(MapJson);
+}
+
+public function benchmarkDeepJsonToString() {
+    string result = deepJson.toString();
+}
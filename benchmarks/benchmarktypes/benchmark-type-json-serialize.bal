@@ -0,0 +1,50 @@
+type Order record {
+    int id;
+    string customer;
+    float total;
+    decimal tax;
+    int[] items;
+    float[] prices;
+};
+
+final json largeJson = createLargeJson();
+final Order[] orders = createOrders();
+
+function createLargeJson() returns json {
+    map<json> entries = {};
+    int i = 0;
+    while (i < 1000) {
+        entries["key" + i.toString()] = {id: i, name: "name\u{00E9}" + i.toString(), active: true, score: 1.5};
+        i = i + 1;
+    }
+    return entries;
+}
+
+function createOrders() returns Order[] {
+    Order[] result = [];
+    int i = 0;
+    while (i < 1000) {
+        result.push({id: i, customer: "customer" + i.toString(), total: 10.5, tax: 1.25, items: [1, 2, 3, 4, 5],
+                     prices: [1.5, 2.5, 3.5, 4.5, 5.5]});
+        i = i + 1;
+    }
+    return result;
+}
+
+public function benchmarkJsonToJsonString() {
+    string result = largeJson.toJsonString();
+}
+
+public function benchmarkRecordArrayToJsonString() {
+    string result = orders.toJsonString();
+}
+
+public function benchmarkIntArrayToJsonString() {
+    int[] values = [];
+    int i = 0;
+    while (i < 10000) {
+        values[i] = i;
+        i = i + 1;
+    }
+    string result = values.toJsonString();
+}
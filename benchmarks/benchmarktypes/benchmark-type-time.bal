@@ -86,6 +86,17 @@ public function benchmarkGetTimeFunction() {
     (hour, minute, second, milliSecond) = time.getTime();
 }
 
+public function benchmarkGetFieldsFunction() {
+    time:TimeZone zoneValue = { id: "America/Panama" };
+    time:Time time = { time: 1456876583555, zone: zoneValue };
+    [int, int, int, int, int, int, int] fields = time:getFields(time);
+}
+
+public function benchmarkFormatLogTimestampFunction() {
+    time:Time time = time:currentTime();
+    string|error timestamp = time:format(time, "yyyy-MM-dd HH:mm:ss,SSS");
+}
+
 public function benchmarkAddDurationFunction() {
     time:Time time = time:parse("2017-06-26T09:46:22.444-0500", "yyyy-MM-dd'T'HH:mm:ss.SSSZ");
     time = time.addDuration(1, 1, 1, 1, 1, 1, 1);
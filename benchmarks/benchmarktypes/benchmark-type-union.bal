@@ -0,0 +1,66 @@
+// The wider unions are padded with fixed length array types, which are distinct structured types like the record
+// member. The record member is kept last so that it is only matched after all the other members are tested.
+type UnionMember record {|
+    int id;
+|};
+
+type OtherMember record {|
+    string name;
+|};
+
+type Union2 OtherMember|UnionMember;
+
+type Union10 int[1]|int[2]|int[3]|int[4]|int[5]|int[6]|int[7]|int[8]|int[9]|UnionMember;
+
+type Union50 int[1]|int[2]|int[3]|int[4]|int[5]|int[6]|int[7]|int[8]|int[9]|int[10]
+    |int[11]|int[12]|int[13]|int[14]|int[15]|int[16]|int[17]|int[18]|int[19]|int[20]
+    |int[21]|int[22]|int[23]|int[24]|int[25]|int[26]|int[27]|int[28]|int[29]|int[30]
+    |int[31]|int[32]|int[33]|int[34]|int[35]|int[36]|int[37]|int[38]|int[39]|int[40]
+    |int[41]|int[42]|int[43]|int[44]|int[45]|int[46]|int[47]|int[48]|int[49]|UnionMember;
+
+type SimpleUnion50 int|float|decimal|boolean|()|int[1]|int[2]|int[3]|int[4]|int[5]
+    |int[6]|int[7]|int[8]|int[9]|int[10]|int[11]|int[12]|int[13]|int[14]|int[15]
+    |int[16]|int[17]|int[18]|int[19]|int[20]|int[21]|int[22]|int[23]|int[24]|int[25]
+    |int[26]|int[27]|int[28]|int[29]|int[30]|int[31]|int[32]|int[33]|int[34]|int[35]
+    |int[36]|int[37]|int[38]|int[39]|int[40]|int[41]|int[42]|int[43]|int[44]|UnionMember;
+
+public function benchmarkIsUnion2LastMember() {
+    any value = <UnionMember> {id: 2};
+    boolean result = value is Union2;
+}
+
+public function benchmarkIsUnion10LastMember() {
+    any value = <UnionMember> {id: 10};
+    boolean result = value is Union10;
+}
+
+public function benchmarkIsUnion50LastMember() {
+    any value = <UnionMember> {id: 50};
+    boolean result = value is Union50;
+}
+
+public function benchmarkIsUnion50NonMember() {
+    any value = "not a member";
+    boolean result = value is Union50;
+}
+
+public function benchmarkIsSimpleUnion50() {
+    any value = true;
+    boolean result = value is SimpleUnion50;
+}
+
+public function benchmarkMatchUnion50() {
+    Union50 value = <UnionMember> {id: 50};
+    int result = 0;
+    match value {
+        var v if v is int[1] => {
+            result = 1;
+        }
+        var v if v is int[25] => {
+            result = 25;
+        }
+        var v if v is UnionMember => {
+            result = 50;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+// Number of orders in the navigated document, which makes a document of about 50MB
+const int XML_ORDER_COUNT = 130000;
+
+final xml orderDocument = createOrderDocument(XML_ORDER_COUNT);
+
+function createOrderDocument(int orderCount) returns xml {
+    string[] orders = [];
+    int i = 0;
+    while (i < orderCount) {
+        string id = i.toString();
+        orders[i] = "<order id=\"" + id + "\"><customer><name>Customer " + id + "</name>" +
+            "<address><street>Main Street</street><city>Colombo</city><country>Sri Lanka</country></address>" +
+            "</customer><lines><line><sku>SKU-" + id + "-1</sku><quantity>1</quantity><price>10.50</price></line>" +
+            "<line><sku>SKU-" + id + "-2</sku><quantity>2</quantity><price>20.25</price></line></lines>" +
+            "<status>pending</status></order>";
+        i = i + 1;
+    }
+    return checkpanic 'xml:fromString("<orders>" + "".'join(...orders) + "</orders>");
+}
+
+public function benchmarkXmlSelectDescendants() {
+    xml statuses = orderDocument/**/<status>;
+}
+
+public function benchmarkXmlSelectNestedDescendants() {
+    xml skus = orderDocument/**/<sku>;
+}
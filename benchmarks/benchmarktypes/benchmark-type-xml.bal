@@ -0,0 +1,29 @@
+const int XML_SEQUENCE_SIZE = 100000;
+
+public function benchmarkXmlConcatElements() {
+    xml seq = xml ``;
+    int i = 0;
+    while (i < XML_SEQUENCE_SIZE) {
+        seq = seq + xml `<item/>`;
+        i = i + 1;
+    }
+}
+
+public function benchmarkXmlConcatMixedContent() {
+    xml seq = xml ``;
+    int i = 0;
+    while (i < XML_SEQUENCE_SIZE) {
+        seq = seq + xml `<line/>` + xml `text` + xml ` more text`;
+        i = i + 1;
+    }
+}
+
+public function benchmarkXmlConcatSequences() {
+    xml chunk = xml `<a/><b/>text<c/>`;
+    xml seq = xml ``;
+    int i = 0;
+    while (i < XML_SEQUENCE_SIZE / 4) {
+        seq = seq + chunk;
+        i = i + 1;
+    }
+}
@@ -29,10 +29,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -66,8 +66,10 @@ public class BLogManager extends LogManager {
     public static final int LOGGER_PREFIX_LENGTH = BALLERINA_ROOT_LOGGER_NAME.length() + 1; // +1 to account for the .
     private static final Pattern varPattern = Pattern.compile("\\$\\{([^}]*)}");
 
-    private Map<String, BLogLevel> loggerLevels = new HashMap<>();
-    private BLogLevel ballerinaUserLogLevel = BLogLevel.INFO; // default to INFO
+    // Log levels are looked up on each log call, and module log levels could be set while logging
+    private Map<String, BLogLevel> loggerLevels = new ConcurrentHashMap<>();
+    private volatile BLogLevel ballerinaUserLogLevel = BLogLevel.INFO; // default to INFO
+    private volatile boolean moduleLogLevelEnabled;
     private Logger httpTraceLogger;
     private Logger httpAccessLogger;
 
@@ -101,6 +103,7 @@ public class BLogManager extends LogManager {
             ballerinaUserLogLevel = BLogLevel.toBLogLevel(userLogLevel);
         }
         loggerLevels.put(BALLERINA_USER_LOG_LEVEL, ballerinaUserLogLevel);
+        moduleLogLevelEnabled = loggerLevels.size() > 1;
 
         setHttpTraceLogHandler();
         setHttpAccessLogHandler();
@@ -115,7 +118,7 @@ public class BLogManager extends LogManager {
     }
 
     public BLogLevel getPackageLogLevel(String pkg) {
-        return loggerLevels.containsKey(pkg) ? loggerLevels.get(pkg) : ballerinaUserLogLevel;
+        return loggerLevels.getOrDefault(pkg, ballerinaUserLogLevel);
     }
 
     /**
@@ -124,7 +127,7 @@ public class BLogManager extends LogManager {
      * @return true if module log level has been enabled, false if not.
      */
     public boolean isModuleLogLevelEnabled() {
-        return loggerLevels.size() > 1;
+        return moduleLogLevelEnabled;
     }
 
     /**
@@ -276,5 +279,6 @@ public class BLogManager extends LogManager {
      */
     public void setModuleLogLevel(BLogLevel logLevel, String moduleName) {
         loggerLevels.put(moduleName, logLevel);
+        moduleLogLevelEnabled = loggerLevels.size() > 1;
     }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * <p>
+ * A handler which publishes log records to another handler asynchronously, so that the logging thread does not wait
+ * on the output of the records.
+ * </p>
+ * <p>
+ * Records are added to a lock-free queue, and a writer thread publishes them to the delegate handler in batches,
+ * flushing the delegate once the queue is drained. The number of queued records is bounded. When the queue is full, a
+ * record is either dropped or the logging thread waits until there is space in the queue, depending on the overflow
+ * policy. Queued records are published before the handler is closed.
+ * </p>
+ * <p>
+ * The handler is configured with the following properties of the log manager, prefixed with the class name of the
+ * handler:
+ * </p>
+ * <ul>
+ * <li>queueSize - maximum number of queued records (defaults to 8192)</li>
+ * <li>batchSize - maximum number of records published before flushing the delegate (defaults to 256)</li>
+ * <li>overflowPolicy - DROP or BLOCK (defaults to BLOCK)</li>
+ * <li>level - level of the records to be published (defaults to ALL)</li>
+ * </ul>
+ *
+ * @since 2.0.0
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final int DEFAULT_QUEUE_SIZE = 8192;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCKED_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Handler delegate;
+    private final int queueSize;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Queue<LogRecord> records = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedRecords = new AtomicInteger();
+    private final LongAdder droppedRecords = new LongAdder();
+    private final Thread writer;
+    private volatile boolean writerIdle;
+    private volatile boolean closed;
+
+    public AsyncLogHandler(Handler delegate) {
+        this.delegate = delegate;
+        String prefix = getClass().getName();
+        LogManager logManager = LogManager.getLogManager();
+        this.queueSize = getIntProperty(logManager, prefix + ".queueSize", DEFAULT_QUEUE_SIZE);
+        this.batchSize = getIntProperty(logManager, prefix + ".batchSize", DEFAULT_BATCH_SIZE);
+        String policy = logManager.getProperty(prefix + ".overflowPolicy");
+        this.overflowPolicy = policy == null ? OverflowPolicy.BLOCK : OverflowPolicy.valueOf(policy.trim());
+        String level = logManager.getProperty(prefix + ".level");
+        setLevel(level == null ? Level.ALL : Level.parse(level.trim()));
+        this.writer = startWriter();
+    }
+
+    protected AsyncLogHandler(Handler delegate, int queueSize, int batchSize, OverflowPolicy overflowPolicy) {
+        this.delegate = delegate;
+        this.queueSize = queueSize;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.writer = startWriter();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record) || !delegate.isLoggable(record)) {
+            return;
+        }
+        while (queuedRecords.incrementAndGet() > queueSize) {
+            queuedRecords.decrementAndGet();
+            if (overflowPolicy == OverflowPolicy.DROP) {
+                droppedRecords.increment();
+                return;
+            }
+            LockSupport.parkNanos(this, BLOCKED_WAIT_NANOS);
+            if (closed) {
+                return;
+            }
+        }
+        records.offer(record);
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Flushes the delegate handler. Records which are still queued are not waited on.
+     */
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+
+    /**
+     * Gets the number of records which were dropped since the queue was full.
+     *
+     * @return number of dropped records
+     */
+    public long getDroppedRecordCount() {
+        return droppedRecords.sum();
+    }
+
+    private Thread startWriter() {
+        Thread writerThread = new Thread(this::writeRecords,
+                                         "ballerina-log-writer-" + delegate.getClass().getSimpleName());
+        writerThread.setDaemon(true);
+        writerThread.start();
+        return writerThread;
+    }
+
+    private void writeRecords() {
+        while (true) {
+            if (publishBatch() > 0) {
+                continue;
+            }
+            if (closed) {
+                // A record could have been queued by a thread which checked the handler before it was closed
+                if (publishBatch() == 0) {
+                    return;
+                }
+                continue;
+            }
+            delegate.flush();
+            writerIdle = true;
+            if (records.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, MAX_IDLE_NANOS);
+            }
+            writerIdle = false;
+        }
+    }
+
+    private int publishBatch() {
+        int published = 0;
+        LogRecord record;
+        while (published < batchSize && (record = records.poll()) != null) {
+            try {
+                delegate.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+            published++;
+        }
+        if (published > 0) {
+            queuedRecords.addAndGet(-published);
+        }
+        return published;
+    }
+
+    private static int getIntProperty(LogManager logManager, String name, int defaultValue) {
+        String value = logManager.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            return intValue > 0 ? intValue : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Action taken when a record is published while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drops the record.
+         */
+        DROP,
+        /**
+         * Waits until there is space in the queue.
+         */
+        BLOCK
+    }
+}
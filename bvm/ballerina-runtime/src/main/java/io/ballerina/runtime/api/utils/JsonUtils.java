@@ -28,6 +28,8 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.Utf8JsonGenerator;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.io.IOException;
@@ -258,6 +260,24 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Serialize a JSON compatible value as UTF-8 encoded bytes, directly to the given {@link OutputStream}.
+     * Records, tuples, tables and XML values are serialized as they would be converted to JSON. The content is
+     * written through a pooled buffer, without creating an intermediate string.
+     *
+     * @param value JSON compatible value
+     * @param out   Output source
+     * @throws BError If error occur while serialize the value.
+     */
+    public static void serializeUtf8(Object value, OutputStream out) throws BError {
+        try (Utf8JsonGenerator gen = new Utf8JsonGenerator(out)) {
+            gen.serialize(value);
+            gen.flush();
+        } catch (IOException | BallerinaException e) {
+            throw new ErrorValue(StringUtils.fromString(e.getMessage()), e);
+        }
+    }
+
     /**
      * Represents the modes which process numeric values while converting a string to JSON.
      */
@@ -29,6 +29,7 @@ import io.ballerina.runtime.internal.values.XmlQName;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.Iterator;
 
 /**
  * Class @{@link XmlUtils} provides APIs to handle xml values.
@@ -88,6 +89,22 @@ public class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Create an iterator over the elements at the given element path of a XML document, e.g. {@code ["orders",
+     * "order"]} for each {@code order} element of an {@code orders} document. The document is read as the iterator
+     * advances, and only the returned elements are built. Hence large documents can be processed element by element.
+     * <p>
+     * Each segment of the path is either a local name, or an expanded name of the form
+     * {@code {namespace-uri}local-name}. A {@link BError} is thrown by the iterator if the document is invalid.
+     *
+     * @param reader      XML reader
+     * @param elementPath names of the elements from the root element to the elements to be returned
+     * @return iterator over the matching elements
+     */
+    public static Iterator<BXml> parseElements(Reader reader, String[] elementPath) {
+        return XmlFactory.parseElements(reader, elementPath);
+    }
+
     /**
      * Converts a {@link io.ballerina.runtime.internal.values.TableValue} to {@link BXml}.
      *
@@ -49,6 +49,7 @@ public class BLock {
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
         strand.blockedOnExtern = false;
+        strand.blockedOnLock = true;
         return false;
     }
 
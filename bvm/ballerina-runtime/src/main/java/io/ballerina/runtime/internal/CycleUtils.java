@@ -56,4 +56,99 @@ public class CycleUtils {
             return index;
         }
     }
+
+    /**
+     * A set of value pairs in which values are compared by reference, used to track the pairs of values already
+     * visited when traversing two values together. Unlike collections of pairs compared with {@code equals()},
+     * adding and looking up a pair does not traverse the values themselves.
+     * <p>
+     * Pairs are stored in a single array using open addressing with linear probing.
+     */
+    public static class IdentityPairSet {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        // Holds the two values of the pair at index i at slots 2 * i and 2 * i + 1.
+        private Object[] table = new Object[INITIAL_CAPACITY * 2];
+        private int size = 0;
+
+        /**
+         * Adds the given pair to the set, if it is not already present.
+         *
+         * @param first  first value of the pair, which must not be null
+         * @param second second value of the pair
+         * @return true if the pair was added, false if it was already present
+         */
+        public boolean add(Object first, Object second) {
+            Object[] tab = this.table;
+            int mask = (tab.length >> 1) - 1;
+            int index = hash(first, second) & mask;
+            Object current;
+            while ((current = tab[index << 1]) != null) {
+                if (current == first && tab[(index << 1) + 1] == second) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+
+            tab[index << 1] = first;
+            tab[(index << 1) + 1] = second;
+            // Keeps the load factor at or below 0.5, so that probe sequences stay short.
+            if (++size > (tab.length >> 2)) {
+                resize();
+            }
+            return true;
+        }
+
+        /**
+         * Returns whether the given pair is present in the set.
+         *
+         * @param first  first value of the pair
+         * @param second second value of the pair
+         * @return true if the pair is present
+         */
+        public boolean contains(Object first, Object second) {
+            Object[] tab = this.table;
+            int mask = (tab.length >> 1) - 1;
+            int index = hash(first, second) & mask;
+            Object current;
+            while ((current = tab[index << 1]) != null) {
+                if (current == first && tab[(index << 1) + 1] == second) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        private void resize() {
+            Object[] oldTable = this.table;
+            Object[] newTable = new Object[oldTable.length << 1];
+            int mask = (newTable.length >> 1) - 1;
+            for (int i = 0; i < oldTable.length; i += 2) {
+                Object first = oldTable[i];
+                if (first == null) {
+                    continue;
+                }
+                Object second = oldTable[i + 1];
+                int index = hash(first, second) & mask;
+                while (newTable[index << 1] != null) {
+                    index = (index + 1) & mask;
+                }
+                newTable[index << 1] = first;
+                newTable[(index << 1) + 1] = second;
+            }
+            this.table = newTable;
+        }
+
+        private static int hash(Object first, Object second) {
+            int h = System.identityHashCode(first) * 31 + System.identityHashCode(second);
+            // Spreads the higher bits, since the table index only uses the lower bits.
+            return h ^ (h >>> 16);
+        }
+    }
 }
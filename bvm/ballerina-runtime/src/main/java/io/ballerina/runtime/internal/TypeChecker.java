@@ -401,7 +401,7 @@ public class TypeChecker {
      * @return True if values are equal, else false.
      */
     public static boolean isEqual(Object lhsValue, Object rhsValue) {
-        return isEqual(lhsValue, rhsValue, new ArrayList<>());
+        return isEqual(lhsValue, rhsValue, new CycleUtils.IdentityPairSet());
     }
 
     /**
@@ -483,7 +483,7 @@ public class TypeChecker {
 
     /**
      * Reference equality check for values. If both the values are simple basic types, returns the same
-     * result as {@link #isEqual(Object, Object, List)}
+     * result as {@link #isEqual(Object, Object)}
      *
      * @param lhsValue The value on the left hand side
      * @param rhsValue The value on the right hand side
@@ -726,6 +726,10 @@ public class TypeChecker {
             case TypeTags.RECORD_TYPE_TAG:
                 return checkIsRecordType(sourceVal, sourceType, (BRecordType) targetType, unresolvedTypes);
             case TypeTags.UNION_TAG:
+                // A record or an object belonging to the union by its type belongs to it regardless of the value.
+                if (unresolvedTypes.isEmpty() && checkIsUnionMemberType(sourceType, (BUnionType) targetType)) {
+                    return true;
+                }
                 for (Type type : ((BUnionType) targetType).getMemberTypes()) {
                     if (checkIsType(sourceVal, sourceType, type, unresolvedTypes)) {
                         return true;
@@ -814,6 +818,9 @@ public class TypeChecker {
             case TypeTags.FINITE_TYPE_TAG:
                 return isFiniteTypeMatch((BFiniteType) sourceType, targetType);
             default:
+                if (unresolvedTypes == null || unresolvedTypes.isEmpty()) {
+                    return checkIsUnionMemberType(sourceType, targetType);
+                }
                 for (Type type : targetType.getMemberTypes()) {
                     if (checkIsType(sourceType, type, unresolvedTypes)) {
                         return true;
@@ -824,6 +831,33 @@ public class TypeChecker {
         }
     }
 
+    /**
+     * Check whether a non-union source type belongs to one of the member types of a union, using the union's
+     * dispatch table. A result is only cached here since it is computed without any unresolved type pair, and
+     * therefore does not depend on an assumption made by an enclosing recursive type check.
+     *
+     * @param sourceType source type, which is neither a union nor a finite type
+     * @param targetType union type to test against
+     * @return true if the source type belongs to the union type
+     */
+    private static boolean checkIsUnionMemberType(Type sourceType, BUnionType targetType) {
+        Boolean cachedResult = targetType.getCachedMembership(sourceType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        boolean isMember = false;
+        List<TypePair> unresolvedTypes = new ArrayList<>();
+        for (Type type : targetType.getMemberTypes()) {
+            if (checkIsType(sourceType, type, unresolvedTypes)) {
+                isMember = true;
+                break;
+            }
+        }
+        targetType.cacheMembership(sourceType, isMember);
+        return isMember;
+    }
+
     private static boolean checkIsMapType(Type sourceType, BMapType targetType, List<TypePair> unresolvedTypes) {
         Type targetConstrainedType = targetType.getConstrainedType();
         switch (sourceType.getTag()) {
@@ -2494,7 +2528,7 @@ public class TypeChecker {
      * @param checkedValues Structured value pairs already compared or being compared
      * @return True if values are equal, else false.
      */
-    private static boolean isEqual(Object lhsValue, Object rhsValue, List<ValuePair> checkedValues) {
+    private static boolean isEqual(Object lhsValue, Object rhsValue, CycleUtils.IdentityPairSet checkedValues) {
         if (lhsValue == rhsValue) {
             return true;
         }
@@ -2575,12 +2609,10 @@ public class TypeChecker {
      * @param checkedValues Structured value pairs already compared or being compared
      * @return True if the array/tuple values are equal, else false.
      */
-    private static boolean isEqual(ArrayValue lhsList, ArrayValue rhsList, List<ValuePair> checkedValues) {
-        ValuePair compValuePair = new ValuePair(lhsList, rhsList);
-        if (checkedValues.contains(compValuePair)) {
+    private static boolean isEqual(ArrayValue lhsList, ArrayValue rhsList, CycleUtils.IdentityPairSet checkedValues) {
+        if (!checkedValues.add(lhsList, rhsList)) {
             return true;
         }
-        checkedValues.add(compValuePair);
 
         if (lhsList.size() != rhsList.size()) {
             return false;
@@ -2602,12 +2634,10 @@ public class TypeChecker {
      * @param checkedValues Structured value pairs already compared or being compared
      * @return True if the map values are equal, else false.
      */
-    private static boolean isEqual(MapValueImpl lhsMap, MapValueImpl rhsMap, List<ValuePair> checkedValues) {
-        ValuePair compValuePair = new ValuePair(lhsMap, rhsMap);
-        if (checkedValues.contains(compValuePair)) {
+    private static boolean isEqual(MapValueImpl lhsMap, MapValueImpl rhsMap, CycleUtils.IdentityPairSet checkedValues) {
+        if (!checkedValues.add(lhsMap, rhsMap)) {
             return true;
         }
-        checkedValues.add(compValuePair);
 
         if (lhsMap.size() != rhsMap.size()) {
             return false;
@@ -2635,12 +2665,11 @@ public class TypeChecker {
      * @param checkedValues Structured value pairs already compared or being compared
      * @return True if the table values are equal, else false.
      */
-    private static boolean isEqual(TableValueImpl lhsTable, TableValueImpl rhsTable, List<ValuePair> checkedValues) {
-        ValuePair compValuePair = new ValuePair(lhsTable, rhsTable);
-        if (checkedValues.contains(compValuePair)) {
+    private static boolean isEqual(TableValueImpl lhsTable, TableValueImpl rhsTable,
+                                   CycleUtils.IdentityPairSet checkedValues) {
+        if (!checkedValues.add(lhsTable, rhsTable)) {
             return true;
         }
-        checkedValues.add(compValuePair);
 
         if (lhsTable.size() != rhsTable.size()) {
             return false;
@@ -2670,12 +2699,10 @@ public class TypeChecker {
      * @param checkedValues Errors already compared or being compared
      * @return True if the error values are equal, else false.
      */
-    private static boolean isEqual(ErrorValue lhsError, ErrorValue rhsError, List<ValuePair> checkedValues) {
-        ValuePair compValuePair = new ValuePair(lhsError, rhsError);
-        if (checkedValues.contains(compValuePair)) {
+    private static boolean isEqual(ErrorValue lhsError, ErrorValue rhsError, CycleUtils.IdentityPairSet checkedValues) {
+        if (!checkedValues.add(lhsError, rhsError)) {
             return true;
         }
-        checkedValues.add(compValuePair);
 
         return isEqual(lhsError.getMessage(), rhsError.getMessage(), checkedValues) &&
                 isEqual((MapValueImpl) lhsError.getDetails(), (MapValueImpl) rhsError.getDetails(), checkedValues) &&
@@ -2720,42 +2747,6 @@ public class TypeChecker {
         return lhsHandle.getValue() == rhsHandle.getValue();
     }
 
-    /**
-     * Unordered value vector of size two, to hold two values being compared.
-     *
-     * @since 0.995.0
-     */
-    private static class ValuePair {
-        ArrayList<Object> valueList = new ArrayList<>(2);
-
-        ValuePair(Object valueOne, Object valueTwo) {
-            valueList.add(valueOne);
-            valueList.add(valueTwo);
-        }
-
-        @Override
-        public boolean equals(Object otherPair) {
-            if (!(otherPair instanceof ValuePair)) {
-                return false;
-            }
-
-            ArrayList otherList = ((ValuePair) otherPair).valueList;
-            ArrayList currentList = valueList;
-
-            if (otherList.size() != currentList.size()) {
-                return false;
-            }
-
-            for (int i = 0; i < otherList.size(); i++) {
-                if (!otherList.get(i).equals(currentList.get(i))) {
-                    return false;
-                }
-            }
-
-            return true;
-        }
-    }
-
     /**
      * Checks whether a given {@link BType} has an implicit initial value or not.
      * @param type {@link BType} to be analyzed.
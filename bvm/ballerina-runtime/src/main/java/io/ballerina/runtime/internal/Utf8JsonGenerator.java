@@ -0,0 +1,458 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
+import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.RefValue;
+import io.ballerina.runtime.internal.values.StreamingJsonValue;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR;
+
+/**
+ * Serializes JSON compatible values as UTF-8 encoded bytes, directly into a byte buffer.
+ * <p>
+ * Unlike {@link JsonGenerator}, this does not go through a {@link java.io.Writer}, hence characters are encoded as
+ * they are written and no intermediate {@code String} is created for the serialized content. Elements of arrays with
+ * a basic element type are read without boxing. In addition to JSON values, records, tuples, tables and XML values
+ * are serialized the same way {@code value:toJson()} would convert them. The output format is the same as that of
+ * {@link JsonGenerator}.
+ * <p>
+ * The byte buffer is borrowed from a per-thread pool and returned when the generator is closed. If an
+ * {@link OutputStream} is not given, the buffer grows to hold the complete output.
+ *
+ * @since 2.0.0
+ */
+public class Utf8JsonGenerator implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+    private static final int DEFAULT_DEPTH = 10;
+
+    private static final ThreadLocal<byte[]> BUFFER_POOL = new ThreadLocal<>();
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] SEPARATOR = {',', ' '};
+
+    private static final boolean[] escChars = new boolean[93];
+
+    static {
+        escChars['"'] = true;
+        escChars['\\'] = true;
+        escChars['\b'] = true;
+        escChars['\n'] = true;
+        escChars['\r'] = true;
+        escChars['\t'] = true;
+    }
+
+    private final OutputStream out;
+    private byte[] buffer;
+    private int position;
+
+    /**
+     * Containers being serialized, from the root to the current value. Used to detect cyclic references.
+     */
+    private Object[] containers = new Object[DEFAULT_DEPTH];
+    private int depth;
+
+    public Utf8JsonGenerator(OutputStream out) {
+        this.out = out;
+        this.buffer = borrowBuffer();
+    }
+
+    private Utf8JsonGenerator() {
+        this(null);
+    }
+
+    /**
+     * Serialize the given value to a JSON string.
+     *
+     * @param value JSON compatible value
+     * @return JSON string
+     */
+    public static String toJsonString(Object value) {
+        try (Utf8JsonGenerator gen = new Utf8JsonGenerator()) {
+            gen.serialize(value);
+            return new String(gen.buffer, 0, gen.position, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // Cannot happen, since nothing is written to an output stream.
+            throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
+        }
+    }
+
+    public void serialize(Object value) throws IOException {
+        if (value == null) {
+            writeBytes(NULL);
+            return;
+        }
+
+        switch (TypeChecker.getType(value).getTag()) {
+            case TypeTags.BOOLEAN_TAG:
+                writeBytes((Boolean) value ? TRUE : FALSE);
+                break;
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+                writeLong(((Number) value).longValue());
+                break;
+            case TypeTags.FLOAT_TAG:
+                writeAscii(Double.toString((Double) value));
+                break;
+            case TypeTags.DECIMAL_TAG:
+                writeAscii(((DecimalValue) value).value().toString());
+                break;
+            case TypeTags.STRING_TAG:
+                writeString(((BString) value).getValue());
+                break;
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+            case TypeTags.XML_TEXT_TAG:
+                writeString(StringUtils.getStringValue(value, null));
+                break;
+            case TypeTags.MAP_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                enterContainer(value);
+                writeMap((MapValueImpl<?, ?>) value);
+                exitContainer();
+                break;
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+                enterContainer(value);
+                if (value instanceof StreamingJsonValue) {
+                    ((StreamingJsonValue) value).serialize(this);
+                } else {
+                    writeArray((ArrayValue) value);
+                }
+                exitContainer();
+                break;
+            case TypeTags.TABLE_TAG:
+                enterContainer(value);
+                writeTable((TableValueImpl<?, ?>) value);
+                exitContainer();
+                break;
+            default:
+                throw new BallerinaException(BLangExceptionHelper.getErrorMessage(
+                        RuntimeErrors.INCOMPATIBLE_CONVERT_OPERATION, TypeChecker.getType(value),
+                        PredefinedTypes.TYPE_JSON).getValue());
+        }
+    }
+
+    public void writeStartArray() throws IOException {
+        writeByte('[');
+    }
+
+    public void writeEndArray() throws IOException {
+        writeByte(']');
+    }
+
+    public void writeSeparator() throws IOException {
+        writeBytes(SEPARATOR);
+    }
+
+    public void flush() throws IOException {
+        if (out == null) {
+            return;
+        }
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns the buffer to the pool. Any content that is not flushed is discarded.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            releaseBuffer(buffer);
+            buffer = null;
+        }
+    }
+
+    private void writeMap(MapValueImpl<?, ?> map) throws IOException {
+        writeByte('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (first) {
+                first = false;
+            } else {
+                writeBytes(SEPARATOR);
+            }
+            writeString(entry.getKey().toString());
+            writeByte(':');
+            serialize(entry.getValue());
+        }
+        writeByte('}');
+    }
+
+    private void writeArray(ArrayValue array) throws IOException {
+        writeByte('[');
+        int size = array.size();
+        int elementTypeTag = array.getType().getTag() == TypeTags.ARRAY_TAG ?
+                array.getElementType().getTag() : TypeTags.ANY_TAG;
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                writeBytes(SEPARATOR);
+            }
+            switch (elementTypeTag) {
+                case TypeTags.INT_TAG:
+                case TypeTags.SIGNED32_INT_TAG:
+                case TypeTags.SIGNED16_INT_TAG:
+                case TypeTags.SIGNED8_INT_TAG:
+                case TypeTags.UNSIGNED32_INT_TAG:
+                case TypeTags.UNSIGNED16_INT_TAG:
+                case TypeTags.UNSIGNED8_INT_TAG:
+                    writeLong(array.getInt(i));
+                    break;
+                case TypeTags.BYTE_TAG:
+                    writeLong(Byte.toUnsignedInt(array.getByte(i)));
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    writeAscii(Double.toString(array.getFloat(i)));
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    writeBytes(array.getBoolean(i) ? TRUE : FALSE);
+                    break;
+                case TypeTags.STRING_TAG:
+                case TypeTags.CHAR_STRING_TAG:
+                    writeString(array.getBString(i).getValue());
+                    break;
+                default:
+                    serialize(array.get(i));
+                    break;
+            }
+        }
+        writeByte(']');
+    }
+
+    private void writeTable(TableValueImpl<?, ?> table) throws IOException {
+        writeByte('[');
+        boolean first = true;
+        for (Object row : table.values()) {
+            if (first) {
+                first = false;
+            } else {
+                writeBytes(SEPARATOR);
+            }
+            serialize(row);
+        }
+        writeByte(']');
+    }
+
+    private void enterContainer(Object value) {
+        for (int i = 0; i < depth; i++) {
+            if (containers[i] == value) {
+                throw new BallerinaException(VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR.getValue(),
+                        BLangExceptionHelper.getErrorMessage(RuntimeErrors.CYCLIC_VALUE_REFERENCE,
+                                ((RefValue) value).getType()).getValue());
+            }
+        }
+
+        if (depth == containers.length) {
+            Object[] newContainers = new Object[depth * 2];
+            System.arraycopy(containers, 0, newContainers, 0, depth);
+            containers = newContainers;
+        }
+        containers[depth++] = value;
+    }
+
+    private void exitContainer() {
+        containers[--depth] = null;
+    }
+
+    private void writeString(String value) throws IOException {
+        writeByte('"');
+        int length = value.length();
+        boolean escaped = false;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < escChars.length && escChars[ch]) {
+                escaped = true;
+                break;
+            }
+        }
+
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                if (escaped) {
+                    writeEscapedAscii(ch);
+                } else {
+                    writeByte(ch);
+                }
+            } else if (ch < 0x800) {
+                ensureCapacity(2);
+                buffer[position++] = (byte) (0xC0 | (ch >> 6));
+                buffer[position++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                ensureCapacity(4);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(ch)) {
+                // Unpaired surrogates are replaced the same way the UTF-8 encoder of the JDK does.
+                writeByte('?');
+            } else {
+                ensureCapacity(3);
+                buffer[position++] = (byte) (0xE0 | (ch >> 12));
+                buffer[position++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (ch & 0x3F));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeEscapedAscii(char ch) throws IOException {
+        switch (ch) {
+            case '"':
+                writeEscape('"');
+                break;
+            case '\\':
+                writeEscape('\\');
+                break;
+            case '/':
+                writeEscape('/');
+                break;
+            case '\b':
+                writeEscape('b');
+                break;
+            case '\n':
+                writeEscape('n');
+                break;
+            case '\r':
+                writeEscape('r');
+                break;
+            case '\f':
+                writeEscape('f');
+                break;
+            case '\t':
+                writeEscape('t');
+                break;
+            default:
+                writeByte(ch);
+                break;
+        }
+    }
+
+    private void writeEscape(char ch) throws IOException {
+        ensureCapacity(2);
+        buffer[position++] = '\\';
+        buffer[position++] = (byte) ch;
+    }
+
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+
+        // Max number of digits of a long, with the sign
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+
+        int start = position;
+        do {
+            buffer[position++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value != 0);
+
+        // Digits were written in the reverse order
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            byte digit = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = digit;
+        }
+    }
+
+    private void writeAscii(String value) throws IOException {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeByte(int b) throws IOException {
+        ensureCapacity(1);
+        buffer[position++] = (byte) b;
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (position + length <= buffer.length) {
+            return;
+        }
+
+        if (out != null && length <= buffer.length) {
+            out.write(buffer, 0, position);
+            position = 0;
+            return;
+        }
+
+        byte[] newBuffer = new byte[Math.max(buffer.length * 2, position + length)];
+        System.arraycopy(buffer, 0, newBuffer, 0, position);
+        buffer = newBuffer;
+    }
+
+    private static byte[] borrowBuffer() {
+        byte[] pooledBuffer = BUFFER_POOL.get();
+        if (pooledBuffer == null) {
+            return new byte[BUFFER_SIZE];
+        }
+        BUFFER_POOL.set(null);
+        return pooledBuffer;
+    }
+
+    private static void releaseBuffer(byte[] buffer) {
+        if (buffer.length <= MAX_POOLED_BUFFER_SIZE) {
+            BUFFER_POOL.set(buffer);
+        }
+    }
+}
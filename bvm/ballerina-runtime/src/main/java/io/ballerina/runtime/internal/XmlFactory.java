@@ -47,8 +47,11 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -65,6 +68,11 @@ import static io.ballerina.runtime.internal.values.XmlItem.createXMLItemWithDefa
  */
 public class XmlFactory {
     public static final StAXParserConfiguration STAX_PARSER_CONFIGURATION = StAXParserConfiguration.STANDALONE;
+
+    // Interned names are never removed, hence the number of names is bounded for documents with generated names
+    private static final int MAX_INTERNED_QNAMES = 4096;
+    private static final Map<QNameKey, QName> INTERNED_QNAMES = new ConcurrentHashMap<>();
+
     /**
      * Create a XML item from string literal.
      *
@@ -138,6 +146,18 @@ public class XmlFactory {
         }
     }
 
+    /**
+     * Create an iterator over the elements at the given element path of a XML document. The document is read as the
+     * iterator advances, and only the returned elements are built.
+     *
+     * @param reader      XML reader
+     * @param elementPath names of the elements from the root element to the elements to be returned
+     * @return iterator over the matching elements
+     */
+    public static Iterator<BXml> parseElements(Reader reader, String[] elementPath) {
+        return new XmlElementIterator(reader, elementPath);
+    }
+
     /**
      * Concatenate two XML sequences and produce a single sequence.
      *
@@ -146,51 +166,11 @@ public class XmlFactory {
      * @return Concatenated XML sequence
      */
     public static XmlValue concatenate(XmlValue firstSeq, XmlValue secondSeq) {
-        ArrayList<BXml> concatenatedList = new ArrayList<>();
-
         if (firstSeq.getNodeType() == XmlNodeType.TEXT && secondSeq.getNodeType() == XmlNodeType.TEXT) {
             return new XmlText(firstSeq.getTextValue() + secondSeq.getTextValue());
         }
 
-        // Add all the items in the first sequence
-        if (firstSeq.getNodeType() == XmlNodeType.SEQUENCE) {
-            concatenatedList.addAll(((XmlSequence) firstSeq).getChildrenList());
-        } else if (!firstSeq.isEmpty()) {
-            concatenatedList.add(firstSeq);
-        }
-
-        // When last item of left seq and first item of right seq are both text nodes merge them into single consecutive
-        // text node.
-        if (!concatenatedList.isEmpty()) {
-            int lastIndexOFLeftChildren = concatenatedList.size() - 1;
-            BXml lastItem = concatenatedList.get(lastIndexOFLeftChildren);
-            if (lastItem.getNodeType() == XmlNodeType.TEXT && secondSeq.getNodeType() == XmlNodeType.SEQUENCE) {
-                List<BXml> rightChildren = ((XmlSequence) secondSeq).getChildrenList();
-                if (!rightChildren.isEmpty()) {
-                    BXml firsOfRightSeq = rightChildren.get(0);
-                    if (firsOfRightSeq.getNodeType() == XmlNodeType.TEXT) {
-                        concatenatedList.remove(lastIndexOFLeftChildren); // remove last item, from already copied list
-                        concatenatedList.addAll(rightChildren);
-                        String merged = ((XmlText) lastItem).getTextValue() + ((XmlText) firsOfRightSeq).getTextValue();
-                        concatenatedList.set(lastIndexOFLeftChildren, new XmlText(merged));
-                        return new XmlSequence(concatenatedList);
-                    }
-                }
-            } else if (lastItem.getNodeType() == XmlNodeType.TEXT && secondSeq.getNodeType() == XmlNodeType.TEXT) {
-                String merged = lastItem.getTextValue() + secondSeq.getTextValue();
-                concatenatedList.set(lastIndexOFLeftChildren, new XmlText(merged));
-                return new XmlSequence(concatenatedList);
-            }
-        }
-
-        // Add all the items in the second sequence
-        if (secondSeq.getNodeType() == XmlNodeType.SEQUENCE) {
-            concatenatedList.addAll(((XmlSequence) secondSeq).getChildrenList());
-        } else if (!secondSeq.isEmpty()) {
-            concatenatedList.add(secondSeq);
-        }
-
-        return new XmlSequence(concatenatedList);
+        return XmlSequence.concatenate(firstSeq, secondSeq);
     }
 
     /**
@@ -272,12 +252,36 @@ public class XmlFactory {
         String prefix = startTagName.getPrefix() == null ? XMLConstants.DEFAULT_NS_PREFIX : startTagName.getPrefix();
 
         if (nsUri == null) {
-            return new XmlItem(new QName(defaultNsUri, startTagName.getLocalName(), prefix), readonly);
+            return new XmlItem(internQName(defaultNsUri, startTagName.getLocalName(), prefix), readonly);
         }
-        return createXMLItemWithDefaultNSAttribute(new QName(nsUri, startTagName.getLocalName(), prefix), readonly,
+        return createXMLItemWithDefaultNSAttribute(internQName(nsUri, startTagName.getLocalName(), prefix), readonly,
                                                    defaultNsUri);
     }
 
+    /**
+     * Get a shared {@link QName} with the given namespace URI, local name and prefix. Elements with the same name
+     * share the same {@link QName}, which saves memory for large documents and lets names be compared by identity.
+     *
+     * @param namespaceUri Namespace URI
+     * @param localName    Local name
+     * @param prefix       Prefix
+     * @return QName with the given parts
+     */
+    public static QName internQName(String namespaceUri, String localName, String prefix) {
+        QNameKey key = new QNameKey(namespaceUri, localName, prefix);
+        QName qName = INTERNED_QNAMES.get(key);
+        if (qName != null) {
+            return qName;
+        }
+
+        qName = new QName(namespaceUri, localName, prefix);
+        if (INTERNED_QNAMES.size() >= MAX_INTERNED_QNAMES) {
+            return qName;
+        }
+        QName existing = INTERNED_QNAMES.putIfAbsent(key, qName);
+        return existing == null ? qName : existing;
+    }
+
     public static XmlValue createXMLElement(BXmlQName startTagName, BString defaultNsUriVal, boolean readonly) {
         return createXMLElement(startTagName,
                                 defaultNsUriVal == null ? XMLConstants.NULL_NS_URI : defaultNsUriVal.getValue(),
@@ -498,6 +502,91 @@ public class XmlFactory {
         }
     }
 
+    /**
+     * Iterator over the elements at an element path of a XML document, which reads the next element on demand.
+     */
+    private static class XmlElementIterator implements Iterator<BXml> {
+
+        private final Reader reader;
+        private final String[] elementPath;
+        private XmlTreeBuilder xmlTreeBuilder;
+        private BXml nextElement;
+        private boolean done;
+
+        XmlElementIterator(Reader reader, String[] elementPath) {
+            this.reader = reader;
+            this.elementPath = elementPath;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextElement == null && !done) {
+                nextElement = readNextElement();
+                done = nextElement == null;
+            }
+            return nextElement != null;
+        }
+
+        @Override
+        public BXml next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BXml element = nextElement;
+            nextElement = null;
+            return element;
+        }
+
+        private BXml readNextElement() {
+            try {
+                if (xmlTreeBuilder == null) {
+                    xmlTreeBuilder = new XmlTreeBuilder(reader, elementPath);
+                }
+                return xmlTreeBuilder.nextElement();
+            } catch (DeferredParsingException e) {
+                done = true;
+                throw ErrorCreator.createError(StringUtils.fromString(e.getCause().getMessage()));
+            } catch (Throwable e) {
+                done = true;
+                throw ErrorCreator.createError(StringUtils.fromString("failed to create xml: " + e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Key of an interned {@link QName}. Unlike {@link QName#equals(Object)}, the prefix is also compared.
+     */
+    private static class QNameKey {
+
+        private final String namespaceUri;
+        private final String localName;
+        private final String prefix;
+
+        QNameKey(String namespaceUri, String localName, String prefix) {
+            this.namespaceUri = namespaceUri;
+            this.localName = localName;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof QNameKey)) {
+                return false;
+            }
+            QNameKey that = (QNameKey) o;
+            return localName.equals(that.localName) && namespaceUri.equals(that.namespaceUri) &&
+                    prefix.equals(that.prefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(namespaceUri, localName, prefix);
+        }
+    }
+
     public static boolean isEqual(String s1, String s2) {
         if (s1 == s2) {
             return true;
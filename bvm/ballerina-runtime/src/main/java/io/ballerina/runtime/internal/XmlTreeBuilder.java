@@ -74,10 +74,31 @@ public class XmlTreeBuilder {
     private Deque<BXmlSequence> seqDeque;
     private Deque<List<BXml>> siblingDeque;
 
+    // Element path of the elements to be read one by one, see nextElement()
+    private String[] elementPath;
+    // Depth of the current element, and the number of its enclosing elements that match the element path
+    private int depth;
+    private int matchedDepth;
+    // Depth of the element being read, or -1 when not inside an element matching the element path
+    private int elementDepth = -1;
+
     public XmlTreeBuilder(String str) {
         this(new StringReader(str));
     }
 
+    /**
+     * Creates a builder that reads the elements at the given element path one by one, without building the rest of
+     * the document. Each segment of the path is either a local name, or an expanded name of the form
+     * {@code {namespace-uri}local-name}.
+     *
+     * @param reader      XML reader
+     * @param elementPath names of the elements from the root element to the elements to be read
+     */
+    public XmlTreeBuilder(Reader reader, String[] elementPath) {
+        this(reader);
+        this.elementPath = elementPath;
+    }
+
     public XmlTreeBuilder(Reader stringReader) {
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
@@ -136,6 +157,101 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Reads the next element at the element path of this builder. Only the matching element and its content are built,
+     * hence the memory used does not depend on the size of the document.
+     *
+     * @return next matching element, or null if there are no more matching elements
+     */
+    public BXml nextElement() {
+        try {
+            while (xmlStreamReader.hasNext()) {
+                switch (xmlStreamReader.next()) {
+                    case START_ELEMENT:
+                        if (elementDepth < 0 && matchesElementPath()) {
+                            elementDepth = depth;
+                            List<BXml> element = new ArrayList<>(1);
+                            siblingDeque.push(element);
+                            readElement(xmlStreamReader);
+                            declareDefaultNamespace((XmlItem) element.get(0), xmlStreamReader.getName());
+                        } else if (elementDepth >= 0) {
+                            readElement(xmlStreamReader);
+                        }
+                        depth++;
+                        break;
+                    case END_ELEMENT:
+                        depth--;
+                        matchedDepth = Math.min(matchedDepth, depth);
+                        if (elementDepth < 0) {
+                            break;
+                        }
+                        endElement();
+                        if (depth == elementDepth) {
+                            elementDepth = -1;
+                            return siblingDeque.pop().get(0);
+                        }
+                        break;
+                    case PROCESSING_INSTRUCTION:
+                        if (elementDepth >= 0) {
+                            readPI(xmlStreamReader);
+                        }
+                        break;
+                    case COMMENT:
+                        if (elementDepth >= 0) {
+                            readComment(xmlStreamReader);
+                        }
+                        break;
+                    case CDATA:
+                    case CHARACTERS:
+                        if (elementDepth >= 0) {
+                            readText(xmlStreamReader);
+                        }
+                        break;
+                    case END_DOCUMENT:
+                        return null;
+                    default:
+                        break;
+                }
+            }
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        }
+
+        return null;
+    }
+
+    private boolean matchesElementPath() {
+        if (matchedDepth != depth || depth >= elementPath.length) {
+            return false;
+        }
+
+        QName name = xmlStreamReader.getName();
+        String segment = elementPath[depth];
+        boolean matches = segment.startsWith("{") ?
+                segment.equals("{" + name.getNamespaceURI() + "}" + name.getLocalPart()) :
+                segment.equals(name.getLocalPart());
+        if (!matches) {
+            return false;
+        }
+
+        matchedDepth = depth + 1;
+        return matchedDepth == elementPath.length;
+    }
+
+    // A default namespace declared on an enclosing element is not part of the element that is read, hence it is
+    // declared on the element itself.
+    private void declareDefaultNamespace(XmlItem xmlItem, QName elemName) {
+        if (!elemName.getPrefix().isEmpty() || elemName.getNamespaceURI().isEmpty()) {
+            return;
+        }
+
+        BString defaultNs = StringUtils.fromString(XmlItem.XMLNS_URL_PREFIX + "xmlns");
+        MapValue<BString, BString> attributesMap = xmlItem.getAttributesMap();
+        if (!attributesMap.containsKey(defaultNs)) {
+            attributesMap.put(defaultNs, StringUtils.fromString(elemName.getNamespaceURI()));
+        }
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
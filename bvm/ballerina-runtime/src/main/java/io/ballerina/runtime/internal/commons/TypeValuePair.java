@@ -39,6 +39,13 @@ public class TypeValuePair {
             return false;
         }
         TypeValuePair other = (TypeValuePair) obj;
-        return this.sourceValue.equals(other.sourceValue) && this.targetType.equals(other.targetType);
+        // Values are compared by reference, since a pair is used to identify a value already being visited. Using
+        // the structural equality of the value here would traverse the whole value on each comparison.
+        return this.sourceValue == other.sourceValue && this.targetType.equals(other.targetType);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(sourceValue) + targetType.hashCode();
     }
 }
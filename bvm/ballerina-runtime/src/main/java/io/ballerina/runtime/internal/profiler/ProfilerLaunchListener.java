@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.profiler;
+
+import io.ballerina.runtime.api.launch.LaunchListener;
+import org.ballerinalang.config.ConfigRegistry;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listen to Launcher events and start the strand profiler if it is enabled. The samples are written when the program
+ * exits.
+ *
+ * @since 2.0.0
+ */
+public class ProfilerLaunchListener implements LaunchListener {
+
+    private static final PrintStream console = System.err;
+    private static final String CONFIG_TABLE_PROFILER = "b7a.profiler";
+    private static final String CONFIG_PROFILER_ENABLED = CONFIG_TABLE_PROFILER + ".enabled";
+    private static final String CONFIG_PROFILER_FREQUENCY = CONFIG_TABLE_PROFILER + ".frequency";
+    private static final String CONFIG_PROFILER_OUTPUT = CONFIG_TABLE_PROFILER + ".output";
+    private static final String DEFAULT_FREQUENCY = "100";
+    private static final String DEFAULT_OUTPUT = "ballerina-profile.collapsed";
+
+    @Override
+    public void beforeRunProgram(boolean service) {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        if (StrandProfiler.isProfiling() || !configRegistry.isInitialized()
+                || !configRegistry.getAsBoolean(CONFIG_PROFILER_ENABLED)) {
+            return;
+        }
+        String frequencyValue = configRegistry.getConfigOrDefault(CONFIG_PROFILER_FREQUENCY, DEFAULT_FREQUENCY);
+        int frequency = getFrequency(frequencyValue);
+        if (frequency <= 0) {
+            console.println("ballerina: invalid profiling frequency " + frequencyValue + ", using " +
+                                    DEFAULT_FREQUENCY);
+            frequency = Integer.parseInt(DEFAULT_FREQUENCY);
+        }
+        Path output = Paths.get(configRegistry.getConfigOrDefault(CONFIG_PROFILER_OUTPUT, DEFAULT_OUTPUT));
+        StrandProfiler profiler = StrandProfiler.start(frequency);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> writeProfile(profiler, output),
+                                                        "ballerina-strand-profiler-writer"));
+    }
+
+    @Override
+    public void afterRunProgram(boolean service) {
+    }
+
+    private static int getFrequency(String frequencyValue) {
+        try {
+            return Integer.parseInt(frequencyValue.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void writeProfile(StrandProfiler profiler, Path output) {
+        profiler.stop();
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            profiler.writeCollapsedStacks(writer);
+        } catch (IOException e) {
+            console.println("ballerina: failed to write the strand profile to " + output + ": " + e.getMessage());
+            return;
+        }
+        console.println("ballerina: wrote " + profiler.getSampleCount() + " strand profile samples to " + output
+                                + " (sampling took " + TimeUnit.NANOSECONDS.toMillis(profiler.getSamplingTime())
+                                + " ms)");
+    }
+}
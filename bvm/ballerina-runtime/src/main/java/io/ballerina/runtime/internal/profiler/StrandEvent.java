@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.profiler;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base of the flight recorder events of strands, which identify the strand and the Ballerina function it executes.
+ *
+ * @since 2.0.0
+ */
+abstract class StrandEvent extends Event {
+
+    @Label("Strand Id")
+    int strandId;
+
+    @Label("Strand Name")
+    String strandName;
+
+    @Label("Function")
+    @Description("Ballerina function executed by the strand, which is the innermost function of a parked strand")
+    String function;
+}
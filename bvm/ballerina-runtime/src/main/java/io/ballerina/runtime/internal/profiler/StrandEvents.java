@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.profiler;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+/**
+ * <p>
+ * Emits the flight recorder events of the strands.
+ * </p>
+ * <p>
+ * Events are only created when they are enabled in a recording, so that the schedulers do not pay for the events
+ * otherwise.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class StrandEvents {
+
+    static final String EVENT_NAME_PREFIX = "ballerina.";
+    static final String CATEGORY = "Ballerina";
+    static final String CATEGORY_STRANDS = "Strands";
+
+    public static final String CAUSE_NEW = "new";
+    public static final String CAUSE_YIELD = "yield";
+    public static final String CAUSE_RESUME = "resume";
+
+    private StrandEvents() {
+    }
+
+    /**
+     * Records a strand added to the runnable strands of a scheduler.
+     *
+     * @param strand strand which was scheduled
+     * @param cause  whether the strand is new, yielded or resumed
+     */
+    public static void strandScheduled(Strand strand, String cause) {
+        StrandScheduleEvent event = new StrandScheduleEvent();
+        if (event.shouldCommit()) {
+            setStrand(event, strand, getFunctionName(strand.getMetadata()));
+            event.cause = cause;
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts recording the execution of a strand.
+     *
+     * @param strand strand which is executed
+     * @return the event to be ended once the strand completes or yields, or null if the event is not enabled
+     */
+    public static StrandRunEvent strandStarted(Strand strand) {
+        StrandRunEvent event = new StrandRunEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        setStrand(event, strand, getFunctionName(strand.getMetadata()));
+        event.begin();
+        return event;
+    }
+
+    public static void strandStopped(StrandRunEvent event) {
+        if (event != null) {
+            event.end();
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts recording a parked strand.
+     *
+     * @param strand strand which was parked
+     * @param reason reason for which the strand was parked
+     * @return the event to be ended once the strand is resumed, or null if the event is not enabled
+     */
+    public static StrandParkEvent strandParked(Strand strand, String reason) {
+        StrandParkEvent event = new StrandParkEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        setStrand(event, strand, getInnermostFunctionName(strand));
+        event.reason = reason;
+        event.begin();
+        return event;
+    }
+
+    public static void strandResumed(StrandParkEvent event) {
+        if (event != null) {
+            event.end();
+            event.commit();
+        }
+    }
+
+    private static void setStrand(StrandEvent event, Strand strand, String function) {
+        event.strandId = strand.getId();
+        event.strandName = strand.getName().orElse(null);
+        event.function = function;
+    }
+
+    private static String getInnermostFunctionName(Strand strand) {
+        Object[] frames = strand.frames;
+        if (frames != null && frames.length > 0 && strand.resumeIndex > 0 && frames[0] != null) {
+            return StrandProfiler.getFrameName(frames[0].getClass());
+        }
+        return getFunctionName(strand.getMetadata());
+    }
+
+    private static String getFunctionName(StrandMetadata metadata) {
+        if (metadata == null || metadata.getParentFunctionName() == null) {
+            return null;
+        }
+        StringBuilder functionName = new StringBuilder();
+        if (metadata.getModuleOrg() != null) {
+            functionName.append(metadata.getModuleOrg()).append('/');
+        }
+        if (metadata.getModuleName() != null) {
+            functionName.append(metadata.getModuleName()).append(':');
+        }
+        if (metadata.getTypeName() != null) {
+            functionName.append(metadata.getTypeName()).append('.');
+        }
+        return functionName.append(metadata.getParentFunctionName()).toString();
+    }
+}
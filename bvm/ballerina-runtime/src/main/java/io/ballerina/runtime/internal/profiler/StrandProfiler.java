@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.profiler;
+
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BLANG_SRC_FILE_SUFFIX;
+
+/**
+ * <p>
+ * Sampling profiler of the strands executed by the schedulers.
+ * </p>
+ * <p>
+ * At each sample, the stacks of the scheduler threads are taken at once and the Ballerina functions being executed
+ * are attributed to their source positions. The call stacks of parked strands are not on any thread, so they are
+ * read from the frames saved by the strands when they yielded, and attributed to the functions of the frames. Samples
+ * are aggregated as collapsed stacks, which could be converted to flame graphs.
+ * </p>
+ * <p>
+ * Strands are only tracked by the schedulers while a profiler is running.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class StrandProfiler {
+
+    private static final int MAX_STACK_DEPTH = 256;
+    private static final String FRAME_CLASS_SUFFIX = "Frame";
+    private static final ClassValue<String> frameNames = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> frameClass) {
+            return getFrameName(frameClass.getName());
+        }
+    };
+
+    private static final Set<Thread> schedulerThreads = ConcurrentHashMap.newKeySet();
+    private static final Map<Strand, String> parkedStrands = new ConcurrentHashMap<>();
+    private static volatile StrandProfiler activeProfiler;
+
+    private final long intervalNanos;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    // Only updated by the sampler thread, and read once it is stopped
+    private final Map<String, Long> stackCounts = new TreeMap<>();
+    private final Thread sampler;
+    private volatile boolean running = true;
+    private final AtomicLong sampleCount = new AtomicLong();
+    private long samplingTime;
+
+    private StrandProfiler(int frequency) {
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / frequency;
+        this.sampler = new Thread(this::sample, "ballerina-strand-profiler");
+        this.sampler.setDaemon(true);
+    }
+
+    /**
+     * Starts profiling the strands.
+     *
+     * @param frequency number of samples per second
+     * @return the profiler which was started
+     */
+    public static synchronized StrandProfiler start(int frequency) {
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("profiling frequency should be positive: " + frequency);
+        }
+        if (activeProfiler != null) {
+            throw new IllegalStateException("strand profiler is already running");
+        }
+        StrandProfiler profiler = new StrandProfiler(frequency);
+        activeProfiler = profiler;
+        profiler.sampler.start();
+        return profiler;
+    }
+
+    /**
+     * Stops profiling and waits until the sample being taken is completed.
+     */
+    public void stop() {
+        synchronized (StrandProfiler.class) {
+            if (activeProfiler == this) {
+                activeProfiler = null;
+                parkedStrands.clear();
+            }
+        }
+        running = false;
+        LockSupport.unpark(sampler);
+        try {
+            sampler.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the samples as collapsed stacks, a line per distinct stack with the functions separated by semicolons
+     * starting from the root, followed by the number of samples of the stack. The profiler should be stopped before
+     * the samples are written.
+     *
+     * @param writer writer of the collapsed stacks
+     * @throws IOException if the stacks could not be written
+     */
+    public void writeCollapsedStacks(Writer writer) throws IOException {
+        for (Map.Entry<String, Long> entry : getCollapsedStacks().entrySet()) {
+            writer.write(entry.getKey());
+            writer.write(' ');
+            writer.write(String.valueOf(entry.getValue()));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Gets the number of samples of each collapsed stack. The profiler should be stopped before the samples are read.
+     *
+     * @return number of samples by collapsed stack
+     */
+    public Map<String, Long> getCollapsedStacks() {
+        return new TreeMap<>(stackCounts);
+    }
+
+    /**
+     * Gets the number of times the strands were sampled.
+     *
+     * @return number of samples
+     */
+    public long getSampleCount() {
+        return sampleCount.get();
+    }
+
+    /**
+     * Gets the time spent by the profiler in taking the samples.
+     *
+     * @return sampling time in nanoseconds
+     */
+    public long getSamplingTime() {
+        return samplingTime;
+    }
+
+    public static boolean isProfiling() {
+        return activeProfiler != null;
+    }
+
+    public static void schedulerThreadStarted(Thread thread) {
+        schedulerThreads.add(thread);
+    }
+
+    public static void schedulerThreadStopped(Thread thread) {
+        schedulerThreads.remove(thread);
+    }
+
+    /**
+     * Tracks a strand parked by a scheduler, while a profiler is running.
+     *
+     * @param strand strand which was parked
+     * @param reason reason for which the strand was parked
+     */
+    public static void strandParked(Strand strand, String reason) {
+        if (activeProfiler != null) {
+            parkedStrands.put(strand, "[parked:" + reason + "]");
+        }
+    }
+
+    public static void strandResumed(Strand strand) {
+        if (activeProfiler != null) {
+            parkedStrands.remove(strand);
+        }
+    }
+
+    private void sample() {
+        long nextSampleTime = System.nanoTime();
+        while (running) {
+            long startTime = System.nanoTime();
+            sampleSchedulerThreads();
+            sampleParkedStrands();
+            sampleCount.incrementAndGet();
+            samplingTime += System.nanoTime() - startTime;
+
+            nextSampleTime += intervalNanos;
+            long delay = nextSampleTime - System.nanoTime();
+            if (delay <= 0) {
+                // Skip the samples which were missed instead of taking them at once
+                nextSampleTime = System.nanoTime();
+                continue;
+            }
+            LockSupport.parkNanos(this, delay);
+        }
+    }
+
+    private void sampleSchedulerThreads() {
+        Thread[] threads = schedulerThreads.toArray(new Thread[0]);
+        if (threads.length == 0) {
+            return;
+        }
+        long[] threadIds = new long[threads.length];
+        for (int i = 0; i < threads.length; i++) {
+            threadIds[i] = threads[i].getId();
+        }
+        for (ThreadInfo threadInfo : threadMXBean.getThreadInfo(threadIds, MAX_STACK_DEPTH)) {
+            if (threadInfo != null) {
+                addSample(getCollapsedStack(threadInfo.getStackTrace()));
+            }
+        }
+    }
+
+    private void sampleParkedStrands() {
+        for (Map.Entry<Strand, String> entry : parkedStrands.entrySet()) {
+            StringBuilder stack = getCollapsedStack(entry.getKey());
+            if (stack != null) {
+                addSample(stack.append(';').append(entry.getValue()).toString());
+            }
+        }
+    }
+
+    private void addSample(String stack) {
+        if (stack != null) {
+            stackCounts.merge(stack, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Gets the collapsed stack of the Ballerina functions in a thread stack, or null if the thread is not executing a
+     * Ballerina function.
+     */
+    static String getCollapsedStack(StackTraceElement[] stackTrace) {
+        StringBuilder stack = null;
+        for (int i = stackTrace.length - 1; i >= 0; i--) {
+            StackTraceElement element = stackTrace[i];
+            String fileName = element.getFileName();
+            if (fileName == null || !fileName.endsWith(BLANG_SRC_FILE_SUFFIX) || element.getLineNumber() < 0) {
+                continue;
+            }
+            if (stack == null) {
+                stack = new StringBuilder();
+            } else {
+                stack.append(';');
+            }
+            appendFunctionName(stack, element.getClassName(), fileName, element.getMethodName());
+            stack.append('(').append(fileName).append(':').append(element.getLineNumber()).append(')');
+        }
+        return stack == null ? null : stack.toString();
+    }
+
+    /**
+     * Gets the collapsed stack of the functions of a parked strand from the frames saved by the strand. Frames of the
+     * outer functions are saved last. The frames are read without synchronizing with the strand, so the stack of a
+     * strand which is resumed in the meantime could be partial.
+     */
+    static StringBuilder getCollapsedStack(Strand strand) {
+        Object[] frames = strand.frames;
+        if (frames == null) {
+            return null;
+        }
+        StringBuilder stack = null;
+        for (int i = Math.min(strand.resumeIndex, frames.length) - 1; i >= 0; i--) {
+            Object frame = frames[i];
+            if (frame == null) {
+                continue;
+            }
+            if (stack == null) {
+                stack = new StringBuilder();
+            } else {
+                stack.append(';');
+            }
+            stack.append(frameNames.get(frame.getClass()));
+        }
+        return stack;
+    }
+
+    private static void appendFunctionName(StringBuilder stack, String className, String fileName,
+                                           String functionName) {
+        // Functions are generated in a class named by the module and the source file
+        String moduleName = className;
+        String fileClassName = fileName.substring(0, fileName.length() - BLANG_SRC_FILE_SUFFIX.length())
+                .replace("/", "-");
+        if (className.endsWith("." + fileClassName)) {
+            moduleName = className.substring(0, className.length() - fileClassName.length() - 1);
+        }
+        stack.append(moduleName).append(':').append(functionName);
+    }
+
+    static String getFrameName(Class<?> frameClass) {
+        return frameNames.get(frameClass);
+    }
+
+    private static String getFrameName(String frameClassName) {
+        // Frame classes are generated in the package of the module and named by the function
+        int packageEnd = frameClassName.lastIndexOf('.');
+        String functionName = frameClassName.substring(packageEnd + 1);
+        if (functionName.endsWith(FRAME_CLASS_SUFFIX)) {
+            functionName = functionName.substring(0, functionName.length() - FRAME_CLASS_SUFFIX.length());
+        }
+        return packageEnd < 0 ? functionName : frameClassName.substring(0, packageEnd) + ":" + functionName;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight recorder event of a strand executed by a scheduler thread until it completes or yields.
+ *
+ * @since 2.0.0
+ */
+@Name(StrandEvents.EVENT_NAME_PREFIX + "StrandRun")
+@Label("Strand Run")
+@Category({StrandEvents.CATEGORY, StrandEvents.CATEGORY_STRANDS})
+@Description("A strand was executed until it completed or yielded")
+@Threshold("10 ms")
+@StackTrace(false)
+public class StrandRunEvent extends StrandEvent {
+}
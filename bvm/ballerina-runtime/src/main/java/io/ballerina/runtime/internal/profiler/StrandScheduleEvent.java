@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a strand added to the runnable strands of a scheduler. The event is disabled by default,
+ * since strands are scheduled frequently.
+ *
+ * @since 2.0.0
+ */
+@Name(StrandEvents.EVENT_NAME_PREFIX + "StrandSchedule")
+@Label("Strand Schedule")
+@Category({StrandEvents.CATEGORY, StrandEvents.CATEGORY_STRANDS})
+@Description("A strand was added to the runnable strands of the scheduler")
+@Enabled(false)
+@StackTrace(false)
+public class StrandScheduleEvent extends StrandEvent {
+
+    @Label("Cause")
+    @Description("Whether the strand is new, yielded or resumed after being parked")
+    String cause;
+}
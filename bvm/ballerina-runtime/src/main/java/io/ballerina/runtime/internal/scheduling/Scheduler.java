@@ -24,6 +24,10 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.profiler.StrandEvents;
+import io.ballerina.runtime.internal.profiler.StrandParkEvent;
+import io.ballerina.runtime.internal.profiler.StrandProfiler;
+import io.ballerina.runtime.internal.profiler.StrandRunEvent;
 import io.ballerina.runtime.internal.util.RuntimeUtils;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 import io.ballerina.runtime.internal.values.ChannelDetails;
@@ -38,6 +42,7 @@ import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -143,6 +148,7 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
+        StrandEvents.strandScheduled(future.strand, StrandEvents.CAUSE_NEW);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
             runnableList.add(future.strand.strandGroup);
         }
@@ -194,6 +200,7 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
+        StrandEvents.strandScheduled(future.strand, StrandEvents.CAUSE_NEW);
         runnableList.add(group);
         return future;
     }
@@ -220,12 +227,14 @@ public class Scheduler {
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
+        StrandEvents.strandScheduled(future.strand, StrandEvents.CAUSE_NEW);
         runnableList.add(group);
         return future;
     }
 
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
+        SchedulerStats.schedulerStarted(this);
         for (int i = 0; i < numThreads - 1; i++) {
             new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
         }
@@ -235,16 +244,20 @@ public class Scheduler {
         } catch (InterruptedException e) {
             RuntimeUtils.printCrashLog(e);
         }
+        SchedulerStats.schedulerStopped(this);
     }
 
     /**
      * Defensive programming to prevent unforeseen errors.
      */
     private void runSafely() {
+        StrandProfiler.schedulerThreadStarted(Thread.currentThread());
         try {
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
+        } finally {
+            StrandProfiler.schedulerThreadStopped(Thread.currentThread());
         }
     }
 
@@ -252,6 +265,7 @@ public class Scheduler {
      * Executes tasks that are submitted to the Scheduler.
      */
     private void run() {
+        AtomicLong busyTime = SchedulerStats.getThreadBusyTimeCounter(Thread.currentThread().getName());
         while (true) {
             SchedulerItem item;
             ItemGroup group;
@@ -266,12 +280,14 @@ public class Scheduler {
                 break;
             }
 
+            long startTime = busyTime == null ? 0 : System.nanoTime();
             while (!group.items.empty()) {
                 Object result = null;
                 Throwable panic = null;
 
                 item = group.get();
 
+                StrandRunEvent runEvent = StrandEvents.strandStarted(item.future.strand);
                 try {
                     strandHolder.get().strand = item.future.strand;
                     result = item.execute();
@@ -289,12 +305,16 @@ public class Scheduler {
                     }
                 } finally {
                     strandHolder.get().strand = null;
+                    StrandEvents.strandStopped(runEvent);
                 }
                 postProcess(item, result, panic);
                 if (group.items.empty()) {
                     group.scheduled.set(false);
                 }
             }
+            if (busyTime != null) {
+                busyTime.addAndGet(System.nanoTime() - startTime);
+            }
         }
     }
 
@@ -304,6 +324,7 @@ public class Scheduler {
     private void postProcess(SchedulerItem item, Object result, Throwable panic) {
         switch (item.getState()) {
             case BLOCK_AND_YIELD:
+                SchedulerStats.BlockedOn blockedOn = getBlockedReason(item.future.strand);
                 item.future.strand.lock();
                 // need to recheck due to concurrency, unblockStrand() may have changed state
                 if (item.getState().getStatus() == State.YIELD.getStatus()) {
@@ -312,6 +333,7 @@ public class Scheduler {
                     break;
                 }
                 item.parked = true;
+                item.blockedOn(blockedOn);
                 item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
@@ -321,6 +343,8 @@ public class Scheduler {
                 if (waitContext.runnable) {
                     waitContext.completed = true;
                     reschedule(item);
+                } else {
+                    item.blockedOn(SchedulerStats.BlockedOn.WAIT);
                 }
                 waitContext.unLock();
                 break;
@@ -383,6 +407,17 @@ public class Scheduler {
         }
     }
 
+    private static SchedulerStats.BlockedOn getBlockedReason(Strand strand) {
+        if (strand.blockedOnExtern) {
+            return SchedulerStats.BlockedOn.EXTERN;
+        }
+        if (strand.blockedOnLock) {
+            strand.blockedOnLock = false;
+            return SchedulerStats.BlockedOn.LOCK;
+        }
+        return SchedulerStats.BlockedOn.WORKER_CHANNEL;
+    }
+
     private Throwable createError(Throwable t) {
         if (t instanceof StackOverflowError) {
             BError error = ErrorCreator.createError(BallerinaErrorReasons.STACK_OVERFLOW_ERROR);
@@ -434,6 +469,9 @@ public class Scheduler {
 
     private void reschedule(SchedulerItem item) {
         if (!item.getState().equals(State.RUNNABLE)) {
+            boolean resumed = item.unblocked();
+            StrandEvents.strandScheduled(item.future.strand,
+                                         resumed ? StrandEvents.CAUSE_RESUME : StrandEvents.CAUSE_YIELD);
             ItemGroup group = item.future.strand.strandGroup;
             item.setState(State.RUNNABLE);
             group.add(item);
@@ -460,6 +498,14 @@ public class Scheduler {
         return future;
     }
 
+    int getRunnableQueueSize() {
+        return runnableList.size();
+    }
+
+    int getLiveStrandCount() {
+        return totalStrands.get();
+    }
+
     public void poison() {
         for (int i = 0; i < numThreads; i++) {
             runnableList.add(POISON_PILL);
@@ -477,6 +523,8 @@ class SchedulerItem {
     private Object[] params;
     final FutureValue future;
     boolean parked;
+    private SchedulerStats.BlockedOn blockedOn;
+    private StrandParkEvent parkEvent;
 
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
@@ -506,6 +554,25 @@ class SchedulerItem {
         return this.future.strand.getState();
     }
 
+    void blockedOn(SchedulerStats.BlockedOn reason) {
+        this.blockedOn = reason;
+        SchedulerStats.strandBlocked(reason);
+        StrandProfiler.strandParked(this.future.strand, reason.getTagValue());
+        this.parkEvent = StrandEvents.strandParked(this.future.strand, reason.getTagValue());
+    }
+
+    boolean unblocked() {
+        if (this.blockedOn == null) {
+            return false;
+        }
+        SchedulerStats.strandUnblocked(this.blockedOn);
+        StrandProfiler.strandResumed(this.future.strand);
+        StrandEvents.strandResumed(this.parkEvent);
+        this.blockedOn = null;
+        this.parkEvent = null;
+        return true;
+    }
+
     public void setState(State state) {
         this.future.strand.setState(state);
     }
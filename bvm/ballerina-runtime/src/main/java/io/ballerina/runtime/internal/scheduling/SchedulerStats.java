@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Statistics of the strand schedulers, which are exposed as polled gauges once metrics are enabled.
+ * </p>
+ * <p>
+ * The schedulers only update counters which are owned by the scheduler threads or which do not need locking, and the
+ * values are read when the metrics are polled.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class SchedulerStats {
+
+    private static final String METRIC_PREFIX = "ballerina_scheduler_";
+    private static final String TAG_REASON = "reason";
+    private static final String TAG_THREAD = "thread";
+
+    private static final Set<Scheduler> activeSchedulers = new CopyOnWriteArraySet<>();
+    private static final LongAdder[] blockedStrands = new LongAdder[BlockedOn.values().length];
+    private static final Map<String, AtomicLong> threadBusyTimes = new ConcurrentHashMap<>();
+    private static volatile MetricRegistry metricRegistry;
+
+    static {
+        for (int i = 0; i < blockedStrands.length; i++) {
+            blockedStrands[i] = new LongAdder();
+        }
+    }
+
+    private SchedulerStats() {
+    }
+
+    /**
+     * Registers the scheduler metrics in the default metric registry, unless they are already registered in it. Busy
+     * time of the scheduler threads is only measured for threads started after the metrics are registered.
+     */
+    public static synchronized void registerMetrics() {
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        if (registry == null || registry == metricRegistry) {
+            return;
+        }
+        PolledGauge.builder(METRIC_PREFIX + "runnable_queue_size", activeSchedulers,
+                            SchedulerStats::getRunnableQueueSize)
+                .description("Number of strand groups waiting to be executed").register(registry);
+        PolledGauge.builder(METRIC_PREFIX + "live_strands", activeSchedulers, SchedulerStats::getLiveStrandCount)
+                .description("Number of strands which are not completed").register(registry);
+        for (BlockedOn blockedOn : BlockedOn.values()) {
+            PolledGauge.builder(METRIC_PREFIX + "blocked_strands", blockedStrands[blockedOn.ordinal()],
+                                LongAdder::sum)
+                    .description("Number of strands blocked until they are resumed")
+                    .tag(TAG_REASON, blockedOn.tagValue).register(registry);
+        }
+        for (Map.Entry<String, AtomicLong> entry : threadBusyTimes.entrySet()) {
+            registerThreadMetrics(registry, entry.getKey(), entry.getValue());
+        }
+        metricRegistry = registry;
+    }
+
+    /**
+     * Gets the counter of the busy time of a scheduler thread.
+     *
+     * @param threadName name of the scheduler thread
+     * @return the counter of the busy time in nanoseconds, or null if the metrics are not registered
+     */
+    static AtomicLong getThreadBusyTimeCounter(String threadName) {
+        MetricRegistry registry = metricRegistry;
+        if (registry == null) {
+            return null;
+        }
+        return threadBusyTimes.computeIfAbsent(threadName, name -> {
+            AtomicLong busyTime = new AtomicLong();
+            registerThreadMetrics(registry, name, busyTime);
+            return busyTime;
+        });
+    }
+
+    static void schedulerStarted(Scheduler scheduler) {
+        activeSchedulers.add(scheduler);
+    }
+
+    static void schedulerStopped(Scheduler scheduler) {
+        activeSchedulers.remove(scheduler);
+    }
+
+    static void strandBlocked(BlockedOn blockedOn) {
+        blockedStrands[blockedOn.ordinal()].increment();
+    }
+
+    static void strandUnblocked(BlockedOn blockedOn) {
+        blockedStrands[blockedOn.ordinal()].decrement();
+    }
+
+    /**
+     * Gets the number of strands currently blocked for the given reason.
+     *
+     * @param blockedOn reason for which the strands are blocked
+     * @return number of blocked strands
+     */
+    public static long getBlockedStrandCount(BlockedOn blockedOn) {
+        return blockedStrands[blockedOn.ordinal()].sum();
+    }
+
+    private static void registerThreadMetrics(MetricRegistry registry, String threadName, AtomicLong busyTime) {
+        PolledGauge.builder(METRIC_PREFIX + "thread_busy_time_nanoseconds", busyTime, AtomicLong::get)
+                .description("Time spent by the scheduler thread in executing strands")
+                .tag(TAG_THREAD, threadName).register(registry);
+    }
+
+    private static double getRunnableQueueSize(Set<Scheduler> schedulers) {
+        int size = 0;
+        for (Scheduler scheduler : schedulers) {
+            size += scheduler.getRunnableQueueSize();
+        }
+        return size;
+    }
+
+    private static double getLiveStrandCount(Set<Scheduler> schedulers) {
+        int count = 0;
+        for (Scheduler scheduler : schedulers) {
+            count += scheduler.getLiveStrandCount();
+        }
+        return count;
+    }
+
+    /**
+     * Reasons for which a strand is blocked by the scheduler.
+     */
+    public enum BlockedOn {
+        LOCK("lock"),
+        WORKER_CHANNEL("worker_channel"),
+        WAIT("wait"),
+        EXTERN("extern");
+
+        private final String tagValue;
+
+        BlockedOn(String tagValue) {
+            this.tagValue = tagValue;
+        }
+
+        public String getTagValue() {
+            return tagValue;
+        }
+    }
+}
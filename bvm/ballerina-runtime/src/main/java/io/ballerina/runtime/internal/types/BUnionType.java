@@ -41,6 +41,7 @@ public class BUnionType extends BType implements UnionType {
     private int typeFlags;
     private final boolean readonly;
     private IntersectionType immutableType;
+    private final UnionTypeDispatchTable dispatchTable = new UnionTypeDispatchTable();
 
     /**
      * Create a {@code BUnionType} which represents the union type.
@@ -231,4 +232,32 @@ public class BUnionType extends BType implements UnionType {
     public void setImmutableType(IntersectionType immutableType) {
         this.immutableType = immutableType;
     }
+
+    /**
+     * Returns the memoized result of testing whether the given source type belongs to this union type.
+     *
+     * @param sourceType source type
+     * @return {@code Boolean.TRUE} or {@code Boolean.FALSE} if the result is known, {@code null} otherwise
+     */
+    public Boolean getCachedMembership(Type sourceType) {
+        switch (dispatchTable.lookup(sourceType)) {
+            case UnionTypeDispatchTable.MEMBER:
+                return Boolean.TRUE;
+            case UnionTypeDispatchTable.NOT_MEMBER:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Memoizes the result of testing whether the given source type belongs to this union type. Only results that
+     * were computed without assuming the relationship of any pair of recursive types should be cached.
+     *
+     * @param sourceType source type
+     * @param isMember   whether the source type belongs to this union type
+     */
+    public void cacheMembership(Type sourceType, boolean isMember) {
+        dispatchTable.record(sourceType, isMember);
+    }
 }
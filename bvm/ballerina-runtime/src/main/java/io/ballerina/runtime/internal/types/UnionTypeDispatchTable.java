@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Type;
+
+/**
+ * Memoizes the result of type tests against the members of a {@link BUnionType}.
+ * <p>
+ * Types that are fully identified by their tag (i.e. basic simple types) are looked up in a table indexed by the
+ * type tag. All other source types (records, objects, arrays, etc.) are looked up by identity in a small bounded
+ * table. Both tables are read without locking. Since a recorded result is always the same for a given source type,
+ * a stale read only results in the type test being evaluated again.
+ *
+ * @since 2.0.0
+ */
+final class UnionTypeDispatchTable {
+
+    static final byte UNKNOWN = 0;
+    static final byte MEMBER = 1;
+    static final byte NOT_MEMBER = 2;
+
+    private static final int MAX_IDENTITY_ENTRIES = 32;
+
+    private final byte[] tagTable = new byte[TypeTags.NEVER_TAG + 1];
+    private volatile Type[] identityKeys = new Type[0];
+    private volatile boolean[] identityValues = new boolean[0];
+
+    byte lookup(Type sourceType) {
+        int tag = sourceType.getTag();
+        if (isTagDispatchable(tag)) {
+            return tagTable[tag];
+        }
+
+        Type[] keys = this.identityKeys;
+        boolean[] values = this.identityValues;
+        int size = Math.min(keys.length, values.length);
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == sourceType) {
+                return values[i] ? MEMBER : NOT_MEMBER;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    void record(Type sourceType, boolean isMember) {
+        int tag = sourceType.getTag();
+        if (isTagDispatchable(tag)) {
+            tagTable[tag] = isMember ? MEMBER : NOT_MEMBER;
+            return;
+        }
+
+        synchronized (this) {
+            Type[] keys = this.identityKeys;
+            if (keys.length >= MAX_IDENTITY_ENTRIES) {
+                return;
+            }
+            for (Type key : keys) {
+                if (key == sourceType) {
+                    return;
+                }
+            }
+
+            Type[] newKeys = new Type[keys.length + 1];
+            boolean[] newValues = new boolean[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, keys.length);
+            System.arraycopy(this.identityValues, 0, newValues, 0, keys.length);
+            newKeys[keys.length] = sourceType;
+            newValues[keys.length] = isMember;
+            // Values are published before keys so that a reader never sees a key without its value.
+            this.identityValues = newValues;
+            this.identityKeys = newKeys;
+        }
+    }
+
+    /**
+     * Returns whether a type with the given tag is completely described by the tag itself, so that any two types
+     * with the tag have the same type test result against a given union.
+     *
+     * @param tag type tag
+     * @return true if the tag identifies the type
+     */
+    private static boolean isTagDispatchable(int tag) {
+        switch (tag) {
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.NULL_TAG:
+            case TypeTags.HANDLE_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
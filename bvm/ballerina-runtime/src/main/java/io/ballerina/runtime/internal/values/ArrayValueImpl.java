@@ -43,7 +43,6 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
-import java.util.stream.IntStream;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INDEX_OUT_OF_RANGE_ERROR_IDENTIFIER;
@@ -71,6 +70,10 @@ public class ArrayValueImpl extends AbstractArrayValue {
     private byte[] byteValues;
     private double[] floatValues;
     private BString[] bStringValues;
+
+    // Set when the primitive backing array is shared with a copy of this array (or with the array this was copied
+    // from). Both sides copy the backing array before their first in-place update.
+    private boolean storageShared;
     // ------------------------ Constructors -------------------------------------------------------------------
 
     @Deprecated
@@ -687,7 +690,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
             return refs.get(this);
         }
 
-        ArrayValue valueArray = null;
+        ArrayValueImpl valueArray;
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
             case TypeTags.SIGNED32_INT_TAG:
@@ -696,35 +699,42 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(intValues, this.size));
+                valueArray = new ArrayValueImpl(intValues);
                 break;
             case TypeTags.BOOLEAN_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(booleanValues, this.size));
+                valueArray = new ArrayValueImpl(booleanValues);
                 break;
             case TypeTags.BYTE_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(byteValues, this.size));
+                valueArray = new ArrayValueImpl(byteValues);
                 break;
             case TypeTags.FLOAT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(floatValues, this.size));
+                valueArray = new ArrayValueImpl(floatValues);
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(bStringValues, this.size));
+                valueArray = new ArrayValueImpl(bStringValues);
                 break;
             default:
                 Object[] values = new Object[this.size];
                 valueArray = new ArrayValueImpl(values, arrayType);
-                IntStream.range(0, this.size).forEach(i -> {
+                // Registered before copying the members, so that a member referring back to this array gets the copy.
+                refs.put(this, valueArray);
+                for (int i = 0; i < this.size; i++) {
                     Object value = this.refValues[i];
                     if (value instanceof RefValue) {
                         values[i] = ((RefValue) value).copy(refs);
                     } else {
                         values[i] = value;
                     }
-                });
-                break;
+                }
+                return valueArray;
         }
 
+        // Members of a primitive array are immutable, hence the copy shares the backing array until either side
+        // updates it.
+        valueArray.size = this.size;
+        valueArray.storageShared = true;
+        this.storageShared = true;
         refs.put(this, valueArray);
         return valueArray;
     }
@@ -928,6 +938,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 refValues = Arrays.copyOf(refValues, newLength);
                 break;
         }
+        // The resized backing array is always a new array.
+        storageShared = false;
     }
 
     @Override
@@ -1052,6 +1064,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
             throw ErrorCreator.createError(reason, detail);
         }
 
+        unshareStorage();
         int intIndex = (int) index;
         rangeCheck(index, size);
         fillerValueCheck(intIndex, size);
@@ -1100,6 +1113,10 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     private void shiftArray(int index, Object arr) {
+        if (storageShared) {
+            unshareStorage();
+            arr = getArrayFromType(this.elementType.getTag());
+        }
         int nElemsToBeMoved = this.size - 1 - index;
         if (nElemsToBeMoved >= 0) {
             System.arraycopy(arr, index + 1, arr, index, nElemsToBeMoved);
@@ -1108,6 +1125,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     private void unshiftArray(long index, int unshiftByN, int arrLength) {
+        unshareStorage();
         int lastIndex = size() + unshiftByN - 1;
         prepareForConsecutiveMultiAdd(lastIndex, arrLength);
         Object arr = getArrayFromType(elementType.getTag());
@@ -1122,6 +1140,33 @@ public class ArrayValueImpl extends AbstractArrayValue {
         System.arraycopy(arr, i, arr, i + unshiftByN, this.size - i);
     }
 
+    /**
+     * Gives this array its own copy of the primitive backing array, if the backing array is shared with a copy of
+     * this array. This has to be done before updating the backing array in place.
+     */
+    private void unshareStorage() {
+        if (!storageShared) {
+            return;
+        }
+
+        if (intValues != null) {
+            intValues = intValues.clone();
+        }
+        if (booleanValues != null) {
+            booleanValues = booleanValues.clone();
+        }
+        if (byteValues != null) {
+            byteValues = byteValues.clone();
+        }
+        if (floatValues != null) {
+            floatValues = floatValues.clone();
+        }
+        if (bStringValues != null) {
+            bStringValues = bStringValues.clone();
+        }
+        storageShared = false;
+    }
+
     private Object getArrayFromType(int typeTag) {
         switch (typeTag) {
             case TypeTags.INT_TAG:
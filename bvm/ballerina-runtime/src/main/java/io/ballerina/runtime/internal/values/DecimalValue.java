@@ -54,15 +54,42 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
+    // Maximum scale of a decimal value kept in the compact form.
+    private static final int MAX_COMPACT_SCALE = 18;
+
+    private static final int NOT_COMPACT = -1;
+
+    private static final long[] LONG_TEN_POWERS = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    // The value as a `BigDecimal`. This is created lazily for values in the compact form.
     private BigDecimal value;
 
+    // Compact form of the value, i.e. {@code unscaledValue * 10^(-compactScale)}. A value is kept in the compact form
+    // if the unscaled value fits in a long and the scale is between zero and {@code MAX_COMPACT_SCALE}. Arithmetic
+    // between two compact values is done on longs, and falls back to `BigDecimal` on overflow.
+    private long unscaledValue;
+    private int compactScale = NOT_COMPACT;
+
     public DecimalValue(BigDecimal value) {
         this.value = value;
+        setCompactForm(value);
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
 
+    private DecimalValue(long unscaledValue, int scale) {
+        this.unscaledValue = unscaledValue;
+        this.compactScale = scale;
+        if (unscaledValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+    }
+
     public DecimalValue(String value) {
         // Check whether the number provided is a hexadecimal value.
         if (isHexValueString(value)) {
@@ -70,6 +97,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         } else {
             this.value = new BigDecimal(value, MathContext.DECIMAL128);
         }
+        setCompactForm(this.value);
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
@@ -80,6 +108,34 @@ public class DecimalValue implements SimpleValue, BDecimal {
         this.valueKind = valueKind;
     }
 
+    private void setCompactForm(BigDecimal value) {
+        int scale = value.scale();
+        // Precision of a long is 19 digits, but not all 19 digit numbers fit in a long.
+        if (scale < 0 || scale > MAX_COMPACT_SCALE || value.precision() > 18) {
+            return;
+        }
+        this.unscaledValue = value.unscaledValue().longValue();
+        this.compactScale = scale;
+    }
+
+    private boolean isCompact() {
+        return this.compactScale != NOT_COMPACT;
+    }
+
+    /**
+     * Create a decimal from the result of an arithmetic operation on compact values.
+     *
+     * @param unscaledValue unscaled value of the result
+     * @param scale         scale of the result, which is not negative
+     * @return decimal value
+     */
+    private static DecimalValue fromCompactResult(long unscaledValue, int scale) {
+        if (scale <= MAX_COMPACT_SCALE) {
+            return new DecimalValue(unscaledValue, scale);
+        }
+        return new DecimalValue(BigDecimal.valueOf(unscaledValue, scale));
+    }
+
     private static boolean isHexValueString(String value) {
         String upperCaseValue = value.toUpperCase();
         return upperCaseValue.startsWith("0X") || upperCaseValue.startsWith("-0X");
@@ -142,7 +198,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the value
      */
     public BigDecimal decimalValue() {
-        return this.value;
+        return value();
     }
 
     /**
@@ -160,11 +216,11 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_INT);
         }
 
-        if (!isDecimalWithinIntRange(value)) {
+        if (!isDecimalWithinIntRange(value())) {
             throw ErrorUtils.createNumericConversionError(this.stringValue(null), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_INT);
         }
-        return (long) Math.rint(value.doubleValue());
+        return (long) Math.rint(value().doubleValue());
     }
 
     /**
@@ -192,9 +248,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_BYTE);
         }
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        int intVal = (int) Math.rint(value().doubleValue());
         if (!isByteLiteral(intVal)) {
-            throw ErrorUtils.createNumericConversionError(value, PredefinedTypes.TYPE_DECIMAL,
+            throw ErrorUtils.createNumericConversionError(value(), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_BYTE);
         }
         return intVal;
@@ -212,7 +268,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind == DecimalValueKind.NOT_A_NUMBER) {
             return Double.NaN;
         }
-        return value.doubleValue();
+        return value().doubleValue();
     }
 
     /**
@@ -220,6 +276,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is non zero
      */
     public boolean booleanValue() {
+        if (isCompact()) {
+            return this.unscaledValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -242,7 +301,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return value().toString();
     }
 
     /**
@@ -254,7 +313,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue() + "d";
         }
-        return value.toString() + "d";
+        return value().toString() + "d";
     }
 
     /**
@@ -262,7 +321,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the decimal value
      */
     public BigDecimal value() {
-        return this.value;
+        BigDecimal bigDecimalValue = this.value;
+        if (bigDecimalValue == null) {
+            // Only compact values are created without the `BigDecimal`. Racing threads would create equal values.
+            bigDecimalValue = BigDecimal.valueOf(this.unscaledValue, this.compactScale);
+            this.value = bigDecimalValue;
+        }
+        return bigDecimalValue;
     }
 
     /**
@@ -303,6 +368,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (augend.valueKind == DecimalValueKind.OTHER) {
+                    if (this.isCompact() && augend.isCompact()) {
+                        DecimalValue result = compactAdd(this.unscaledValue, this.compactScale,
+                                                         augend.unscaledValue, augend.compactScale);
+                        if (result != null) {
+                            return result;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
                 }
                 return augend;
@@ -341,6 +413,14 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (subtrahend.valueKind == DecimalValueKind.OTHER) {
+                    // The unscaled value of a compact value is never Long.MIN_VALUE, hence it can be negated.
+                    if (this.isCompact() && subtrahend.isCompact()) {
+                        DecimalValue result = compactAdd(this.unscaledValue, this.compactScale,
+                                                         -subtrahend.unscaledValue, subtrahend.compactScale);
+                        if (result != null) {
+                            return result;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -384,6 +464,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+                    if (this.isCompact() && multiplicand.isCompact()) {
+                        DecimalValue result = compactMultiply(this.unscaledValue, this.compactScale,
+                                                              multiplicand.unscaledValue, multiplicand.compactScale);
+                        if (result != null) {
+                            return result;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -433,6 +520,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (divisor.valueKind == DecimalValueKind.OTHER) {
+                    if (this.isCompact() && divisor.isCompact()) {
+                        DecimalValue result = compactDivide(this.unscaledValue, this.compactScale,
+                                                            divisor.unscaledValue, divisor.compactScale);
+                        if (result != null) {
+                            return result;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().divide(divisor.decimalValue(), MathContext.DECIMAL128));
                 }
                 if (divisor.valueKind == DecimalValueKind.POSITIVE_INFINITY ||
@@ -476,6 +570,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     public DecimalValue negate() {
         switch (this.valueKind) {
             case OTHER:
+                if (isCompact()) {
+                    return new DecimalValue(-this.unscaledValue, this.compactScale);
+                }
                 return new DecimalValue(this.decimalValue().negate());
             case POSITIVE_INFINITY:
                 return NEGATIVE_INF;
@@ -511,6 +608,67 @@ public class DecimalValue implements SimpleValue, BDecimal {
         return remainder((DecimalValue) divisor);
     }
 
+    // The following operations on compact values return null if the result cannot be computed on longs. Results
+    // that fit in a long have at most 19 digits, hence they are never rounded under `MathContext.DECIMAL128`. The
+    // scale of each result is the same as that of the corresponding `BigDecimal` operation.
+
+    private static DecimalValue compactAdd(long x, int xScale, long y, int yScale) {
+        int scale = Math.max(xScale, yScale);
+        long alignedX = multiplyExact(x, LONG_TEN_POWERS[scale - xScale]);
+        long alignedY = multiplyExact(y, LONG_TEN_POWERS[scale - yScale]);
+        if (alignedX == Long.MIN_VALUE || alignedY == Long.MIN_VALUE) {
+            return null;
+        }
+
+        long sum = alignedX + alignedY;
+        if (((alignedX ^ sum) & (alignedY ^ sum)) < 0 || sum == Long.MIN_VALUE) {
+            return null;
+        }
+        return fromCompactResult(sum, scale);
+    }
+
+    private static DecimalValue compactMultiply(long x, int xScale, long y, int yScale) {
+        long product = multiplyExact(x, y);
+        if (product == Long.MIN_VALUE) {
+            return null;
+        }
+        return fromCompactResult(product, xScale + yScale);
+    }
+
+    private static DecimalValue compactDivide(long x, int xScale, long y, int yScale) {
+        // `BigDecimal` returns an exact quotient with the scale closest to the preferred scale, which is the
+        // difference of the scales. Only exact quotients with a non-negative preferred scale are handled here.
+        int preferredScale = xScale - yScale;
+        if (preferredScale < 0) {
+            return null;
+        }
+
+        long dividend = x;
+        for (int scale = preferredScale; scale <= MAX_COMPACT_SCALE; scale++) {
+            if (dividend % y == 0) {
+                return new DecimalValue(dividend / y, scale);
+            }
+            dividend = multiplyExact(dividend, 10);
+            if (dividend == Long.MIN_VALUE) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Multiplies two longs, returning {@code Long.MIN_VALUE} on overflow. Since the unscaled value of a compact value
+     * is never {@code Long.MIN_VALUE}, it is used to denote the overflow without throwing an exception.
+     */
+    private static long multiplyExact(long x, long y) {
+        long high = Math.multiplyHigh(x, y);
+        long low = x * y;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return low;
+        }
+        return Long.MIN_VALUE;
+    }
+
     /**
      * Returns value kind of {@code (-this)}.
      * @return value kind
@@ -532,12 +690,18 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        if (this.valueKind != bDecimal.valueKind) {
+            return false;
+        }
+        if (this.isCompact() && bDecimal.isCompact() && this.compactScale == bDecimal.compactScale) {
+            return this.unscaledValue == bDecimal.unscaledValue;
+        }
+        return value().compareTo(bDecimal.value()) == 0;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return value().hashCode();
     }
 
     /**
@@ -35,7 +35,7 @@ import io.ballerina.runtime.internal.types.BTypeIdSet;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 
 import java.io.PrintWriter;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -226,7 +226,7 @@ public class ErrorValue extends BError implements RefValue {
      */
     public Object getDetails() {
         if (details instanceof RefValue) {
-            return ((RefValue) details).copy(new HashMap<>());
+            return ((RefValue) details).copy(new IdentityHashMap<>());
         }
         return details;
     }
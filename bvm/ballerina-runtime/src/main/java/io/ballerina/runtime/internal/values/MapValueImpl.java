@@ -103,6 +103,11 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         this.type = type;
     }
 
+    private MapValueImpl(Type type, int expectedSize) {
+        super(Math.max(16, (int) (expectedSize / 0.75f) + 1));
+        this.type = type;
+    }
+
     public MapValueImpl(Type type, BMapInitialValueEntry[] initialValues) {
         super();
         this.type = type;
@@ -423,7 +428,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             return refs.get(this);
         }
 
-        MapValueImpl<K, V> newMap = new MapValueImpl<>(type);
+        // Sized upfront so that copying a large map does not rehash the copy several times.
+        MapValueImpl<K, V> newMap = new MapValueImpl<>(type, size());
         refs.put(this, newMap);
         for (Map.Entry<K, V> entry : this.entrySet()) {
             V value = entry.getValue();
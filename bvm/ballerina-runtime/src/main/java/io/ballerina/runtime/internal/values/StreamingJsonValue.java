@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.values.BStreamingJson;
 import io.ballerina.runtime.internal.JsonDataSource;
 import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonUtils;
+import io.ballerina.runtime.internal.Utf8JsonGenerator;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BMapType;
 
@@ -110,6 +111,33 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
         }
     }
 
+    /**
+     * Serialize to the given {@code Utf8JsonGenerator}.
+     * @param gen {@code Utf8JsonGenerator} to use
+     * @throws IOException if an error occurs while writing to the underlying output stream
+     */
+    public void serialize(Utf8JsonGenerator gen) throws IOException {
+        // Same as above, the values loaded to memory should be serialized first
+        gen.writeStartArray();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                gen.writeSeparator();
+            }
+            gen.serialize(refValues[i]);
+        }
+
+        boolean first = size == 0;
+        while (datasource.hasNext()) {
+            if (first) {
+                first = false;
+            } else {
+                gen.writeSeparator();
+            }
+            gen.serialize(datasource.next());
+        }
+        gen.writeEndArray();
+    }
+
     /**
      * Serialize the value to given {@code Writer}.
      * @param writer {@code Writer} to be used
@@ -39,7 +39,6 @@ import java.io.ByteArrayOutputStream;
 import java.lang.ref.WeakReference;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -70,11 +69,13 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     private AttributeMapValueImpl attributes;
     // Keep track of probable parents of xml element to detect probable cycles in xml.
     private List<WeakReference<XmlItem>> probableParents;
+    // Incremented on each mutation of this element, to invalidate the name indexes which include it
+    private long version;
 
     public XmlItem(QName name, XmlSequence children, boolean readonly) {
         this.name = name;
-        this.children = children;
-        for (BXml child : children.children) {
+        this.children = toChildren(children);
+        for (BXml child : this.children.children) {
             addParent(child, this);
         }
         attributes = new AttributeMapValueImpl(false);
@@ -171,6 +172,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     }
 
     public void setQName(QName name) {
+        recordMutation();
         this.name = name;
     }
 
@@ -257,7 +259,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     @Override
     public XmlValue elements(String qname) {
         ArrayList<BXml> children = new ArrayList<>();
-        if (getElementName().equals(getQname(qname).toString())) {
+        if (name.equals(getQname(qname))) {
             children.add(this);
         }
         return new XmlSequence(children);
@@ -292,8 +294,9 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             return;
         }
 
+        recordMutation();
         if (seq.getNodeType() == XmlNodeType.SEQUENCE) {
-            children = (XmlSequence) seq;
+            children = toChildren((XmlSequence) seq);
             for (BXml child : children.children) {
                 addParent(child);
             }
@@ -318,6 +321,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             return;
         }
 
+        recordMutation();
         List<BXml> leftList = new ArrayList<>(children.children);
 
         if (seq.getNodeType() == XmlNodeType.SEQUENCE) {
@@ -339,6 +343,30 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     }
 
 
+    /**
+     * Returns a sequence which could be used as the children of an element. The items of a sequence created by
+     * concatenation are copied, since its list is immutable and shares its storage with other sequences.
+     */
+    private static XmlSequence toChildren(XmlSequence seq) {
+        if (seq.children instanceof XmlItemList) {
+            return new XmlSequence(new ArrayList<>(seq.children));
+        }
+        return seq;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Records a mutation of this element. The name indexes which include this element find out about the mutation
+     * when they are next used.
+     */
+    private void recordMutation() {
+        version++;
+        XmlNameIndex.recordMutation();
+    }
+
     private void addParent(BXml child) {
         ensureAcyclicGraph(child, this);
         addParent(child, this);
@@ -378,7 +406,9 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         XmlText text = new XmlText(mergedTextContent);
         leftList.set(leftList.size() - 1, text);
         for (int i = 1; i < appendingList.size(); i++) {
-            leftList.add(appendingList.get(i));
+            BXml item = appendingList.get(i);
+            addParent(item, this);
+            leftList.add(item);
         }
     }
 
@@ -408,12 +438,18 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public XmlValue descendants(List<String> qnames) {
-        if (qnames.contains(getQName().toString())) {
-            List<BXml> descendants = Arrays.asList(this);
-            addDescendants(descendants, this, qnames);
-            return new XmlSequence(descendants);
+        List<QName> names = getQnames(qnames);
+        XmlNameIndex index = getNameIndex(Collections.singletonList(this));
+        if (index != null) {
+            return new XmlSequence(index.select(names));
+        }
+
+        List<BXml> descendants = new ArrayList<>();
+        if (names.contains(name)) {
+            descendants.add(this);
         }
-        return children.descendants(qnames);
+        addDescendants(descendants, this, names);
+        return new XmlSequence(descendants);
     }
 
     /**
@@ -484,8 +520,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             return this;
         }
 
-        QName elemName = new QName(this.name.getNamespaceURI(), this.name.getLocalPart(), this.name.getPrefix());
-        XmlItem xmlItem = new XmlItem(elemName, (XmlSequence) children.copy(refs));
+        XmlItem xmlItem = new XmlItem(this.name, (XmlSequence) children.copy(refs));
 
         MapValue<BString, BString> attributesMap = xmlItem.getAttributesMap();
         MapValue<BString, BString> copy = (MapValue<BString, BString>) this.getAttributesMap().copy(refs);
@@ -562,6 +597,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
+        recordMutation();
         List<BXml> children = this.children.children;
         List<Integer> toRemove = new ArrayList<>();
         for (int i = 0; i < children.size(); i++) {
@@ -0,0 +1,283 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.XmlNodeType;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of the items of an xml sequence created by concatenation.
+ * <p>
+ * A list shares its item storage with the list it was concatenated from. When the items of a list end at the end of
+ * the storage, concatenating items to it adds them to the same storage, and the new list just covers more of the
+ * storage. Hence building a sequence by concatenating items to its end takes amortized constant time per item,
+ * instead of copying the whole sequence on each concatenation. Concatenating to any other list copies its items to a
+ * new storage first.
+ * <p>
+ * A text item at the end of the list is kept out of the storage, since it is merged with any text concatenated right
+ * after it. Merged text is accumulated in a shared buffer in the same way, and the merged text item is only created
+ * when it is read or when a non-text item is concatenated after it.
+ *
+ * @since 2.0.0
+ */
+final class XmlItemList extends AbstractList<BXml> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private final ItemStorage storage;
+    private final int storedSize;
+
+    // Trailing text item, when it has not been merged with other text.
+    private final BXml trailingItem;
+    // Trailing text, when it is made by merging text items.
+    private final TextBuffer trailingTextBuffer;
+    private XmlText mergedTrailingItem;
+
+    private XmlItemList(ItemStorage storage, int storedSize, BXml trailingItem, TextBuffer trailingTextBuffer) {
+        this.storage = storage;
+        this.storedSize = storedSize;
+        this.trailingItem = trailingItem;
+        this.trailingTextBuffer = trailingTextBuffer;
+    }
+
+    /**
+     * Concatenates two xml values into a list of items. Adjoining text items of the two values are merged into a
+     * single text item.
+     *
+     * @param first  first xml value
+     * @param second second xml value
+     * @return list of the items of the concatenated sequence
+     */
+    static XmlItemList concat(BXml first, BXml second) {
+        Builder builder = new Builder(first);
+
+        if (second.getNodeType() == XmlNodeType.SEQUENCE) {
+            List<BXml> items = ((XmlSequence) second).getChildrenList();
+            int size = items.size();
+            for (int i = 0; i < size; i++) {
+                BXml item = items.get(i);
+                if (i == 0 && builder.hasTrailingText() && item.getNodeType() == XmlNodeType.TEXT) {
+                    builder.mergeText(item);
+                } else {
+                    builder.add(item);
+                }
+            }
+        } else if (builder.hasTrailingText() && second.getNodeType() == XmlNodeType.TEXT) {
+            builder.mergeText(second);
+        } else if (!second.isEmpty()) {
+            builder.add(second);
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public BXml get(int index) {
+        if (index >= 0 && index < storedSize) {
+            return storage.items[index];
+        }
+
+        if (index == storedSize && hasTrailingText()) {
+            return getTrailingItem();
+        }
+
+        throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+    }
+
+    @Override
+    public int size() {
+        return hasTrailingText() ? storedSize + 1 : storedSize;
+    }
+
+    private boolean hasTrailingText() {
+        return trailingItem != null || trailingTextBuffer != null;
+    }
+
+    private BXml getTrailingItem() {
+        if (trailingItem != null) {
+            return trailingItem;
+        }
+
+        XmlText merged = mergedTrailingItem;
+        if (merged == null) {
+            merged = new XmlText(trailingTextBuffer.getText());
+            mergedTrailingItem = merged;
+        }
+        return merged;
+    }
+
+    /**
+     * Accumulates the items of a concatenation, starting from the items of the first value.
+     */
+    private static class Builder {
+
+        private ItemStorage storage;
+        private int storedSize;
+        private BXml trailingItem;
+        private TextBuffer trailingTextBuffer;
+
+        Builder(BXml first) {
+            if (first.getNodeType() == XmlNodeType.SEQUENCE) {
+                List<BXml> items = ((XmlSequence) first).getChildrenList();
+                if (items instanceof XmlItemList) {
+                    XmlItemList list = (XmlItemList) items;
+                    this.storage = list.storage;
+                    this.storedSize = list.storedSize;
+                    this.trailingItem = list.trailingItem;
+                    this.trailingTextBuffer = list.trailingTextBuffer;
+                    return;
+                }
+
+                this.storage = new ItemStorage(Math.max(DEFAULT_CAPACITY, items.size() + 1));
+                for (BXml item : items) {
+                    add(item);
+                }
+                return;
+            }
+
+            this.storage = new ItemStorage(DEFAULT_CAPACITY);
+            if (!first.isEmpty()) {
+                add(first);
+            }
+        }
+
+        boolean hasTrailingText() {
+            return trailingItem != null || trailingTextBuffer != null;
+        }
+
+        void add(BXml item) {
+            storeTrailingText();
+            if (item.getNodeType() == XmlNodeType.TEXT) {
+                trailingItem = item;
+            } else {
+                store(item);
+            }
+        }
+
+        void mergeText(BXml text) {
+            if (trailingTextBuffer == null) {
+                trailingTextBuffer = new TextBuffer(trailingItem.getTextValue());
+                trailingItem = null;
+            }
+            trailingTextBuffer = trailingTextBuffer.append(text.getTextValue());
+        }
+
+        XmlItemList build() {
+            return new XmlItemList(storage, storedSize, trailingItem, trailingTextBuffer);
+        }
+
+        private void storeTrailingText() {
+            if (trailingTextBuffer != null) {
+                store(new XmlText(trailingTextBuffer.getText()));
+                trailingTextBuffer = null;
+            } else if (trailingItem != null) {
+                store(trailingItem);
+                trailingItem = null;
+            }
+        }
+
+        private void store(BXml item) {
+            storage = storage.append(storedSize, item);
+            storedSize++;
+        }
+    }
+
+    /**
+     * Item storage shared by the lists concatenated from one another. A list owns the storage after its last item,
+     * only if its last item is the last item in the storage.
+     */
+    private static class ItemStorage {
+
+        private volatile BXml[] items;
+        private int count;
+
+        ItemStorage(int capacity) {
+            this.items = new BXml[capacity];
+        }
+
+        /**
+         * Appends an item after the first {@code size} items of this storage.
+         *
+         * @param size number of items of the list being appended to
+         * @param item item to append
+         * @return this storage if the item could be added in place, else a new storage
+         */
+        ItemStorage append(int size, BXml item) {
+            synchronized (this) {
+                if (count == size) {
+                    BXml[] current = items;
+                    if (size == current.length) {
+                        current = Arrays.copyOf(current, size + (size >> 1) + 1);
+                    }
+                    current[size] = item;
+                    count = size + 1;
+                    items = current;
+                    return this;
+                }
+            }
+
+            ItemStorage copy = new ItemStorage(Math.max(DEFAULT_CAPACITY, size + (size >> 1) + 1));
+            System.arraycopy(items, 0, copy.items, 0, size);
+            copy.items[size] = item;
+            copy.count = size + 1;
+            return copy;
+        }
+    }
+
+    /**
+     * Text buffer shared by the merged text items concatenated from one another, in the same way as
+     * {@link ItemStorage}.
+     */
+    private static class TextBuffer {
+
+        private final StringBuilder builder;
+        private final int length;
+
+        TextBuffer(String text) {
+            this(new StringBuilder(text), text.length());
+        }
+
+        private TextBuffer(StringBuilder builder, int length) {
+            this.builder = builder;
+            this.length = length;
+        }
+
+        TextBuffer append(String text) {
+            synchronized (builder) {
+                if (builder.length() == length) {
+                    builder.append(text);
+                    return new TextBuffer(builder, builder.length());
+                }
+                StringBuilder copy = new StringBuilder(length + text.length());
+                copy.append(builder, 0, length).append(text);
+                return new TextBuffer(copy, copy.length());
+            }
+        }
+
+        String getText() {
+            synchronized (builder) {
+                return builder.substring(0, length);
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.XmlNodeType;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Index of the elements of an xml value by their names, used to select descendants without traversing the whole
+ * value on each selection.
+ * <p>
+ * The elements are recorded in document order, and the positions of the elements with each name are kept in
+ * ascending order. An index is only valid as long as none of the indexed elements has been mutated after it was
+ * built. Each element keeps a version which is incremented on a mutation, and the index records the versions of the
+ * elements when it is built. Since comparing all of them on each selection would cost as much as a traversal, a
+ * global mutation count is compared first, and the versions are only compared when some xml value has been mutated
+ * since the index was last validated. Indexes of read-only values are always valid.
+ *
+ * @since 2.0.0
+ */
+final class XmlNameIndex {
+
+    private static final AtomicLong mutationCount = new AtomicLong();
+
+    private volatile long stamp;
+    private final int itemCount;
+    private final List<BXml> elements = new ArrayList<>();
+    private long[] versions;
+    private final Map<QName, Positions> positions = new HashMap<>();
+
+    private XmlNameIndex(long stamp, int itemCount) {
+        this.stamp = stamp;
+        this.itemCount = itemCount;
+    }
+
+    /**
+     * Records a mutation of an xml element, which requires the mutable indexes to be validated on their next use.
+     */
+    static void recordMutation() {
+        mutationCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the mutation stamp of the given items, which changes when any of the top-level elements is mutated.
+     * This is only used to decide whether an index is worth building, hence mutations of the descendants are not
+     * taken into account.
+     *
+     * @param items items of an xml value
+     * @return mutation stamp of the items
+     */
+    static long stampOf(List<BXml> items) {
+        long stamp = items.size();
+        for (BXml item : items) {
+            if (item.getNodeType() == XmlNodeType.ELEMENT) {
+                stamp += ((XmlItem) item).getVersion();
+            }
+        }
+        return stamp;
+    }
+
+    /**
+     * Builds an index of the given items and their descendants.
+     *
+     * @param items items to index
+     * @return index of the elements
+     */
+    static XmlNameIndex build(List<BXml> items) {
+        XmlNameIndex index = new XmlNameIndex(mutationCount.get(), items.size());
+        index.addElements(items);
+        long[] versions = new long[index.elements.size()];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = ((XmlItem) index.elements.get(i)).getVersion();
+        }
+        index.versions = versions;
+        return index;
+    }
+
+    boolean isValid(List<BXml> items, boolean readonly) {
+        if (readonly) {
+            return true;
+        }
+
+        long currentStamp = mutationCount.get();
+        if (stamp == currentStamp) {
+            return true;
+        }
+
+        // The children list of an element is also shortened in place when children are removed
+        if (itemCount != items.size()) {
+            return false;
+        }
+        for (int i = 0; i < versions.length; i++) {
+            if (((XmlItem) elements.get(i)).getVersion() != versions[i]) {
+                return false;
+            }
+        }
+
+        // None of the indexed elements were mutated, so the index stays valid until the next mutation
+        stamp = currentStamp;
+        return true;
+    }
+
+    /**
+     * Selects the indexed elements with any of the given names, in document order.
+     *
+     * @param qnames names of the elements to select
+     * @return selected elements
+     */
+    List<BXml> select(List<QName> qnames) {
+        if (qnames.size() == 1) {
+            Positions selected = positions.get(qnames.get(0));
+            if (selected == null) {
+                return new ArrayList<>();
+            }
+
+            List<BXml> result = new ArrayList<>(selected.size);
+            for (int i = 0; i < selected.size; i++) {
+                result.add(elements.get(selected.values[i]));
+            }
+            return result;
+        }
+
+        int[] merged = new int[0];
+        int size = 0;
+        for (QName qname : qnames) {
+            Positions selected = positions.get(qname);
+            if (selected == null) {
+                continue;
+            }
+            merged = Arrays.copyOf(merged, size + selected.size);
+            System.arraycopy(selected.values, 0, merged, size, selected.size);
+            size += selected.size;
+        }
+        Arrays.sort(merged, 0, size);
+
+        List<BXml> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // The same name may be given more than once
+            if (i == 0 || merged[i] != merged[i - 1]) {
+                result.add(elements.get(merged[i]));
+            }
+        }
+        return result;
+    }
+
+    private void addElements(List<BXml> items) {
+        for (BXml item : items) {
+            if (item.getNodeType() != XmlNodeType.ELEMENT) {
+                continue;
+            }
+
+            XmlItem element = (XmlItem) item;
+            positions.computeIfAbsent(element.getQName(), name -> new Positions()).add(elements.size());
+            elements.add(element);
+            addElements(element.getChildrenSeq().getChildrenList());
+        }
+    }
+
+    /**
+     * Growable list of element positions.
+     */
+    private static class Positions {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = position;
+        }
+    }
+}
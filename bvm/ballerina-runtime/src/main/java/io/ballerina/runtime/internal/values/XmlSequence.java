@@ -36,6 +36,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import javax.xml.namespace.QName;
+
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_EMPTY_VALUE;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.XML_LANG_LIB;
 
@@ -71,6 +73,21 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
         }
     }
 
+    /**
+     * Concatenates two xml values into a new sequence. Adjoining text items of the two values are merged into a
+     * single text item.
+     * <p>
+     * The new sequence shares its items with the first value when it is itself a result of a concatenation, so that
+     * concatenating items to the end of a sequence does not copy the sequence.
+     *
+     * @param first  first xml value
+     * @param second second xml value
+     * @return concatenated sequence
+     */
+    public static XmlSequence concatenate(BXml first, BXml second) {
+        return new XmlSequence(XmlItemList.concat(first, second));
+    }
+
     public List<BXml> getChildrenList() {
         return children;
     }
@@ -218,9 +235,9 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
     @Override
     public XmlValue elements(String qname) {
         List<BXml> elementsSeq = new ArrayList<>();
-        String qnameStr = getQname(qname).toString();
+        QName name = getQname(qname);
         for (BXml child : children) {
-            if (child.getNodeType() == XmlNodeType.ELEMENT && child.getElementName().equals(qnameStr)) {
+            if (child.getNodeType() == XmlNodeType.ELEMENT && ((XmlItem) child).getQName().equals(name)) {
                 elementsSeq.add(child);
             }
         }
@@ -377,15 +394,20 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
      */
     @Override
     public XmlValue descendants(List<String> qnames) {
+        List<QName> names = getQnames(qnames);
+        XmlNameIndex index = getNameIndex(children);
+        if (index != null) {
+            return new XmlSequence(index.select(names));
+        }
+
         List<BXml> descendants = new ArrayList<>();
         for (BXml child : children) {
             if (child.getNodeType() == XmlNodeType.ELEMENT) {
                 XmlItem element = (XmlItem) child;
-                String name = element.getQName().toString();
-                if (qnames.contains(name)) {
+                if (names.contains(element.getQName())) {
                     descendants.add(element);
                 }
-                addDescendants(descendants, element, qnames);
+                addDescendants(descendants, element, names);
             }
         }
 
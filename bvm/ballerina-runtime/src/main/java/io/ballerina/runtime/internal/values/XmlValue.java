@@ -28,6 +28,7 @@ import io.ballerina.runtime.internal.BallerinaXmlSerializer;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -52,6 +53,11 @@ public abstract class XmlValue implements RefValue, BXml, CollectionValue {
 
     Type type = PredefinedTypes.TYPE_XML;
 
+    // Name index of the elements of this value, built when descendants are selected more than once without a
+    // mutation in between
+    private volatile XmlNameIndex nameIndex;
+    private volatile long unindexedSelectionStamp = -1;
+
     public abstract int size();
 
     /**
@@ -174,11 +180,10 @@ public abstract class XmlValue implements RefValue, BXml, CollectionValue {
      * @param currentElement Current node
      * @param qnames Qualified names of the descendants to search
      */
-    protected void addDescendants(List<BXml> descendants, XmlItem currentElement, List<String> qnames) {
+    protected void addDescendants(List<BXml> descendants, XmlItem currentElement, List<QName> qnames) {
         for (BXml child : currentElement.getChildrenSeq().getChildrenList()) {
             if (child.getNodeType() == XmlNodeType.ELEMENT) {
-                String elemName = ((XmlItem) child).getQName().toString();
-                if (qnames.contains(elemName)) {
+                if (qnames.contains(((XmlItem) child).getQName())) {
                     descendants.add(child);
                 }
                 addDescendants(descendants, (XmlItem) child, qnames);
@@ -186,6 +191,46 @@ public abstract class XmlValue implements RefValue, BXml, CollectionValue {
         }
     }
 
+    /**
+     * Get the {@link QName}s from their {@link String} representations.
+     *
+     * @param qnames String representations of qnames
+     * @return constructed {@link QName}s
+     */
+    protected List<QName> getQnames(List<String> qnames) {
+        List<QName> names = new ArrayList<>(qnames.size());
+        for (String qname : qnames) {
+            names.add(getQname(qname));
+        }
+        return names;
+    }
+
+    /**
+     * Get the name index of the given items and their descendants. The index is only built when the descendants of
+     * this value are selected again without the top-level items being mutated since the previous selection, since
+     * building the index costs more than a single traversal.
+     *
+     * @param items Items of this value
+     * @return Name index, or null if the items should be traversed instead
+     */
+    XmlNameIndex getNameIndex(List<BXml> items) {
+        XmlNameIndex index = nameIndex;
+        boolean readonly = type.isReadOnly();
+        if (index != null && index.isValid(items, readonly)) {
+            return index;
+        }
+
+        long stamp = XmlNameIndex.stampOf(items);
+        if (!readonly && unindexedSelectionStamp != stamp) {
+            unindexedSelectionStamp = stamp;
+            return null;
+        }
+
+        index = XmlNameIndex.build(items);
+        nameIndex = index;
+        return index;
+    }
+
     // TODO: These are bridge methods to invoke methods in BXML interface
     // Fix in the JVM code gen to directly call overridden BXML methods
     public void addChildren(XmlValue seq) {
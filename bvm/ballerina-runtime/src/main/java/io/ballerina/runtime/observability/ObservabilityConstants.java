@@ -31,6 +31,7 @@ public class ObservabilityConstants {
 
     public static final String SERVICE_NAME = "service_name";
     public static final String KEY_OBSERVER_CONTEXT = "__observer_context__";
+    public static final String KEY_UNSAMPLED_OBSERVATION_DEPTH = "__unsampled_observation_depth__";
     public static final String UNKNOWN_SERVICE = "Unknown Service";
     public static final String UNKNOWN_RESOURCE = "Unknown Resource";
 
@@ -77,6 +78,8 @@ public class ObservabilityConstants {
     // Observability Configs
     public static final String CONFIG_OBSERVABILITY_ENABLED = CONFIG_TABLE_OBSERVABILITY + ".enabled";
     public static final String CONFIG_OBSERVABILITY_PROVIDER = CONFIG_TABLE_OBSERVABILITY + ".provider";
+    public static final String CONFIG_SAMPLER_TYPE = CONFIG_TABLE_OBSERVABILITY + ".sampler.type";
+    public static final String CONFIG_SAMPLER_PARAM = CONFIG_TABLE_OBSERVABILITY + ".sampler.param";
 
     // Metrics Configs
     public static final String CONFIG_METRICS_ENABLED = CONFIG_TABLE_METRICS + ".enabled";
@@ -23,20 +23,29 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.observability.sampler.ConstSampler;
+import io.ballerina.runtime.observability.sampler.ProbabilisticSampler;
+import io.ballerina.runtime.observability.sampler.RateLimitingSampler;
+import io.ballerina.runtime.observability.sampler.Sampler;
 import io.ballerina.runtime.observability.tracer.BSpan;
 import org.apache.commons.lang3.StringUtils;
 import org.ballerinalang.config.ConfigRegistry;
 
+import java.io.PrintStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_METRICS_ENABLED;
+import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_SAMPLER_PARAM;
+import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_SAMPLER_TYPE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_TRACING_ENABLED;
 import static io.ballerina.runtime.observability.ObservabilityConstants.KEY_OBSERVER_CONTEXT;
+import static io.ballerina.runtime.observability.ObservabilityConstants.KEY_UNSAMPLED_OBSERVATION_DEPTH;
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_ACTION;
@@ -67,12 +76,57 @@ public class ObserveUtils {
     private static final boolean enabled;
     private static final boolean metricsEnabled;
     private static final boolean tracingEnabled;
+    private static final PrintStream consoleError = System.err;
+    private static volatile Sampler sampler;
 
     static {
         ConfigRegistry configRegistry = ConfigRegistry.getInstance();
         tracingEnabled = configRegistry.getAsBoolean(CONFIG_TRACING_ENABLED);
         metricsEnabled = configRegistry.getAsBoolean(CONFIG_METRICS_ENABLED);
         enabled = metricsEnabled || tracingEnabled;
+        sampler = createSampler(configRegistry.getConfigOrDefault(CONFIG_SAMPLER_TYPE, ConstSampler.TYPE),
+                configRegistry.getConfigOrDefault(CONFIG_SAMPLER_PARAM, "1"));
+    }
+
+    private static Sampler createSampler(String type, String param) {
+        try {
+            double value = Double.parseDouble(param);
+            switch (type) {
+                case ConstSampler.TYPE:
+                    return new ConstSampler(value != 0);
+                case ProbabilisticSampler.TYPE:
+                    return new ProbabilisticSampler(value);
+                case RateLimitingSampler.TYPE:
+                    return new RateLimitingSampler(value);
+                default:
+                    consoleError.println("error: observability configuration: \"sampler type\" invalid. " +
+                            "Defaulted to const sampling");
+                    return new ConstSampler(true);
+            }
+        } catch (IllegalArgumentException e) {
+            consoleError.println("error: observability configuration: \"sampler param\" invalid. " +
+                    "Defaulted to const sampling: " + e.getMessage());
+            return new ConstSampler(true);
+        }
+    }
+
+    /**
+     * Set the sampler which decides whether the invocations of entry points are observed. The invocations which are
+     * already being observed are not affected.
+     *
+     * @param sampler sampler to be used for the invocations started after this
+     */
+    public static void setSampler(Sampler sampler) {
+        ObserveUtils.sampler = Objects.requireNonNull(sampler);
+    }
+
+    /**
+     * Get the sampler which decides whether the invocations of entry points are observed.
+     *
+     * @return current sampler
+     */
+    public static Sampler getSampler() {
+        return sampler;
     }
 
     /**
@@ -105,6 +159,11 @@ public class ObserveUtils {
             setObserverContextToCurrentFrame(env, observerContext);
         }
         String service = serviceName.getValue() == null ? UNKNOWN_SERVICE : serviceName.getValue();
+        if (!sampler.isSampled()) {
+            observerContext.setUnsampled();
+            env.setStrandLocal(ObservabilityConstants.SERVICE_NAME, service);
+            return;
+        }
         observerContext.setServiceName(service);
         observerContext.setResourceName(resourceName.getValue());
         observerContext.setServer();
@@ -133,6 +192,13 @@ public class ObserveUtils {
         if (observerContext == null) {
             return;
         }
+        if (!observerContext.isSampled()) {
+            if (!exitUnsampledCall(env)) {
+                setObserverContextToCurrentFrame(env, observerContext.getParent());
+                observerContext.setFinished();
+            }
+            return;
+        }
 
         Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
         if (statusCode != null && statusCode >= 100) {
@@ -158,7 +224,7 @@ public class ObserveUtils {
             return;
         }
         ObserverContext observerContext = getObserverContextOfCurrentFrame(env);
-        if (observerContext == null) {
+        if (observerContext == null || !observerContext.isSampled()) {
             return;
         }
         observers.forEach(observer -> {
@@ -185,6 +251,18 @@ public class ObserveUtils {
             return;
         }
         ObserverContext observerCtx = getObserverContextOfCurrentFrame(env);
+        if (observerCtx == null) {
+            // The sampling decision is made at the entry point and applies to all the calls made from it
+            if (!sampler.isSampled()) {
+                ObserverContext unsampledContext = new ObserverContext();
+                unsampledContext.setUnsampled();
+                setObserverContextToCurrentFrame(env, unsampledContext);
+                return;
+            }
+        } else if (!observerCtx.isSampled()) {
+            enterUnsampledCall(env);
+            return;
+        }
 
         ObserverContext newObContext = new ObserverContext();
         newObContext.setParent(observerCtx);
@@ -231,6 +309,25 @@ public class ObserveUtils {
         observers.forEach(observer -> observer.startClientObservation(newObContext));
     }
 
+    /*
+     * The calls made during an unsampled invocation share the context of the invocation. Only the depth of the calls
+     * is tracked, so that the end of the invocation could be identified. The depth is a strand local, since the child
+     * strands get a copy of the strand locals of their parent.
+     */
+    private static void enterUnsampledCall(Environment env) {
+        Integer depth = (Integer) env.getStrandLocal(KEY_UNSAMPLED_OBSERVATION_DEPTH);
+        env.setStrandLocal(KEY_UNSAMPLED_OBSERVATION_DEPTH, depth == null ? 1 : depth + 1);
+    }
+
+    private static boolean exitUnsampledCall(Environment env) {
+        Integer depth = (Integer) env.getStrandLocal(KEY_UNSAMPLED_OBSERVATION_DEPTH);
+        if (depth == null || depth == 0) {
+            return false;
+        }
+        env.setStrandLocal(KEY_UNSAMPLED_OBSERVATION_DEPTH, depth - 1);
+        return true;
+    }
+
     /**
      * Get context properties of the observer context.
      *
@@ -19,6 +19,7 @@ package io.ballerina.runtime.observability;
 
 import io.ballerina.runtime.observability.metrics.Tag;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -41,6 +42,8 @@ public class ObserverContext {
      */
     private final Map<String, Tag> tags;
 
+    private final Map<String, Tag> unmodifiableTags;
+
     private String serviceName;
 
     private String resourceName;
@@ -59,9 +62,12 @@ public class ObserverContext {
 
     private boolean isSystemSpan;
 
+    private boolean sampled = true;
+
     public ObserverContext() {
         this.properties = new HashMap<>();
         this.tags = new HashMap<>();
+        this.unmodifiableTags = Collections.unmodifiableMap(tags);
     }
 
     public void addProperty(String key, Object value) {
@@ -92,6 +98,15 @@ public class ObserverContext {
         return new HashSet<>(tags.values());
     }
 
+    /**
+     * Get the tags by tag key, without copying them.
+     *
+     * @return unmodifiable view of the tags, which reflects the tags added later
+     */
+    public Map<String, Tag> getTagMap() {
+        return unmodifiableTags;
+    }
+
     public String getServiceName() {
         return serviceName;
     }
@@ -156,6 +171,20 @@ public class ObserverContext {
         this.parent = parent;
     }
 
+    /**
+     * Checks whether the invocation to which this context belongs is sampled. The calls made during an invocation
+     * which is not sampled are not observed.
+     *
+     * @return true if the invocation is sampled
+     */
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    void setUnsampled() {
+        this.sampled = false;
+    }
+
     public boolean isSystemSpan() {
         return isSystemSpan;
     }
@@ -22,15 +22,17 @@ import io.ballerina.runtime.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Observe the runtime and collect measurements.
  */
 public class BallerinaMetricsObserver implements BallerinaObserver {
 
-    private static final String PROPERTY_START_TIME = "_observation_start_time_";
-    private static final String PROPERTY_IN_PROGRESS_COUNTER = "_observation_in_progress_counter_";
+    private static final String PROPERTY_OBSERVATION = "_observation_metrics_";
 
     private static final PrintStream consoleError = System.err;
 
@@ -51,6 +53,15 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    /*
+     * The metrics of an observation are cached by the tags of the observation, so that observing a call does not
+     * create metric IDs and look up the metrics from the registry each time. The tags are not fixed by the callable
+     * being observed, since the program may add tags, such as the HTTP status code, to the context.
+     */
+    private final Map<Map<String, Tag>, Gauge> inProgressGauges = new ConcurrentHashMap<>();
+    private final Map<Map<String, Tag>, ResponseMetrics> responseMetrics = new ConcurrentHashMap<>();
+    private volatile long registryRemovalCount;
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -80,37 +91,62 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
     }
 
     private void startObservation(ObserverContext observerContext) {
-        observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
-        Set<Tag> tags = observerContext.getAllTags();
+        long startTime = System.nanoTime();
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = getInProgressGauge(observerContext.getTagMap());
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
              * ends. This is needed as the the program may add tags to the context causing the tags to be
              * different at the end compared to the start.
              */
-            observerContext.addProperty(PROPERTY_IN_PROGRESS_COUNTER, inProgressGauge);
+            observerContext.addProperty(PROPERTY_OBSERVATION, new Observation(startTime, inProgressGauge));
         } catch (RuntimeException e) {
-            handleError("inprogress_requests", tags, e);
+            handleError("inprogress_requests", observerContext.getAllTags(), e);
         }
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = observerContext.getAllTags();
         try {
-            Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
-            long duration = System.nanoTime() - startTime;
-            ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            Observation observation = (Observation) observerContext.getProperty(PROPERTY_OBSERVATION);
+            long duration = System.nanoTime() - observation.startTime;
+            observation.inProgressGauge.decrement();
+            ResponseMetrics metrics = getResponseMetrics(observerContext.getTagMap());
+            metrics.responseTime.setValue(duration / 1E9);
+            metrics.responseTimeTotal.increment(duration);
+            metrics.requestsTotal.increment();
         } catch (RuntimeException e) {
-            handleError("multiple metrics", tags, e);
+            handleError("multiple metrics", observerContext.getAllTags(), e);
+        }
+    }
+
+    private Gauge getInProgressGauge(Map<String, Tag> tags) {
+        invalidateRemovedMetrics();
+        Gauge gauge = inProgressGauges.get(tags);
+        if (gauge == null) {
+            gauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
+                    new HashSet<>(tags.values())));
+            inProgressGauges.putIfAbsent(Map.copyOf(tags), gauge);
+        }
+        return gauge;
+    }
+
+    private ResponseMetrics getResponseMetrics(Map<String, Tag> tags) {
+        invalidateRemovedMetrics();
+        ResponseMetrics metrics = responseMetrics.get(tags);
+        if (metrics == null) {
+            metrics = new ResponseMetrics(new HashSet<>(tags.values()));
+            responseMetrics.putIfAbsent(Map.copyOf(tags), metrics);
+        }
+        return metrics;
+    }
+
+    private void invalidateRemovedMetrics() {
+        long removalCount = metricRegistry.getRemovalCount();
+        if (removalCount != registryRemovalCount) {
+            inProgressGauges.clear();
+            responseMetrics.clear();
+            registryRemovalCount = removalCount;
         }
     }
 
@@ -119,4 +155,37 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * State of an observation, which is required to collect the metrics when the observation ends.
+     */
+    private static class Observation {
+
+        private final long startTime;
+        private final Gauge inProgressGauge;
+
+        Observation(long startTime, Gauge inProgressGauge) {
+            this.startTime = startTime;
+            this.inProgressGauge = inProgressGauge;
+        }
+    }
+
+    /**
+     * Metrics updated when an observation with a given set of tags ends.
+     */
+    private static class ResponseMetrics {
+
+        private final Gauge responseTime;
+        private final Counter responseTimeTotal;
+        private final Counter requestsTotal;
+
+        ResponseMetrics(Set<Tag> tags) {
+            responseTime = metricRegistry.gauge(new MetricId("response_time_seconds",
+                    "Response time", tags), responseTimeStatisticConfigs);
+            responseTimeTotal = metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                    "Total response response time for all requests", tags));
+            requestsTotal = metricRegistry.counter(new MetricId("requests_total",
+                    "Total number of requests", tags));
+        }
+    }
 }
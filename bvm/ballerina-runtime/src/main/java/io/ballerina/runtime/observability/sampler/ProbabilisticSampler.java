@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.sampler;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sampler which samples observations randomly, with a given probability.
+ *
+ * @since 2.0.0
+ */
+public class ProbabilisticSampler implements Sampler {
+
+    public static final String TYPE = "probabilistic";
+
+    private final double samplingRate;
+
+    /**
+     * Creates a sampler with the given probability of sampling an observation.
+     *
+     * @param samplingRate probability between 0.0 and 1.0
+     */
+    public ProbabilisticSampler(double samplingRate) {
+        if (samplingRate < 0.0 || samplingRate > 1.0) {
+            throw new IllegalArgumentException("sampling rate must be between 0.0 and 1.0: " + samplingRate);
+        }
+        this.samplingRate = samplingRate;
+    }
+
+    @Override
+    public boolean isSampled() {
+        return samplingRate > 0.0 && ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+}
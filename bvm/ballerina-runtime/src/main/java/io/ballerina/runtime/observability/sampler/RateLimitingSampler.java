@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.sampler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Sampler which samples at most a given number of observations per second. Up to a second's worth of observations
+ * could be sampled in a burst, after a period with fewer observations.
+ * <p>
+ * The sampler keeps the time at which the next observation would be sampled if the observations arrived at the given
+ * rate, and updates it with a compare-and-set, so that concurrent observations are not serialized on a lock.
+ *
+ * @since 2.0.0
+ */
+public class RateLimitingSampler implements Sampler {
+
+    public static final String TYPE = "ratelimiting";
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextSampleTime;
+
+    /**
+     * Creates a sampler which samples the given number of observations per second.
+     *
+     * @param maxObservationsPerSecond maximum number of observations sampled per second
+     */
+    public RateLimitingSampler(double maxObservationsPerSecond) {
+        this(maxObservationsPerSecond, System::nanoTime);
+    }
+
+    /**
+     * Creates a sampler which samples the given number of observations per second, as measured by the given clock.
+     *
+     * @param maxObservationsPerSecond maximum number of observations sampled per second
+     * @param nanoClock                clock which returns the current time in nanoseconds, like {@link System#nanoTime()}
+     */
+    public RateLimitingSampler(double maxObservationsPerSecond, LongSupplier nanoClock) {
+        if (maxObservationsPerSecond <= 0.0) {
+            throw new IllegalArgumentException("observations per second must be positive: " +
+                    maxObservationsPerSecond);
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / maxObservationsPerSecond));
+        this.burstNanos = Math.max(0, TimeUnit.SECONDS.toNanos(1) - intervalNanos);
+        this.nanoClock = nanoClock;
+        this.nextSampleTime = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public boolean isSampled() {
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long next = nextSampleTime.get();
+            if (next - now > burstNanos) {
+                return false;
+            }
+            long updated = Math.max(next, now) + intervalNanos;
+            if (nextSampleTime.compareAndSet(next, updated)) {
+                return true;
+            }
+        }
+    }
+}
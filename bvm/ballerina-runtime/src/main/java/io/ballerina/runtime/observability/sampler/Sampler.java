@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.observability.sampler;
+
+/**
+ * Decides whether an observation is sampled. The decision is made when an entry point, such as a resource or the main
+ * function, is invoked, and the calls made during the invocation are observed only if it is sampled.
+ *
+ * @since 2.0.0
+ */
+public interface Sampler {
+
+    /**
+     * Decides whether a new observation is sampled.
+     *
+     * @return true if the observation is sampled
+     */
+    boolean isSampled();
+}
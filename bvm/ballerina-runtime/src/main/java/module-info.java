@@ -5,6 +5,7 @@ module io.ballerina.runtime {
     requires axiom.api;
     requires java.logging;
     requires java.management;
+    requires jdk.jfr;
     requires opentracing.api;
     requires java.transaction.xa;
     requires slf4j.api;
@@ -30,6 +31,7 @@ module io.ballerina.runtime {
     exports io.ballerina.runtime.observability;
     exports io.ballerina.runtime.observability.metrics;
     exports io.ballerina.runtime.observability.metrics.spi;
+    exports io.ballerina.runtime.observability.sampler;
     exports io.ballerina.runtime.observability.tracer;
     exports io.ballerina.runtime.transactions;
 
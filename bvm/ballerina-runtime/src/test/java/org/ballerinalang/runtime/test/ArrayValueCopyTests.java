@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+/**
+ * Test cases for copying {@link ArrayValueImpl} values, where copies of primitive arrays share the backing array
+ * until it is updated.
+ */
+public class ArrayValueCopyTests {
+
+    @Test
+    void testUpdateOriginalAfterCopy() {
+        ArrayValueImpl original = new ArrayValueImpl(new long[]{1, 2, 3});
+        ArrayValue copy = (ArrayValue) original.copy(new HashMap<>());
+
+        original.add(0, 10L);
+        original.append(4L);
+
+        Assert.assertEquals(copy.getIntArray(), new long[]{1, 2, 3});
+        Assert.assertEquals(original.getIntArray(), new long[]{10, 2, 3, 4});
+    }
+
+    @Test
+    void testUpdateCopy() {
+        ArrayValueImpl original = new ArrayValueImpl(new double[]{1.5, 2.5});
+        ArrayValue copy = (ArrayValue) original.copy(new HashMap<>());
+
+        copy.add(1, 3.5);
+        copy.shift();
+
+        Assert.assertEquals(copy.getLength(), 1);
+        Assert.assertEquals(copy.getFloat(0), 3.5);
+        Assert.assertEquals(original.getLength(), 2);
+        Assert.assertEquals(original.getFloat(0), 1.5);
+        Assert.assertEquals(original.getFloat(1), 2.5);
+    }
+
+    @Test
+    void testUpdateOriginalAfterFrozenCopy() {
+        ArrayValueImpl original = new ArrayValueImpl(new BString[]{StringUtils.fromString("a")});
+        ArrayValue copy = (ArrayValue) original.frozenCopy(new HashMap<>());
+
+        original.add(0, StringUtils.fromString("b"));
+
+        Assert.assertTrue(copy.isFrozen());
+        Assert.assertEquals(copy.getBString(0).getValue(), "a");
+        Assert.assertEquals(original.getBString(0).getValue(), "b");
+    }
+
+    @Test
+    void testCopyOfCopy() {
+        ArrayValueImpl original = new ArrayValueImpl(new byte[]{1, 2});
+        ArrayValue copy = (ArrayValue) original.copy(new HashMap<>());
+        ArrayValue copyOfCopy = (ArrayValue) copy.copy(new HashMap<>());
+
+        copy.add(0, (byte) 5);
+        copy.setLength(1);
+
+        Assert.assertEquals(original.getBytes(), new byte[]{1, 2});
+        Assert.assertEquals(copy.getBytes(), new byte[]{5});
+        Assert.assertEquals(copyOfCopy.getBytes(), new byte[]{1, 2});
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.CycleUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for {@link CycleUtils}.
+ */
+public class CycleUtilsTests {
+
+    @Test
+    void testIdentityPairSet() {
+        CycleUtils.IdentityPairSet pairs = new CycleUtils.IdentityPairSet();
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < values.size() - 1; i++) {
+            Assert.assertTrue(pairs.add(values.get(i), values.get(i + 1)));
+        }
+        for (int i = 0; i < values.size() - 1; i++) {
+            Assert.assertFalse(pairs.add(values.get(i), values.get(i + 1)));
+            Assert.assertTrue(pairs.contains(values.get(i), values.get(i + 1)));
+        }
+        Assert.assertEquals(pairs.size(), values.size() - 1);
+    }
+
+    @Test
+    void testIdentityPairSetComparesByReference() {
+        CycleUtils.IdentityPairSet pairs = new CycleUtils.IdentityPairSet();
+        List<Object> first = new ArrayList<>();
+        List<Object> second = new ArrayList<>();
+
+        Assert.assertTrue(pairs.add(first, second));
+        // Equal, but distinct values.
+        Assert.assertFalse(pairs.contains(new ArrayList<>(), second));
+        // Pairs are ordered.
+        Assert.assertFalse(pairs.contains(second, first));
+        Assert.assertTrue(pairs.add(second, first));
+    }
+}
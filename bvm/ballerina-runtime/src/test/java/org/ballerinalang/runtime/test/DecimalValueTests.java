@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Test cases for {@link DecimalValue} arithmetic, which is done on longs for small-scale values.
+ */
+public class DecimalValueTests {
+
+    @DataProvider(name = "operands")
+    public Object[][] operands() {
+        return new Object[][]{
+                {"10.25", "3.5"},
+                {"1.00", "4"},
+                {"6.0", "2"},
+                {"1", "3"},
+                {"100", "0.01"},
+                {"-12.345", "0.005"},
+                {"0.000000000000000001", "0.000000000000000003"},
+                {"999999999999999999", "999999999999999999"},
+                {"922337203685477580.7", "0.3"},
+                {"123456789.123456789", "-987654321.987654321"}
+        };
+    }
+
+    @Test(dataProvider = "operands")
+    void testArithmeticMatchesBigDecimal(String x, String y) {
+        BigDecimal bigX = new BigDecimal(x, MathContext.DECIMAL128);
+        BigDecimal bigY = new BigDecimal(y, MathContext.DECIMAL128);
+        DecimalValue decimalX = new DecimalValue(x);
+        DecimalValue decimalY = new DecimalValue(y);
+
+        Assert.assertEquals(decimalX.add(decimalY).value(), bigX.add(bigY, MathContext.DECIMAL128));
+        Assert.assertEquals(decimalX.subtract(decimalY).value(), bigX.subtract(bigY, MathContext.DECIMAL128));
+        Assert.assertEquals(decimalX.multiply(decimalY).value(), bigX.multiply(bigY, MathContext.DECIMAL128));
+        Assert.assertEquals(decimalX.divide(decimalY).value(), bigX.divide(bigY, MathContext.DECIMAL128));
+        Assert.assertEquals(decimalX.negate().value(), bigX.negate());
+    }
+
+    @Test
+    void testZeroResult() {
+        DecimalValue result = new DecimalValue("1.50").subtract(new DecimalValue("1.5"));
+        Assert.assertFalse(result.booleanValue());
+        Assert.assertEquals(result, new DecimalValue("0"));
+        Assert.assertEquals(result.toString(), "0.0");
+    }
+
+    @Test
+    void testEquality() {
+        Assert.assertEquals(new DecimalValue("2.50").add(new DecimalValue("0.50")), new DecimalValue("3"));
+        Assert.assertNotEquals(new DecimalValue("2.5").add(new DecimalValue("0.5")), new DecimalValue("3.1"));
+    }
+}
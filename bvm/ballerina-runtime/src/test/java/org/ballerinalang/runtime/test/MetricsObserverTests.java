@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.noop.NoOpGauge;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Test cases for the metrics observer, which caches the metrics of the observations by their tags.
+ */
+public class MetricsObserverTests {
+
+    private static final String IN_PROGRESS_REQUESTS = "inprogress_requests";
+
+    // The observer looks up the default registry when it is loaded, so the registry is set before any observer
+    private static final MetricRegistry METRIC_REGISTRY = createMetricRegistry();
+
+    @Test
+    void testEqualTagsReuseMetrics() {
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+        observer.startClientObservation(createContext("equal", "foo"));
+        observer.startClientObservation(createContext("equal", "foo"));
+
+        Gauge gauge = lookupInProgressGauge("equal", "foo");
+        Assert.assertEquals(gauge.getValue(), 2.0);
+        Assert.assertEquals(countInProgressGauges("equal"), 1);
+    }
+
+    @Test
+    void testDifferentTagsUseSeparateMetrics() {
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+        ObserverContext fooContext = createContext("different", "foo");
+        observer.startClientObservation(fooContext);
+        observer.startClientObservation(createContext("different", "bar"));
+
+        // The tags added after the observation started do not change the metrics cached for the earlier tags
+        fooContext.addTag("error", "true");
+        observer.startClientObservation(createContext("different", "foo"));
+
+        Assert.assertEquals(lookupInProgressGauge("different", "foo").getValue(), 2.0);
+        Assert.assertEquals(lookupInProgressGauge("different", "bar").getValue(), 1.0);
+        Assert.assertEquals(countInProgressGauges("different"), 2);
+    }
+
+    @Test
+    void testRemovedMetricsAreNotReused() {
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver();
+        observer.startClientObservation(createContext("removed", "foo"));
+        Gauge removedGauge = lookupInProgressGauge("removed", "foo");
+        Assert.assertEquals(removedGauge.getValue(), 1.0);
+
+        METRIC_REGISTRY.remove(IN_PROGRESS_REQUESTS);
+        Assert.assertNull(METRIC_REGISTRY.lookup(createInProgressGaugeId("removed", "foo")));
+
+        // The observation registers a new metric instead of updating the metric removed from the registry
+        observer.startClientObservation(createContext("removed", "foo"));
+        Gauge gauge = lookupInProgressGauge("removed", "foo");
+        Assert.assertNotSame(gauge, removedGauge);
+        Assert.assertEquals(gauge.getValue(), 1.0);
+        Assert.assertEquals(removedGauge.getValue(), 1.0);
+    }
+
+    private static MetricRegistry createMetricRegistry() {
+        MetricRegistry metricRegistry = new MetricRegistry(new TestMetricProvider());
+        DefaultMetricRegistry.setInstance(metricRegistry);
+        return metricRegistry;
+    }
+
+    private static ObserverContext createContext(String module, String function) {
+        ObserverContext observerContext = new ObserverContext();
+        observerContext.addTag("src.module", module);
+        observerContext.addTag("src.function.name", function);
+        return observerContext;
+    }
+
+    private static MetricId createInProgressGaugeId(String module, String function) {
+        return new MetricId(IN_PROGRESS_REQUESTS, "In-progress requests",
+                Set.of(Tag.of("src.module", module), Tag.of("src.function.name", function)));
+    }
+
+    private static Gauge lookupInProgressGauge(String module, String function) {
+        Gauge gauge = (Gauge) METRIC_REGISTRY.lookup(createInProgressGaugeId(module, function));
+        Assert.assertNotNull(gauge);
+        return gauge;
+    }
+
+    private static long countInProgressGauges(String module) {
+        return Arrays.stream(METRIC_REGISTRY.getAllMetrics())
+                .filter(metric -> metric.getId().getName().equals(IN_PROGRESS_REQUESTS))
+                .filter(metric -> metric.getId().getTags().contains(Tag.of("src.module", module)))
+                .count();
+    }
+
+    /**
+     * Metric provider which keeps the values of the gauges, so that the updated metrics could be identified.
+     */
+    private static class TestMetricProvider extends NoOpMetricProvider {
+
+        @Override
+        public Gauge newGauge(MetricId metricId, StatisticConfig... statisticConfigs) {
+            return new TestGauge(metricId);
+        }
+    }
+
+    private static class TestGauge extends NoOpGauge {
+
+        private double value;
+
+        TestGauge(MetricId id) {
+            super(id);
+        }
+
+        @Override
+        public void increment(double amount) {
+            value += amount;
+        }
+
+        @Override
+        public void decrement(double amount) {
+            value -= amount;
+        }
+
+        @Override
+        public void setValue(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.ErrorValue;
+import io.ballerina.runtime.observability.BallerinaObserver;
+import io.ballerina.runtime.observability.ObservabilityConstants;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.sampler.ConstSampler;
+import org.ballerinalang.config.ConfigRegistry;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for observing the calls of invocations which are not sampled.
+ */
+public class ObserveUtilsTests {
+
+    private static final RecordingObserver OBSERVER = enableObservability();
+
+    @AfterMethod
+    void resetSampler() {
+        ObserveUtils.setSampler(new ConstSampler(true));
+        OBSERVER.startedContexts.clear();
+        OBSERVER.stoppedContexts.clear();
+    }
+
+    @Test
+    void testUnsampledCallDepth() {
+        ObserveUtils.setSampler(new ConstSampler(false));
+        Strand strand = new Strand("unsampled", null, null, null, null);
+        Environment env = new Environment(strand);
+        startCall(env, "main");
+        ObserverContext observerContext = ObserveUtils.getObserverContextOfCurrentFrame(env);
+        Assert.assertNotNull(observerContext);
+        Assert.assertFalse(observerContext.isSampled());
+        Assert.assertNull(getUnsampledDepth(env));
+
+        // The nested calls share the context of the invocation and only the depth of the calls is tracked
+        startCall(env, "foo");
+        startCall(env, "bar");
+        Assert.assertEquals(getUnsampledDepth(env), Integer.valueOf(2));
+        Assert.assertSame(ObserveUtils.getObserverContextOfCurrentFrame(env), observerContext);
+
+        // A child strand continues from the depth of its parent, without changing the depth of the parent
+        Environment childEnv = new Environment(new Strand("child", null, null, strand, null));
+        startCall(childEnv, "worker");
+        Assert.assertEquals(getUnsampledDepth(childEnv), Integer.valueOf(3));
+        Assert.assertEquals(getUnsampledDepth(env), Integer.valueOf(2));
+
+        ObserveUtils.stopObservation(env);
+        ObserveUtils.stopObservation(env);
+        Assert.assertEquals(getUnsampledDepth(env), Integer.valueOf(0));
+        Assert.assertSame(ObserveUtils.getObserverContextOfCurrentFrame(env), observerContext);
+        Assert.assertFalse(observerContext.isFinished());
+
+        ObserveUtils.stopObservation(env);
+        Assert.assertNull(ObserveUtils.getObserverContextOfCurrentFrame(env));
+        Assert.assertTrue(observerContext.isFinished());
+        Assert.assertTrue(OBSERVER.startedContexts.isEmpty());
+        Assert.assertTrue(OBSERVER.stoppedContexts.isEmpty());
+    }
+
+    @Test
+    void testParentContextRestoredAfterUnsampledCall() {
+        ObserverContext parentContext = new ObserverContext();
+        ObserveUtils.setSampler(new ConstSampler(false));
+        Environment env = new Environment(new Strand("unsampled", null, null, null, null));
+        startCall(env, "main");
+        ObserverContext observerContext = ObserveUtils.getObserverContextOfCurrentFrame(env);
+        observerContext.setParent(parentContext);
+
+        startCall(env, "foo");
+        ObserveUtils.stopObservation(env);
+        Assert.assertSame(ObserveUtils.getObserverContextOfCurrentFrame(env), observerContext);
+
+        ObserveUtils.stopObservation(env);
+        Assert.assertSame(ObserveUtils.getObserverContextOfCurrentFrame(env), parentContext);
+        Assert.assertTrue(observerContext.isFinished());
+        Assert.assertFalse(parentContext.isFinished());
+
+        // The sampling decision of the next invocation is not affected by the earlier invocation
+        ObserveUtils.setObserverContextToCurrentFrame(env, null);
+        ObserveUtils.setSampler(new ConstSampler(true));
+        startCall(env, "main");
+        ObserverContext sampledContext = ObserveUtils.getObserverContextOfCurrentFrame(env);
+        Assert.assertTrue(sampledContext.isSampled());
+        Assert.assertEquals(OBSERVER.startedContexts, List.of(sampledContext));
+        ObserveUtils.stopObservation(env);
+        Assert.assertNull(ObserveUtils.getObserverContextOfCurrentFrame(env));
+        Assert.assertEquals(OBSERVER.stoppedContexts, List.of(sampledContext));
+    }
+
+    @Test
+    void testErrorOfUnsampledCallNotReported() {
+        ObserveUtils.setSampler(new ConstSampler(false));
+        Environment env = new Environment(new Strand("unsampled", null, null, null, null));
+        startCall(env, "main");
+        startCall(env, "foo");
+        ObserveUtils.reportError(env, new ErrorValue(StringUtils.fromString("unsampled error"), null));
+
+        ObserverContext observerContext = ObserveUtils.getObserverContextOfCurrentFrame(env);
+        Assert.assertNull(observerContext.getTag(ObservabilityConstants.TAG_KEY_ERROR));
+        Assert.assertNull(observerContext.getProperty(ObservabilityConstants.PROPERTY_BSTRUCT_ERROR));
+
+        ObserveUtils.setSampler(new ConstSampler(true));
+        Environment sampledEnv = new Environment(new Strand("sampled", null, null, null, null));
+        startCall(sampledEnv, "main");
+        ErrorValue error = new ErrorValue(StringUtils.fromString("sampled error"), null);
+        ObserveUtils.reportError(sampledEnv, error);
+
+        ObserverContext sampledContext = ObserveUtils.getObserverContextOfCurrentFrame(sampledEnv);
+        Assert.assertNotNull(sampledContext.getTag(ObservabilityConstants.TAG_KEY_ERROR));
+        Assert.assertSame(sampledContext.getProperty(ObservabilityConstants.PROPERTY_BSTRUCT_ERROR), error);
+    }
+
+    private static RecordingObserver enableObservability() {
+        // Observability is enabled by the configuration read when the utils are loaded
+        ConfigRegistry.getInstance().addConfiguration(ObservabilityConstants.CONFIG_METRICS_ENABLED, true);
+        RecordingObserver observer = new RecordingObserver();
+        ObserveUtils.addObserver(observer);
+        return observer;
+    }
+
+    private static void startCall(Environment env, String functionName) {
+        ObserveUtils.startCallableObservation(env, false, false, false, null, StringUtils.fromString(functionName),
+                StringUtils.fromString("testorg/testmodule"), StringUtils.fromString("test.bal:1:1"));
+    }
+
+    private static Integer getUnsampledDepth(Environment env) {
+        return (Integer) env.getStrandLocal(ObservabilityConstants.KEY_UNSAMPLED_OBSERVATION_DEPTH);
+    }
+
+    /**
+     * Observer which records the contexts of the observations.
+     */
+    private static class RecordingObserver implements BallerinaObserver {
+
+        private final List<ObserverContext> startedContexts = new ArrayList<>();
+        private final List<ObserverContext> stoppedContexts = new ArrayList<>();
+
+        @Override
+        public void startServerObservation(ObserverContext observerContext) {
+            startedContexts.add(observerContext);
+        }
+
+        @Override
+        public void startClientObservation(ObserverContext observerContext) {
+            startedContexts.add(observerContext);
+        }
+
+        @Override
+        public void stopServerObservation(ObserverContext observerContext) {
+            stoppedContexts.add(observerContext);
+        }
+
+        @Override
+        public void stopClientObservation(ObserverContext observerContext) {
+            stoppedContexts.add(observerContext);
+        }
+    }
+}
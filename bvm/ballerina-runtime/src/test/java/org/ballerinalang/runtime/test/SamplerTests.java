@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.observability.sampler.ConstSampler;
+import io.ballerina.runtime.observability.sampler.ProbabilisticSampler;
+import io.ballerina.runtime.observability.sampler.RateLimitingSampler;
+import io.ballerina.runtime.observability.sampler.Sampler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test cases for the samplers which decide whether the invocations are observed.
+ */
+public class SamplerTests {
+
+    @Test
+    void testConstSampler() {
+        Assert.assertTrue(new ConstSampler(true).isSampled());
+        Assert.assertFalse(new ConstSampler(false).isSampled());
+    }
+
+    @Test
+    void testProbabilisticSampler() {
+        Assert.assertEquals(countSampled(new ProbabilisticSampler(0.0), 1000), 0);
+        Assert.assertEquals(countSampled(new ProbabilisticSampler(1.0), 1000), 1000);
+        int sampled = countSampled(new ProbabilisticSampler(0.5), 10000);
+        Assert.assertTrue(sampled > 4000 && sampled < 6000, "sampled: " + sampled);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void testProbabilisticSamplerWithInvalidRate() {
+        new ProbabilisticSampler(1.5);
+    }
+
+    @Test
+    void testRateLimitingSampler() {
+        AtomicLong nanoTime = new AtomicLong();
+        RateLimitingSampler sampler = new RateLimitingSampler(10, nanoTime::get);
+        // A second's worth of observations could be sampled in a burst
+        Assert.assertEquals(countSampled(sampler, 1000), 10);
+
+        // Then one observation is sampled per 100 milliseconds
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        Assert.assertEquals(countSampled(sampler, 1000), 1);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertEquals(countSampled(sampler, 1000), 0);
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertEquals(countSampled(sampler, 1000), 1);
+
+        // The burst does not grow beyond a second's worth of observations after an idle period
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        Assert.assertEquals(countSampled(sampler, 1000), 10);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void testRateLimitingSamplerWithInvalidRate() {
+        new RateLimitingSampler(0);
+    }
+
+    private static int countSampled(Sampler sampler, int observations) {
+        int sampled = 0;
+        for (int i = 0; i < observations; i++) {
+            if (sampler.isSampled()) {
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+}
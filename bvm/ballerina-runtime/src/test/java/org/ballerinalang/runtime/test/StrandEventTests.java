@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.internal.profiler.StrandEvents;
+import io.ballerina.runtime.internal.profiler.StrandParkEvent;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Test cases for the flight recorder events of strands, which read back the events from a recording.
+ */
+public class StrandEventTests {
+
+    private static final String SCHEDULE_EVENT = "ballerina.StrandSchedule";
+    private static final String RUN_EVENT = "ballerina.StrandRun";
+    private static final String PARK_EVENT = "ballerina.StrandPark";
+
+    @Test
+    void testScheduledStrandEvents() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = startRecording()) {
+            Scheduler scheduler = new Scheduler(false);
+            Function<Object[], Object> function = params -> 42L;
+            scheduler.schedule(new Object[1], function, null, null, "compute",
+                               new StrandMetadata("testorg", "testmodule", "1.0.0", "compute"));
+            scheduler.start();
+            events = stopRecording(recording);
+        }
+
+        RecordedEvent scheduleEvent = getEvent(events, SCHEDULE_EVENT, "compute");
+        Assert.assertEquals(scheduleEvent.getString("cause"), StrandEvents.CAUSE_NEW);
+        Assert.assertEquals(scheduleEvent.getString("function"), "testorg/testmodule:compute");
+
+        RecordedEvent runEvent = getEvent(events, RUN_EVENT, "compute");
+        Assert.assertEquals(runEvent.getInt("strandId"), scheduleEvent.getInt("strandId"));
+        Assert.assertEquals(runEvent.getString("function"), "testorg/testmodule:compute");
+        Assert.assertFalse(runEvent.getDuration().isNegative());
+    }
+
+    @Test
+    void testParkedStrandEvent() throws IOException, InterruptedException {
+        List<RecordedEvent> events;
+        try (Recording recording = startRecording()) {
+            Strand strand = new Strand("parked", null, null, null, null);
+            strand.frames = new Object[]{new CalleeFrame(), new CallerFrame(), null};
+            strand.resumeIndex = 2;
+            StrandParkEvent event = StrandEvents.strandParked(strand, "lock");
+            Thread.sleep(20);
+            StrandEvents.strandResumed(event);
+            events = stopRecording(recording);
+        }
+
+        RecordedEvent parkEvent = getEvent(events, PARK_EVENT, "parked");
+        Assert.assertEquals(parkEvent.getString("reason"), "lock");
+        // The function of a parked strand is the innermost function of the frames saved by the strand
+        Assert.assertEquals(parkEvent.getString("function"), "org.ballerinalang.runtime.test:StrandEventTests$Callee");
+        Assert.assertTrue(parkEvent.getDuration().toMillis() >= 20, "duration: " + parkEvent.getDuration());
+    }
+
+    private static Recording startRecording() {
+        Recording recording = new Recording();
+        recording.enable(SCHEDULE_EVENT).withThreshold(Duration.ZERO);
+        recording.enable(RUN_EVENT).withThreshold(Duration.ZERO);
+        recording.enable(PARK_EVENT).withThreshold(Duration.ZERO);
+        recording.start();
+        return recording;
+    }
+
+    private static List<RecordedEvent> stopRecording(Recording recording) throws IOException {
+        recording.stop();
+        Path file = Files.createTempFile("strand-events", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static RecordedEvent getEvent(List<RecordedEvent> events, String eventName, String strandName) {
+        List<RecordedEvent> strandEvents = events.stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .filter(event -> strandName.equals(event.getString("strandName")))
+                .collect(Collectors.toList());
+        Assert.assertEquals(strandEvents.size(), 1, "events: " + events);
+        return strandEvents.get(0);
+    }
+
+    private static class CallerFrame {
+    }
+
+    private static class CalleeFrame {
+    }
+}
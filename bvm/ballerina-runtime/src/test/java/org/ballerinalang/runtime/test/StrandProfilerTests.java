@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.profiler.StrandProfiler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+
+/**
+ * Test cases for the sampling profiler of strands.
+ */
+public class StrandProfilerTests {
+
+    @Test
+    void testParkedStrandSamples() throws InterruptedException, IOException {
+        StrandProfiler profiler = StrandProfiler.start(1000);
+        Strand strand = new Strand("parked", null, null, null, null);
+        // Frames of the outer functions are saved last
+        strand.frames = new Object[]{new CalleeFrame(), new CallerFrame(), null};
+        strand.resumeIndex = 2;
+        try {
+            StrandProfiler.strandParked(strand, "lock");
+            long sampleCount = profiler.getSampleCount() + 10;
+            long deadline = System.currentTimeMillis() + 5000;
+            while (profiler.getSampleCount() < sampleCount && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            StrandProfiler.strandResumed(strand);
+        } finally {
+            profiler.stop();
+        }
+
+        String stack = "org.ballerinalang.runtime.test:StrandProfilerTests$Caller;"
+                + "org.ballerinalang.runtime.test:StrandProfilerTests$Callee;[parked:lock]";
+        Map<String, Long> stacks = profiler.getCollapsedStacks();
+        Assert.assertTrue(stacks.containsKey(stack), "stacks: " + stacks.keySet());
+        Assert.assertTrue(stacks.get(stack) > 0);
+        Assert.assertFalse(StrandProfiler.isProfiling());
+
+        StringWriter writer = new StringWriter();
+        profiler.writeCollapsedStacks(writer);
+        Assert.assertTrue(writer.toString().contains(stack + " " + stacks.get(stack) + "\n"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    void testInvalidFrequency() {
+        StrandProfiler.start(0);
+    }
+
+    private static class CallerFrame {
+    }
+
+    private static class CalleeFrame {
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.ReadOnlyUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for type tests against union types, which memoize the results per source type.
+ */
+public class UnionTypeCheckTests {
+
+    private static final Module TEST_MODULE = new Module("$anon", ".", "0.0.0");
+
+    @Test
+    void testCacheHitAndMiss() {
+        BUnionType unionType = new BUnionType(Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+        Assert.assertNull(unionType.getCachedMembership(PredefinedTypes.TYPE_INT));
+        Assert.assertNull(unionType.getCachedMembership(PredefinedTypes.TYPE_FLOAT));
+
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_INT, unionType));
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_FLOAT, unionType));
+        Assert.assertEquals(unionType.getCachedMembership(PredefinedTypes.TYPE_INT), Boolean.TRUE);
+        Assert.assertEquals(unionType.getCachedMembership(PredefinedTypes.TYPE_FLOAT), Boolean.FALSE);
+        Assert.assertNull(unionType.getCachedMembership(PredefinedTypes.TYPE_BOOLEAN));
+
+        // Cached results are returned as is for the same source types.
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_INT, unionType));
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_FLOAT, unionType));
+        Assert.assertTrue(TypeChecker.checkIsType(10L, unionType));
+        Assert.assertFalse(TypeChecker.checkIsType(1.5, unionType));
+    }
+
+    @Test
+    void testRecordCacheHitAndMiss() {
+        BRecordType fooType = createRecordType("Foo");
+        BRecordType barType = createRecordType("Bar");
+        BRecordType bazType = new BRecordType("Baz", TEST_MODULE, 0, new HashMap<>(), null, true, 0);
+        BUnionType unionType = new BUnionType(Arrays.asList(fooType, PredefinedTypes.TYPE_NULL));
+
+        Assert.assertTrue(TypeChecker.checkIsType(barType, unionType));
+        Assert.assertFalse(TypeChecker.checkIsType(bazType, unionType));
+        Assert.assertEquals(unionType.getCachedMembership(barType), Boolean.TRUE);
+        Assert.assertEquals(unionType.getCachedMembership(bazType), Boolean.FALSE);
+        Assert.assertNull(unionType.getCachedMembership(fooType));
+
+        Assert.assertTrue(TypeChecker.checkIsType(createRecordValue(barType), unionType));
+        Assert.assertFalse(TypeChecker.checkIsType(new MapValueImpl<>(bazType), unionType));
+    }
+
+    @Test
+    void testNestedUnion() {
+        BUnionType innerType = new BUnionType(Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+        BUnionType outerType = new BUnionType(Arrays.asList(innerType, PredefinedTypes.TYPE_BOOLEAN));
+
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_STRING, outerType));
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_BOOLEAN, outerType));
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_FLOAT, outerType));
+        Assert.assertEquals(outerType.getCachedMembership(PredefinedTypes.TYPE_STRING), Boolean.TRUE);
+        Assert.assertEquals(outerType.getCachedMembership(PredefinedTypes.TYPE_FLOAT), Boolean.FALSE);
+
+        // The results of the inner union do not leak into the outer union and vice versa.
+        Assert.assertFalse(TypeChecker.checkIsType(PredefinedTypes.TYPE_BOOLEAN, innerType));
+        Assert.assertEquals(innerType.getCachedMembership(PredefinedTypes.TYPE_BOOLEAN), Boolean.FALSE);
+        Assert.assertEquals(outerType.getCachedMembership(PredefinedTypes.TYPE_BOOLEAN), Boolean.TRUE);
+        Assert.assertTrue(TypeChecker.checkIsType(StringUtils.fromString("a"), outerType));
+        Assert.assertTrue(TypeChecker.checkIsType(true, outerType));
+    }
+
+    @Test
+    void testFrozenRecordValue() {
+        BRecordType fooType = createRecordType("Foo");
+        Type immutableFooType = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(fooType);
+        BUnionType unionType = new BUnionType(Arrays.asList(immutableFooType, PredefinedTypes.TYPE_STRING));
+
+        MapValueImpl<?, ?> value = createRecordValue(fooType);
+        Assert.assertFalse(TypeChecker.checkIsType(value, unionType));
+        Assert.assertEquals(unionType.getCachedMembership(fooType), Boolean.FALSE);
+
+        // Freezing the value changes its type to the immutable type, which is not the cached source type.
+        value.freezeDirect();
+        Assert.assertSame(TypeChecker.getType(value), immutableFooType);
+        Assert.assertTrue(TypeChecker.checkIsType(value, unionType));
+        Assert.assertEquals(unionType.getCachedMembership(immutableFooType), Boolean.TRUE);
+
+        Assert.assertFalse(TypeChecker.checkIsType(createRecordValue(fooType), unionType));
+    }
+
+    private static BRecordType createRecordType(String name) {
+        Map<String, Field> fields = new HashMap<>();
+        fields.put("id", new BField(PredefinedTypes.TYPE_INT, "id", 0));
+        return new BRecordType(name, TEST_MODULE, 0, fields, null, true, 0);
+    }
+
+    private static MapValueImpl<?, ?> createRecordValue(BRecordType recordType) {
+        MapValueImpl<Object, Object> value = new MapValueImpl<>(recordType);
+        value.put(StringUtils.fromString("id"), 1L);
+        return value;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.Utf8JsonGenerator;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for {@link Utf8JsonGenerator}. The output is compared with that of the {@code JsonGenerator}, which
+ * {@code toJsonString} used before.
+ */
+public class Utf8JsonGeneratorTests {
+
+    @Test
+    void testEscapes() {
+        assertSerialized(StringUtils.fromString("quote\" backslash\\ slash/ \b\f\n\r\t"),
+                         "\"quote\\\" backslash\\\\ slash\\/ \\b\\f\\n\\r\\t\"");
+        // Slashes and form feeds are only escaped along with the other escaped characters.
+        assertSerialized(StringUtils.fromString("a/b\fc"), "\"a/b\fc\"");
+    }
+
+    @Test
+    void testMultiByteCharacters() {
+        // Two and three byte encodings
+        assertSerialized(StringUtils.fromString("\u00C9\u20AC"), "\"\u00C9\u20AC\"");
+        // A character outside the basic multilingual plane, encoded from a surrogate pair
+        String emoji = new String(Character.toChars(0x1F600));
+        assertSerialized(StringUtils.fromString("smile " + emoji), "\"smile " + emoji + "\"");
+        Assert.assertEquals(serializeUtf8(StringUtils.fromString(emoji)),
+                            new byte[]{'"', (byte) 0xF0, (byte) 0x9F, (byte) 0x98, (byte) 0x80, '"'});
+    }
+
+    @Test
+    void testUnpairedSurrogates() {
+        assertSerialized(StringUtils.fromString("high \uD83D low \uDE00"), "\"high ? low ?\"");
+    }
+
+    @Test
+    void testNumbers() {
+        MapValueImpl<Object, Object> map = new MapValueImpl<>(PredefinedTypes.TYPE_MAP);
+        map.put(StringUtils.fromString("int"), -9223372036854775808L);
+        map.put(StringUtils.fromString("float"), 1.0);
+        map.put(StringUtils.fromString("nan"), Double.NaN);
+        map.put(StringUtils.fromString("inf"), Double.POSITIVE_INFINITY);
+        map.put(StringUtils.fromString("decimal"), new DecimalValue("1.10"));
+        assertSerialized(map, "{\"int\":-9223372036854775808, \"float\":1.0, \"nan\":NaN, \"inf\":Infinity, "
+                + "\"decimal\":1.10}");
+
+        assertSerialized(new ArrayValueImpl(new double[]{0.5, Double.NaN, Double.NEGATIVE_INFINITY}),
+                         "[0.5, NaN, -Infinity]");
+        assertSerialized(new ArrayValueImpl(new long[]{0, -1, Long.MAX_VALUE}), "[0, -1, 9223372036854775807]");
+    }
+
+    @Test
+    void testNestedValues() {
+        MapValueImpl<Object, Object> inner = new MapValueImpl<>(PredefinedTypes.TYPE_MAP);
+        inner.put(StringUtils.fromString("names"),
+                  new ArrayValueImpl(new String[]{"Foo", "Bar"}));
+        inner.put(StringUtils.fromString("empty"), new MapValueImpl<>(PredefinedTypes.TYPE_MAP));
+        ArrayValueImpl array = new ArrayValueImpl(new Object[]{inner, null, true, StringUtils.fromString("x")},
+                                                  PredefinedTypes.TYPE_JSON_ARRAY);
+        MapValueImpl<Object, Object> outer = new MapValueImpl<>(PredefinedTypes.TYPE_MAP);
+        outer.put(StringUtils.fromString("items"), array);
+        outer.put(StringUtils.fromString("none"), new ArrayValueImpl(new Object[0], PredefinedTypes.TYPE_JSON_ARRAY));
+        assertSerialized(outer, "{\"items\":[{\"names\":[\"Foo\", \"Bar\"], \"empty\":{}}, null, true, \"x\"], "
+                + "\"none\":[]}");
+    }
+
+    @Test
+    void testLargeOutputFlushedToStream() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append("a\u00C9\u20AC\n");
+        }
+        ArrayValueImpl array = new ArrayValueImpl(new String[]{builder.toString(), builder.toString()});
+        byte[] expected = serializeWithJsonGenerator(array);
+        Assert.assertEquals(serializeUtf8(array), expected);
+        Assert.assertEquals(Utf8JsonGenerator.toJsonString(array), new String(expected, StandardCharsets.UTF_8));
+    }
+
+    @Test(expectedExceptions = BError.class)
+    void testCyclicValue() {
+        MapValueImpl<Object, Object> map = new MapValueImpl<>(PredefinedTypes.TYPE_MAP);
+        map.put(StringUtils.fromString("self"), map);
+        serializeUtf8(map);
+    }
+
+    /**
+     * Asserts the output of the generator, and that it is the same as the output of the {@code JsonGenerator}.
+     */
+    private static void assertSerialized(Object value, String expected) {
+        byte[] bytes = serializeUtf8(value);
+        Assert.assertEquals(new String(bytes, StandardCharsets.UTF_8), expected);
+        Assert.assertEquals(bytes, serializeWithJsonGenerator(value));
+        Assert.assertEquals(Utf8JsonGenerator.toJsonString(value), expected);
+    }
+
+    private static byte[] serializeUtf8(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serializeUtf8(value, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] serializeWithJsonGenerator(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(value, out, StandardCharsets.UTF_8);
+        return out.toByteArray();
+    }
+}
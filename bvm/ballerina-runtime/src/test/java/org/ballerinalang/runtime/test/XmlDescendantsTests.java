@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.internal.XmlFactory;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.values.XmlValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test cases for selecting descendants of xml values, which are indexed by name on repeated selections.
+ */
+public class XmlDescendantsTests {
+
+    private static final String DOCUMENT = "<orders><order id=\"1\"><item>a</item><note/></order>" +
+            "<order id=\"2\"><item>b</item><ns:item xmlns:ns=\"http://ns.com\">c</ns:item></order></orders>";
+
+    @Test
+    void testRepeatedSelection() {
+        XmlValue doc = (XmlValue) XmlFactory.parse(DOCUMENT);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(doc.descendants(Collections.singletonList("item")).toString(),
+                                "<item>a</item><item>b</item>");
+            Assert.assertEquals(doc.descendants(Collections.singletonList("{http://ns.com}item")).getTextValue(), "c");
+            Assert.assertEquals(doc.descendants(Arrays.asList("note", "item", "note")).size(), 3);
+            Assert.assertEquals(doc.descendants(Collections.singletonList("missing")).size(), 0);
+        }
+    }
+
+    @Test
+    void testSelectionIncludesElementItself() {
+        XmlValue doc = (XmlValue) XmlFactory.parse(DOCUMENT);
+        XmlValue order = (XmlValue) doc.descendants(Collections.singletonList("order")).getItem(0);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(order.descendants(Arrays.asList("order", "item")).size(), 2);
+        }
+    }
+
+    @Test
+    void testSelectionAfterMutation() {
+        XmlValue doc = (XmlValue) XmlFactory.parse(DOCUMENT);
+        doc.descendants(Collections.singletonList("item"));
+        Assert.assertEquals(doc.descendants(Collections.singletonList("item")).size(), 2);
+
+        XmlItem note = (XmlItem) doc.descendants(Collections.singletonList("note")).getItem(0);
+        note.setChildren(XmlFactory.parse("<item>d</item>"));
+        Assert.assertEquals(doc.descendants(Collections.singletonList("item")).toString(),
+                            "<item>a</item><item>d</item><item>b</item>");
+        Assert.assertEquals(doc.descendants(Collections.singletonList("item")).size(), 3);
+    }
+
+    @Test
+    void testSelectionAfterMutationOfSharedElement() {
+        XmlValue first = (XmlValue) XmlFactory.parse("<first><shared/></first>");
+        XmlItem shared = (XmlItem) first.descendants(Collections.singletonList("shared")).getItem(0);
+        XmlItem second = new XmlItem(XmlFactory.internQName("", "second", ""));
+        second.setChildren(first.children());
+        XmlValue other = (XmlValue) XmlFactory.parse("<other><item>x</item></other>");
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(first.descendants(Collections.singletonList("item")).size(), 0);
+            Assert.assertEquals(second.descendants(Collections.singletonList("item")).size(), 0);
+            Assert.assertEquals(other.descendants(Collections.singletonList("item")).size(), 1);
+        }
+
+        // A mutation of an element is seen through each of its parents, and not by unrelated values
+        shared.setChildren(XmlFactory.parse("<item>a</item>"));
+        Assert.assertEquals(first.descendants(Collections.singletonList("item")).toString(), "<item>a</item>");
+        Assert.assertEquals(second.descendants(Collections.singletonList("item")).toString(), "<item>a</item>");
+        Assert.assertEquals(other.descendants(Collections.singletonList("item")).toString(), "<item>x</item>");
+
+        shared.removeChildren("item");
+        Assert.assertEquals(first.descendants(Collections.singletonList("item")).size(), 0);
+        Assert.assertEquals(second.descendants(Collections.singletonList("item")).size(), 0);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.types.XmlNodeType;
+import io.ballerina.runtime.internal.XmlFactory;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.values.XmlSequence;
+import io.ballerina.runtime.internal.values.XmlText;
+import io.ballerina.runtime.internal.values.XmlValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for concatenating {@link XmlSequence} values.
+ */
+public class XmlSequenceTests {
+
+    @Test
+    void testConcatenationInLoop() {
+        XmlValue seq = new XmlSequence();
+        for (int i = 0; i < 1000; i++) {
+            seq = XmlFactory.concatenate(seq, (XmlValue) XmlFactory.parse("<item/>"));
+            seq = XmlFactory.concatenate(seq, new XmlText("a"));
+            seq = XmlFactory.concatenate(seq, new XmlText("b"));
+        }
+
+        Assert.assertEquals(seq.size(), 2000);
+        Assert.assertEquals(seq.getItem(1).getNodeType(), XmlNodeType.TEXT);
+        Assert.assertEquals(seq.getItem(1).getTextValue(), "ab");
+        Assert.assertEquals(seq.getItem(1999).getTextValue(), "ab");
+    }
+
+    @Test
+    void testOperandsAreNotModified() {
+        XmlValue base = XmlFactory.concatenate((XmlValue) XmlFactory.parse("<a/>"), new XmlText("x"));
+        XmlValue first = XmlFactory.concatenate(base, new XmlText("y"));
+        XmlValue second = XmlFactory.concatenate(base, (XmlValue) XmlFactory.parse("<b/>"));
+        XmlValue third = XmlFactory.concatenate(first, base);
+
+        Assert.assertEquals(base.toString(), "<a/>x");
+        Assert.assertEquals(first.toString(), "<a/>xy");
+        Assert.assertEquals(second.toString(), "<a/>x<b/>");
+        Assert.assertEquals(third.toString(), "<a/>xy<a/>x");
+        Assert.assertEquals(third.size(), 4);
+    }
+
+    @Test
+    void testMutateChildrenSetFromConcatenation() {
+        XmlValue children = XmlFactory.concatenate((XmlValue) XmlFactory.parse("<a/>"),
+                                                   (XmlValue) XmlFactory.parse("<b/>"));
+        children = XmlFactory.concatenate(children, (XmlValue) XmlFactory.parse("<a/>"));
+        XmlItem element = (XmlItem) XmlFactory.parse("<root/>");
+
+        element.setChildren(children);
+        element.removeChildren("b");
+
+        Assert.assertEquals(element.toString(), "<root><a/><a/></root>");
+        Assert.assertEquals(children.toString(), "<a/><b/><a/>");
+        Assert.assertEquals(XmlFactory.concatenate(children, new XmlText("x")).toString(), "<a/><b/><a/>x");
+    }
+}
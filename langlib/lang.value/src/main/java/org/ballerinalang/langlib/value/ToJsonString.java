@@ -18,8 +18,12 @@
 
 package org.ballerinalang.langlib.value;
 
+import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.Utf8JsonGenerator;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 
 /**
  * Return the string that represents `v` in JSON format.
@@ -29,7 +33,39 @@ import io.ballerina.runtime.api.values.BString;
 public class ToJsonString {
 
     public static BString toJsonString(Object value) {
+        if (!isStructuredValue(value)) {
+            return convertAndSerialize(value);
+        }
+
+        try {
+            // Serialize directly, without converting the value to a `json` first.
+            return StringUtils.fromString(Utf8JsonGenerator.toJsonString(value));
+        } catch (BallerinaException e) {
+            // Cyclic values are reported the same way as when converting to `json`.
+            return convertAndSerialize(value);
+        }
+    }
+
+    private static BString convertAndSerialize(Object value) {
         Object jsonValue = ToJson.toJson(value);
         return StringUtils.fromString(StringUtils.getJsonString(jsonValue));
     }
+
+    private static boolean isStructuredValue(Object value) {
+        if (value == null) {
+            return false;
+        }
+
+        switch (TypeChecker.getType(value).getTag()) {
+            case TypeTags.MAP_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.TABLE_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
 }
@@ -1,5 +1,7 @@
 module io.ballerina.observe.metrics.extension.defaultimpl {
     requires io.ballerina.runtime;
+    requires io.ballerina.config;
+    requires jdk.httpserver;
     requires HdrHistogram;
 
     exports org.ballerinalang.observe.metrics.extension.defaultimpl;
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.spi.MetricReporter;
+import io.ballerina.runtime.observability.tracer.InvalidConfigurationException;
+import org.ballerinalang.config.ConfigRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_TABLE_METRICS;
+
+/**
+ * {@link MetricReporter} implementation which serves the metrics of the default metric registry in the Prometheus text
+ * exposition format, so that they could be scraped from the configured host and port.
+ *
+ * @since 2.0.0
+ */
+public class PrometheusMetricReporter implements MetricReporter {
+
+    private static final PrintStream console = System.out;
+    private static final String REPORTER_NAME = "prometheus";
+    private static final String CONFIG_TABLE_PROMETHEUS = CONFIG_TABLE_METRICS + "." + REPORTER_NAME;
+    private static final String CONFIG_HOST = CONFIG_TABLE_PROMETHEUS + ".host";
+    private static final String CONFIG_PORT = CONFIG_TABLE_PROMETHEUS + ".port";
+    // Metrics are only served to the local host by default; binding to other interfaces, such as 0.0.0.0, is configured
+    private static final String DEFAULT_HOST = "127.0.0.1";
+    private static final String DEFAULT_PORT = "9797";
+    private static final String METRICS_PATH = "/metrics";
+    static final String REPORTER_THREAD_NAME = "ballerina-prometheus-reporter";
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @Override
+    public void init() throws InvalidConfigurationException {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        String host = configRegistry.getConfigOrDefault(CONFIG_HOST, DEFAULT_HOST);
+        String portValue = configRegistry.getConfigOrDefault(CONFIG_PORT, DEFAULT_PORT);
+        int port;
+        try {
+            port = Integer.parseInt(portValue.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidConfigurationException("invalid port for the Prometheus metric reporter: " + portValue);
+        }
+        start(host, port, DefaultMetricRegistry.getInstance());
+        console.println("ballerina: started Prometheus HTTP listener " + host + ":" + getPort());
+    }
+
+    @Override
+    public String getName() {
+        return REPORTER_NAME;
+    }
+
+    void start(String host, int port, MetricRegistry registry) throws InvalidConfigurationException {
+        try {
+            server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidConfigurationException("failed to start the Prometheus metric reporter on " + host + ":"
+                                                            + port, e);
+        }
+        server.createContext(METRICS_PATH, exchange -> handleScrape(exchange, registry));
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, REPORTER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+            // The server does not shut down the executor it was given
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private static void handleScrape(HttpExchange exchange, MetricRegistry registry) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] response = PrometheusTextFormat.write(registry.getAllMetrics()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusTextFormat.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(response);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
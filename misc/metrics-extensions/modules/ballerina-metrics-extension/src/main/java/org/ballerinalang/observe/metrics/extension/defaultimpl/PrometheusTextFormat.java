@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.PercentileValue;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * <p>
+ * Writes metrics in the Prometheus text exposition format.
+ * </p>
+ * <p>
+ * Counters and polled gauges are written as a single sample. Gauges are written with their current value, count and
+ * sum, and with the statistics of each of their snapshots, which are tagged with the time window of the snapshot in
+ * milliseconds.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class PrometheusTextFormat {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final String TYPE_COUNTER = "counter";
+    private static final String TYPE_GAUGE = "gauge";
+    private static final String TAG_TIME_WINDOW = "timeWindow";
+    private static final String TAG_QUANTILE = "quantile";
+
+    private PrometheusTextFormat() {
+    }
+
+    /**
+     * Writes the given metrics, grouping the metrics of the same name.
+     *
+     * @param metrics metrics to be written
+     * @return the metrics in the Prometheus text exposition format
+     */
+    public static String write(Metric[] metrics) {
+        Map<String, MetricFamily> families = new TreeMap<>();
+        for (Metric metric : metrics) {
+            MetricId id = metric.getId();
+            String name = sanitize(id.getName());
+            Set<Tag> tags = id.getTags();
+            if (metric instanceof Counter) {
+                getFamily(families, name, TYPE_COUNTER, id.getDescription())
+                        .addSample(name, tags, ((Counter) metric).getValue());
+            } else if (metric instanceof PolledGauge) {
+                getFamily(families, name, TYPE_GAUGE, id.getDescription())
+                        .addSample(name, tags, ((PolledGauge) metric).getValue());
+            } else if (metric instanceof Gauge) {
+                addGauge(families, name, id, (Gauge) metric);
+            }
+        }
+
+        StringBuilder output = new StringBuilder();
+        for (MetricFamily family : families.values()) {
+            family.write(output);
+        }
+        return output.toString();
+    }
+
+    private static void addGauge(Map<String, MetricFamily> families, String name, MetricId id, Gauge gauge) {
+        String description = id.getDescription();
+        Set<Tag> tags = id.getTags();
+        getFamily(families, name, TYPE_GAUGE, description).addSample(name, tags, gauge.getValue());
+        getFamily(families, name + "_count", TYPE_COUNTER, description).addSample(name + "_count", tags,
+                                                                                  gauge.getCount());
+        getFamily(families, name + "_sum", TYPE_COUNTER, description).addSample(name + "_sum", tags,
+                                                                                gauge.getSum());
+        Snapshot[] snapshots = gauge.getSnapshots();
+        if (snapshots == null) {
+            return;
+        }
+        for (Snapshot snapshot : snapshots) {
+            Set<Tag> snapshotTags = new TreeSet<>(tags);
+            snapshotTags.add(Tag.of(TAG_TIME_WINDOW, String.valueOf(snapshot.getTimeWindow().toMillis())));
+            addSnapshotSample(families, name + "_min", description, snapshotTags, snapshot.getMin());
+            addSnapshotSample(families, name + "_mean", description, snapshotTags, snapshot.getMean());
+            addSnapshotSample(families, name + "_stdDev", description, snapshotTags, snapshot.getStdDev());
+            addSnapshotSample(families, name + "_max", description, snapshotTags, snapshot.getMax());
+            PercentileValue[] percentileValues = snapshot.getPercentileValues();
+            if (percentileValues == null) {
+                continue;
+            }
+            for (PercentileValue percentileValue : percentileValues) {
+                Set<Tag> percentileTags = new TreeSet<>(snapshotTags);
+                percentileTags.add(Tag.of(TAG_QUANTILE, String.valueOf(percentileValue.getPercentile())));
+                addSnapshotSample(families, name, description, percentileTags, percentileValue.getValue());
+            }
+        }
+    }
+
+    private static void addSnapshotSample(Map<String, MetricFamily> families, String name, String description,
+                                          Set<Tag> tags, double value) {
+        getFamily(families, name, TYPE_GAUGE, description).addSample(name, tags, value);
+    }
+
+    private static MetricFamily getFamily(Map<String, MetricFamily> families, String name, String type,
+                                          String description) {
+        return families.computeIfAbsent(name, key -> new MetricFamily(name, type, description));
+    }
+
+    static String sanitize(String name) {
+        StringBuilder sanitized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == ':'
+                    || (i > 0 && c >= '0' && c <= '9');
+            sanitized.append(valid ? c : '_');
+        }
+        return sanitized.toString();
+    }
+
+    static String escapeTagValue(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '"':
+                    escaped.append("\\\"");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Samples of the metrics of the same name.
+     */
+    private static class MetricFamily {
+
+        private final String name;
+        private final String type;
+        private final String description;
+        private final StringBuilder samples = new StringBuilder();
+
+        MetricFamily(String name, String type, String description) {
+            this.name = name;
+            this.type = type;
+            this.description = description;
+        }
+
+        void addSample(String sampleName, Set<Tag> tags, double value) {
+            samples.append(sampleName);
+            if (!tags.isEmpty()) {
+                samples.append('{');
+                boolean first = true;
+                for (Tag tag : tags) {
+                    if (!first) {
+                        samples.append(',');
+                    }
+                    samples.append(sanitize(tag.getKey())).append("=\"").append(escapeTagValue(tag.getValue()))
+                            .append('"');
+                    first = false;
+                }
+                samples.append('}');
+            }
+            samples.append(' ').append(formatValue(value)).append('\n');
+        }
+
+        void write(StringBuilder output) {
+            if (description != null && !description.isEmpty()) {
+                output.append("# HELP ").append(name).append(' ')
+                        .append(description.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+            }
+            output.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            output.append(samples);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.observe.metrics.extension.defaultimpl;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.tracer.InvalidConfigurationException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the Prometheus text exposition format and the endpoint serving it.
+ *
+ * @since 2.0.0
+ */
+public class PrometheusMetricReporterTest {
+
+    @Test
+    public void testCounterAndPolledGaugeFormat() {
+        MetricRegistry registry = new MetricRegistry(new DefaultMetricProvider());
+        Counter counter = Counter.builder("requests_total").description("Total requests")
+                .tag("service", "hello \"world\"").register(registry);
+        counter.increment(3);
+        AtomicInteger queueSize = new AtomicInteger(7);
+        PolledGauge.builder("ballerina_scheduler_runnable_queue_size", queueSize, AtomicInteger::get)
+                .register(registry);
+
+        String output = PrometheusTextFormat.write(registry.getAllMetrics());
+        Assert.assertEquals(output, "# TYPE ballerina_scheduler_runnable_queue_size gauge\n"
+                + "ballerina_scheduler_runnable_queue_size 7\n"
+                + "# HELP requests_total Total requests\n"
+                + "# TYPE requests_total counter\n"
+                + "requests_total{service=\"hello \\\"world\\\"\"} 3\n");
+    }
+
+    @Test
+    public void testMetricsOfSameNameGrouped() {
+        MetricRegistry registry = new MetricRegistry(new DefaultMetricProvider());
+        Counter.builder("calls").tag("reason", "a").register(registry).increment(1);
+        Counter.builder("calls").tag("reason", "b").register(registry).increment(2);
+
+        String output = PrometheusTextFormat.write(registry.getAllMetrics());
+        Assert.assertEquals(output.split("# TYPE calls counter", -1).length, 2);
+        Assert.assertTrue(output.contains("calls{reason=\"a\"} 1\n"));
+        Assert.assertTrue(output.contains("calls{reason=\"b\"} 2\n"));
+    }
+
+    @Test
+    public void testSanitizeName() {
+        Assert.assertEquals(PrometheusTextFormat.sanitize("http.requests-total"), "http_requests_total");
+        Assert.assertEquals(PrometheusTextFormat.sanitize("1xx"), "_xx");
+    }
+
+    @Test
+    public void testScrapeEndpoint() throws InvalidConfigurationException, IOException {
+        MetricRegistry registry = new MetricRegistry(new DefaultMetricProvider());
+        PrometheusMetricReporter reporter = new PrometheusMetricReporter();
+        try {
+            Counter.builder("scraped_total").register(registry).increment(5);
+            reporter.start("127.0.0.1", 0, registry);
+
+            URL url = new URL("http://127.0.0.1:" + reporter.getPort() + "/metrics");
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            Assert.assertEquals(connection.getResponseCode(), 200);
+            Assert.assertEquals(connection.getContentType(), PrometheusTextFormat.CONTENT_TYPE);
+            try (InputStream inputStream = connection.getInputStream()) {
+                Assert.assertEquals(readAll(inputStream),
+                                    PrometheusTextFormat.write(registry.getAllMetrics()));
+            }
+        } finally {
+            reporter.stop();
+        }
+    }
+
+    @Test
+    public void testStopShutsDownExecutor() throws InvalidConfigurationException, IOException, InterruptedException {
+        MetricRegistry registry = new MetricRegistry(new DefaultMetricProvider());
+        PrometheusMetricReporter reporter = new PrometheusMetricReporter();
+        try {
+            reporter.start("127.0.0.1", 0, registry);
+            URL url = new URL("http://127.0.0.1:" + reporter.getPort() + "/metrics");
+            Assert.assertEquals(((HttpURLConnection) url.openConnection()).getResponseCode(), 200);
+            Assert.assertNotNull(findReporterThread());
+        } finally {
+            reporter.stop();
+        }
+
+        Thread reporterThread = findReporterThread();
+        if (reporterThread != null) {
+            reporterThread.join(5000);
+            Assert.assertFalse(reporterThread.isAlive());
+        }
+    }
+
+    private static Thread findReporterThread() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals(PrometheusMetricReporter.REPORTER_THREAD_NAME))
+                .findAny().orElse(null);
+    }
+
+    private static String readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -14,9 +14,28 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/io;
 import ballerina/time;
 import ballerina/java;
 
+# The hash functions supported by the streaming hash and HMAC functions of the Crypto module.
+public type HashAlgorithm MD5|SHA1|SHA256|SHA384|SHA512;
+
+# The `MD5` hash function.
+public const MD5 = "MD5";
+
+# The `SHA1` hash function.
+public const SHA1 = "SHA1";
+
+# The `SHA256` hash function.
+public const SHA256 = "SHA256";
+
+# The `SHA384` hash function.
+public const SHA384 = "SHA384";
+
+# The `SHA512` hash function.
+public const SHA512 = "SHA512";
+
 # The key algorithms supported by the Crypto module.
 public type KeyAlgorithm RSA;
 
@@ -264,6 +283,41 @@ public function hmacSha512(byte[] input, byte[] key) returns byte[] = @java:Meth
     'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hmac"
 } external;
 
+# Returns the hash of the content of the given byte channel. The content is read in chunks until the end of the
+# channel, hence it is not loaded into memory at once. The channel is not closed.
+# ```ballerina
+#  io:ReadableByteChannel byteChannel = check io:openReadableFile("./files/sample.bin");
+#  byte[]|crypto:Error hash = crypto:hashChannel(byteChannel, crypto:SHA256);
+# ```
+#
+# + input - Byte channel of which the content is hashed
+# + algorithm - Hash function to be used
+# + return - Hashed output or else a `crypto:Error` if the channel could not be read
+public function hashChannel(io:ReadableByteChannel input, HashAlgorithm algorithm)
+                            returns byte[]|Error = @java:Method {
+    name: "hashChannel",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hash"
+} external;
+
+# Returns the HMAC of the content of the given byte channel. The content is read in chunks until the end of the
+# channel, hence it is not loaded into memory at once. The channel is not closed.
+# ```ballerina
+#  io:ReadableByteChannel byteChannel = check io:openReadableFile("./files/sample.bin");
+#  string keyString = "some-secret";
+#  byte[] key = keyString.toBytes();
+#  byte[]|crypto:Error hmac = crypto:hmacChannel(byteChannel, key, crypto:SHA256);
+# ```
+#
+# + input - Byte channel of which the content is hashed
+# + key - Key used for HMAC generation
+# + algorithm - Hash function to be used
+# + return - HMAC output or else a `crypto:Error` if the channel could not be read
+public function hmacChannel(io:ReadableByteChannel input, byte[] key, HashAlgorithm algorithm)
+                            returns byte[]|Error = @java:Method {
+    name: "hmacChannel",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hmac"
+} external;
+
 # Returns the Hex-encoded CRC32B value for the provided element.
 # ```ballerina
 #  string stringData = "Hello Ballerina";
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.crypto;
+
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Per thread cache of the message digest and MAC instances of each algorithm. Getting an instance looks up the
+ * security providers, hence the crypto operations reuse the instances of the thread they run on.
+ * <p>
+ * Only instances which hold no key are kept. A message digest is only used by one operation at a time, since the
+ * operations do not yield in between, and it is reset before it is used. A MAC holds the key it is initialized with,
+ * hence each operation initializes a copy of an uninitialized MAC, which is dropped along with the key after the
+ * operation. Signatures and ciphers cannot be copied before they are initialized, hence they are not cached.
+ *
+ * @since 2.0.0
+ */
+class CryptoInstances {
+
+    private static final ThreadLocal<Map<String, MessageDigest>> MESSAGE_DIGESTS =
+            ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Mac>> MACS = ThreadLocal.withInitial(HashMap::new);
+
+    private CryptoInstances() {
+
+    }
+
+    /**
+     * Get a message digest of the given algorithm, which is reset.
+     *
+     * @param algorithm hashing algorithm
+     * @return message digest of the algorithm
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     */
+    static MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> messageDigests = MESSAGE_DIGESTS.get();
+        MessageDigest messageDigest = messageDigests.get(algorithm);
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            messageDigests.put(algorithm, messageDigest);
+        } else {
+            messageDigest.reset();
+        }
+        return messageDigest;
+    }
+
+    /**
+     * Get a MAC of the given algorithm, which is initialized with the given key. The MAC is a copy of an uninitialized
+     * MAC of the algorithm, and should not be kept once it is used.
+     *
+     * @param algorithm HMAC algorithm
+     * @param key       key used during HMAC generation
+     * @return MAC of the algorithm initialized with the key
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     * @throws InvalidKeyException      if the key is not valid for the algorithm
+     */
+    static Mac getMac(String algorithm, byte[] key) throws NoSuchAlgorithmException, InvalidKeyException {
+        Map<String, Mac> macs = MACS.get();
+        Mac uninitializedMac = macs.get(algorithm);
+        if (uninitializedMac == null) {
+            uninitializedMac = Mac.getInstance(algorithm);
+            macs.put(algorithm, uninitializedMac);
+        }
+        Mac mac;
+        try {
+            mac = (Mac) uninitializedMac.clone();
+        } catch (CloneNotSupportedException e) {
+            mac = Mac.getInstance(algorithm);
+        }
+        mac.init(new SecretKeySpec(key, algorithm));
+        return mac;
+    }
+}
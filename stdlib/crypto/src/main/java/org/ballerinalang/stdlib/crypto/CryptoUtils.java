@@ -21,7 +21,11 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
+import org.ballerinalang.stdlib.io.channels.base.BufferPool;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.Key;
@@ -33,6 +37,7 @@ import java.security.Signature;
 import java.security.SignatureException;
 import java.security.spec.AlgorithmParameterSpec;
 import java.util.Arrays;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,7 +46,6 @@ import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.Mac;
 import javax.crypto.NoSuchPaddingException;
-import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
@@ -58,6 +62,11 @@ public class CryptoUtils {
 
     private static final Pattern varPattern = Pattern.compile("\\$\\{([^}]*)}");
 
+    /**
+     * Size of the chunks in which byte channels are read.
+     */
+    private static final int READ_BUFFER_SIZE = 8192;
+
     /**
      * Cipher mode that is used to decide if encryption or decryption operation should be performed.
      */
@@ -87,15 +96,33 @@ public class CryptoUtils {
      */
     public static byte[] hmac(String algorithm, byte[] key, byte[] input) {
         try {
-            SecretKey secretKey = new SecretKeySpec(key, algorithm);
-            Mac mac = Mac.getInstance(algorithm);
-            mac.init(secretKey);
-            return mac.doFinal(input);
+            return CryptoInstances.getMac(algorithm, key).doFinal(input);
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
             throw CryptoUtils.createError("Error occurred while calculating HMAC: " + e.getMessage());
         }
     }
 
+    /**
+     * Generate HMAC of the content of a byte channel based on the provided HMAC algorithm. The content is read from
+     * the channel in chunks until the end of the channel.
+     *
+     * @param algorithm   algorithm used during HMAC generation
+     * @param key         key used during HMAC generation
+     * @param byteChannel byte channel of which the content is used for HMAC generation
+     * @return calculated HMAC value or error if the channel could not be read
+     */
+    public static Object hmac(String algorithm, byte[] key, Channel byteChannel) {
+        try {
+            Mac mac = CryptoInstances.getMac(algorithm, key);
+            readChannel(byteChannel, mac::update);
+            return ValueCreator.createArrayValue(mac.doFinal());
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw CryptoUtils.createError("Error occurred while calculating HMAC: " + e.getMessage());
+        } catch (IOException e) {
+            return CryptoUtils.createError("Error occurred while reading the channel: " + e.getMessage());
+        }
+    }
+
     /**
      * Generate Hash of a byte array based on the provided hashing algorithm.
      *
@@ -105,15 +132,53 @@ public class CryptoUtils {
      */
     public static byte[] hash(String algorithm, byte[] input) {
         try {
-            MessageDigest messageDigest;
-            messageDigest = MessageDigest.getInstance(algorithm);
-            messageDigest.update(input);
-            return messageDigest.digest();
+            return CryptoInstances.getMessageDigest(algorithm).digest(input);
         } catch (NoSuchAlgorithmException e) {
             throw CryptoUtils.createError("Error occurred while calculating hash: " + e.getMessage());
         }
     }
 
+    /**
+     * Generate Hash of the content of a byte channel based on the provided hashing algorithm. The content is read from
+     * the channel in chunks until the end of the channel.
+     *
+     * @param algorithm   algorithm used during hashing
+     * @param byteChannel byte channel of which the content is hashed
+     * @return calculated hash value or error if the channel could not be read
+     */
+    public static Object hash(String algorithm, Channel byteChannel) {
+        try {
+            MessageDigest messageDigest = CryptoInstances.getMessageDigest(algorithm);
+            readChannel(byteChannel, messageDigest::update);
+            return ValueCreator.createArrayValue(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw CryptoUtils.createError("Error occurred while calculating hash: " + e.getMessage());
+        } catch (IOException e) {
+            return CryptoUtils.createError("Error occurred while reading the channel: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read the content of a byte channel in chunks until the end of the channel.
+     *
+     * @param byteChannel byte channel to be read
+     * @param consumer    consumer of the chunks read
+     * @throws IOException if the channel could not be read
+     */
+    private static void readChannel(Channel byteChannel, Consumer<ByteBuffer> consumer) throws IOException {
+        ByteBuffer buffer = BufferPool.heap().acquire(READ_BUFFER_SIZE);
+        try {
+            while (!byteChannel.hasReachedEnd()) {
+                buffer.clear();
+                byteChannel.read(buffer);
+                buffer.flip();
+                consumer.accept(buffer);
+            }
+        } finally {
+            BufferPool.heap().release(buffer);
+        }
+    }
+
     /**
      * Generate signature of a byte array based on the provided signing algorithm.
      *
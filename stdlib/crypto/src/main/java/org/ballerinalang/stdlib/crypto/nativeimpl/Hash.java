@@ -21,8 +21,11 @@ package org.ballerinalang.stdlib.crypto.nativeimpl;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import org.ballerinalang.stdlib.crypto.CryptoUtils;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
 
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
@@ -64,4 +67,24 @@ public class Hash {
         return ValueCreator.createArrayValue(CryptoUtils.hash("SHA-512", inputValue.getBytes()));
     }
 
+    public static Object hashChannel(BObject byteChannel, BString algorithm) {
+        Channel channel = (Channel) byteChannel.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
+        return CryptoUtils.hash(getHashAlgorithm(algorithm.getValue()), channel);
+    }
+
+    private static String getHashAlgorithm(String algorithm) {
+        switch (algorithm) {
+            case "SHA1":
+                return "SHA-1";
+            case "SHA256":
+                return "SHA-256";
+            case "SHA384":
+                return "SHA-384";
+            case "SHA512":
+                return "SHA-512";
+            default:
+                return algorithm;
+        }
+    }
+
 }
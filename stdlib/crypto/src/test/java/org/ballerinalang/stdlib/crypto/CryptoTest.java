@@ -35,6 +35,12 @@ import org.testng.annotations.Test;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 
 /**
  * Test cases for ballerina.crypto native functions.
@@ -104,6 +110,58 @@ public class CryptoTest {
         BRunUtil.invoke(compileResult, "testHmacWithSHA1", args);
     }
 
+    @Test(description = "Test hmac generation with the keys alternating between the calls")
+    public void testHmacWithAlternatingKeys() throws NoSuchAlgorithmException, InvalidKeyException {
+        byte[] message = "Ballerina HMAC test".getBytes(StandardCharsets.UTF_8);
+        byte[][] keys = {"abcdefghijk".getBytes(StandardCharsets.UTF_8),
+                "0123456789".getBytes(StandardCharsets.UTF_8)};
+        byte[][] expectedHmacs = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(keys[i], "HmacSHA256"));
+            expectedHmacs[i] = mac.doFinal(message);
+        }
+
+        for (int i = 0; i < 6; i++) {
+            Assert.assertEquals(CryptoUtils.hmac("HmacSHA256", keys[i % 2], message), expectedHmacs[i % 2]);
+        }
+
+        //A MAC in use is not affected by the MACs got for the other keys in between
+        Mac mac = CryptoInstances.getMac("HmacSHA256", keys[0]);
+        mac.update(message, 0, 5);
+        Assert.assertEquals(CryptoInstances.getMac("HmacSHA256", keys[1]).doFinal(message), expectedHmacs[1]);
+        mac.update(message, 5, message.length - 5);
+        Assert.assertEquals(mac.doFinal(), expectedHmacs[0]);
+    }
+
+    @Test(description = "Test hashing and hmac generation of the content of byte channels")
+    public void testHashChannel() throws NoSuchAlgorithmException, InvalidKeyException {
+        //Content larger than a chunk, which is read in multiple chunks
+        byte[] message = new byte[20000];
+        for (int i = 0; i < message.length; i++) {
+            message[i] = (byte) i;
+        }
+        byte[] key = "abcdefghijk".getBytes(StandardCharsets.UTF_8);
+        BValueArray messageValue = new BValueArray(message);
+        BValueArray keyValue = new BValueArray(key);
+
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testHashChannel",
+                new BValue[]{messageValue, new BString("SHA256")});
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(),
+                MessageDigest.getInstance("SHA-256").digest(message));
+
+        returnValues = BRunUtil.invoke(compileResult, "testHashChannel",
+                new BValue[]{messageValue, new BString("MD5")});
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(),
+                MessageDigest.getInstance("MD5").digest(message));
+
+        Mac mac = Mac.getInstance("HmacSHA512");
+        mac.init(new SecretKeySpec(key, "HmacSHA512"));
+        returnValues = BRunUtil.invoke(compileResult, "testHmacChannel",
+                new BValue[]{messageValue, keyValue, new BString("SHA512")});
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), mac.doFinal(message));
+    }
+
     @Test(description = "Test hashing functions")
     public void testHashing() throws DecoderException {
         byte[] expectedMd5Hash = Hex.decodeHex("3B12196DB784CD9F86CC635D32764FDF".toCharArray());
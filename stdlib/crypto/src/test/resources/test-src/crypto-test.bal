@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/crypto;
+import ballerina/io;
 
 function testHashWithCRC32b(byte[] input) returns string {
     return crypto:crc32b(input);
@@ -260,3 +261,13 @@ function testVerifyRsaMd5(byte[] input, byte[] signature, string path, string ke
     crypto:PublicKey pk = check crypto:decodePublicKey(keyStore, keyAlias);
     return crypto:verifyRsaMd5Signature(input, signature, pk);
 }
+
+function testHashChannel(byte[] input, string algorithm) returns byte[]|error {
+    io:ReadableByteChannel byteChannel = check io:createReadableChannel(input);
+    return crypto:hashChannel(byteChannel, <crypto:HashAlgorithm> algorithm);
+}
+
+function testHmacChannel(byte[] input, byte[] key, string algorithm) returns byte[]|error {
+    io:ReadableByteChannel byteChannel = check io:createReadableChannel(input);
+    return crypto:hmacChannel(byteChannel, key, <crypto:HashAlgorithm> algorithm);
+}
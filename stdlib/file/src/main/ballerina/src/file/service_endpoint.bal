@@ -49,14 +49,14 @@ public class Listener {
     #
     # + return - () or else error upon failure to stop the listener
         public function __gracefulStop() returns error? {
-        return ();
+        return stopEndpoint(self);
     }
 
     # Stops the `file:Listener` forcefully.
     #
     # + return - () or else error upon failure to stop the listener
     public function __immediateStop() returns error? {
-        return ();
+        return stopEndpoint(self);
     }
 
     # Binds a service to the `file:Listener`.
@@ -80,9 +80,16 @@ public class Listener {
 #
 # + path - Directory path which need to listen
 # + recursive - Recursively monitor all sub folders or not in the given direcotry path
+# + batchWindowInMillis - Duration for which the events are collected into a batch, during which the events of a file
+#                         are coalesced. The events are delivered as soon as they are received if this is 0, and they
+#                         are only coalesced within a batch if the service has an `onEvents` resource
+# + maxBatchSize - Maximum number of events in a batch, which is delivered before the end of the batch window once
+#                  this is reached
 public type ListenerConfig record {|
     string? path = ();
     boolean recursive = false;
+    int batchWindowInMillis = 0;
+    int maxBatchSize = 1000;
 |};
 
 function initEndpoint(Listener fileListener) returns error? = @java:Method {
@@ -99,3 +106,8 @@ function startEndpoint(Listener fileListener) returns error? = @java:Method {
     'class: "org.ballerinalang.stdlib.file.service.endpoint.Start",
     name: "start"
 } external;
+
+function stopEndpoint(Listener fileListener) returns error? = @java:Method {
+    'class: "org.ballerinalang.stdlib.file.service.endpoint.Stop",
+    name: "stop"
+} external;
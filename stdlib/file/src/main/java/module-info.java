@@ -1,7 +1,6 @@
 module io.ballerina.file {
     requires slf4j.api;
     requires io.ballerina.runtime;
-    requires org.wso2.transport.local.file.system;
     requires io.ballerina.lang;
     requires io.ballerina.time;
     requires io.ballerina.tools.api;
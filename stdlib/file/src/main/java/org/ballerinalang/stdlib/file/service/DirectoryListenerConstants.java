@@ -20,7 +20,6 @@ package org.ballerinalang.stdlib.file.service;
 
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
-import org.wso2.transport.localfilesystem.server.util.Constants;
 
 /**
  * Constants for Directory Listener Server connector.
@@ -32,19 +31,21 @@ public class DirectoryListenerConstants {
 
     //Annotation
     public static final BString ANNOTATION_PATH = StringUtils.fromString("path");
-    public static final BString ANNOTATION_DIRECTORY_RECURSIVE = StringUtils.fromString(
-            Constants.DIRECTORY_WATCH_RECURSIVE);
+    public static final BString ANNOTATION_DIRECTORY_RECURSIVE = StringUtils.fromString("recursive");
+    public static final BString ANNOTATION_BATCH_WINDOW = StringUtils.fromString("batchWindowInMillis");
+    public static final BString ANNOTATION_MAX_BATCH_SIZE = StringUtils.fromString("maxBatchSize");
 
     public static final String FILE_SYSTEM_EVENT = "FileEvent";
-    public static final String FS_SERVER_CONNECTOR = "serverConnector";
+    public static final String FS_DIRECTORY_WATCHER = "directoryWatcher";
     public static final BString SERVICE_ENDPOINT_CONFIG = StringUtils.fromString("config");
 
-    public static final String EVENT_CREATE = Constants.EVENT_CREATE;
-    public static final String EVENT_DELETE = Constants.EVENT_DELETE;
-    public static final String EVENT_MODIFY = Constants.EVENT_MODIFY;
+    public static final String EVENT_CREATE = "create";
+    public static final String EVENT_DELETE = "delete";
+    public static final String EVENT_MODIFY = "modify";
 
     public static final String RESOURCE_NAME_ON_CREATE = "onCreate";
     public static final String RESOURCE_NAME_ON_DELETE = "onDelete";
     public static final String RESOURCE_NAME_ON_MODIFY = "onModify";
+    public static final String RESOURCE_NAME_ON_EVENTS = "onEvents";
     public static final String RESOURCE_NAME_ON_MESSAGE = "onMessage";
 }
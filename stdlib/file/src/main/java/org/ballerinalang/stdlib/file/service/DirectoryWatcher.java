@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_CREATE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_DELETE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.EVENT_MODIFY;
+
+/**
+ * <p>
+ * Watches a directory with a {@link WatchService}, and delivers the events of its entries in batches.
+ * </p>
+ * <p>
+ * The events are collected for the batch window, starting from the first event of a batch, or until the maximum batch
+ * size is reached. The events of a path within a batch are coalesced into one: a file created and modified is
+ * delivered as created, a file created and deleted is not delivered, and a file deleted and created again is
+ * delivered as modified. Unless the events are coalesced, each event is delivered on its own as it is received. The
+ * subdirectories of a recursive watch are registered with the same watch service, hence a
+ * single thread waits for the events of the whole tree.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class DirectoryWatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectoryWatcher.class);
+
+    private final Path root;
+    private final boolean recursive;
+    private final long batchWindowNanos;
+    private final int maxBatchSize;
+    private final boolean coalesce;
+    private final Consumer<Map<Path, String>> eventConsumer;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    // Only accessed by the thread of the watcher
+    private Map<Path, String> batch = new LinkedHashMap<>();
+    private long batchDeadline;
+    private WatchService watchService;
+    private Thread worker;
+
+    /**
+     * Creates a watcher of a directory.
+     *
+     * @param root           Directory to be watched.
+     * @param recursive      Whether the subdirectories are watched.
+     * @param batchWindow    Duration for which the events are collected into a batch, in milliseconds. The events are
+     *                       delivered as soon as they are received if this is 0.
+     * @param maxBatchSize   Maximum number of events in a batch.
+     * @param coalesce       Whether the events are collected into batches in which the events of a path are coalesced.
+     * @param eventConsumer  Consumer of the batches, which maps the paths to their events in the order of the events.
+     */
+    public DirectoryWatcher(Path root, boolean recursive, long batchWindow, int maxBatchSize, boolean coalesce,
+                            Consumer<Map<Path, String>> eventConsumer) {
+        this.root = root.toAbsolutePath();
+        this.recursive = recursive;
+        this.batchWindowNanos = TimeUnit.MILLISECONDS.toNanos(batchWindow);
+        this.maxBatchSize = maxBatchSize;
+        this.coalesce = coalesce;
+        this.eventConsumer = eventConsumer;
+    }
+
+    /**
+     * Registers the directories to be watched, and starts the thread of the watcher.
+     *
+     * @throws IOException if the directories could not be registered.
+     */
+    public synchronized void start() throws IOException {
+        if (worker != null) {
+            return;
+        }
+        watchService = root.getFileSystem().newWatchService();
+        try {
+            register(root, false);
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+        worker = new Thread(this::run, "ballerina-file-watcher-" + root.getFileName());
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops the watcher. The events which are not yet delivered are dropped.
+     */
+    public synchronized void stop() {
+        if (worker == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("File Listener: unable to close the watch service of " + root, e);
+        }
+        worker = null;
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = batch.isEmpty() ? watchService.take() : watchService.poll(
+                        batchDeadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                // The keys which are already signalled are handled together, so that their events share a batch
+                while (key != null) {
+                    processEvents(key);
+                    key = watchService.poll();
+                }
+                if (!batch.isEmpty() && System.nanoTime() >= batchDeadline) {
+                    deliverBatch();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.debug("File Listener: stopped watching " + root);
+        }
+    }
+
+    private void processEvents(WatchKey key) {
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            WatchEvent.Kind<?> kind = event.kind();
+            if (kind == StandardWatchEventKinds.OVERFLOW) {
+                log.warn("File Listener: events of " + directory + " were lost as they were received faster than "
+                                 + "they were read");
+                continue;
+            }
+            if (directory == null) {
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context());
+            if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+                addEvent(path, EVENT_CREATE);
+                if (recursive && Files.isDirectory(path)) {
+                    registerCreatedDirectory(path);
+                }
+            } else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                addEvent(path, EVENT_DELETE);
+            } else {
+                addEvent(path, EVENT_MODIFY);
+            }
+        }
+        if (!key.reset()) {
+            // The directory is no longer accessible
+            directories.remove(key);
+        }
+    }
+
+    private void registerCreatedDirectory(Path directory) {
+        try {
+            // Entries created before the directory is registered do not have events of their own
+            register(directory, true);
+        } catch (IOException e) {
+            log.warn("File Listener: unable to watch the directory " + directory, e);
+        }
+    }
+
+    private void register(Path directory, boolean reportEntries) throws IOException {
+        if (!recursive) {
+            directories.put(directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                               StandardWatchEventKinds.ENTRY_DELETE,
+                                               StandardWatchEventKinds.ENTRY_MODIFY), directory);
+            return;
+        }
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                directories.put(dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                             StandardWatchEventKinds.ENTRY_DELETE,
+                                             StandardWatchEventKinds.ENTRY_MODIFY), dir);
+                if (reportEntries && !dir.equals(directory)) {
+                    addEvent(dir, EVENT_CREATE);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (reportEntries) {
+                    addEvent(file, EVENT_CREATE);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void addEvent(Path path, String event) {
+        if (!coalesce) {
+            deliver(Collections.singletonMap(path, event));
+            return;
+        }
+        if (batch.isEmpty()) {
+            batchDeadline = System.nanoTime() + batchWindowNanos;
+        }
+        String previousEvent = batch.get(path);
+        if (previousEvent == null) {
+            batch.put(path, event);
+        } else if (EVENT_CREATE.equals(previousEvent)) {
+            // The file did not exist before the batch
+            if (EVENT_DELETE.equals(event)) {
+                batch.remove(path);
+            }
+        } else if (EVENT_DELETE.equals(previousEvent) && EVENT_CREATE.equals(event)) {
+            batch.put(path, EVENT_MODIFY);
+        } else {
+            batch.put(path, event);
+        }
+        // A batch is delivered as soon as it is full, even while the events of a key are being read
+        if (batch.size() >= maxBatchSize) {
+            deliverBatch();
+        }
+    }
+
+    private void deliverBatch() {
+        Map<Path, String> events = batch;
+        batch = new LinkedHashMap<>();
+        deliver(events);
+    }
+
+    private void deliver(Map<Path, String> events) {
+        try {
+            eventConsumer.accept(events);
+        } catch (RuntimeException e) {
+            log.error("File Listener: unable to deliver the events of " + root, e);
+        }
+    }
+}
@@ -20,18 +20,18 @@ package org.ballerinalang.stdlib.file.service;
 
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.AttachedFunctionType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemEvent;
-import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemListener;
 
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
 import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.FILE_SYSTEM_EVENT;
@@ -43,45 +43,62 @@ import static org.ballerinalang.stdlib.file.utils.FileConstants.FILE_EVENT_OPERA
 import static org.ballerinalang.stdlib.file.utils.FileConstants.FILE_PACKAGE_ID;
 
 /**
- * File System connector listener for Ballerina.
+ * File System listener for Ballerina, which delivers the batches of events of a {@link DirectoryWatcher} to a
+ * service. A batch is delivered to the {@code onEvents} resource at once if the service has one, or else each event is
+ * delivered to the resource of its operation.
  */
-public class FSListener implements LocalFileSystemListener {
+public class FSListener implements Consumer<Map<Path, String>> {
 
-    private static final Logger log = LoggerFactory.getLogger(FSListener.class);
-    private Runtime runtime;
-    private BObject service;
-    private Map<String, AttachedFunctionType> attachedFunctionRegistry;
+    private static final BString EVENT_NAME_FIELD = StringUtils.fromString(FILE_EVENT_NAME);
+    private static final BString EVENT_OPERATION_FIELD = StringUtils.fromString(FILE_EVENT_OPERATION);
     private static final StrandMetadata ON_MESSAGE_METADATA = new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX,
                                                                                  MODULE_NAME, MODULE_VERSION,
                                                                                  RESOURCE_NAME_ON_MESSAGE);
+    private Runtime runtime;
+    private BObject service;
+    private Map<String, AttachedFunctionType> attachedFunctionRegistry;
+    private AttachedFunctionType batchResource;
+    private ArrayType eventArrayType;
 
-    public FSListener(Runtime runtime, BObject service, Map<String, AttachedFunctionType> resourceRegistry) {
+    public FSListener(Runtime runtime, BObject service, Map<String, AttachedFunctionType> resourceRegistry,
+                      AttachedFunctionType batchResource) {
         this.runtime = runtime;
         this.service = service;
         this.attachedFunctionRegistry = resourceRegistry;
+        this.batchResource = batchResource;
     }
 
     @Override
-    public void onMessage(LocalFileSystemEvent fileEvent) {
-        Object[] parameters = getJvmSignatureParameters(fileEvent);
-        AttachedFunctionType resource = getAttachedFunctionType(fileEvent.getEvent());
-        if (resource != null) {
-            runtime.invokeMethodAsync(service, resource.getName(), null, ON_MESSAGE_METADATA, new DirectoryCallback(),
-                                      parameters);
-        } else {
-            log.warn(String.format("FileEvent received for unregistered resource: [%s] %s", fileEvent.getEvent(),
-                    fileEvent.getFileName()));
+    public void accept(Map<Path, String> events) {
+        if (batchResource != null) {
+            BMap<?, ?>[] eventStructs = new BMap<?, ?>[events.size()];
+            int i = 0;
+            for (Map.Entry<Path, String> event : events.entrySet()) {
+                eventStructs[i++] = createEventStruct(event.getKey(), event.getValue());
+            }
+            if (eventArrayType == null) {
+                eventArrayType = TypeCreator.createArrayType(eventStructs[0].getType());
+            }
+            runtime.invokeMethodAsync(service, batchResource.getName(), null, ON_MESSAGE_METADATA,
+                                      new DirectoryCallback(),
+                                      ValueCreator.createArrayValue(eventStructs, eventArrayType), true);
+            return;
+        }
+        for (Map.Entry<Path, String> event : events.entrySet()) {
+            AttachedFunctionType resource = attachedFunctionRegistry.get(event.getValue());
+            // Only the events of which the service has resources are delivered
+            if (resource != null) {
+                runtime.invokeMethodAsync(service, resource.getName(), null, ON_MESSAGE_METADATA,
+                                          new DirectoryCallback(),
+                                          createEventStruct(event.getKey(), event.getValue()), true);
+            }
         }
     }
 
-    private Object[] getJvmSignatureParameters(LocalFileSystemEvent fileEvent) {
+    private static BMap<BString, Object> createEventStruct(Path path, String operation) {
         BMap<BString, Object> eventStruct = ValueCreator.createRecordValue(FILE_PACKAGE_ID, FILE_SYSTEM_EVENT);
-        eventStruct.put(StringUtils.fromString(FILE_EVENT_NAME), StringUtils.fromString(fileEvent.getFileName()));
-        eventStruct.put(StringUtils.fromString(FILE_EVENT_OPERATION), StringUtils.fromString(fileEvent.getEvent()));
-        return new Object[] { eventStruct, true };
-    }
-
-    private AttachedFunctionType getAttachedFunctionType(String event) {
-        return attachedFunctionRegistry.get(event);
+        eventStruct.put(EVENT_NAME_FIELD, StringUtils.fromString(path.toString()));
+        eventStruct.put(EVENT_OPERATION_FIELD, StringUtils.fromString(operation));
+        return eventStruct;
     }
 }
@@ -25,6 +25,7 @@ import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.ServiceNode;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.util.diagnostic.DiagnosticLog;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.tree.BLangFunction;
 import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
@@ -35,6 +36,7 @@ import static io.ballerina.tools.diagnostics.DiagnosticSeverity.ERROR;
 import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.FILE_SYSTEM_EVENT;
 import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.RESOURCE_NAME_ON_CREATE;
 import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.RESOURCE_NAME_ON_DELETE;
+import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.RESOURCE_NAME_ON_EVENTS;
 import static org.ballerinalang.stdlib.file.service.DirectoryListenerConstants.RESOURCE_NAME_ON_MODIFY;
 
 /**
@@ -86,6 +88,31 @@ public class DirectoryListenerCompilerPlugin extends AbstractCompilerPlugin {
                     }
                 }
                 break;
+            case RESOURCE_NAME_ON_EVENTS:
+                final List<BLangSimpleVariable> batchParameters = resource.getParameters();
+                String batchMsg = "Invalid resource signature for %s in service %s. "
+                        + "The parameter should be a file:FileEvent[] with no returns.";
+                batchMsg = String.format(batchMsg, resource.getName().getValue(), serviceName);
+                if (batchParameters.size() != 1) {
+                    dlog.logDiagnostic(ERROR, resource.getPosition(), batchMsg);
+                    return;
+                }
+                BType fileEvents = batchParameters.get(0).getTypeNode().type;
+                if (!fileEvents.getKind().equals(TypeKind.ARRAY)) {
+                    dlog.logDiagnostic(ERROR, resource.getPosition(), batchMsg);
+                    return;
+                }
+                BType eventType = ((BArrayType) fileEvents).eType;
+                if (eventType.tsymbol == null || !"file".equals(eventType.tsymbol.pkgID.name.value)
+                        || !FILE_SYSTEM_EVENT.equals(eventType.tsymbol.name.value)) {
+                    dlog.logDiagnostic(ERROR, resource.getPosition(), batchMsg);
+                    return;
+                }
+                if (resource.returnTypeNode != null && resource.returnTypeNode.type.getKind() != TypeKind.NIL) {
+                    dlog.logDiagnostic(ERROR, resource.getPosition(), batchMsg);
+                    return;
+                }
+                break;
             default:
                 dlog.logDiagnostic(ERROR, resource.getPosition(),
                         "Invalid resource name " + resource.getName().getValue() + " in service " + serviceName);
@@ -25,15 +25,12 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import org.ballerinalang.stdlib.file.service.DirectoryListenerConstants;
+import org.ballerinalang.stdlib.file.service.DirectoryWatcher;
 import org.ballerinalang.stdlib.file.service.FSListener;
 import org.ballerinalang.stdlib.file.utils.FileConstants;
 import org.ballerinalang.stdlib.file.utils.FileUtils;
-import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemConnectorFactory;
-import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemServerConnector;
-import org.wso2.transport.localfilesystem.server.connector.contractimpl.LocalFileSystemConnectorFactoryImpl;
-import org.wso2.transport.localfilesystem.server.exception.LocalFileSystemServerConnectorException;
-import org.wso2.transport.localfilesystem.server.util.Constants;
 
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -47,24 +44,38 @@ public class Register {
 
     public static Object register(Environment env, BObject listener, BObject service, Object name) {
         BMap serviceEndpointConfig = listener.getMapValue(DirectoryListenerConstants.SERVICE_ENDPOINT_CONFIG);
-        try {
-            final Map<String, AttachedFunctionType> resourceRegistry = getResourceRegistry(service);
-            final String events = String.join(",", resourceRegistry.keySet());
-            final Map<String, String> paramMap = getParamMap(serviceEndpointConfig, events);
-            LocalFileSystemConnectorFactory connectorFactory = new LocalFileSystemConnectorFactoryImpl();
-            LocalFileSystemServerConnector serverConnector = connectorFactory
-                    .createServerConnector(service.getType().getName(), paramMap,
-                            new FSListener(env.getRuntime(), service, resourceRegistry));
-            listener.addNativeData(DirectoryListenerConstants.FS_SERVER_CONNECTOR, serverConnector);
-        } catch (LocalFileSystemServerConnectorException e) {
-            return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR,
-                                               StringUtils.fromString("Unable to initialize server connector: " +
-                                                                               e.getMessage()));
+        final AttachedFunctionType batchResource = getBatchResource(service);
+        final Map<String, AttachedFunctionType> resourceRegistry = getResourceRegistry(service, batchResource);
+        final String path = serviceEndpointConfig.getStringValue(DirectoryListenerConstants.ANNOTATION_PATH).getValue();
+        final boolean recursive = serviceEndpointConfig
+                .getBooleanValue(DirectoryListenerConstants.ANNOTATION_DIRECTORY_RECURSIVE);
+        final long batchWindow = serviceEndpointConfig.getIntValue(DirectoryListenerConstants.ANNOTATION_BATCH_WINDOW);
+        final long maxBatchSize = serviceEndpointConfig
+                .getIntValue(DirectoryListenerConstants.ANNOTATION_MAX_BATCH_SIZE);
+        if (batchWindow < 0 || maxBatchSize <= 0 || maxBatchSize > Integer.MAX_VALUE) {
+            return FileUtils.getBallerinaError(FileConstants.INVALID_OPERATION_ERROR, StringUtils.fromString(
+                    "'batchWindowInMillis' should not be negative and 'maxBatchSize' should be positive"));
+        }
+        // The events are only coalesced if the service asks for batches, so that each event is notified otherwise
+        boolean coalesce = batchWindow > 0 || batchResource != null;
+        DirectoryWatcher directoryWatcher = new DirectoryWatcher(Paths.get(path), recursive, batchWindow,
+                (int) maxBatchSize, coalesce,
+                new FSListener(env.getRuntime(), service, resourceRegistry, batchResource));
+        listener.addNativeData(DirectoryListenerConstants.FS_DIRECTORY_WATCHER, directoryWatcher);
+        return null;
+    }
+
+    private static AttachedFunctionType getBatchResource(BObject service) {
+        for (AttachedFunctionType resource : service.getType().getAttachedFunctions()) {
+            if (DirectoryListenerConstants.RESOURCE_NAME_ON_EVENTS.equals(resource.getName())) {
+                return resource;
+            }
         }
         return null;
     }
 
-    private static Map<String, AttachedFunctionType> getResourceRegistry(BObject service) {
+    private static Map<String, AttachedFunctionType> getResourceRegistry(BObject service,
+                                                                         AttachedFunctionType batchResource) {
         Map<String, AttachedFunctionType> registry = new HashMap<>(5);
         final AttachedFunctionType[] attachedFunctions = service.getType().getAttachedFunctions();
         for (AttachedFunctionType resource : attachedFunctions) {
@@ -82,27 +93,15 @@ public class Register {
                     // Do nothing.
             }
         }
-        if (registry.size() == 0) {
+        if (registry.size() == 0 && batchResource == null) {
             String msg = "At least a single resource required from following: "
                     + DirectoryListenerConstants.RESOURCE_NAME_ON_CREATE + " ,"
                     + DirectoryListenerConstants.RESOURCE_NAME_ON_DELETE + " ,"
                     + DirectoryListenerConstants.RESOURCE_NAME_ON_MODIFY + ". " + "Parameter should be of type - "
-                    + "file:" + FILE_SYSTEM_EVENT;
+                    + "file:" + FILE_SYSTEM_EVENT + ", or " + DirectoryListenerConstants.RESOURCE_NAME_ON_EVENTS
+                    + " with a parameter of type - file:" + FILE_SYSTEM_EVENT + "[]";
             throw ErrorCreator.createError(StringUtils.fromString(msg));
         }
         return registry;
     }
-
-    private static Map<String, String> getParamMap(BMap serviceEndpointConfig, String events) {
-        final String path = serviceEndpointConfig.getStringValue(DirectoryListenerConstants.ANNOTATION_PATH).getValue();
-        final boolean recursive = serviceEndpointConfig
-                .getBooleanValue(DirectoryListenerConstants.ANNOTATION_DIRECTORY_RECURSIVE);
-        Map<String, String> paramMap = new HashMap<>(3);
-        if (path != null && !path.isEmpty()) {
-            paramMap.put(Constants.FILE_URI, path);
-        }
-        paramMap.put(Constants.DIRECTORY_WATCH_EVENTS, events);
-        paramMap.put(Constants.DIRECTORY_WATCH_RECURSIVE, String.valueOf(recursive));
-        return paramMap;
-    }
 }
@@ -21,23 +21,24 @@ package org.ballerinalang.stdlib.file.service.endpoint;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BObject;
 import org.ballerinalang.stdlib.file.service.DirectoryListenerConstants;
+import org.ballerinalang.stdlib.file.service.DirectoryWatcher;
 import org.ballerinalang.stdlib.file.utils.FileConstants;
 import org.ballerinalang.stdlib.file.utils.FileUtils;
-import org.wso2.transport.localfilesystem.server.connector.contract.LocalFileSystemServerConnector;
-import org.wso2.transport.localfilesystem.server.exception.LocalFileSystemServerConnectorException;
+
+import java.io.IOException;
 
 /**
- * Start server connector.
+ * Start the directory watcher.
  */
 
 public class Start {
 
     public static Object start(BObject listener) {
-        LocalFileSystemServerConnector serverConnector = (LocalFileSystemServerConnector) listener
-                .getNativeData(DirectoryListenerConstants.FS_SERVER_CONNECTOR);
+        DirectoryWatcher directoryWatcher = (DirectoryWatcher) listener
+                .getNativeData(DirectoryListenerConstants.FS_DIRECTORY_WATCHER);
         try {
-            serverConnector.start();
-        } catch (LocalFileSystemServerConnectorException e) {
+            directoryWatcher.start();
+        } catch (IOException e) {
             return FileUtils.getBallerinaError(FileConstants.FILE_SYSTEM_ERROR,
                                                StringUtils.fromString(e.getMessage()));
         }
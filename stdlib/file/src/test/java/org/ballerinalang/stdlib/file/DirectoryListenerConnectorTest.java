@@ -206,4 +206,19 @@ public class DirectoryListenerConnectorTest {
             Assert.assertEquals(actualMsg, expect, "Didn't get expected error for invalid returns.");
         }
     }
+
+    @Test(description = "Check the negative test for invalid returns of the batch resource")
+    public void testNegativeInvalidBatchResourceReturn() {
+        try {
+            BCompileUtil.compileOffline(testResourceRoot.resolve("file-system-negative-invalid-events-returns.bal")
+                    .toString());
+        } catch (Throwable e) {
+            String actualMsg = e.getMessage();
+            String expect = "Compilation Failed:\n"
+                    + "ERROR: .::file-system-negative-invalid-events-returns.bal:25:5:: "
+                    + "Invalid resource signature for onEvents in service fileSystem. "
+                    + "The parameter should be a file:FileEvent[] with no returns.\n";
+            Assert.assertEquals(actualMsg, expect, "Didn't get expected error for invalid returns.");
+        }
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.file;
+
+import org.ballerinalang.stdlib.file.service.DirectoryWatcher;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the directory watcher of the Directory Listener.
+ */
+@Test
+public class DirectoryWatcherTest {
+
+    private Path rootDirectory;
+    private BlockingQueue<Map<Path, String>> batches;
+    private DirectoryWatcher directoryWatcher;
+
+    @BeforeMethod
+    public void init() throws IOException {
+        rootDirectory = Files.createTempDirectory("ballerina-file-watcher").toRealPath();
+        batches = new LinkedBlockingQueue<>();
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        if (directoryWatcher != null) {
+            directoryWatcher.stop();
+        }
+        Files.walk(rootDirectory).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+
+    @Test(description = "Check coalescing the events of a file within a batch.")
+    public void testCoalescedEvents() throws IOException, InterruptedException {
+        startWatcher(false, 500, 1000);
+        Path created = Files.createFile(rootDirectory.resolve("created.txt"));
+        Files.write(created, "content".getBytes());
+        Path deleted = Files.createFile(rootDirectory.resolve("transient.txt"));
+        Files.delete(deleted);
+
+        Map<Path, String> events = collectEvents(1);
+        Assert.assertEquals(events.get(created), "create");
+        Assert.assertFalse(events.containsKey(deleted));
+        Assert.assertNull(batches.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test(description = "Check delivering a batch once the maximum batch size is reached.")
+    public void testMaxBatchSize() throws IOException, InterruptedException {
+        startWatcher(false, TimeUnit.MINUTES.toMillis(1), 3);
+        for (int i = 0; i < 3; i++) {
+            Files.createFile(rootDirectory.resolve("file" + i + ".txt"));
+        }
+        Map<Path, String> events = batches.poll(30, TimeUnit.SECONDS);
+        Assert.assertNotNull(events);
+        Assert.assertEquals(events.size(), 3);
+    }
+
+    @Test(description = "Check that a batch does not exceed the maximum batch size.")
+    public void testBatchesLimitedToMaxBatchSize() throws IOException, InterruptedException {
+        startWatcher(true, TimeUnit.MINUTES.toMillis(1), 3);
+        // The entries of a directory moved into the watched directory are reported at once when it is registered
+        Path directory = Files.createDirectory(rootDirectory.resolveSibling(rootDirectory.getFileName() + "-moved"));
+        for (int i = 0; i < 10; i++) {
+            Files.createFile(directory.resolve("file" + i + ".txt"));
+        }
+        Files.move(directory, rootDirectory.resolve("moved"));
+
+        Map<Path, String> events = new HashMap<>();
+        while (events.size() < 9) {
+            Map<Path, String> batch = batches.poll(30, TimeUnit.SECONDS);
+            Assert.assertNotNull(batch, "Events were not delivered: " + events);
+            Assert.assertEquals(batch.size(), 3);
+            events.putAll(batch);
+        }
+        Assert.assertEquals(events.size(), 9);
+    }
+
+    @Test(description = "Check watching the directories created within a recursively watched directory.")
+    public void testRecursiveWatch() throws IOException, InterruptedException {
+        startWatcher(true, 0, 1000);
+        Path directory = Files.createDirectories(rootDirectory.resolve("parent").resolve("child"));
+        Path nestedFile = Files.createFile(directory.resolve("nested.txt"));
+
+        Map<Path, String> events = collectEvents(3);
+        Assert.assertEquals(events.get(directory.getParent()), "create");
+        Assert.assertEquals(events.get(directory), "create");
+        Assert.assertEquals(events.get(nestedFile), "create");
+
+        Files.delete(nestedFile);
+        Assert.assertEquals(collectEvents(1).get(nestedFile), "delete");
+    }
+
+    @Test(description = "Check delivering each event of a file on its own unless the events are coalesced.")
+    public void testEventsNotCoalesced() throws IOException, InterruptedException {
+        directoryWatcher = new DirectoryWatcher(rootDirectory, false, 0, 1000, false, batches::add);
+        directoryWatcher.start();
+        Path file = Files.createFile(rootDirectory.resolve("file.txt"));
+        Files.write(file, "content".getBytes());
+        Assert.assertEquals(nextEvent(file), "create");
+        Assert.assertEquals(nextEvent(file), "modify");
+        while (batches.poll(500, TimeUnit.MILLISECONDS) != null) {
+            // The content could be written with more than one modification
+        }
+
+        Files.delete(file);
+        Files.createFile(file);
+        Assert.assertEquals(nextEvent(file), "delete");
+        Assert.assertEquals(nextEvent(file), "create");
+    }
+
+    private void startWatcher(boolean recursive, long batchWindow, int maxBatchSize) throws IOException {
+        directoryWatcher = new DirectoryWatcher(rootDirectory, recursive, batchWindow, maxBatchSize, true,
+                                                batches::add);
+        directoryWatcher.start();
+    }
+
+    /**
+     * Gets the next event of a file, which is expected to be delivered on its own.
+     */
+    private String nextEvent(Path file) throws InterruptedException {
+        Map<Path, String> batch = batches.poll(30, TimeUnit.SECONDS);
+        Assert.assertNotNull(batch, "Event of " + file + " was not delivered");
+        Assert.assertEquals(batch.size(), 1);
+        Assert.assertTrue(batch.containsKey(file), "Unexpected event: " + batch);
+        return batch.get(file);
+    }
+
+    /**
+     * Collects the events of the batches until the given number of files have events, ignoring the modifications of
+     * the directories.
+     */
+    private Map<Path, String> collectEvents(int files) throws InterruptedException {
+        Map<Path, String> events = new HashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (events.size() < files) {
+            Map<Path, String> batch = batches.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            Assert.assertNotNull(batch, "Events were not delivered: " + events);
+            batch.forEach((path, event) -> {
+                if (!Files.isDirectory(path) || !"modify".equals(event)) {
+                    events.put(path, event);
+                }
+            });
+        }
+        return events;
+    }
+}
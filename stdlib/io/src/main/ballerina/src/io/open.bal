@@ -22,8 +22,13 @@ import ballerina/java;
 #```
 #
 # + path - Relative/absolute path string to locate the file
+# + nonBlocking - Whether to read the file without blocking a scheduler thread. Reads are performed in a separate I/O
+#                 thread pool, while the current strand yields
+# + memoryMapped - Whether to read the file through memory mapped segments of the file. This suits large files, which
+#                  are read repeatedly, since the bytes are copied directly from the page cache
 # + return - The `ByteChannel` representation of the file resource or else an `io:Error` if any error occurred
-public function openReadableFile(@untainted string path) returns ReadableByteChannel|Error = @java:Method {
+public function openReadableFile(@untainted string path, boolean nonBlocking = false, boolean memoryMapped = false)
+    returns ReadableByteChannel|Error = @java:Method {
     name: "openReadableFile",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
@@ -35,8 +40,10 @@ public function openReadableFile(@untainted string path) returns ReadableByteCha
 #
 # + path - Relative/absolute path string to locate the file
 # + append - Whether to append to the end of file
+# + nonBlocking - Whether to write to the file without blocking a scheduler thread. Writes are performed in a
+#                 separate I/O thread pool, while the current strand yields
 # + return - The `ByteChannel` representation of the file resource or else an `io:Error` if any error occurred
-public function openWritableFile(@untainted string path, boolean append = false)
+public function openWritableFile(@untainted string path, boolean append = false, boolean nonBlocking = false)
     returns WritableByteChannel|Error = @java:Method {
     name: "openWritableFile",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
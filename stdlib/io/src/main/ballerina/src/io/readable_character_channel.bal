@@ -64,6 +64,20 @@ public class ReadableCharacterChannel {
         return readXmlExtern(self);
     }
 
+    # Reads the elements at the given element path of an XML document as a stream. The document is read as the
+    # stream is consumed, and only the returned elements are kept in memory.
+    # ```ballerina
+    # stream<xml, io:Error> orders = readableCharChannel.readXmlElements(["orders", "order"]);
+    # ```
+    #
+    # + elementPath - Names of the elements from the root element to the elements to be read. A name can be given as
+    #                 `{namespace-uri}local-name` to match the namespace of the element as well
+    # + return - A stream of the elements at the element path
+    public function readXmlElements(string[] elementPath) returns @tainted stream<xml, Error> {
+        XmlElementIterator iterator = new (self, elementPath);
+        return new stream<xml, Error>(iterator);
+    }
+
     # Reads a property from a .properties file with a default value.
     # ```ballerina
     # string|io:Error result = readableCharChannel.readProperty(key, defaultValue);
@@ -118,6 +132,36 @@ function readXmlExtern(ReadableCharacterChannel characterChannel) returns @taint
     'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
 } external;
 
+# Iterator over the elements at an element path of an XML document read from a character channel.
+class XmlElementIterator {
+
+    private ReadableCharacterChannel characterChannel;
+
+    function init(ReadableCharacterChannel characterChannel, string[] elementPath) {
+        self.characterChannel = characterChannel;
+        initXmlElementIterator(self, characterChannel, elementPath);
+    }
+
+    public function next() returns @tainted record {| xml value; |}|Error? {
+        var element = nextXmlElementExtern(self);
+        if (element is xml) {
+            return {value: element};
+        }
+        return element;
+    }
+}
+
+function initXmlElementIterator(XmlElementIterator iterator, ReadableCharacterChannel characterChannel,
+                                string[] elementPath) = @java:Method {
+    name: "initXmlElementIterator",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
+function nextXmlElementExtern(XmlElementIterator iterator) returns @tainted xml|Error? = @java:Method {
+    name: "nextXmlElement",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
 function readPropertyExtern(ReadableCharacterChannel characterChannel, string key, string defaultValue) returns
                             @tainted string|Error = @java:Method {
     name: "readProperty",
@@ -82,6 +82,17 @@ public class ReadableCSVChannel {
         return ();
     }
 
+# Reads the records of the CSV file as a stream.
+# ```ballerina
+# stream<string[], io:Error> records = readableCSVChannel.csvStream();
+# ```
+#
+# + return - A stream of the records, each of which is a list of fields
+    public function csvStream() returns @tainted stream<string[], Error> {
+        CSVRecordIterator iterator = new (self);
+        return new stream<string[], Error>(iterator);
+    }
+
 # Closes a given `CSVChannel`.
 # ```ballerina
 # io:Error? err = readableCSVChannel.close();
@@ -109,8 +120,111 @@ public class ReadableCSVChannel {
     returns @tainted table<record {}>|Error {
         return getTableExtern(self, structType, fieldNames);
     }
+
+# Reads the CSV records as a stream of values of the given record type. The fields of the record are bound to the
+# columns in the order in which they are declared or else, to the given columns. Columns, which are not bound are
+# skipped.
+# ```ballerina
+# stream<record {}, io:Error>|io:Error result1 = readableCSVChannel.recordStream(Employee);
+# stream<record {}, io:Error>|io:Error result2 = readableCSVChannel.recordStream(Employee, [0, 3]);
+# ```
+#
+# + recordType - The record type to which the CSV records should be bound
+# + columns - The indices of the columns, which should be bound to the fields of the record
+# + return - A stream of the records or else an `io:Error` if the record type could not be bound
+    public function recordStream(typedesc<record {}> recordType, int[] columns = [])
+    returns @tainted stream<record {}, Error>|Error {
+        var recordChannel = self.dc;
+        if (recordChannel is ReadableTextRecordChannel) {
+            CSVRecordBindingIterator iterator = check new (recordChannel, recordType, columns);
+            return new stream<record {}, Error>(iterator);
+        }
+        return GenericError("channel not initialized");
+    }
+
+# Reads the CSV records into a table of the given record type. The fields of the record are bound to the columns in
+# the order in which they are declared or else, to the given columns. Columns, which are not bound are skipped.
+# ```ballerina
+# var tblResult1 = readableCSVChannel.recordTable(Employee);
+# var tblResult2 = readableCSVChannel.recordTable(Employee, ["id"], [0, 3]);
+# ```
+#
+# + recordType - The record type to which the CSV records should be bound
+# + fieldNames - The names of the fields used as the (composite)key of the table
+# + columns - The indices of the columns, which should be bound to the fields of the record
+# + return - Table, which contains the CSV records or else an `io:Error`
+    public function recordTable(typedesc<record {}> recordType, string[] fieldNames = [], int[] columns = [])
+    returns @tainted table<record {}>|Error {
+        var recordChannel = self.dc;
+        if (recordChannel is ReadableTextRecordChannel) {
+            return getRecordTableExtern(recordChannel, recordType, fieldNames, columns);
+        }
+        return GenericError("channel not initialized");
+    }
 }
 
+# Iterator over the records of a `ReadableCSVChannel`.
+class CSVRecordIterator {
+
+    private ReadableCSVChannel csvChannel;
+
+    function init(ReadableCSVChannel csvChannel) {
+        self.csvChannel = csvChannel;
+    }
+
+    public function next() returns @tainted record {| string[] value; |}|Error? {
+        if (!self.csvChannel.hasNext()) {
+            return ();
+        }
+        var result = self.csvChannel.getNext();
+        if (result is string[]) {
+            return {value: result};
+        } else if (result is EofError) {
+            return ();
+        }
+        return result;
+    }
+}
+
+# Iterator over the records of a `ReadableTextRecordChannel`, which are bound to values of a record type.
+class CSVRecordBindingIterator {
+
+    private ReadableTextRecordChannel recordChannel;
+
+    function init(ReadableTextRecordChannel recordChannel, typedesc<record {}> recordType, int[] columns)
+    returns Error? {
+        self.recordChannel = recordChannel;
+        return initRecordIteratorExtern(self, recordType, columns);
+    }
+
+    public function next() returns @tainted record {| record {} value; |}|Error? {
+        var result = nextRecordExtern(self, self.recordChannel);
+        if (result is record {}) {
+            return {value: result};
+        }
+        return result;
+    }
+}
+
+function initRecordIteratorExtern(CSVRecordBindingIterator iterator, typedesc<record {}> recordType, int[] columns)
+                                  returns Error? = @java:Method {
+    name: "initRecordIterator",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.RecordChannelUtils"
+} external;
+
+function nextRecordExtern(CSVRecordBindingIterator iterator, ReadableTextRecordChannel recordChannel)
+                          returns @tainted record {}|Error? = @java:Method {
+    name: "nextRecord",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.RecordChannelUtils"
+} external;
+
+function getRecordTableExtern(ReadableTextRecordChannel recordChannel, typedesc<record {}> recordType,
+                              string[] fieldNames, int[] columns)
+                              returns @tainted table<record {}>|Error = @java:Method {
+    name: "getRecordTable",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.RecordChannelUtils"
+} external;
+
 function getTableExtern(ReadableCSVChannel csvChannel, typedesc<record {}> structType, string[] fieldNames)
             returns @tainted table<record {}>|Error = @java:Method {
     name: "getTable",
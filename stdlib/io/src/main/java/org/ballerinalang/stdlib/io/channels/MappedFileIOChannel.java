@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Represents a channel which reads a file through memory mapped segments of the file.
+ * </p>
+ * <p>
+ * Bytes are copied directly from the mapped pages of the file, without a read system call per read. A segment is
+ * mapped when a read reaches it, hence only the segments being read are mapped at a time. The size of the file is
+ * taken when the channel is opened, and content appended to the file afterwards is not read.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class MappedFileIOChannel extends Channel {
+
+    /**
+     * Maximum size of a mapped segment of the file.
+     */
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private long position = 0;
+    private boolean reachedEnd = false;
+
+    private MappedByteBuffer segment;
+    private long segmentStart;
+
+    public MappedFileIOChannel(FileChannel channel) throws IOException {
+        super(channel);
+        this.channel = channel;
+        this.size = channel.size();
+    }
+
+    /**
+     * Returns the segment of the file which contains the given position, mapping it if it is not mapped already.
+     *
+     * @param filePosition position in the file
+     * @return the mapped segment
+     * @throws IOException if the segment could not be mapped
+     */
+    private MappedByteBuffer getSegment(long filePosition) throws IOException {
+        if (segment == null || filePosition < segmentStart || filePosition >= segmentStart + segment.capacity()) {
+            segment = null;
+            segmentStart = filePosition - filePosition % SEGMENT_SIZE;
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart,
+                                  Math.min(SEGMENT_SIZE, size - segmentStart));
+        }
+        return segment;
+    }
+
+    /**
+     * Returns the bytes of the given range of the file, as a view of its mapped segment. The range is truncated at
+     * the end of the segment.
+     *
+     * @param filePosition position of the first byte
+     * @param count        maximum number of bytes
+     * @return a buffer which contains the bytes
+     * @throws IOException if the segment could not be mapped
+     */
+    private ByteBuffer slice(long filePosition, long count) throws IOException {
+        ByteBuffer bytes = getSegment(filePosition).duplicate();
+        int offset = (int) (filePosition - segmentStart);
+        bytes.position(offset);
+        bytes.limit((int) Math.min(bytes.capacity(), offset + count));
+        return bytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(ByteBuffer buffer) throws IOException {
+        if (position >= size) {
+            reachedEnd = true;
+            return 0;
+        }
+        int readBytes = 0;
+        while (buffer.hasRemaining() && position < size) {
+            ByteBuffer bytes = slice(position, buffer.remaining());
+            int count = bytes.remaining();
+            buffer.put(bytes);
+            position += count;
+            readBytes += count;
+        }
+        return readBytes;
+    }
+
+    /**
+     * Reads up to the given number of bytes into an array which is sized for the bytes read, hence the bytes are
+     * copied only once.
+     *
+     * @param maxCount maximum number of bytes to read
+     * @return the bytes read, which is empty if the end of the file has been reached
+     * @throws IOException if the file could not be mapped
+     */
+    public byte[] read(int maxCount) throws IOException {
+        byte[] content = new byte[(int) Math.min(maxCount, Math.max(0, size - position))];
+        read(ByteBuffer.wrap(content));
+        return content;
+    }
+
+    @Override
+    public boolean hasReachedEnd() {
+        return reachedEnd;
+    }
+
+    /**
+     * Transfers the content of the file from the mapped segments to the specified destination.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public void transfer(int position, int count, WritableByteChannel dstChannel) {
+        try {
+            long transferPosition = position;
+            long end = Math.min(size, (long) position + count);
+            while (transferPosition < end) {
+                ByteBuffer bytes = slice(transferPosition, end - transferPosition);
+                while (bytes.hasRemaining()) {
+                    transferPosition += dstChannel.write(bytes);
+                }
+            }
+        } catch (IOException e) {
+            throw IOUtils.createError("error occurred while transferring file: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        if (!channel.isOpen()) {
+            throw new IOException("Channel is already closed.");
+        }
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                byte[] content = MappedFileIOChannel.this.read(1);
+                return content.length == 0 ? -1 : content[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                if (length == 0) {
+                    return 0;
+                }
+                int readBytes = MappedFileIOChannel.this.read(ByteBuffer.wrap(bytes, offset, length));
+                return readBytes == 0 ? -1 : readBytes;
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        segment = null;
+        super.close();
+    }
+
+    @Override
+    public Channel getChannel() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remaining() {
+        return false;
+    }
+}
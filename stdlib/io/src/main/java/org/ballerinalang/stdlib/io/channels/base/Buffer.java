@@ -32,6 +32,10 @@ import java.nio.ByteBuffer;
  * <p>
  * Buffer also focuses on offering the capability to get bytes through multiple channels and place into one.
  * </p>
+ * <p>
+ * The underlying buffer is acquired from the {@link BufferPool}, hence the buffers returned are only valid until the
+ * next read through the buffer, and the buffer should be released once it is no longer used.
+ * </p>
  */
 public class Buffer {
 
@@ -87,21 +91,21 @@ public class Buffer {
 
     /**
      * <p>
-     * Will allocate a buffer for the specified size.
+     * Will acquire a buffer for the specified size from the buffer pool.
      * </p>
      * <p>
-     * If the size < minimumSizeOfBuffer the size of the new buffer = minimumSizeOfBuffer.
-     * If the size > minimumSizeOfBuffer the size of the new buffer = size.
+     * If the size < minimumSizeOfBuffer the limit of the new buffer = minimumSizeOfBuffer.
+     * If the size > minimumSizeOfBuffer the limit of the new buffer = size.
      * </p>
      *
      * @param size the size of the buffer.
-     * @return the newly allocated buffer for the specified size.
+     * @return the buffer for the specified size.
      */
     private ByteBuffer allocate(int size) {
         if (size < minimumSizeOfBuffer) {
             size = minimumSizeOfBuffer;
         }
-        return ByteBuffer.allocate(size);
+        return BufferPool.heap().acquire(size);
     }
 
     /**
@@ -163,14 +167,14 @@ public class Buffer {
 
     /**
      * <p>
-     * Deep copies a byte buffer with it's underlying array.
+     * Deep copies a byte buffer with it's underlying array, into a buffer acquired from the buffer pool.
      * </p>
      *
      * @param srcBuffer the source buffer which should be copied.
      * @return the buffer which is duplicated.
      */
     private ByteBuffer deepCopy(ByteBuffer srcBuffer) {
-        ByteBuffer dstBuffer = ByteBuffer.allocate(srcBuffer.capacity());
+        ByteBuffer dstBuffer = BufferPool.heap().acquire(srcBuffer.capacity());
         srcBuffer.rewind();
         dstBuffer.put(srcBuffer);
         srcBuffer.rewind();
@@ -198,7 +202,8 @@ public class Buffer {
         capacity = slicedBuffer.capacity();
         int offset = slicedBuffer.arrayOffset();
         byteBuffer.position(offset + capacity);
-        return deepCopy(slicedBuffer);
+        //Similar to a resized buffer, the slice is valid until the next read, hence it is not copied
+        return slicedBuffer;
     }
 
     /**
@@ -230,22 +235,34 @@ public class Buffer {
         if (null != remainingContent && remainingContent.capacity() >= numberOfBytesRequested) {
             return copyRemainingContent(numberOfBytesRequested, remainingContent);
         } else {
+            ByteBuffer copiedContent = null;
             if (null != remainingContent && remainingContent.hasRemaining()) {
-                remainingContent = deepCopy(remainingContent);
+                copiedContent = deepCopy(remainingContent);
             }
             if (byteBuffer != null && byteBuffer.capacity() >= numberOfBytesRequested) {
                 //If the required amount of bytes > than the current buffer size we enlarge the buffer
                 byteBuffer.clear();
             } else {
                 //In this case we re-allocate
+                BufferPool.heap().release(byteBuffer);
                 byteBuffer = allocate(numberOfBytesRequested);
             }
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                byteBuffer.put(remainingContent);
+            if (null != copiedContent) {
+                byteBuffer.put(copiedContent);
+                BufferPool.heap().release(copiedContent);
             }
             channel.read(byteBuffer);
             return resize(byteBuffer, numberOfBytesRequested);
         }
     }
 
+    /**
+     * Releases the underlying buffer to the buffer pool. The buffer would be acquired again if it is read from
+     * afterwards.
+     */
+    public void release() {
+        BufferPool.heap().release(byteBuffer);
+        byteBuffer = null;
+    }
+
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels.base;
+
+import java.nio.ByteBuffer;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Shared pool of byte buffers, which are reused by the channels instead of allocating a buffer per read.
+ * </p>
+ * <p>
+ * Buffers are pooled in size classes of powers of two, from 512 bytes up to 1MB. A buffer acquired from the pool has
+ * the capacity of the size class of the requested size and its limit set to the requested size. Larger buffers are
+ * allocated when required and are not pooled. The number of buffers kept in a size class is bounded, so that a pool
+ * holds at most 4MB per size class.
+ * </p>
+ * <p>
+ * Only buffers acquired from a pool should be released to it, and a buffer must not be used once it is released.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class BufferPool {
+
+    private static final int MIN_SIZE_CLASS_SHIFT = 9;
+    private static final int MAX_SIZE_CLASS_SHIFT = 20;
+    private static final int MAX_POOLED_BYTES_PER_SIZE_CLASS = 4 * 1024 * 1024;
+
+    private static final BufferPool HEAP_POOL = new BufferPool(false);
+    private static final BufferPool DIRECT_POOL = new BufferPool(true);
+
+    private final boolean direct;
+    private final SizeClass[] sizeClasses = new SizeClass[MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1];
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Creates a pool of its own. The channels share the pools returned by {@link #heap()} and {@link #direct()}.
+     *
+     * @param direct whether the pool holds direct buffers
+     */
+    public BufferPool(boolean direct) {
+        this.direct = direct;
+        for (int i = 0; i < sizeClasses.length; i++) {
+            int capacity = 1 << (i + MIN_SIZE_CLASS_SHIFT);
+            sizeClasses[i] = new SizeClass(capacity, Math.max(2, MAX_POOLED_BYTES_PER_SIZE_CLASS / capacity));
+        }
+    }
+
+    /**
+     * Gets the pool of heap buffers.
+     *
+     * @return the heap buffer pool
+     */
+    public static BufferPool heap() {
+        return HEAP_POOL;
+    }
+
+    /**
+     * Gets the pool of direct buffers.
+     *
+     * @return the direct buffer pool
+     */
+    public static BufferPool direct() {
+        return DIRECT_POOL;
+    }
+
+    /**
+     * Checks whether buffers of the given size belong to a size class, so that they are reused once released.
+     *
+     * @param size number of bytes required
+     * @return true if buffers of the size are pooled
+     */
+    public static boolean isPooledSize(int size) {
+        return size <= 1 << MAX_SIZE_CLASS_SHIFT;
+    }
+
+    /**
+     * Acquires a buffer which could hold the given number of bytes.
+     *
+     * @param size number of bytes required
+     * @return a cleared buffer of which the limit is the given size
+     */
+    public ByteBuffer acquire(int size) {
+        int sizeClassIndex = getSizeClassIndex(size);
+        if (sizeClassIndex >= sizeClasses.length) {
+            missCount.increment();
+            return allocate(size);
+        }
+
+        SizeClass sizeClass = sizeClasses[sizeClassIndex];
+        ByteBuffer buffer = sizeClass.poll();
+        if (buffer == null) {
+            missCount.increment();
+            buffer = allocate(sizeClass.capacity);
+        } else {
+            hitCount.increment();
+        }
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+
+    /**
+     * Releases a buffer acquired from this pool, so that it could be reused. Buffers which do not belong to a size
+     * class of the pool are left to be garbage collected.
+     *
+     * @param buffer buffer to be released
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.isDirect() != direct || buffer.isReadOnly()) {
+            return;
+        }
+        int capacity = buffer.capacity();
+        //Slices and views of other buffers are not pooled
+        if (!direct && (buffer.arrayOffset() != 0 || buffer.array().length != capacity)) {
+            return;
+        }
+        int sizeClassIndex = getSizeClassIndex(capacity);
+        if (sizeClassIndex < sizeClasses.length && sizeClasses[sizeClassIndex].capacity == capacity) {
+            sizeClasses[sizeClassIndex].offer(buffer);
+        }
+    }
+
+    /**
+     * Gets the number of buffers which were acquired from the buffers pooled.
+     *
+     * @return number of pool hits
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the number of buffers which had to be allocated, since there were no pooled buffers of their size.
+     *
+     * @return number of pool misses
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    private static int getSizeClassIndex(int size) {
+        if (size <= 1 << MIN_SIZE_CLASS_SHIFT) {
+            return 0;
+        }
+        int shift = Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+        return shift - MIN_SIZE_CLASS_SHIFT;
+    }
+
+    /**
+     * Buffers of a given capacity which are available to be reused. The most recently released buffer is reused
+     * first, since it is the most likely to still be in the CPU caches.
+     */
+    private static class SizeClass {
+
+        private final int capacity;
+        private final int maxPooledBuffers;
+        private final Deque<ByteBuffer> buffers = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger pooledBuffers = new AtomicInteger();
+
+        SizeClass(int capacity, int maxPooledBuffers) {
+            this.capacity = capacity;
+            this.maxPooledBuffers = maxPooledBuffers;
+        }
+
+        ByteBuffer poll() {
+            ByteBuffer buffer = buffers.pollFirst();
+            if (buffer != null) {
+                pooledBuffers.decrementAndGet();
+            }
+            return buffer;
+        }
+
+        void offer(ByteBuffer buffer) {
+            if (pooledBuffers.incrementAndGet() > maxPooledBuffers) {
+                pooledBuffers.decrementAndGet();
+                return;
+            }
+            buffers.push(buffer);
+        }
+    }
+}
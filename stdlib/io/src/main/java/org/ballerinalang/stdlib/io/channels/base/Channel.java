@@ -55,6 +55,11 @@ public abstract class Channel implements IOChannel {
      */
     private boolean readable;
 
+    /**
+     * Specifies whether the blocking operations on the channel should release the scheduler thread.
+     */
+    private boolean nonBlocking;
+
     private static final Logger log = LoggerFactory.getLogger(Channel.class);
 
     /**
@@ -164,6 +169,14 @@ public abstract class Channel implements IOChannel {
         return readable;
     }
 
+    public void setNonBlocking(boolean nonBlocking) {
+        this.nonBlocking = nonBlocking;
+    }
+
+    public boolean isNonBlocking() {
+        return nonBlocking;
+    }
+
     /**
      * Closes the given channel.
      *
@@ -29,6 +29,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 
 
 /**
@@ -106,6 +107,15 @@ public class CharacterChannel implements IOChannel {
         return channel;
     }
 
+    /**
+     * Specifies whether characters are encoded as UTF-8 when writing to the channel.
+     *
+     * @return true if the channel encoding is UTF-8
+     */
+    public boolean isUtf8Encoded() {
+        return StandardCharsets.UTF_8.equals(byteEncoder.charset());
+    }
+
     /**
      * Gets number of characters left in the character buffer.
      *
@@ -218,8 +228,12 @@ public class CharacterChannel implements IOChannel {
         ByteBuffer buffer;
         int numberOfCharsProcessed = 0;
         CharBuffer intermediateCharacterBuffer;
-        //Provided at this point any remaining character left in the buffer is copied
-        charBuffer = CharBuffer.allocate(numberOfBytesRequired);
+        //Provided at this point any remaining character left in the buffer is copied, hence the buffer is reused
+        if (null == charBuffer || charBuffer.capacity() < numberOfBytesRequired) {
+            charBuffer = CharBuffer.allocate(numberOfBytesRequired);
+        } else {
+            charBuffer.clear();
+        }
         try {
             buffer = contentBuffer.get(numberOfBytesRequired, channel);
         } catch (IOException e) {
@@ -395,6 +409,7 @@ public class CharacterChannel implements IOChannel {
      */
     @Override
     public void close() throws IOException {
+        contentBuffer.release();
         channel.close();
     }
 
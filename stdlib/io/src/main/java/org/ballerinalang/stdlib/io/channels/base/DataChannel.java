@@ -36,6 +36,10 @@ public class DataChannel implements IOChannel {
      * Represents network byte order.
      */
     private ByteOrder order;
+    /**
+     * Holds the bytes of a single value which is read or written, since a value spans at most {@link Long#BYTES}.
+     */
+    private final ByteBuffer valueBuffer = ByteBuffer.allocate(Long.BYTES);
 
     /**
      * Represents 64 bit long value which will be used to convert from var long to fixed long.
@@ -56,6 +60,18 @@ public class DataChannel implements IOChannel {
         return channel;
     }
 
+    /**
+     * Clears the value buffer for the given number of bytes.
+     *
+     * @param size number of bytes of the value.
+     * @return the value buffer.
+     */
+    private ByteBuffer valueBuffer(int size) {
+        valueBuffer.clear();
+        valueBuffer.limit(size);
+        return valueBuffer;
+    }
+
     /**
      * Reverse the underlying array of the given ByteBuffer.
      *
@@ -102,9 +118,8 @@ public class DataChannel implements IOChannel {
     private ByteBuffer readVarInt() throws IOException {
         int bufferLimit = 0;
         boolean hasRemainingBytes = true;
-        //Will create an array with maximum number of bytes allocated
-        byte[] content = new byte[Long.BYTES];
-        ByteBuffer buf = ByteBuffer.wrap(content);
+        //The value buffer holds the maximum number of bytes
+        ByteBuffer buf = valueBuffer(0);
         do {
             buf.limit(++bufferLimit);
             readFull(buf, Representation.VARIABLE);
@@ -143,7 +158,7 @@ public class DataChannel implements IOChannel {
             }
         } else {
             requiredNumberOfBytes = representation.getNumberOfBytes();
-            buffer = ByteBuffer.allocate(requiredNumberOfBytes);
+            buffer = valueBuffer(requiredNumberOfBytes);
             buffer.order(order);
             readFull(buffer, representation);
         }
@@ -344,7 +359,7 @@ public class DataChannel implements IOChannel {
      * @throws IOException during i/o error.
      */
     public void writeBoolean(boolean value) throws IOException {
-        ByteBuffer buffer = ByteBuffer.allocate(1);
+        ByteBuffer buffer = valueBuffer(1);
         byte booleanValue = (byte) (value ? 1 : 0);
         buffer.put(booleanValue);
         buffer.flip();
@@ -358,7 +373,7 @@ public class DataChannel implements IOChannel {
      * @throws IOException during i/o error.
      */
     public boolean readBoolean() throws IOException {
-        ByteBuffer buffer = ByteBuffer.allocate(1);
+        ByteBuffer buffer = valueBuffer(1);
         readFull(buffer, Representation.NONE);
         buffer.flip();
         return buffer.get() == 1;
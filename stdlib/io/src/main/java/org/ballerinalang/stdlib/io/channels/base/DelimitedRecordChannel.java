@@ -17,13 +17,17 @@
 
 package org.ballerinalang.stdlib.io.channels.base;
 
+import org.ballerinalang.stdlib.io.csv.FieldConsumer;
 import org.ballerinalang.stdlib.io.csv.Format;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -51,10 +55,12 @@ public class DelimitedRecordChannel implements IOChannel {
     private String fieldSeparator;
 
     /**
-     * Once the record is being identified the remaining string would hold the remaining elements.
+     * Holds the characters read from the channel, which are not yet returned as records from the index position.
      */
     private StringBuilder persistentCharSequence;
 
+    private int position = 0;
+
     /**
      * A rough character count which will contain a record. This will be resized dynamically if the length of the
      * record is long.
@@ -92,7 +98,37 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private Format format;
 
-    private static final String DOUBLE_QUOTE_REGEX = "\"([^\"]*)\"";
+    /**
+     * Separators compiled once, when records are not read in a given format.
+     */
+    private Pattern recordSeparatorPattern;
+    private Pattern fieldSeparatorPattern;
+
+    /**
+     * State of the record which is being tokenized, when records are read in a given format. Fields of a record are
+     * collected in a reusable list.
+     */
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder quotedField = new StringBuilder();
+    private int scanIndex = 0;
+    private int fieldStart = 0;
+    private int recordEnd = 0;
+    private int lastNonEmptyField = -1;
+    private boolean inQuotes = false;
+    private boolean quoted = false;
+
+    /**
+     * Receives the fields of the record which is being tokenized instead of the list of fields, if set.
+     */
+    private FieldConsumer fieldConsumer;
+    private int fieldCount = 0;
+
+    private static final String[] CONSUMED_RECORD = new String[0];
+
+    /**
+     * Minimum number of characters read from the channel at once.
+     */
+    private static final int MINIMUM_READ_CHARACTER_COUNT = 8192;
 
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
 
@@ -166,47 +202,50 @@ public class DelimitedRecordChannel implements IOChannel {
         return format.getWriteFieldSeparator();
     }
 
+    private Pattern getRecordSeparatorPattern() {
+        if (null == recordSeparatorPattern) {
+            recordSeparatorPattern = Pattern.compile(getRecordSeparatorForReading());
+        }
+        return recordSeparatorPattern;
+    }
+
+    private Pattern getFieldSeparatorPattern() {
+        if (null == fieldSeparatorPattern) {
+            fieldSeparatorPattern = Pattern.compile(getFieldSeparatorForReading());
+        }
+        return fieldSeparatorPattern;
+    }
+
     /**
      * <p>
      * Gets record from specified sequence of characters.
      * </p>
+     * <p>
+     * The record separator is searched from the start of the unread characters, without copying them.
+     * </p>
      *
      * @return the requested record.
      * @throws BallerinaIOException during I/O error.
      */
     private String readRecord() throws BallerinaIOException {
-        String record = null;
-        final int minimumRecordCount = 1;
-        final int numberOfSplits = 2;
-        do {
-            if (log.isTraceEnabled()) {
-                log.trace(String.format("char[] remaining in memory %s", persistentCharSequence));
+        compact();
+        Pattern recordSeparator = getRecordSeparatorPattern();
+        while (true) {
+            Matcher matcher = recordSeparator.matcher(persistentCharSequence);
+            matcher.region(position, persistentCharSequence.length());
+            boolean found = matcher.find();
+            //Similar to String#split a zero width match at the beginning does not separate a record
+            if (found && matcher.end() == position) {
+                found = matcher.find();
             }
-            //We need to split the string into 2
-            String[] delimitedRecord = persistentCharSequence.toString().
-                    split(getRecordSeparatorForReading(), numberOfSplits);
-            if (delimitedRecord.length > minimumRecordCount) {
-                record = processIdentifiedRecord(delimitedRecord);
-                int recordCharacterLength = record.length();
-                if (recordCharacterLength > recordCharacterCount) {
-                    recordCharacterCount = record.length();
-                }
-            } else {
-                readRecordFromChannel();
-                if (channel.hasReachedEnd()) {
-                    delimitedRecord = persistentCharSequence.toString().
-                            split(getRecordSeparatorForReading(), numberOfSplits);
-                    record = (delimitedRecord.length == numberOfSplits) ?
-                            processIdentifiedRecord(delimitedRecord) :
-                            readFinalRecord();
-                }
+            if (found) {
+                return processIdentifiedRecord(matcher.start(), matcher.end());
             }
-        } while (record == null && !channel.hasReachedEnd());
-
-        if (null == record) {
-            record = readFinalRecord();
+            if (channel.hasReachedEnd()) {
+                return readFinalRecord();
+            }
+            readRecordFromChannel();
         }
-        return record;
     }
 
     /**
@@ -218,7 +257,6 @@ public class DelimitedRecordChannel implements IOChannel {
      * </p>
      */
     private String readFinalRecord() {
-        final int minimumRemainingLength = 0;
         String record = "";
         //This means there's no more to be get as records
         if (log.isDebugEnabled()) {
@@ -227,14 +265,15 @@ public class DelimitedRecordChannel implements IOChannel {
         //This means this will be the last record which could be get
         this.remaining = false;
         //If there're any remaining characters left we provide it as the last record
-        if (persistentCharSequence.length() > minimumRemainingLength) {
-            record = persistentCharSequence.toString();
-            //Once the final record is processed there will be no chars left
-            persistentCharSequence.setLength(minimumRemainingLength);
+        if (persistentCharSequence.length() > position) {
+            record = persistentCharSequence.substring(position);
             if (log.isTraceEnabled()) {
                 log.trace(String.format("char [] remaining in memory, will be marked as the last record %s", record));
             }
         }
+        //Once the final record is processed there will be no chars left
+        persistentCharSequence.setLength(0);
+        position = 0;
         if (log.isDebugEnabled()) {
             log.debug("Final record is get from channel " + channel.hashCode() + " number of records get " +
                     "from channel " + (numberOfRecordsReadThroughChannel + 1));
@@ -244,77 +283,219 @@ public class DelimitedRecordChannel implements IOChannel {
 
     /**
      * <p>
-     * Reads a record from the channel.
+     * Reads a chunk of characters from the channel.
      * </p>
      *
      * @return the record content.
      */
     private String readRecordFromChannel() throws BallerinaIOException {
         String readCharacters;
-        readCharacters = channel.read(recordCharacterCount);
+        readCharacters = channel.read(Math.max(recordCharacterCount, MINIMUM_READ_CHARACTER_COUNT));
         if (log.isTraceEnabled()) {
             log.trace(String.format("char [] get from channel,%d=%s", channel.hashCode(), readCharacters));
         }
         persistentCharSequence.append(readCharacters);
-        if (log.isTraceEnabled()) {
-            log.trace(String.format("char [] appended to the memory %s", persistentCharSequence));
-        }
         return readCharacters;
     }
 
     /**
      * <p>
-     * Identifies the record from the provided collection.
-     * </p>
-     * <p>
-     * <b>Note :</b> This operation would append the remaining content to the string.
+     * Identifies the record, which ends at the given record separator.
      * </p>
      *
-     * @param delimitedRecords collection of records which required to be split.
+     * @param separatorStart start index of the record separator.
+     * @param separatorEnd   end index of the record separator.
      * @return the record content value.
      */
-    private String processIdentifiedRecord(String[] delimitedRecords) {
-        String record;
-        final int minimumRemainingLength = 0;
-        final int delimitedRecordIndex = 0;
-        final int delimitedRemainingIndex = 1;
-        String recordContent = delimitedRecords[delimitedRemainingIndex];
-        record = delimitedRecords[delimitedRecordIndex];
-        persistentCharSequence.setLength(minimumRemainingLength);
-        persistentCharSequence.append(recordContent);
+    private String processIdentifiedRecord(int separatorStart, int separatorEnd) {
+        String record = persistentCharSequence.substring(position, separatorStart);
+        position = separatorEnd;
+        if (record.length() > recordCharacterCount) {
+            recordCharacterCount = record.length();
+        }
         if (log.isTraceEnabled()) {
             log.trace(String.format("Record identified from remaining char[] in memory %s", record));
-            log.trace(String.format("The char[] left after split %s", persistentCharSequence));
         }
         return record;
     }
 
+    /**
+     * Discards the characters which have already been read, once they take up most of the buffer. Hence each
+     * character is moved a constant number of times on average. This is called between records.
+     */
+    private void compact() {
+        if (position > 0 && position >= persistentCharSequence.length() - position) {
+            persistentCharSequence.delete(0, position);
+            position = 0;
+            scanIndex = 0;
+            fieldStart = 0;
+        }
+    }
+
     /**
      * <p>
-     * Split based on given regEx.
+     * Reads the fields of the next record of the format with a single pass over the buffered characters.
      * </p>
      * <p>
-     * This operation will produce null for blanks.
+     * Records are separated by line breaks and fields by the field delimiter of the format. If the format is
+     * RFC 4180 compliant, a field enclosed in double quotes may contain field delimiters, line breaks and double
+     * quotes escaped as two double quotes. Similar to {@link String#split(String)}, trailing empty fields are not
+     * included in the record. The tokenizer state is kept across reads from the channel, hence a record which spans
+     * multiple reads is not scanned again.
      * </p>
      *
-     * @param record record which should be separated.
-     * @param regex  condition which should be used to split.
-     * @return the list of fields
-     */
-    private String[] splitIgnoreBlanks(String record, String regex) {
-        Pattern reg = Pattern.compile(regex);
-        String[] split = reg.split(record);
-        for (int i = 0; i < split.length; i++) {
-            String field = split[i];
-            if (field.isEmpty()) {
-                split[i] = "";
+     * @return the fields of the record, or null if there are no more records.
+     * @throws BallerinaIOException during I/O error.
+     */
+    private String[] readTokenizedRecord() throws BallerinaIOException {
+        compact();
+        boolean endOfInput = false;
+        while (!tokenize(endOfInput)) {
+            if (endOfInput) {
+                this.remaining = false;
+                return readFinalTokenizedRecord();
+            }
+            readRecordFromChannel();
+            endOfInput = channel.hasReachedEnd();
+        }
+        return completeRecord();
+    }
+
+    /**
+     * Scans the buffered characters of the current record.
+     *
+     * @param endOfInput whether there are no more characters to be read from the channel.
+     * @return true if the record separator of the current record is found.
+     */
+    private boolean tokenize(boolean endOfInput) {
+        StringBuilder buffer = persistentCharSequence;
+        int length = buffer.length();
+        char fieldDelimiter = format.getFieldDelimiter();
+        while (scanIndex < length) {
+            char c = buffer.charAt(scanIndex);
+            boolean hasNextChar = scanIndex + 1 < length;
+            if (inQuotes) {
+                if (c == '"') {
+                    if (!hasNextChar && !endOfInput) {
+                        //The next character decides whether the quote is escaped
+                        return false;
+                    }
+                    if (hasNextChar && buffer.charAt(scanIndex + 1) == '"') {
+                        quotedField.append(c);
+                        scanIndex++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    quotedField.append(c);
+                }
+                scanIndex++;
                 continue;
             }
-            if (field.matches(DOUBLE_QUOTE_REGEX)) {
-                split[i] = field.substring(field.indexOf('\"') + 1, field.lastIndexOf('\"'));
+
+            if (c == fieldDelimiter) {
+                endField(scanIndex);
+                scanIndex++;
+                fieldStart = scanIndex;
+                continue;
             }
+            if (c == '\n') {
+                recordEnd = scanIndex;
+                endField(scanIndex);
+                scanIndex++;
+                return true;
+            }
+            if (c == '\r') {
+                if (!hasNextChar && !endOfInput) {
+                    return false;
+                }
+                if (hasNextChar && buffer.charAt(scanIndex + 1) == '\n') {
+                    recordEnd = scanIndex;
+                    endField(scanIndex);
+                    scanIndex += 2;
+                    return true;
+                }
+            }
+
+            if (c == '"' && format.shouldIgnoreBlanks() && !quoted && scanIndex == fieldStart) {
+                inQuotes = true;
+                quoted = true;
+            } else if (quoted) {
+                //Characters after the closing quote of a malformed field are kept as they are
+                quotedField.append(c);
+            }
+            scanIndex++;
         }
-        return split;
+        return false;
+    }
+
+    private void endField(int fieldEnd) {
+        if (null != fieldConsumer) {
+            if (quoted) {
+                fieldConsumer.field(fieldCount, quotedField, 0, quotedField.length());
+                quotedField.setLength(0);
+                quoted = false;
+                inQuotes = false;
+            } else {
+                fieldConsumer.field(fieldCount, persistentCharSequence, fieldStart, fieldEnd);
+            }
+            fieldCount++;
+            return;
+        }
+        String field;
+        if (quoted) {
+            field = quotedField.toString();
+            quotedField.setLength(0);
+            quoted = false;
+            inQuotes = false;
+            lastNonEmptyField = fields.size();
+        } else {
+            field = persistentCharSequence.substring(fieldStart, fieldEnd);
+            if (!field.isEmpty()) {
+                lastNonEmptyField = fields.size();
+            }
+        }
+        fields.add(field);
+    }
+
+    private String[] completeRecord() {
+        String[] record;
+        if (null != fieldConsumer) {
+            record = CONSUMED_RECORD;
+        } else if (recordEnd == position) {
+            //Similar to String#split an empty record has a single empty field
+            record = new String[]{""};
+        } else {
+            record = fields.subList(0, lastNonEmptyField + 1).toArray(new String[0]);
+        }
+        if (recordEnd - position > recordCharacterCount) {
+            recordCharacterCount = recordEnd - position;
+        }
+        fields.clear();
+        fieldCount = 0;
+        lastNonEmptyField = -1;
+        position = scanIndex;
+        fieldStart = scanIndex;
+        return record;
+    }
+
+    private String[] readFinalTokenizedRecord() {
+        String[] record = null;
+        if (persistentCharSequence.length() > position) {
+            scanIndex = persistentCharSequence.length();
+            recordEnd = scanIndex;
+            endField(scanIndex);
+            record = completeRecord();
+        }
+        persistentCharSequence.setLength(0);
+        position = 0;
+        scanIndex = 0;
+        fieldStart = 0;
+        if (log.isDebugEnabled()) {
+            log.debug("Final record is get from channel " + channel.hashCode() + " number of records get " +
+                    "from channel " + (numberOfRecordsReadThroughChannel + 1));
+        }
+        return record;
     }
 
     /**
@@ -324,12 +505,7 @@ public class DelimitedRecordChannel implements IOChannel {
      * @return fields which are separated as records.
      */
     private String[] getFields(String record) {
-        String fieldSeparatorForReading = getFieldSeparatorForReading();
-        if (null != format && format.shouldIgnoreBlanks()) {
-            return splitIgnoreBlanks(record, fieldSeparatorForReading);
-        } else {
-            return record.split(fieldSeparatorForReading);
-        }
+        return getFieldSeparatorPattern().split(record);
     }
 
     /**
@@ -352,9 +528,15 @@ public class DelimitedRecordChannel implements IOChannel {
                 log.debug(String.format("Reading record %d from %d", numberOfRecordsReadThroughChannel,
                         channel.hashCode()));
             }
-            String record = readRecord();
-            if (!record.isEmpty() || remaining) {
-                fields = getFields(record);
+            String[] recordFields;
+            if (null != format) {
+                recordFields = readTokenizedRecord();
+            } else {
+                String record = readRecord();
+                recordFields = !record.isEmpty() || remaining ? getFields(record) : null;
+            }
+            if (null != recordFields) {
+                fields = recordFields;
                 numberOfRecordsReadThroughChannel++;
                 if (log.isDebugEnabled()) {
                     log.debug("Record " + numberOfRecordsReadThroughChannel + " returned " + fields.length + " from " +
@@ -377,6 +559,49 @@ public class DelimitedRecordChannel implements IOChannel {
         return fields;
     }
 
+    /**
+     * <p>
+     * Reads the next record, passing its fields to the given consumer.
+     * </p>
+     * <p>
+     * When records are read in a format, the fields are passed as ranges of the buffered characters, hence no string
+     * is created for a field unless the consumer needs one. Unlike {@link #read()}, trailing empty fields are passed
+     * to the consumer.
+     * </p>
+     *
+     * @param consumer consumer of the fields of the record
+     * @return true if a record was read, false if there are no more records
+     * @throws BallerinaIOException during I/O errors
+     */
+    public boolean read(FieldConsumer consumer) throws BallerinaIOException {
+        if (!remaining) {
+            return false;
+        }
+        if (null == format) {
+            int recordsRead = numberOfRecordsReadThroughChannel;
+            String[] recordFields = read();
+            // A record of empty fields is still a record, only the end of the channel has no record
+            if (numberOfRecordsReadThroughChannel == recordsRead) {
+                return false;
+            }
+            for (int i = 0; i < recordFields.length; i++) {
+                String field = recordFields[i];
+                consumer.field(i, field, 0, field.length());
+            }
+            return true;
+        }
+        fieldConsumer = consumer;
+        try {
+            if (null == readTokenizedRecord()) {
+                return false;
+            }
+            numberOfRecordsReadThroughChannel++;
+            return true;
+        } finally {
+            fieldConsumer = null;
+        }
+    }
+
     /**
      * Enclose a given field with quotes.
      *
@@ -460,7 +685,7 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean remaining() {
-        return persistentCharSequence.length() > 0;
+        return persistentCharSequence.length() > position;
     }
 
     /**
@@ -470,7 +695,7 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
-        if (remaining && persistentCharSequence.length() == 0) {
+        if (remaining && persistentCharSequence.length() == position) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
             String readChars = readRecordFromChannel();
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+/**
+ * Receives the fields of a record read from a delimited record channel, as ranges of the characters buffered by the
+ * channel. A consumer could convert a field without creating a string for it.
+ *
+ * @since 2.0.0
+ */
+public interface FieldConsumer {
+
+    /**
+     * Consumes a field of the record which is being read. The characters are only valid for the duration of the call.
+     *
+     * @param column     index of the field within the record
+     * @param characters characters which contain the field
+     * @param start      index of the first character of the field
+     * @param end        index after the last character of the field
+     */
+    void field(int column, CharSequence characters, int start, int end);
+}
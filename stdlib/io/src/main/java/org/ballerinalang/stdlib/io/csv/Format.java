@@ -25,15 +25,15 @@ public enum Format {
     /**
      * The format would default, however empty lines will be allowed.
      */
-    DEFAULT(",", "\\r?\\n", ",", "\n", false),
+    DEFAULT(",", "\\r?\\n", ",", "\n", ',', false),
     /**
      * CSV should conform with RFC4180 specification.
      */
-    CSV(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", "\\r?\\n", ",", "\n", true),
+    CSV(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)", "\\r?\\n", ",", "\n", ',', true),
     /**
      * Tab delimited records.
      */
-    TDF("\\t", "\\r?\\n", "\t", "\n", false);
+    TDF("\\t", "\\r?\\n", "\t", "\n", '\t', false);
 
     /**
      * Defines the record separator for the format.
@@ -51,16 +51,21 @@ public enum Format {
      * Defines the field separator which should be used when writing.
      */
     private String writeFieldSeparator;
+    /**
+     * Defines the character which separates fields when reading. Records are separated by line breaks.
+     */
+    private char fieldDelimiter;
     /**
      * Specifies whether to ignore blanks.
      */
     private boolean ignoreBlanks;
 
-    Format(String rfs, String rrs, String wfs, String wrs, boolean ignoreBlank) {
+    Format(String rfs, String rrs, String wfs, String wrs, char fieldDelimiter, boolean ignoreBlank) {
         this.readFieldSeparator = rfs;
         this.readRecSeparator = rrs;
         this.writeFieldSeparator = wfs;
         this.writeRecSeparator = wrs;
+        this.fieldDelimiter = fieldDelimiter;
         this.ignoreBlanks = ignoreBlank;
     }
 
@@ -80,6 +85,10 @@ public enum Format {
         return writeFieldSeparator;
     }
 
+    public char getFieldDelimiter() {
+        return fieldDelimiter;
+    }
+
     public boolean shouldIgnoreBlanks() {
         return ignoreBlanks;
     }
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Binds the records read from a delimited record channel to values of a record type.
+ * </p>
+ * <p>
+ * The fields of the record type are bound to the columns of the records in the order in which they are declared. If
+ * a projection of columns is given, the i-th field is bound to the i-th column of the projection instead, and the
+ * other columns are skipped. Fields of type int, float, decimal, boolean and string, or a nilable type of them are
+ * supported. Fields are converted directly from the characters read from the channel, hence no intermediate string
+ * is created for a field which is not a string.
+ * </p>
+ * <p>
+ * An empty or missing column is bound as nil to a field whose type allows nil, and as an empty string to a string
+ * field. A missing column is not bound to an optional field, hence the field is left out. Blank lines are skipped.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class RecordBinder implements FieldConsumer {
+
+    private static final BString EMPTY_STRING = StringUtils.fromString("");
+
+    private final Type recordType;
+    private final FieldBinding[] fieldBindings;
+    /**
+     * Field bindings indexed by column. Columns which are not bound have no binding.
+     */
+    private final FieldBinding[] columnBindings;
+
+    private BMap<BString, Object> record;
+    private final boolean[] boundFields;
+    private int columnCount;
+    private boolean blank;
+    private BError error;
+    private long recordNumber = 0;
+    private char[] characterBuffer = new char[32];
+
+    /**
+     * Creates a binder for a record type.
+     *
+     * @param recordType type of the records to bind
+     * @param columns    columns to be bound to the fields of the record, or an empty array to bind the columns in order
+     */
+    public RecordBinder(StructureType recordType, long[] columns) {
+        this.recordType = recordType;
+        Field[] fields = recordType.getFields().values().toArray(new Field[0]);
+        if (columns.length > 0 && columns.length != fields.length) {
+            throw IOUtils.createError("number of columns " + columns.length + " does not match the number of " +
+                                              "fields " + fields.length + " of record '" + recordType.getName() + "'");
+        }
+
+        this.fieldBindings = new FieldBinding[fields.length];
+        int columnBindingCount = columns.length > 0 ? 0 : fields.length;
+        for (long column : columns) {
+            if (column < 0 || column >= Integer.MAX_VALUE) {
+                throw IOUtils.createError("invalid column index: " + column);
+            }
+            columnBindingCount = Math.max(columnBindingCount, (int) column + 1);
+        }
+        this.columnBindings = new FieldBinding[columnBindingCount];
+        for (int i = 0; i < fields.length; i++) {
+            int column = columns.length > 0 ? (int) columns[i] : i;
+            if (columnBindings[column] != null) {
+                throw IOUtils.createError("column " + column + " is bound to more than one field");
+            }
+            FieldBinding binding = new FieldBinding(i, fields[i]);
+            fieldBindings[i] = binding;
+            columnBindings[column] = binding;
+        }
+        this.boundFields = new boolean[fields.length];
+    }
+
+    /**
+     * Reads the next record from a channel and binds it to a value of the record type.
+     *
+     * @param channel channel to read the record from
+     * @return the bound record, or null if there are no more records
+     * @throws BallerinaIOException during I/O errors
+     */
+    public BMap<BString, Object> next(DelimitedRecordChannel channel) throws BallerinaIOException {
+        while (true) {
+            record = null;
+            columnCount = 0;
+            blank = true;
+            error = null;
+            Arrays.fill(boundFields, false);
+            recordNumber++;
+            if (!channel.read(this)) {
+                return null;
+            }
+            if (error != null) {
+                throw error;
+            }
+            if (blank) {
+                continue;
+            }
+            for (FieldBinding binding : fieldBindings) {
+                if (!boundFields[binding.index] && !binding.optional) {
+                    getRecord().put(binding.key, getEmptyValue(binding));
+                }
+            }
+            return getRecord();
+        }
+    }
+
+    @Override
+    public void field(int column, CharSequence characters, int start, int end) {
+        columnCount++;
+        if (start < end || columnCount > 1) {
+            blank = false;
+        }
+        if (column >= columnBindings.length || columnBindings[column] == null || error != null) {
+            return;
+        }
+
+        FieldBinding binding = columnBindings[column];
+        boundFields[binding.index] = true;
+        try {
+            Object value = start == end ? getEmptyValue(binding) : convert(binding, characters, start, end);
+            getRecord().put(binding.key, value);
+        } catch (BError e) {
+            error = e;
+        }
+    }
+
+    private BMap<BString, Object> getRecord() {
+        if (record == null) {
+            record = ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName());
+        }
+        return record;
+    }
+
+    private Object getEmptyValue(FieldBinding binding) {
+        if (binding.nilable) {
+            return null;
+        }
+        if (binding.typeTag == TypeTags.STRING_TAG) {
+            return EMPTY_STRING;
+        }
+        throw IOUtils.createError("no value for field '" + binding.name + "' in record " + recordNumber);
+    }
+
+    private Object convert(FieldBinding binding, CharSequence characters, int start, int end) {
+        switch (binding.typeTag) {
+            case TypeTags.INT_TAG:
+                return parseInt(binding, characters, start, end);
+            case TypeTags.FLOAT_TAG:
+                try {
+                    return Double.parseDouble(characters.subSequence(start, end).toString());
+                } catch (NumberFormatException e) {
+                    throw createConversionError(binding, characters, start, end);
+                }
+            case TypeTags.DECIMAL_TAG:
+                int length = end - start;
+                if (characterBuffer.length < length) {
+                    characterBuffer = new char[Math.max(length, characterBuffer.length * 2)];
+                }
+                for (int i = 0; i < length; i++) {
+                    characterBuffer[i] = characters.charAt(start + i);
+                }
+                try {
+                    return ValueCreator.createDecimalValue(
+                            new BigDecimal(characterBuffer, 0, length, MathContext.DECIMAL128));
+                } catch (NumberFormatException e) {
+                    throw createConversionError(binding, characters, start, end);
+                }
+            case TypeTags.BOOLEAN_TAG:
+                if (matches("true", characters, start, end)) {
+                    return true;
+                }
+                if (matches("false", characters, start, end)) {
+                    return false;
+                }
+                throw createConversionError(binding, characters, start, end);
+            default:
+                return StringUtils.fromString(characters.subSequence(start, end).toString());
+        }
+    }
+
+    private long parseInt(FieldBinding binding, CharSequence characters, int start, int end) {
+        int index = start;
+        boolean negative = false;
+        char first = characters.charAt(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+            if (index == end) {
+                throw createConversionError(binding, characters, start, end);
+            }
+        }
+        //Accumulated negatively, since the range of negative values is larger
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; index < end; index++) {
+            int digit = characters.charAt(index) - '0';
+            if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+                throw createConversionError(binding, characters, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw createConversionError(binding, characters, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static boolean matches(String expected, CharSequence characters, int start, int end) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toLowerCase(characters.charAt(start + i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private BError createConversionError(FieldBinding binding, CharSequence characters, int start, int end) {
+        return IOUtils.createError("invalid value '" + characters.subSequence(start, end) + "' for field '" +
+                                           binding.name + "' in record " + recordNumber);
+    }
+
+    /**
+     * Binding of a field of the record type.
+     */
+    private static class FieldBinding {
+
+        private final int index;
+        private final String name;
+        private final BString key;
+        private final int typeTag;
+        private final boolean nilable;
+        private final boolean optional;
+
+        FieldBinding(int index, Field field) {
+            this.index = index;
+            this.name = field.getFieldName();
+            this.key = StringUtils.fromString(name);
+            this.optional = SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL);
+
+            Type type = field.getFieldType();
+            this.nilable = type.isNilable();
+            if (type.getTag() == TypeTags.UNION_TAG) {
+                type = getNonNilMember((UnionType) type);
+            }
+            this.typeTag = type == null ? TypeTags.NULL_TAG : type.getTag();
+            switch (typeTag) {
+                case TypeTags.INT_TAG:
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.DECIMAL_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                case TypeTags.STRING_TAG:
+                    break;
+                default:
+                    throw IOUtils.createError("unsupported type '" + field.getFieldType() + "' of field '" + name +
+                                                      "', only int, float, decimal, boolean and string fields and " +
+                                                      "their nilable types are supported");
+            }
+        }
+
+        private Type getNonNilMember(UnionType type) {
+            Type nonNilMember = null;
+            for (Type member : type.getMemberTypes()) {
+                if (member.getTag() == TypeTags.NULL_TAG) {
+                    continue;
+                }
+                if (nonNilMember != null) {
+                    return null;
+                }
+                nonNilMember = member;
+            }
+            return nonNilMember;
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
@@ -27,9 +28,12 @@ import org.ballerinalang.stdlib.io.channels.AbstractNativeChannel;
 import org.ballerinalang.stdlib.io.channels.BlobChannel;
 import org.ballerinalang.stdlib.io.channels.BlobIOChannel;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
+import org.ballerinalang.stdlib.io.channels.base.BufferPool;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
+import org.ballerinalang.stdlib.io.utils.IOExecutor;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 import org.ballerinalang.stdlib.io.utils.Utils;
 import org.slf4j.Logger;
@@ -63,14 +67,28 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     private ByteChannelUtils() {
     }
 
-    public static Object read(BObject channel, long nBytes) {
-        int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
+    public static Object read(Environment env, BObject channel, long nBytes) {
         Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
-        ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
+        return IOExecutor.execute(env, byteChannel, () -> readBytes(byteChannel, nBytes));
+    }
+
+    private static Object readBytes(Channel byteChannel, long nBytes) {
+        int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
         if (byteChannel.hasReachedEnd()) {
             return IOUtils.createEoFError();
         } else {
             try {
+                if (byteChannel instanceof MappedFileIOChannel) {
+                    //Mapped channels read into an array of the exact size, which needs no copying afterwards
+                    return ValueCreator.createArrayValue(((MappedFileIOChannel) byteChannel).read(arraySize));
+                }
+                if (byteChannel instanceof FileIOChannel && BufferPool.isPooledSize(arraySize)) {
+                    //File channels read into a pooled direct buffer, which saves the copy through a temporary direct
+                    //buffer the file channel would otherwise make. Larger reads use a heap buffer, since a direct
+                    //buffer of that size would be allocated for a single read
+                    return ValueCreator.createArrayValue(readPooled(byteChannel, arraySize));
+                }
+                ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
                 byteChannel.read(content);
                 return ValueCreator.createArrayValue(getContentData(content));
             } catch (Exception e) {
@@ -81,6 +99,19 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
+    private static byte[] readPooled(Channel byteChannel, int arraySize) throws IOException {
+        ByteBuffer content = BufferPool.direct().acquire(arraySize);
+        try {
+            byteChannel.read(content);
+            content.flip();
+            byte[] data = new byte[content.remaining()];
+            content.get(data);
+            return data;
+        } finally {
+            BufferPool.direct().release(content);
+        }
+    }
+
     private static byte[] getContentData(final ByteBuffer contentBuffer) {
         int bufferSize = contentBuffer.limit();
         int readPosition = contentBuffer.position();
@@ -112,8 +143,12 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         return null;
     }
 
-    public static Object write(BObject channel, BArray content, long offset) {
+    public static Object write(Environment env, BObject channel, BArray content, long offset) {
         Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        return IOExecutor.execute(env, byteChannel, () -> writeBytes(byteChannel, content, offset));
+    }
+
+    private static Object writeBytes(Channel byteChannel, BArray content, long offset) {
         ByteBuffer writeBuffer = ByteBuffer.wrap(content.getBytes());
         writeBuffer.position((int) offset);
         try {
@@ -124,10 +159,12 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    public static Object openReadableFile(BString pathUrl) {
+    public static Object openReadableFile(BString pathUrl, boolean nonBlocking, boolean memoryMapped) {
         Object channel;
         try {
-            channel = createChannel(inFlow(pathUrl.getValue()));
+            Channel fileChannel = memoryMapped ? mappedInFlow(pathUrl.getValue()) : inFlow(pathUrl.getValue());
+            fileChannel.setNonBlocking(nonBlocking);
+            channel = createChannel(fileChannel);
         } catch (BallerinaIOException e) {
             channel = IOUtils.createError(e);
         } catch (BError e) {
@@ -136,9 +173,11 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         return channel;
     }
 
-    public static Object openWritableFile(BString pathUrl, boolean accessMode) {
+    public static Object openWritableFile(BString pathUrl, boolean accessMode, boolean nonBlocking) {
         try {
-            return createChannel(inFlow(pathUrl.getValue(), accessMode));
+            Channel fileChannel = inFlow(pathUrl.getValue(), accessMode);
+            fileChannel.setNonBlocking(nonBlocking);
+            return createChannel(fileChannel);
         } catch (BallerinaIOException e) {
             return IOUtils.createError(e);
         } catch (BError e) {
@@ -163,6 +202,23 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         return channel;
     }
 
+    private static Channel mappedInFlow(String pathUrl) throws BallerinaIOException {
+        Path path = Paths.get(pathUrl);
+        FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
+        try {
+            Channel channel = new MappedFileIOChannel(fileChannel);
+            channel.setReadable(true);
+            return channel;
+        } catch (IOException e) {
+            try {
+                fileChannel.close();
+            } catch (IOException closeError) {
+                log.warn("error occurred while closing the file channel", closeError);
+            }
+            throw new BallerinaIOException("fail to open file: " + e.getMessage(), e);
+        }
+    }
+
     private static Channel inFlow(String pathUrl, boolean accessMode) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel;
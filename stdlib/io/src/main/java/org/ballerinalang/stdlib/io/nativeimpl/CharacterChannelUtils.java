@@ -18,9 +18,11 @@
 
 package org.ballerinalang.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -30,7 +32,9 @@ import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.readers.CharacterChannelReader;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.ballerinalang.stdlib.io.utils.ChannelOutputStream;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
+import org.ballerinalang.stdlib.io.utils.IOExecutor;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 import org.ballerinalang.stdlib.io.utils.PropertyUtils;
 import org.slf4j.Logger;
@@ -38,8 +42,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
+import java.util.Iterator;
 
 import static org.ballerinalang.stdlib.io.utils.IOConstants.CHARACTER_CHANNEL_NAME;
+import static org.ballerinalang.stdlib.io.utils.IOConstants.XML_ELEMENT_ITERATOR_NAME;
 
 /**
  * This class hold Java inter-ops bridging functions for io# *CharacterChannels.
@@ -66,8 +72,13 @@ public class CharacterChannelUtils {
         }
     }
 
-    public static Object read(BObject channel, long numberOfCharacters) {
+    public static Object read(Environment env, BObject channel, long numberOfCharacters) {
         CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return IOExecutor.execute(env, characterChannel.getChannel(),
+                                  () -> readCharacters(characterChannel, numberOfCharacters));
+    }
+
+    private static Object readCharacters(CharacterChannel characterChannel, long numberOfCharacters) {
         if (characterChannel.hasReachedEnd()) {
             return IOUtils.createEoFError();
         } else {
@@ -81,8 +92,12 @@ public class CharacterChannelUtils {
         }
     }
 
-    public static Object readJson(BObject channel) {
+    public static Object readJson(Environment env, BObject channel) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return IOExecutor.execute(env, charChannel.getChannel(), () -> parseJson(charChannel));
+    }
+
+    private static Object parseJson(CharacterChannel charChannel) {
         CharacterChannelReader reader = new CharacterChannelReader(charChannel);
         try {
             Object returnValue = JsonUtils.parse(reader, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
@@ -97,8 +112,12 @@ public class CharacterChannelUtils {
         }
     }
 
-    public static Object readXml(BObject channel) {
+    public static Object readXml(Environment env, BObject channel) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return IOExecutor.execute(env, charChannel.getChannel(), () -> parseXml(charChannel));
+    }
+
+    private static Object parseXml(CharacterChannel charChannel) {
         CharacterChannelReader reader = new CharacterChannelReader(charChannel);
         try {
             return XmlUtils.parse(reader);
@@ -107,6 +126,24 @@ public class CharacterChannelUtils {
         }
     }
 
+    public static void initXmlElementIterator(BObject iterator, BObject channel, BArray elementPath) {
+        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        CharacterChannelReader reader = new CharacterChannelReader(charChannel);
+        Iterator<BXml> elements = XmlUtils.parseElements(reader, elementPath.getStringArray());
+        iterator.addNativeData(XML_ELEMENT_ITERATOR_NAME, elements);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object nextXmlElement(BObject iterator) {
+        Iterator<BXml> elements = (Iterator<BXml>) iterator.getNativeData(XML_ELEMENT_ITERATOR_NAME);
+        try {
+            return elements.hasNext() ? elements.next() : null;
+        } catch (BError e) {
+            log.error("unable to read xml elements from character channel", e);
+            return IOUtils.createError(e);
+        }
+    }
+
     public static Object readProperty(BObject channel, BString key, BString defaultValue) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
         CharacterChannelReader reader = new CharacterChannelReader(charChannel);
@@ -139,8 +176,13 @@ public class CharacterChannelUtils {
         return null;
     }
 
-    public static Object write(BObject channel, BString content, long startOffset) {
+    public static Object write(Environment env, BObject channel, BString content, long startOffset) {
         CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return IOExecutor.execute(env, characterChannel.getChannel(),
+                                  () -> writeCharacters(characterChannel, content, startOffset));
+    }
+
+    private static Object writeCharacters(CharacterChannel characterChannel, BString content, long startOffset) {
         try {
             return characterChannel.write(content.getValue(), (int) startOffset);
         } catch (IOException e) {
@@ -148,21 +190,36 @@ public class CharacterChannelUtils {
         }
     }
 
-    public static Object writeJson(BObject characterChannelObj, Object content) {
+    public static Object writeJson(Environment env, BObject characterChannelObj, Object content) {
+        CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
+                .getNativeData(CHARACTER_CHANNEL_NAME);
+        return IOExecutor.execute(env, characterChannel.getChannel(), () -> serializeJson(characterChannel, content));
+    }
+
+    private static Object serializeJson(CharacterChannel characterChannel, Object content) {
         try {
-            CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
-                    .getNativeData(CHARACTER_CHANNEL_NAME);
-            IOUtils.writeFull(characterChannel, StringUtils.getJsonString(content));
+            if (characterChannel.isUtf8Encoded() && (content instanceof BMap || content instanceof BArray)) {
+                // Encode directly into the byte channel, without building the JSON string first.
+                JsonUtils.serializeUtf8(content, new ChannelOutputStream(characterChannel.getChannel()));
+            } else {
+                IOUtils.writeFull(characterChannel, StringUtils.getJsonString(content));
+            }
         } catch (BallerinaIOException e) {
             return IOUtils.createError(e);
+        } catch (BError e) {
+            return IOUtils.createError(e);
         }
         return null;
     }
 
-    public static Object writeXml(BObject characterChannelObj, BXml content) {
+    public static Object writeXml(Environment env, BObject characterChannelObj, BXml content) {
+        CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
+                .getNativeData(CHARACTER_CHANNEL_NAME);
+        return IOExecutor.execute(env, characterChannel.getChannel(), () -> serializeXml(characterChannel, content));
+    }
+
+    private static Object serializeXml(CharacterChannel characterChannel, BXml content) {
         try {
-            CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
-                    .getNativeData(CHARACTER_CHANNEL_NAME);
             IOUtils.writeFull(characterChannel, content.toString());
         } catch (BallerinaIOException e) {
             return IOUtils.createError(e);
@@ -18,13 +18,23 @@
 
 package org.ballerinalang.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.api.values.BTypedesc;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
 import org.ballerinalang.stdlib.io.csv.Format;
+import org.ballerinalang.stdlib.io.csv.RecordBinder;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
@@ -34,6 +44,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 
+import static org.ballerinalang.stdlib.io.utils.IOConstants.RECORD_BINDER_NAME;
 import static org.ballerinalang.stdlib.io.utils.IOConstants.TXT_RECORD_CHANNEL_NAME;
 
 /**
@@ -106,6 +117,57 @@ public class RecordChannelUtils {
         }
     }
 
+    public static Object initRecordIterator(BObject iterator, BTypedesc recordType, BArray columns) {
+        try {
+            StructureType structType = (StructureType) recordType.getDescribingType();
+            iterator.addNativeData(RECORD_BINDER_NAME, new RecordBinder(structType, columns.getIntArray()));
+        } catch (BError e) {
+            return e;
+        }
+        return null;
+    }
+
+    public static Object nextRecord(BObject iterator, BObject channel) {
+        RecordBinder binder = (RecordBinder) iterator.getNativeData(RECORD_BINDER_NAME);
+        DelimitedRecordChannel textRecordChannel =
+                (DelimitedRecordChannel) channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
+        try {
+            return binder.next(textRecordChannel);
+        } catch (BallerinaIOException e) {
+            log.error("error occurred while reading next record from ReadableTextRecordChannel", e);
+            return IOUtils.createError(e);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    public static Object getRecordTable(BObject channel, BTypedesc recordType, BArray keyFieldNames,
+                                        BArray columns) {
+        DelimitedRecordChannel textRecordChannel =
+                (DelimitedRecordChannel) channel.getNativeData(TXT_RECORD_CHANNEL_NAME);
+        Type describingType = recordType.getDescribingType();
+        TableType tableType;
+        if (keyFieldNames.size() == 0) {
+            tableType = TypeCreator.createTableType(describingType, false);
+        } else {
+            tableType = TypeCreator.createTableType(describingType, keyFieldNames.getStringArray(), false);
+        }
+        try {
+            RecordBinder binder = new RecordBinder((StructureType) describingType, columns.getIntArray());
+            BTable table = ValueCreator.createTableValue(tableType);
+            BMap<BString, Object> record;
+            while ((record = binder.next(textRecordChannel)) != null) {
+                table.add(record);
+            }
+            return table;
+        } catch (BallerinaIOException e) {
+            log.error("error occurred while reading records from ReadableTextRecordChannel", e);
+            return IOUtils.createError(e);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
     public static Object write(BObject channel, BArray content) {
         DelimitedRecordChannel delimitedRecordChannel = (DelimitedRecordChannel) channel
                 .getNativeData(TXT_RECORD_CHANNEL_NAME);
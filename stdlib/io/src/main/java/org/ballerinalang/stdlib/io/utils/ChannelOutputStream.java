@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.utils;
+
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Represents an {@link OutputStream} which writes the content directly to a {@link Channel}.
+ * <p>
+ * The given byte arrays are wrapped without being copied, hence callers are expected to buffer the content
+ * themselves. Closing the stream does not close the underlying channel.
+ *
+ * @since 2.0.0
+ */
+public class ChannelOutputStream extends OutputStream {
+
+    private final Channel channel;
+
+    public ChannelOutputStream(Channel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] content, int offset, int length) throws IOException {
+        ByteBuffer writeBuffer = ByteBuffer.wrap(content, offset, length);
+        while (writeBuffer.hasRemaining()) {
+            if (channel.write(writeBuffer) == 0) {
+                throw new IOException("unable to write the content fully");
+            }
+        }
+    }
+}
@@ -43,11 +43,21 @@ public class IOConstants {
      */
     public static final String CHARACTER_CHANNEL_NAME = "char_channel";
 
+    /**
+     * The name of the xml element iterator which will be represented through the native struct.
+     */
+    public static final String XML_ELEMENT_ITERATOR_NAME = "xml_element_iterator";
+
     /**
      * The name of the text record channel which will be represented through the native struct.
      */
     public static final String TXT_RECORD_CHANNEL_NAME = "txt_record";
 
+    /**
+     * The name of the record binder of a record iterator which will be represented through the native struct.
+     */
+    public static final String RECORD_BINDER_NAME = "record_binder";
+
     /**
      * The size of the buffer allocated for reading bytes from the channel (15~ KB).
      */
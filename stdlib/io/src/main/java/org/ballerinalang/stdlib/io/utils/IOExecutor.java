@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.utils;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.values.BError;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Runs the blocking operations of non-blocking channels on a dedicated I/O thread pool.
+ * </p>
+ * <p>
+ * The strand which performs an operation on a non-blocking channel is marked as async and the operation is handed
+ * over to the I/O thread pool. The scheduler thread is released to run other strands in the meantime, and the strand
+ * is resumed with the result of the operation once it completes. Operations on other channels are run in the calling
+ * thread as before.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class IOExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(IOExecutor.class);
+
+    /**
+     * System property which defines the number of threads of the I/O thread pool.
+     */
+    private static final String POOL_SIZE_PROPERTY = "ballerina.io.threads";
+    private static final int POOL_SIZE = Integer.getInteger(POOL_SIZE_PROPERTY,
+                                                            Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private IOExecutor() {
+    }
+
+    /**
+     * Executes an operation on a channel. If the channel is non-blocking, the operation is executed on the I/O thread
+     * pool and the current strand is resumed with its result. Else the operation is executed in the calling thread.
+     *
+     * @param env       environment of the current strand
+     * @param channel   channel on which the operation is performed
+     * @param operation operation which returns the result of the interop call
+     * @return the result of the operation if it was executed in the calling thread, else null
+     */
+    public static Object execute(Environment env, Channel channel, Supplier<Object> operation) {
+        if (!channel.isNonBlocking()) {
+            return operation.get();
+        }
+
+        Future balFuture = env.markAsync();
+        EXECUTOR.execute(() -> {
+            Object result;
+            try {
+                result = operation.get();
+            } catch (BError e) {
+                result = e;
+            } catch (Throwable e) {
+                // Errors are also returned, since the strand would otherwise never be resumed
+                log.error("error occurred while performing a non-blocking I/O operation", e);
+                result = IOUtils.createError(e);
+            }
+            balFuture.complete(result);
+        });
+        return null;
+    }
+
+    private static ExecutorService createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, KEEP_ALIVE_SECONDS,
+                                                             TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                                             new IOThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates the daemon threads of the I/O thread pool.
+     */
+    private static class IOThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ballerina-io-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
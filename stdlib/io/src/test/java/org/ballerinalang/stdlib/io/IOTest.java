@@ -101,6 +101,37 @@ public class IOTest {
         BRunUtil.invoke(bytesInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test 'readBytes' function on a memory mapped byte channel")
+    public void testReadBytesMemoryMapped() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/6charfile.txt";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        BRunUtil.invoke(bytesInputOutputProgramFile, "initMappedReadableChannel", args);
+
+        args = new BValue[] { new BInteger(4) };
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "readBytes", args);
+        Assert.assertEquals(((BValueArray) returns[0]).getBytes(), "1234".getBytes());
+
+        //Only the remaining bytes are returned
+        returns = BRunUtil.invoke(bytesInputOutputProgramFile, "readBytes", args);
+        Assert.assertEquals(((BValueArray) returns[0]).getBytes(), "56".getBytes());
+
+        returns = BRunUtil.invoke(bytesInputOutputProgramFile, "readBytes", args);
+        Assert.assertEquals(((BValueArray) returns[0]).getBytes(), new byte[0]);
+
+        returns = BRunUtil.invoke(bytesInputOutputProgramFile, "readBytes", args);
+        Assert.assertTrue(returns[0] instanceof BError);
+
+        BRunUtil.invoke(bytesInputOutputProgramFile, "closeReadableChannel");
+    }
+
+    @Test(description = "Test reading a file concurrently through non-blocking byte channels")
+    public void testReadBytesNonBlocking() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/6charfile.txt";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BInteger(8) };
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "readFileConcurrently", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 48);
+    }
+
     @Test(description = "Test 'readCharacters' function in ballerina/io package")
     public void testReadCharacters() throws URISyntaxException {
         String resourceToRead = "datafiles/io/text/utf8file.txt";
@@ -332,6 +363,23 @@ public class IOTest {
         BRunUtil.invoke(characterInputOutputProgramFile, "closeWritableChannel");
     }
 
+    @Test(description = "Test the content written by 'writeJson' function to a UTF-8 channel")
+    public void testWriteJsonCharactersContent() throws IOException {
+        String content = "{\"name\":\"Foo \\\"Bar\\\"\\n\", \"values\":[1, 2.5, true, null, {}], "
+                + "\"smile\":\"\\uD83D\\uDE00\", \"path\":\"a/b\"}";
+        String expected = "{\"name\":\"Foo \\\"Bar\\\"\\n\", \"values\":[1, 2.5, true, null, {}], "
+                + "\"smile\":\"\uD83D\uDE00\", \"path\":\"a/b\"}";
+        String sourceToWrite = currentDirectoryPath + "/jsonContentFile.json";
+
+        BValue[] args = { new BString(sourceToWrite), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initWritableChannel", args);
+        args = new BValue[] { JsonParser.parse(content) };
+        BRunUtil.invoke(characterInputOutputProgramFile, "writeJson", args);
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeWritableChannel");
+
+        Assert.assertEquals(Files.readAllBytes(Paths.get(sourceToWrite)), expected.getBytes(StandardCharsets.UTF_8));
+    }
+
     @Test(description = "Test double byte unicode write function in ballerina/io package")
     public void testWriteHigherUnicodeRangeJsonCharacters() {
         String sourceToWrite = currentDirectoryPath + "/unicode.json";
@@ -386,6 +434,23 @@ public class IOTest {
         BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test 'readXmlElements' function in ballerina/io package")
+    public void testXmlElementStream() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/cd_catalog.xml";
+
+        //Will initialize the channel
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+
+        BValue[] elementPath = { new BValueArray(new String[]{ "CATALOG", "CD" }) };
+        BValue[] returns = BRunUtil.invoke(characterInputOutputProgramFile, "readXmlElements", elementPath);
+        String content = readFileContent(resourceToRead);
+        String cds = content.substring(content.indexOf("<CD>"), content.lastIndexOf("</CD>") + 5);
+        Assert.assertEquals(returns[0].stringValue(), cds, "XML elements mismatch.");
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+    }
+
     @Test(description = "Test function to convert string to json")
     public void convertStringToJsonTest() throws URISyntaxException {
         String content = "{\n" + "  \"test\": { \"name\": \"Foo\" }\n" + "}";
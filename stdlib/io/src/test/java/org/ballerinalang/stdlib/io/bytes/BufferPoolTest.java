@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.io.bytes;
+
+import org.ballerinalang.stdlib.io.channels.base.BufferPool;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Defines the unit test to test the reuse of buffers through the buffer pool.
+ */
+public class BufferPoolTest {
+
+    @Test(description = "Reuses a released buffer for a request of the same size class")
+    public void reuseReleasedBuffer() {
+        BufferPool pool = new BufferPool(false);
+        ByteBuffer buffer = pool.acquire(3000);
+        Assert.assertEquals(buffer.capacity(), 4096);
+        Assert.assertEquals(buffer.limit(), 3000);
+        Assert.assertEquals(buffer.position(), 0);
+        buffer.put((byte) 1);
+        pool.release(buffer);
+
+        ByteBuffer reusedBuffer = pool.acquire(2500);
+        Assert.assertSame(reusedBuffer, buffer);
+        Assert.assertEquals(reusedBuffer.limit(), 2500);
+        Assert.assertEquals(reusedBuffer.position(), 0);
+        Assert.assertEquals(pool.getHitCount(), 1);
+        Assert.assertEquals(pool.getMissCount(), 1);
+    }
+
+    @Test(description = "Reuses the most recently released buffer first")
+    public void reuseMostRecentlyReleasedBuffer() {
+        BufferPool pool = new BufferPool(false);
+        ByteBuffer firstBuffer = pool.acquire(1024);
+        ByteBuffer secondBuffer = pool.acquire(1024);
+        pool.release(firstBuffer);
+        pool.release(secondBuffer);
+        Assert.assertSame(pool.acquire(1024), secondBuffer);
+        Assert.assertSame(pool.acquire(1024), firstBuffer);
+        Assert.assertEquals(pool.getHitCount(), 2);
+    }
+
+    @Test(description = "Acquires direct buffers from the direct buffer pool")
+    public void acquireDirectBuffer() {
+        BufferPool directPool = new BufferPool(true);
+        BufferPool heapPool = new BufferPool(false);
+        ByteBuffer buffer = directPool.acquire(100);
+        Assert.assertTrue(buffer.isDirect());
+        Assert.assertEquals(buffer.limit(), 100);
+        //Direct buffers are not pooled with heap buffers
+        heapPool.release(buffer);
+        Assert.assertFalse(heapPool.acquire(100).isDirect());
+        directPool.release(buffer);
+        Assert.assertSame(directPool.acquire(100), buffer);
+    }
+
+    @Test(description = "Buffers larger than the size classes are not pooled")
+    public void allocateLargeBuffer() {
+        BufferPool pool = new BufferPool(false);
+        int size = 4 * 1024 * 1024;
+        ByteBuffer buffer = pool.acquire(size);
+        Assert.assertEquals(buffer.capacity(), size);
+        pool.release(buffer);
+        Assert.assertNotSame(pool.acquire(size), buffer);
+    }
+
+    @Test(description = "Checks the sizes of the buffers which are pooled")
+    public void checkPooledSize() {
+        Assert.assertTrue(BufferPool.isPooledSize(1));
+        Assert.assertTrue(BufferPool.isPooledSize(65536));
+        Assert.assertTrue(BufferPool.isPooledSize(1024 * 1024));
+        Assert.assertFalse(BufferPool.isPooledSize(1024 * 1024 + 1));
+    }
+
+    @Test(description = "Slices of a buffer are not pooled")
+    public void releaseSlicedBuffer() {
+        BufferPool pool = new BufferPool(false);
+        ByteBuffer buffer = ByteBuffer.allocate(2 * 65536);
+        buffer.position(65536);
+        pool.release(buffer.slice());
+        buffer.position(0);
+        buffer.limit(65536);
+        pool.release(buffer.slice());
+        ByteBuffer acquiredBuffer = pool.acquire(65536);
+        Assert.assertEquals(acquiredBuffer.arrayOffset(), 0);
+        Assert.assertEquals(acquiredBuffer.array().length, 65536);
+        Assert.assertEquals(pool.getHitCount(), 0);
+    }
+}
@@ -268,6 +268,33 @@ public class CsvChannelTest {
         BRunUtil.invoke(csvInputOutputProgramFile, "close");
     }
 
+    @Test(description = "Test reading RFC 4180 records through 'csvStream'")
+    public void readRfcStreamTest() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sampleRfcMultiline.csv";
+
+        //Will initialize the channel
+        BValue[] args = {
+                new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8"), new BString(",")
+        };
+        BRunUtil.invoke(csvInputOutputProgramFile, "initReadableCsvChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(csvInputOutputProgramFile, "readAllRecords");
+        BValueArray records = (BValueArray) returns[0];
+        Assert.assertEquals(records.size(), 4);
+        BValueArray secondRecord = (BValueArray) records.getRefValue(1);
+        Assert.assertEquals(secondRecord.size(), 3);
+        Assert.assertEquals(secondRecord.getString(1), "Fits well, ships fast");
+        BValueArray thirdRecord = (BValueArray) records.getRefValue(2);
+        Assert.assertEquals(thirdRecord.size(), 3);
+        Assert.assertEquals(thirdRecord.getString(1), "Said \"great\"\r\nbut returned");
+        Assert.assertEquals(thirdRecord.getString(2), "1");
+        BValueArray lastRecord = (BValueArray) records.getRefValue(3);
+        Assert.assertEquals(lastRecord.size(), 1);
+        Assert.assertEquals(lastRecord.getString(0), "3");
+
+        BRunUtil.invoke(csvInputOutputProgramFile, "close");
+    }
+
     @Test(description = "Test 'readTdfCSVRecords'")
     public void readTdfTest() throws URISyntaxException {
         String resourceToRead = "datafiles/io/records/sampleTdf.tsv";
@@ -435,6 +462,33 @@ public class CsvChannelTest {
         }
     }
 
+    @Test(description = "Test binding records to a record type with nil values")
+    public void getRecordStreamWithNull() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample6.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        final BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "getRecordStreamWithNil", args);
+        Assert.assertEquals(result[0].stringValue(), "Person1Person2Person3");
+        Assert.assertEquals(result[1].stringValue(), "EngMrk-1");
+        Assert.assertEquals(((BInteger) result[2]).intValue(), 74);
+    }
+
+    @Test(description = "Test binding a projection of the columns of records")
+    public void getRecordTableWithColumns() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample6.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        final BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "getRecordTableWithColumns", args);
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 3);
+        Assert.assertEquals(((BFloat) result[1]).floatValue(), 10.5d);
+    }
+
+    @Test(description = "Test binding records with values which do not match the record type")
+    public void getRecordTableWithInvalidValue() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample6.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        final BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "getRecordTableWithInvalidValue", args);
+        Assert.assertEquals(result[0].stringValue(), "invalid value 'ID' for field 'id' in record 1");
+    }
+
     private String getAbsoluteFilePath(String relativePath) throws URISyntaxException {
         URL fileResource = BCompileUtil.class.getClassLoader().getResource(relativePath);
         String pathValue = "";
@@ -31,6 +31,10 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.channels.ByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Tests record I/O functionality.
@@ -161,4 +165,27 @@ public class RecordInputOutputTest {
         recordChannel.write(recordTwo);
         recordChannel.close();
     }
+
+    @Test(description = "Reads records of empty fields through a field consumer")
+    public void readRecordsOfEmptyFields() throws IOException, BallerinaIOException {
+        String path = currentDirectoryPath + "emptyFields.csv";
+        Files.write(Paths.get(path), "Foo,Bar\n,,\nJim,Com".getBytes(StandardCharsets.UTF_8));
+        ByteChannel byteChannel = TestUtil.openForReadingAndWriting(path);
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, "\n", ",");
+
+        List<String> fields = new ArrayList<>();
+        int records = 0;
+        while (recordChannel.read((column, characters, start, end) ->
+                                          fields.add(characters.subSequence(start, end).toString()))) {
+            records++;
+        }
+        // The record of empty fields has no fields, but it is not the end of the channel
+        Assert.assertEquals(records, 3);
+        Assert.assertEquals(fields.toString(), "[Foo, Bar, Jim, Com]");
+        Assert.assertFalse(recordChannel.read((column, characters, start, end) -> fields.add("")));
+
+        recordChannel.close();
+    }
 }
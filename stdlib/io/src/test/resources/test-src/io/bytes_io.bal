@@ -79,3 +79,39 @@ function testBase64EncodeByteChannel(io:ReadableByteChannel contentToBeEncoded)
 function testBase64DecodeByteChannel(io:ReadableByteChannel contentToBeDecoded) returns io:ReadableByteChannel|io:Error {
     return contentToBeDecoded.base64Decode();
 }
+
+function readFileConcurrently(string filePath, int readers) returns @tainted int|error {
+    future<int|error>[] readerFutures = [];
+    int i = 0;
+    while (i < readers) {
+        readerFutures.push(start countBytesNonBlocking(filePath));
+        i = i + 1;
+    }
+    int total = 0;
+    foreach var readerFuture in readerFutures {
+        total = total + check wait readerFuture;
+    }
+    return total;
+}
+
+function countBytesNonBlocking(string filePath) returns @tainted int|error {
+    io:ReadableByteChannel byteChannel = check io:openReadableFile(filePath, nonBlocking = true);
+    int count = 0;
+    while (true) {
+        byte[]|io:Error result = byteChannel.read(2);
+        if (result is io:EofError) {
+            break;
+        }
+        byte[] content = check result;
+        if (content.length() == 0) {
+            break;
+        }
+        count = count + content.length();
+    }
+    check byteChannel.close();
+    return count;
+}
+
+function initMappedReadableChannel(string filePath) returns io:Error? {
+    rch = check io:openReadableFile(filePath, memoryMapped = true);
+}
@@ -130,6 +130,25 @@ function readXml() returns @tainted xml|error {
     return e;
 }
 
+function readXmlElements(string[] elementPath) returns @tainted xml|error {
+    var rCha = rch;
+    if (rCha is io:ReadableCharacterChannel) {
+        stream<xml, io:Error> elements = rCha.readXmlElements(elementPath);
+        xml result = xml ``;
+        var element = elements.next();
+        while (element is record {| xml value; |}) {
+            result = result + element.value;
+            element = elements.next();
+        }
+        if (element is error) {
+            return element;
+        }
+        return result;
+    }
+    io:GenericError e = io:GenericError("Character channel not initialized properly");
+    return e;
+}
+
 function readAvailableProperty(string key) returns @tainted string?|error {
     var rCha = rch;
     if(rCha is io:ReadableCharacterChannel) {
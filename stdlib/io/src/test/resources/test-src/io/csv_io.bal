@@ -31,6 +31,11 @@ type PerDiem record {
     string? department;
 };
 
+type PerDiemTotal record {
+    int id;
+    decimal? total;
+};
+
 type CommonApp record {
     string appId;
     string createdDt;
@@ -95,6 +100,24 @@ function nextRecord() returns @tainted string[] | error {
     return io:GenericError("Record channel not initialized properly");
 }
 
+function readAllRecords() returns @tainted string[][] | error {
+    var cha = rch;
+    if (cha is io:ReadableCSVChannel) {
+        string[][] records = [];
+        stream<string[], io:Error> recordStream = cha.csvStream();
+        var nextRecord = recordStream.next();
+        while (nextRecord is record {| string[] value; |}) {
+            records.push(nextRecord.value);
+            nextRecord = recordStream.next();
+        }
+        if (nextRecord is error) {
+            return nextRecord;
+        }
+        return records;
+    }
+    return io:GenericError("Record channel not initialized properly");
+}
+
 function writeRecord(string[] fields) {
     var cha = wch;
     if (cha is io:WritableCSVChannel) {
@@ -179,3 +202,50 @@ function getTableWithHeader(string filePath) returns @tainted string[] | error {
     }
     return keys;
 }
+
+function getRecordStreamWithNil(string filePath) returns @tainted [string, string, int] | error {
+    string name = "";
+    string dep = "";
+    int age = 0;
+    io:ReadableCSVChannel rCsvChannel = check io:openReadableCsvFile(filePath, skipHeaders = 1);
+    stream<record {}, io:Error> records = check rCsvChannel.recordStream(PerDiem);
+    var nextRecord = records.next();
+    while (nextRecord is record {| record {} value; |}) {
+        PerDiem rec = <PerDiem> nextRecord.value;
+        name = name + rec.name;
+        dep = dep + (rec.department ?: "-1");
+        age = age + rec.age;
+        nextRecord = records.next();
+    }
+    error? closeResult = rCsvChannel.close();
+    if (nextRecord is error) {
+        return nextRecord;
+    }
+    return [name, dep, age];
+}
+
+function getRecordTableWithColumns(string filePath) returns @tainted [int, float] | error {
+    io:ReadableCSVChannel rCsvChannel = check io:openReadableCsvFile(filePath, skipHeaders = 1);
+    table<record {}> tblResult = check rCsvChannel.recordTable(PerDiemTotal, ["id"], [0, 4]);
+    table<PerDiemTotal> tb = <table<PerDiemTotal>> tblResult;
+    int count = 0;
+    decimal total = 0;
+    foreach var rec in tb {
+        count = count + 1;
+        total = total + (rec.total ?: 0);
+    }
+    error? closeResult = rCsvChannel.close();
+    return [count, <float> total];
+}
+
+function getRecordTableWithInvalidValue(string filePath) returns @tainted string {
+    var rCsvChannel = io:openReadableCsvFile(filePath);
+    if (rCsvChannel is io:ReadableCSVChannel) {
+        var tblResult = rCsvChannel.recordTable(PerDiem);
+        error? closeResult = rCsvChannel.close();
+        if (tblResult is error) {
+            return tblResult.message();
+        }
+    }
+    return "";
+}
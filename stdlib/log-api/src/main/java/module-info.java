@@ -2,5 +2,4 @@ module io.ballerina.log.api {
     requires io.ballerina.runtime;
     requires io.ballerina.logging;
     requires java.logging;
-    requires slf4j.api;
 }
\ No newline at end of file
@@ -23,12 +23,14 @@ import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.observability.ObserveUtils;
 import org.ballerinalang.logging.BLogManager;
 import org.ballerinalang.logging.util.BLogLevel;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.LogManager;
+import java.util.logging.Logger;
 
 /**
  * Base class for the other log functions, containing a getter to retrieve the correct logger, given a package name.
@@ -39,14 +41,39 @@ public abstract class AbstractLogFunction {
 
     protected static final BLogManager LOG_MANAGER = (BLogManager) LogManager.getLogManager();
 
-    private static final Logger ballerinaRootLogger = LoggerFactory.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
+    private static final Logger ballerinaRootLogger = Logger.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
+    private static final String LOG_FUNCTION_PACKAGE_PREFIX = AbstractLogFunction.class.getPackageName() + ".";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    // Loggers and package paths are cached, since they are looked up on each log call
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+    private static final Map<String, String> packagePaths = new ConcurrentHashMap<>();
 
     protected static Logger getLogger(String pkg) {
         if (".".equals(pkg) || pkg == null) {
             return ballerinaRootLogger;
-        } else {
-            // TODO: Refactor this later
-            return LoggerFactory.getLogger(ballerinaRootLogger.getName() + "." + pkg);
+        }
+        return loggers.computeIfAbsent(pkg, key -> Logger.getLogger(ballerinaRootLogger.getName() + "." + key));
+    }
+
+    /**
+     * Gets the JDK logging level to which a log level is mapped when logging a message.
+     *
+     * @param logLevel log level
+     * @return JDK logging level
+     */
+    static Level getLevel(BLogLevel logLevel) {
+        switch (logLevel) {
+            case ERROR:
+                return Level.SEVERE;
+            case WARN:
+                return Level.WARNING;
+            case DEBUG:
+                return Level.FINE;
+            case TRACE:
+                return Level.FINEST;
+            default:
+                return Level.INFO;
         }
     }
 
@@ -82,12 +109,29 @@ public abstract class AbstractLogFunction {
         ObserveUtils.logMessageToActiveSpan(logLevel.name(), logMessage, logLevel == BLogLevel.ERROR);
     }
 
+    /**
+     * Gets the path of the module which called the log function. Only the frames up to the caller are walked, skipping
+     * the native log functions and the log module function which called them.
+     *
+     * @return module path in the form org/module, or "." if the caller is not in a module
+     */
     static String getPackagePath() {
-        String className = Thread.currentThread().getStackTrace()[4].getClassName();
-        String[] pkgData = className.split("\\.");
-        if (pkgData.length > 1) {
-            return pkgData[0] + "/" + pkgData[1];
+        String className = STACK_WALKER.walk(frames -> frames
+                .dropWhile(frame -> frame.getClassName().startsWith(LOG_FUNCTION_PACKAGE_PREFIX))
+                .skip(1)
+                .findFirst()
+                .map(StackWalker.StackFrame::getClassName)
+                .orElse(""));
+        return packagePaths.computeIfAbsent(className, AbstractLogFunction::toPackagePath);
+    }
+
+    private static String toPackagePath(String className) {
+        int orgEnd = className.indexOf('.');
+        if (orgEnd < 0) {
+            return ".";
         }
-        return ".";
+        int moduleEnd = className.indexOf('.', orgEnd + 1);
+        return className.substring(0, orgEnd) + "/" +
+                className.substring(orgEnd + 1, moduleEnd < 0 ? className.length() : moduleEnd);
     }
 }
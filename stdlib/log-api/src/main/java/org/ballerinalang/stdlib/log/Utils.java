@@ -30,79 +30,23 @@ import org.ballerinalang.logging.util.BLogLevel;
 public class Utils extends AbstractLogFunction {
 
     public static void printDebug(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.DEBUG.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.DEBUG.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.DEBUG, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).debug(message);
-                    });
-        }
+        printLog(BLogLevel.DEBUG, msg, null);
     }
 
     public static void printError(Object msg, Object err) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.ERROR.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.ERROR.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.ERROR, getPackagePath(),
-                    (pkg, message) -> {
-                        String errorMsg = (err == null) ? "" : " : " + err.toString();
-                        getLogger(pkg).error(message + errorMsg);
-                    });
-        }
+        printLog(BLogLevel.ERROR, msg, err);
     }
 
     public static void printInfo(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.INFO.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.INFO.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.INFO, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).info(message);
-                    });
-        }
+        printLog(BLogLevel.INFO, msg, null);
     }
 
     public static void printTrace(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.TRACE.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.TRACE.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.TRACE, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).trace(message);
-                    });
-        }
+        printLog(BLogLevel.TRACE, msg, null);
     }
 
     public static void printWarn(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.WARN.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.WARN.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.WARN, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).warn(message);
-                    });
-        }
+        printLog(BLogLevel.WARN, msg, null);
     }
 
     public static void setModuleLogLevel(BString logLevel, Object moduleName) {
@@ -115,4 +59,27 @@ public class Utils extends AbstractLogFunction {
         String level = logLevel.getValue();
         LOG_MANAGER.setModuleLogLevel(BLogLevel.toBLogLevel(level), module);
     }
+
+    private static void printLog(BLogLevel logLevel, Object msg, Object err) {
+        // The calling module is resolved at most once per call, and only if the message is to be logged
+        String pckg = null;
+        BLogLevel packageLogLevel;
+        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
+            pckg = getPackagePath();
+            packageLogLevel = LOG_MANAGER.getPackageLogLevel(pckg);
+        } else {
+            packageLogLevel = LOG_MANAGER.getPackageLogLevel(".");
+        }
+        if (packageLogLevel.value() > logLevel.value()) {
+            return;
+        }
+        if (pckg == null) {
+            pckg = getPackagePath();
+        }
+        logMessage(Scheduler.getStrand(), msg, logLevel, pckg,
+                (pkg, message) -> {
+                    String errorMsg = (err == null) ? "" : " : " + err.toString();
+                    getLogger(pkg).logp(getLevel(logLevel), pkg, null, message + errorMsg);
+                });
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.logging;
+
+import org.ballerinalang.logging.handlers.AsyncLogHandler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Test cases for AsyncLogHandler.
+ */
+public class AsyncLogHandlerTest {
+
+    @Test(description = "Test publishing records in order, waiting for space in the queue when it is full.")
+    public void testPublishWithBlockingPolicy() {
+        RecordingHandler delegate = new RecordingHandler(null);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 4, 2, AsyncLogHandler.OverflowPolicy.BLOCK) { };
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.close();
+
+        Assert.assertTrue(delegate.closed);
+        Assert.assertEquals(delegate.messages.size(), 100);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(delegate.messages.get(i), "message " + i);
+        }
+        Assert.assertEquals(handler.getDroppedRecordCount(), 0);
+    }
+
+    @Test(description = "Test dropping records when the queue is full.")
+    public void testPublishWithDropPolicy() {
+        CountDownLatch latch = new CountDownLatch(1);
+        RecordingHandler delegate = new RecordingHandler(latch);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 1, 1, AsyncLogHandler.OverflowPolicy.DROP) { };
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        // The first record occupies the queue until the delegate has published it
+        handler.publish(new LogRecord(Level.INFO, "second"));
+        latch.countDown();
+        handler.close();
+
+        Assert.assertEquals(delegate.messages.size(), 1);
+        Assert.assertEquals(delegate.messages.get(0), "first");
+        Assert.assertEquals(handler.getDroppedRecordCount(), 1);
+    }
+
+    @Test(description = "Test publishing only records of the level of the handler.")
+    public void testPublishLoggableRecords() {
+        RecordingHandler delegate = new RecordingHandler(null);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 4, 2, AsyncLogHandler.OverflowPolicy.BLOCK) { };
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "debug"));
+        handler.publish(new LogRecord(Level.WARNING, "warn"));
+        handler.close();
+        handler.publish(new LogRecord(Level.SEVERE, "error"));
+
+        Assert.assertEquals(delegate.messages.size(), 1);
+        Assert.assertEquals(delegate.messages.get(0), "warn");
+    }
+
+    private static class RecordingHandler extends Handler {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+        private volatile boolean closed;
+
+        RecordingHandler(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
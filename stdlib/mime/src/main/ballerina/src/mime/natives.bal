@@ -402,6 +402,17 @@ public class Entity {
         return externGetBodyParts(self);
     }
 
+    # Gets the body parts from a given entity as a stream. The body parts are decoded one at a time as the stream is
+    # iterated and the body of a part is read from the entity body as it is consumed. Hence, large body parts are not
+    # kept in memory, provided that each body part is consumed before moving to the next one.
+    #
+    # + return - A stream of body parts(`Entity`) extracted from the entity body or else a `mime:ParserError` if the
+    #            entity body is not a set of the body parts
+    public function getBodyPartsAsStream() returns @tainted stream<Entity, ParserError>|ParserError {
+        BodyPartIterator iterator = check new (self);
+        return new stream<Entity, ParserError>(iterator);
+    }
+
     # Gets the body parts as a byte channel from a given entity.
     #
     # + return - Body parts as a byte channel
@@ -590,6 +601,31 @@ function externGetBodyParts(Entity entity) returns Entity[]|ParserError = @java:
     name: "getBodyParts"
 } external;
 
+class BodyPartIterator {
+
+    function init(Entity entity) returns ParserError? {
+        return externInitBodyPartIterator(self, entity);
+    }
+
+    public function next() returns @tainted record {| Entity value; |}|ParserError? {
+        var result = externGetNextBodyPart(self);
+        if (result is Entity) {
+            return {value: result};
+        }
+        return result;
+    }
+}
+
+function externInitBodyPartIterator(BodyPartIterator iterator, Entity entity) returns ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "initBodyPartIterator"
+} external;
+
+function externGetNextBodyPart(BodyPartIterator iterator) returns @tainted Entity|ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "getNextBodyPart"
+} external;
+
 function externGetBodyPartsAsChannel(Entity entity) returns @tainted io:ReadableByteChannel|ParserError = @java:Method {
     'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
     name: "getBodyPartsAsChannel"
@@ -23,12 +23,14 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
+import org.ballerinalang.mime.util.BodyPartIterator;
 import org.ballerinalang.mime.util.EntityBodyChannel;
 import org.ballerinalang.mime.util.EntityBodyHandler;
 import org.ballerinalang.mime.util.EntityWrapper;
 import org.ballerinalang.mime.util.HeaderUtil;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.ballerinalang.mime.util.MultipartDataSource;
+import org.ballerinalang.mime.util.MultipartDecoder;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.slf4j.Logger;
@@ -43,6 +45,7 @@ import static org.ballerinalang.mime.util.HeaderUtil.isMultipart;
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_JSON;
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_XML;
 import static org.ballerinalang.mime.util.MimeConstants.BODY_PARTS;
+import static org.ballerinalang.mime.util.MimeConstants.BODY_PART_ITERATOR;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_TYPE_ERROR;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
@@ -71,8 +74,7 @@ public class MimeEntityBody {
         BArray partsArray;
         try {
             String baseType = HeaderUtil.getBaseType(entityObj);
-            if (baseType != null && (baseType.toLowerCase(Locale.getDefault()).startsWith(MULTIPART_AS_PRIMARY_TYPE) ||
-                    baseType.toLowerCase(Locale.getDefault()).startsWith(MESSAGE_AS_PRIMARY_TYPE))) {
+            if (isCompositeType(baseType)) {
                 //Get the body parts from entity's multipart data field, if they've been already been decoded
                 partsArray = EntityBodyHandler.getBodyPartArray(entityObj);
                 if (partsArray == null || partsArray.size() < 1) {
@@ -98,6 +100,49 @@ public class MimeEntityBody {
         }
     }
 
+    public static Object initBodyPartIterator(BObject iteratorObj, BObject entityObj) {
+        try {
+            String baseType = HeaderUtil.getBaseType(entityObj);
+            if (!isCompositeType(baseType)) {
+                return MimeUtil.createError(PARSER_ERROR, "Entity body is not a type of " +
+                        "composite media type. Received content-type : " + baseType);
+            }
+            BodyPartIterator iterator;
+            BArray partsArray = EntityBodyHandler.getBodyPartArray(entityObj);
+            Channel byteChannel = EntityBodyHandler.getByteChannel(entityObj);
+            String contentType = getContentTypeWithParameters(entityObj);
+            if (partsArray.size() < 1 && byteChannel != null && contentType != null &&
+                    contentType.startsWith(MULTIPART_AS_PRIMARY_TYPE)) {
+                iterator = new BodyPartIterator(MultipartDecoder.createMimeMessage(contentType,
+                                                                                   byteChannel.getInputStream()));
+                //Set byte channel that belongs to parent entity to null, since the body parts are decoded from it
+                entityObj.addNativeData(ENTITY_BYTE_CHANNEL, null);
+            } else {
+                iterator = new BodyPartIterator(partsArray);
+            }
+            iteratorObj.addNativeData(BODY_PART_ITERATOR, iterator);
+            return null;
+        } catch (Throwable err) {
+            return MimeUtil.createError(PARSER_ERROR,
+                                        "Error occurred while extracting body parts from entity: " + getErrorMsg(err));
+        }
+    }
+
+    public static Object getNextBodyPart(BObject iteratorObj) {
+        try {
+            BodyPartIterator iterator = (BodyPartIterator) iteratorObj.getNativeData(BODY_PART_ITERATOR);
+            return iterator.next();
+        } catch (Throwable err) {
+            return MimeUtil.createError(PARSER_ERROR,
+                                        "Error occurred while decoding the next body part: " + getErrorMsg(err));
+        }
+    }
+
+    private static boolean isCompositeType(String baseType) {
+        return baseType != null && (baseType.toLowerCase(Locale.getDefault()).startsWith(MULTIPART_AS_PRIMARY_TYPE) ||
+                baseType.toLowerCase(Locale.getDefault()).startsWith(MESSAGE_AS_PRIMARY_TYPE));
+    }
+
     public static Object getBodyPartsAsChannel(BObject entityObj) {
         try {
             String contentType = getContentTypeWithParameters(entityObj);
@@ -0,0 +1,85 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.mime.util;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import org.jvnet.mimepull.MIMEMessage;
+import org.jvnet.mimepull.MIMEParsingException;
+import org.jvnet.mimepull.MIMEPart;
+
+/**
+ * Iterates over the body parts of a multipart entity. Body parts are decoded one at a time and only up to their
+ * headers, hence the body of a part is read from the entity body as it is consumed. If a body part is not consumed
+ * before the next body part is decoded, its body is kept in memory or in a temp file based on the memory threshold.
+ *
+ * @since 2.0.0
+ */
+public class BodyPartIterator {
+
+    private final MIMEMessage mimeMessage;
+    private final BArray bodyParts;
+    private int index;
+
+    /**
+     * Iterate over the body parts decoded from the given mime message.
+     *
+     * @param mimeMessage Represent the mime message of which the parts are not decoded yet
+     */
+    public BodyPartIterator(MIMEMessage mimeMessage) {
+        this.mimeMessage = mimeMessage;
+        this.bodyParts = null;
+    }
+
+    /**
+     * Iterate over body parts which are already decoded.
+     *
+     * @param bodyParts Represent ballerina body parts
+     */
+    public BodyPartIterator(BArray bodyParts) {
+        this.mimeMessage = null;
+        this.bodyParts = bodyParts;
+    }
+
+    /**
+     * Get the next body part.
+     *
+     * @return the next body part or null if there are no more body parts
+     */
+    public BObject next() {
+        if (bodyParts != null) {
+            return index < bodyParts.size() ? (BObject) bodyParts.get(index++) : null;
+        }
+        MIMEPart mimePart;
+        try {
+            mimePart = mimeMessage.getPart(index);
+        } catch (MIMEParsingException e) {
+            //The message has been parsed and it has no more parts
+            return null;
+        }
+        try {
+            //Reading the headers parses the message up to the body of the part
+            mimePart.getAllHeaders();
+        } catch (IllegalStateException e) {
+            //The message has been parsed without finding the headers of the part
+            return null;
+        }
+        index++;
+        return MultipartDecoder.createBodyPart(mimePart);
+    }
+}
@@ -62,7 +62,9 @@ import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_BODY_PART_INDEX;
 import static org.ballerinalang.mime.util.MimeConstants.MESSAGE_DATA_SOURCE;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
 import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_MIME_PKG_ID;
+import static org.ballerinalang.mime.util.MimeConstants.SIZE_FIELD;
 import static org.ballerinalang.mime.util.MimeUtil.isNotNullAndEmpty;
 
 /**
@@ -159,7 +161,7 @@ public class EntityBodyHandler {
             return (BArray) ValueCreator.createArrayValue(new byte[0]);
         }
         try {
-            return constructBlobDataSource(byteChannel.getInputStream());
+            return constructBlobDataSource(byteChannel.getInputStream(), getContentLength(entityObj));
         } finally {
             closeByteChannel(byteChannel);
         }
@@ -172,9 +174,20 @@ public class EntityBodyHandler {
      * @return Data source for binary data which is kept in memory
      */
     public static BArray constructBlobDataSource(InputStream inputStream) {
+        return constructBlobDataSource(inputStream, NO_CONTENT_LENGTH_FOUND);
+    }
+
+    /**
+     * Construct BlobDataSource from the given input stream, of which the length of the content is known.
+     *
+     * @param inputStream   Represent the input stream
+     * @param contentLength Length of the content, or a negative value if it is unknown
+     * @return Data source for binary data which is kept in memory
+     */
+    public static BArray constructBlobDataSource(InputStream inputStream, long contentLength) {
         byte[] byteData;
         try {
-            byteData = MimeUtil.getByteArray(inputStream);
+            byteData = MimeUtil.getByteArray(inputStream, contentLength);
         } catch (IOException ex) {
             throw ErrorCreator.createError(StringUtils.fromString(("Error occurred while reading input stream :" +
                     ex.getMessage())));
@@ -411,6 +424,11 @@ public class EntityBodyHandler {
                 : (BArray) ValueCreator.createArrayValue(mimeEntityArrayType, 0);
     }
 
+    private static long getContentLength(BObject entityObj) {
+        Object contentLength = entityObj.get(SIZE_FIELD);
+        return contentLength instanceof Long ? (Long) contentLength : NO_CONTENT_LENGTH_FOUND;
+    }
+
     public static Channel getByteChannel(BObject entityObj) {
         return entityObj.getNativeData(ENTITY_BYTE_CHANNEL) != null ? (Channel) entityObj.getNativeData
                 (ENTITY_BYTE_CHANNEL) : null;
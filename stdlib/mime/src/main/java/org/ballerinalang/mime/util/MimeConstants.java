@@ -124,6 +124,7 @@ public class MimeConstants {
     public static final String ENTITY_BYTE_CHANNEL = "entity_byte_channel";
     public static final String MULTIPART_ENCODER = "MultipartEncoder";
     public static final String BODY_PARTS = "body_parts";
+    public static final String BODY_PART_ITERATOR = "body_part_iterator";
     public static final String TRANSPORT_MESSAGE = "transport_message";
     public static final String PARSE_AS_JSON = "PARSE_AS_TEXT";
 
@@ -164,7 +165,11 @@ public class MimeConstants {
     public static final int FIRST_ELEMENT = 0;
 
     public static final int READABLE_BUFFER_SIZE = 8192; //8KB
+    public static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    public static final int MAX_INITIAL_CONTENT_SIZE = 65536; //64KB
     public static final double MAX_THRESHOLD_PERCENTAGE = 0.1;
+    //System property to configure the size in bytes, beyond which the body parts are written to temp files
+    public static final String MEMORY_THRESHOLD_PROPERTY = "ballerina.mime.memoryThreshold";
 
     public static final String UTF_8 = "UTF-8";
     public static final String CONTENT_TRANSFER_ENCODING_7_BIT = "7bit";
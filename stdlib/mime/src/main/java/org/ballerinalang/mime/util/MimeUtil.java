@@ -42,6 +42,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.Random;
 
@@ -64,6 +65,8 @@ import static org.ballerinalang.mime.util.MimeConstants.DISPOSITION_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.DOUBLE_QUOTE;
 import static org.ballerinalang.mime.util.MimeConstants.FORM_DATA_PARAM;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_TYPE_ERROR;
+import static org.ballerinalang.mime.util.MimeConstants.MAX_ARRAY_SIZE;
+import static org.ballerinalang.mime.util.MimeConstants.MAX_INITIAL_CONTENT_SIZE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
@@ -386,6 +389,60 @@ public class MimeUtil {
         }
     }
 
+    /**
+     * Given an input stream and the length of its content, get a byte array. The content is read directly into an
+     * array, which is not copied once read if the content is of the given length.
+     * <p>
+     * The length is only used as a hint, since it could be taken from a header which is not enforced against the
+     * content, such as the Content-Length header of a body part. An array of at most 64KB is allocated up front, and
+     * it grows as the content is read.
+     *
+     * @param input         Represent an input stream
+     * @param contentLength Length of the content of the input stream, or a negative value if it is unknown
+     * @return A byte array
+     * @throws IOException In case an error occurs while reading input stream
+     */
+    public static byte[] getByteArray(InputStream input, long contentLength) throws IOException {
+        if (contentLength < 0) {
+            return getByteArray(input);
+        }
+        byte[] content = new byte[(int) Math.min(contentLength, MAX_INITIAL_CONTENT_SIZE)];
+        int offset = 0;
+        while (true) {
+            if (offset == content.length) {
+                if (offset >= contentLength) {
+                    //The content is only read past the given length if it is longer than that
+                    int nextByte = input.read();
+                    if (nextByte == -1) {
+                        return content;
+                    }
+                    content = growContentArray(content, contentLength);
+                    content[offset++] = (byte) nextByte;
+                    continue;
+                }
+                content = growContentArray(content, contentLength);
+            }
+            int len = input.read(content, offset, content.length - offset);
+            if (len == -1) {
+                break;
+            }
+            offset += len;
+        }
+        return offset == content.length ? content : Arrays.copyOf(content, offset);
+    }
+
+    private static byte[] growContentArray(byte[] content, long contentLength) {
+        int length = content.length;
+        if (length >= MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("content is too large to be read into an array");
+        }
+        long newLength = Math.max(2L * length, READABLE_BUFFER_SIZE);
+        if (length < contentLength) {
+            newLength = Math.min(newLength, contentLength);
+        }
+        return Arrays.copyOf(content, (int) Math.min(newLength, MAX_ARRAY_SIZE));
+    }
+
     /**
      * Check whether the given string is not null and empty.
      *
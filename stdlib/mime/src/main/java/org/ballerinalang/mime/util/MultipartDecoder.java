@@ -39,6 +39,7 @@ import static org.ballerinalang.mime.util.MimeConstants.ENTITY;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_ELEMENT;
 import static org.ballerinalang.mime.util.MimeConstants.MAX_THRESHOLD_PERCENTAGE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.MEMORY_THRESHOLD_PROPERTY;
 import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
 import static org.ballerinalang.mime.util.MimeConstants.PARSER_ERROR;
 import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_MIME_PKG_ID;
@@ -79,9 +80,21 @@ public class MultipartDecoder {
      */
     public static List<MIMEPart> decodeBodyParts(String contentType, InputStream inputStream)
             throws MimeTypeParseException {
+        return createMimeMessage(contentType, inputStream).getAttachments();
+    }
+
+    /**
+     * Create a mime message which decodes multiparts from a given input stream, as they are read.
+     *
+     * @param contentType Content-Type of the top level message
+     * @param inputStream Represent input stream coming from the request/response
+     * @return A mime message of which the parts are not decoded yet
+     * @throws MimeTypeParseException When the content type cannot be parsed
+     */
+    public static MIMEMessage createMimeMessage(String contentType, InputStream inputStream)
+            throws MimeTypeParseException {
         MimeType mimeType = new MimeType(contentType);
-        final MIMEMessage mimeMessage = new MIMEMessage(inputStream, mimeType.getParameter(BOUNDARY), getMimeConfig());
-        return mimeMessage.getAttachments();
+        return new MIMEMessage(inputStream, mimeType.getParameter(BOUNDARY), getMimeConfig());
     }
 
     /**
@@ -96,11 +109,16 @@ public class MultipartDecoder {
     }
 
     /**
-     * Get the maximum memory threshold value to be used with multiparts.
+     * Get the maximum memory threshold value to be used with multiparts. Unless it is configured through the
+     * {@code ballerina.mime.memoryThreshold} system property, it is derived from the free memory.
      *
      * @return max threshold value
      */
     private static Long getMemoryThreshold() {
+        Long configuredThreshold = Long.getLong(MEMORY_THRESHOLD_PROPERTY);
+        if (configuredThreshold != null && configuredThreshold > 0) {
+            return configuredThreshold;
+        }
         Long freeMemorySize = Runtime.getRuntime().freeMemory();
         Double maxThreshold = freeMemorySize * MAX_THRESHOLD_PERCENTAGE;
         return maxThreshold.longValue();
@@ -115,14 +133,24 @@ public class MultipartDecoder {
                                                List<MIMEPart> mimeParts) {
         ArrayList<BObject> bodyParts = new ArrayList<>();
         for (final MIMEPart mimePart : mimeParts) {
-            BObject partStruct = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID, ENTITY);
-            BObject mediaType = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID, MEDIA_TYPE);
-            populateBodyPart(mimePart, partStruct, mediaType);
-            bodyParts.add(partStruct);
+            bodyParts.add(createBodyPart(mimePart));
         }
         EntityBodyHandler.setPartsToTopLevelEntity(entity, bodyParts);
     }
 
+    /**
+     * Create a ballerina body part from the given mime part.
+     *
+     * @param mimePart Represent a decoded mime part
+     * @return ballerina body part populated with the header info and the body of the mime part
+     */
+    static BObject createBodyPart(MIMEPart mimePart) {
+        BObject partStruct = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID, ENTITY);
+        BObject mediaType = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID, MEDIA_TYPE);
+        populateBodyPart(mimePart, partStruct, mediaType);
+        return partStruct;
+    }
+
     /**
      * Populate ballerina body part with header info and actual body.
      *
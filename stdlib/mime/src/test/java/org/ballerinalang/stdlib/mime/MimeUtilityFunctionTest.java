@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BObject;
 import org.ballerinalang.core.model.util.JsonParser;
 import org.ballerinalang.core.model.util.XMLUtils;
+import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BMap;
 import org.ballerinalang.core.model.values.BString;
 import org.ballerinalang.core.model.values.BValue;
@@ -45,6 +46,7 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
@@ -699,6 +701,29 @@ public class MimeUtilityFunctionTest {
         verifyMimeError(returns[0], "Entity doesn't contain body parts");
     }
 
+    @Test(description = "Test whether the body parts in a multipart entity can be decoded as a stream")
+    public void testGetBodyPartsAsStream() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testGetBodyPartsAsStream");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(returns[0].stringValue(), "jsonPart;Ballerina text body part;");
+    }
+
+    @Test(description = "Test whether the body parts which are already decoded can be retrieved as a stream")
+    public void testGetDecodedBodyPartsAsStream() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testGetDecodedBodyPartsAsStream");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 2);
+    }
+
+    @Test(description = "Test whether an error is returned when trying to stream body parts from an " +
+            "entity that has discrete media type content")
+    public void getBodyPartsAsStreamFromDiscreteTypeEntity() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "getBodyPartsAsStreamFromDiscreteTypeEntity");
+        Assert.assertEquals(returns.length, 1);
+        verifyMimeError(returns[0], "Entity body is not a type of composite media type. " +
+                "Received content-type : application/json");
+    }
+
     @Test(description = "Test whether an error is returned when trying to retrieve a byte channel from a multipart" +
             "entity")
     public void getChannelFromMultipartEntity() {
@@ -761,4 +786,43 @@ public class MimeUtilityFunctionTest {
             log.error("Error occurred in getPartsFromInvalidChannel", e.getMessage());
         }
     }
+
+    @Test(description = "Test whether the content of a body part is read when its Content-Length header is much " +
+            "larger than its content")
+    public void getByteArrayOfPartWithLargerContentLength() {
+        try {
+            String multipartBody = "--e3a0b9ad7b4e7cdt\r\n" +
+                    "Content-Type: application/octet-stream\r\n" +
+                    "Content-Length: 2000000000\r\n" +
+                    "\r\n" +
+                    "small body part\r\n" +
+                    "--e3a0b9ad7b4e7cdt--\r\n";
+            File file = getTemporaryFile("testFile", ".tmp", multipartBody);
+            BObject byteChannel = ValueCreator.createObjectValue(PROTOCOL_IO_PKG_ID,
+                                                                 READABLE_BYTE_CHANNEL_STRUCT);
+            byteChannel.addNativeData(IOConstants.BYTE_CHANNEL_NAME,
+                                      EntityBodyHandler.getByteChannelForTempFile(file.getAbsolutePath()));
+            Object[] args = {byteChannel, StringUtils.fromString("multipart/mixed; boundary=e3a0b9ad7b4e7cdt")};
+            BValue[] returns = BRunUtil.invoke(compileResult, "getByteArrayOfPart", args);
+            Assert.assertEquals(returns.length, 1);
+            Assert.assertEquals(new String(((BValueArray) returns[0]).getBytes()), "small body part");
+        } catch (IOException e) {
+            log.error("Error occurred in getByteArrayOfPartWithLargerContentLength", e.getMessage());
+        }
+    }
+
+    @Test(description = "Test whether a byte array is read from a stream of which the given content length is not " +
+            "the length of the content")
+    public void getByteArrayWithContentLength() throws IOException {
+        byte[] content = new byte[200000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(content), content.length), content);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(content), 2000000000L), content);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(content), 100), content);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(content), 0), content);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(content), -1), content);
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(new byte[0]), 100), new byte[0]);
+    }
 }
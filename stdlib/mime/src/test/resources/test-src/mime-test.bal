@@ -501,3 +501,73 @@ function getPartsFromInvalidChannel(io:ReadableByteChannel byteChannel, string c
     entity.setByteChannel(byteChannel, contentType);
     return entity.getBodyParts();
 }
+
+function testGetBodyPartsAsStream() returns @tainted string|error {
+    mime:Entity bodyPart1 = new;
+    bodyPart1.setJson({ "bodyPart": "jsonPart" });
+
+    mime:Entity bodyPart2 = new;
+    bodyPart2.setText("Ballerina text body part");
+
+    mime:Entity[] bodyParts = [bodyPart1, bodyPart2];
+    mime:Entity multipartEntity = new;
+    string contentType = mime:MULTIPART_MIXED + "; boundary=e3a0b9ad7b4e7cdt";
+    multipartEntity.setBodyParts(bodyParts, contentType);
+    io:ReadableByteChannel byteChannel = check multipartEntity.getBodyPartsAsChannel();
+
+    mime:Entity entity = new;
+    entity.setByteChannel(byteChannel, contentType);
+    stream<mime:Entity, mime:ParserError> bodyPartStream = check entity.getBodyPartsAsStream();
+    string content = "";
+    var bodyPart = bodyPartStream.next();
+    while (bodyPart is record {| mime:Entity value; |}) {
+        mime:Entity part = bodyPart.value;
+        if (part.getContentType() == mime:APPLICATION_JSON) {
+            json jsonContent = check part.getJson();
+            content = content + (check jsonContent.bodyPart).toString() + ";";
+        } else {
+            content = content + check part.getText() + ";";
+        }
+        bodyPart = bodyPartStream.next();
+    }
+    if (bodyPart is error) {
+        return bodyPart;
+    }
+    return content;
+}
+
+function testGetDecodedBodyPartsAsStream() returns int|error {
+    mime:Entity bodyPart1 = new;
+    bodyPart1.setText("First body part");
+
+    mime:Entity bodyPart2 = new;
+    bodyPart2.setText("Second body part");
+
+    mime:Entity[] bodyParts = [bodyPart1, bodyPart2];
+    mime:Entity multipartEntity = new;
+    multipartEntity.setBodyParts(bodyParts);
+    stream<mime:Entity, mime:ParserError> bodyPartStream = check multipartEntity.getBodyPartsAsStream();
+    int count = 0;
+    var bodyPart = bodyPartStream.next();
+    while (bodyPart is record {| mime:Entity value; |}) {
+        count = count + 1;
+        bodyPart = bodyPartStream.next();
+    }
+    if (bodyPart is error) {
+        return bodyPart;
+    }
+    return count;
+}
+
+function getBodyPartsAsStreamFromDiscreteTypeEntity() returns stream<mime:Entity, mime:ParserError>|error {
+    mime:Entity entity = new;
+    entity.setJson({ "bodyPart": "jsonPart" });
+    return entity.getBodyPartsAsStream();
+}
+
+function getByteArrayOfPart(io:ReadableByteChannel byteChannel, string contentType) returns @tainted byte[]|error {
+    mime:Entity entity = new;
+    entity.setByteChannel(byteChannel, contentType);
+    mime:Entity[] bodyParts = check entity.getBodyParts();
+    return bodyParts[0].getByteArray();
+}
@@ -20,10 +20,21 @@
 # + intervalInMillis - Timer interval (in milliseconds), which triggers the `onTrigger` resource
 # + initialDelayInMillis - Delay (in milliseconds) after which the timer will run
 # + noOfRecurrences - Number of times to trigger the task after which the task stops running
+# + maxConcurrentRuns - Maximum number of runs of the task, which could be in progress at once. A run is in progress
+#                       until the `onTrigger` resources of all the attached services return. The runs are not limited
+#                       by default
+# + overrunPolicy - The `task:OverrunPolicy` of the triggers received while the maximum number of runs are in progress
+# + maxQueuedRuns - Maximum number of triggers queued with the `task:OVERRUN_QUEUE` policy
+# + jitterInMillis - Maximum random delay (in milliseconds) added to each trigger, which spreads the triggers of the
+#                    tasks scheduled at the same time
 public type TimerConfiguration record {|
     int intervalInMillis;
     int initialDelayInMillis?;
     int noOfRecurrences?;
+    int maxConcurrentRuns?;
+    OverrunPolicy overrunPolicy = OVERRUN_SKIP;
+    int maxQueuedRuns = 1;
+    int jitterInMillis = 0;
 |};
 
 # Configurations related to an appointment, which are used to define the behavior of an appointment when initializing
@@ -31,11 +42,40 @@ public type TimerConfiguration record {|
 #
 # + appointmentDetails - A CRON expression as a string or `task:AppointmentData` for scheduling an appointment
 # + noOfRecurrences - Number of times to trigger the task after which the task stops running
+# + maxConcurrentRuns - Maximum number of runs of the task, which could be in progress at once. A run is in progress
+#                       until the `onTrigger` resources of all the attached services return. The runs are not limited
+#                       by default
+# + overrunPolicy - The `task:OverrunPolicy` of the triggers received while the maximum number of runs are in progress
+# + maxQueuedRuns - Maximum number of triggers queued with the `task:OVERRUN_QUEUE` policy
+# + jitterInMillis - Maximum random delay (in milliseconds) added to each trigger, which spreads the triggers of the
+#                    tasks scheduled at the same time
 public type AppointmentConfiguration record {|
     string|AppointmentData appointmentDetails;
     int noOfRecurrences?;
+    int maxConcurrentRuns?;
+    OverrunPolicy overrunPolicy = OVERRUN_SKIP;
+    int maxQueuedRuns = 1;
+    int jitterInMillis = 0;
 |};
 
+# Defines the possible actions for a trigger of a task, which is received while the maximum number of runs of the
+# task are in progress.
+#
+# `SKIP`: The trigger is skipped
+# `QUEUE`: The trigger is queued until a run completes, unless the maximum number of triggers are already queued
+# `COALESCE`: The trigger is merged with any trigger which is already waiting, so that at most one run follows the
+#             runs in progress
+public type OverrunPolicy OVERRUN_SKIP|OVERRUN_QUEUE|OVERRUN_COALESCE;
+
+# Skips the triggers received while the maximum number of runs are in progress.
+public const OVERRUN_SKIP = "SKIP";
+
+# Queues the triggers received while the maximum number of runs are in progress.
+public const OVERRUN_QUEUE = "QUEUE";
+
+# Merges the triggers received while the maximum number of runs are in progress into a single run.
+public const OVERRUN_COALESCE = "COALESCE";
+
 # The CRON expression required for scheduling an appointment.
 #
 # + seconds - Second(s) in a given minute in which the appointment will run
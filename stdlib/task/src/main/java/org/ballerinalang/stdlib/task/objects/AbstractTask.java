@@ -19,6 +19,7 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.ballerinalang.stdlib.task.utils.TaskDispatcher;
 import org.ballerinalang.stdlib.task.utils.TaskIdGenerator;
 import org.quartz.JobDataMap;
 import org.quartz.JobKey;
@@ -42,6 +43,7 @@ public abstract class AbstractTask implements Task {
     private HashMap<String, ServiceInformation> serviceMap;
     Map<String, JobKey> quartzJobs = new HashMap<>();
     long maxRuns;
+    private volatile TaskDispatcher dispatcher = new TaskDispatcher(this);
 
     /**
      * Constructor to create a task without a limited (maximum) number of runs.
@@ -105,6 +107,44 @@ public abstract class AbstractTask implements Task {
         return this.id;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void trigger(long scheduledTime) {
+        this.dispatcher.trigger(scheduledTime);
+    }
+
+    /**
+     * Drops the triggers of the task which are not yet dispatched, once the task is stopped.
+     */
+    void stopDispatcher() {
+        this.dispatcher.stop();
+    }
+
+    /**
+     * Limits the runs of the task which could be in progress at once, and adds a random delay to the triggers.
+     *
+     * @param maxConcurrentRuns Maximum number of runs in progress at once, or 0 if the runs are not limited.
+     * @param overrunPolicy     Action taken for a trigger when the maximum number of runs are in progress.
+     * @param maxQueuedRuns     Maximum number of triggers queued with {@link OverrunPolicy#QUEUE}.
+     * @param jitterMillis      Maximum random delay added to each trigger, in milliseconds.
+     * @throws SchedulingException When provided configuration values are invalid.
+     */
+    public void setRunLimits(int maxConcurrentRuns, OverrunPolicy overrunPolicy, int maxQueuedRuns,
+                             long jitterMillis) throws SchedulingException {
+        if (maxConcurrentRuns < 0) {
+            throw new SchedulingException("Task maxConcurrentRuns should be a non-negative integer.");
+        }
+        if (maxQueuedRuns < 1) {
+            throw new SchedulingException("Task maxQueuedRuns should be a positive integer.");
+        }
+        if (jitterMillis < 0) {
+            throw new SchedulingException("Task jitter should be a non-negative value.");
+        }
+        this.dispatcher = new TaskDispatcher(this, maxConcurrentRuns, overrunPolicy, maxQueuedRuns, jitterMillis);
+    }
+
     /**
      * Create a job data map using the context and the service.
      *
@@ -132,6 +172,7 @@ public abstract class AbstractTask implements Task {
         } catch (SchedulerException e) {
             throw new SchedulingException("Failed to stop the task.", e);
         }
+        stopDispatcher();
     }
 
     /**
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.objects;
+
+/**
+ * Action taken for a trigger of a task, when the maximum number of runs of the task are already in progress.
+ *
+ * @since 2.0.0
+ */
+public enum OverrunPolicy {
+
+    /**
+     * The trigger is skipped.
+     */
+    SKIP,
+
+    /**
+     * The trigger is queued until a run is completed, unless the maximum number of triggers are already queued.
+     */
+    QUEUE,
+
+    /**
+     * The trigger is merged with any trigger which is already waiting, so that at most one run follows the runs in
+     * progress.
+     */
+    COALESCE
+}
@@ -42,6 +42,13 @@ public interface Task {
      */
     void start() throws SchedulingException;
 
+    /**
+     * Dispatch a trigger of the task to the attached services.
+     *
+     * @param scheduledTime Time at which the trigger was scheduled, as per {@link System#nanoTime()}.
+     */
+    void trigger(long scheduledTime);
+
     /**
      * Stop the task.
      *
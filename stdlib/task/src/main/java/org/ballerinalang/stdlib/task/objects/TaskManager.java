@@ -19,23 +19,31 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.ballerinalang.stdlib.task.utils.TimerWheel;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.impl.StdSchedulerFactory;
 
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD_VALUE;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT_VALUE;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_WHEEL_SIZE;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_WHEEL_THREAD_NAME;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_WHEEL_TICK_DURATION_MILLIS;
 
 
 /**
- * Task manager to handle schedulers in ballerina tasks.
+ * Task manager to handle schedulers in ballerina tasks. Appointments are scheduled by Quartz, while timers are run by
+ * a timer wheel.
  */
 public class TaskManager {
     private Scheduler scheduler;
+    private final TimerWheel timerWheel = new TimerWheel(TIMER_WHEEL_THREAD_NAME, TIMER_WHEEL_TICK_DURATION_MILLIS,
+                                                         TimeUnit.MILLISECONDS, TIMER_WHEEL_SIZE);
 
     private static class TaskManagerHelper {
         private static final TaskManager INSTANCE = new TaskManager();
@@ -61,6 +69,10 @@ public class TaskManager {
         return this.scheduler;
     }
 
+    public TimerWheel getTimerWheel() {
+        return this.timerWheel;
+    }
+
     private Properties createSchedulerProperties() {
         Properties properties = new Properties();
         properties.setProperty(QUARTZ_MISFIRE_THRESHOLD, QUARTZ_MISFIRE_THRESHOLD_VALUE);
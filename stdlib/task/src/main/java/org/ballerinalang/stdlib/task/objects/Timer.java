@@ -18,27 +18,26 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
-import org.ballerinalang.stdlib.task.utils.TaskJob;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleScheduleBuilder;
-import org.quartz.Trigger;
+import org.ballerinalang.stdlib.task.utils.TimerWheel;
 
-import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
-import static org.quartz.JobBuilder.newJob;
-import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
-import static org.quartz.TriggerBuilder.newTrigger;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_MISFIRE_THRESHOLD_MILLIS;
 
 /**
- * Represents a Timer object used to create and run Timers.
+ * Represents a Timer object used to create and run Timers. Timers are run by the timer wheel of the task manager,
+ * which dispatches the services directly to the Ballerina scheduler.
  *
  * @since 0.995.0
  */
 public class Timer extends AbstractTask {
 
     private long interval, delay;
+    // Guarded by this object, as the timer is run by the thread of the timer wheel and controlled by the strands
+    private TimerWheel.Timeout timeout;
+    private long nextRunTime;
+    private long runs;
+    private boolean paused;
 
     /**
      * Creates a Timer object.
@@ -73,13 +72,43 @@ public class Timer extends AbstractTask {
      * {@inheritDoc}
      */
     @Override
-    public void start() throws SchedulingException {
-        JobDataMap jobDataMap = getJobDataMapFromTask();
-        try {
-            scheduleTimer(jobDataMap);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Failed to schedule task.", e);
+    public synchronized void start() throws SchedulingException {
+        if (this.timeout != null) {
+            throw new SchedulingException("Failed to schedule task, as it is already started.");
         }
+        this.runs = 0;
+        this.paused = false;
+        this.nextRunTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.getDelay());
+        this.timeout = TaskManager.getInstance().getTimerWheel().schedule(this::run, this.getDelay(),
+                                                                          TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void stop() {
+        if (this.timeout != null) {
+            this.timeout.cancel();
+            this.timeout = null;
+        }
+        stopDispatcher();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void pause() {
+        this.paused = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void resume() {
+        this.paused = false;
     }
 
     /**
@@ -119,49 +148,32 @@ public class Timer extends AbstractTask {
     }
 
     /**
-     * Schedule a Timer.
-     *
-     * @param jobData Map containing the details of the job.
-     * @throws SchedulerException if scheduling is failed.
+     * Runs the services of the timer for each run which is due, and schedules the next run. Runs missed by more than
+     * the misfire threshold are skipped, and runs while the timer is paused are not counted.
      */
-    private void scheduleTimer(JobDataMap jobData) throws SchedulerException, SchedulingException {
-        SimpleScheduleBuilder schedule = createSchedulerBuilder(this.getInterval(), this.getMaxRuns());
-        String triggerId = this.getId();
-        JobDetail job = newJob(TaskJob.class).usingJobData(jobData).withIdentity(triggerId).build();
-        Trigger trigger;
-
-        if (this.getDelay() > 0) {
-            Date startTime = new Date(System.currentTimeMillis() + this.getDelay());
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startAt(startTime)
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
-        } else {
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startNow()
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
+    private synchronized void run() {
+        // A timeout which expired while the timer was stopped or restarted is ignored
+        if (this.timeout == null || !this.timeout.isExpired()) {
+            return;
         }
-
-        TaskManager.getInstance().getScheduler().scheduleJob(job, trigger);
-        quartzJobs.put(triggerId, job.getKey());
-    }
-
-    private static SimpleScheduleBuilder createSchedulerBuilder(long interval, long maxRuns) {
-        SimpleScheduleBuilder simpleScheduleBuilder = simpleSchedule()
-                .withMisfireHandlingInstructionNextWithRemainingCount()
-                .withIntervalInMilliseconds(interval);
-        if (maxRuns > 0) {
-            // Quartz uses number of repeats, but we count total number of runs.
-            // Hence we subtract 1 from the maxRuns to get the repeat count.
-            simpleScheduleBuilder.withRepeatCount((int) (maxRuns - 1));
-        } else {
-            simpleScheduleBuilder.repeatForever();
+        long currentTime = System.nanoTime();
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(this.getInterval());
+        long lateness = currentTime - this.nextRunTime;
+        if (lateness > TimeUnit.MILLISECONDS.toNanos(TIMER_MISFIRE_THRESHOLD_MILLIS)) {
+            this.nextRunTime += lateness / intervalNanos * intervalNanos;
+        }
+        while (this.nextRunTime - currentTime <= 0) {
+            if (!this.paused) {
+                this.trigger(this.nextRunTime);
+                this.runs++;
+                if (this.getMaxRuns() > 0 && this.runs >= this.getMaxRuns()) {
+                    this.timeout = null;
+                    return;
+                }
+            }
+            this.nextRunTime += intervalNanos;
         }
-        return simpleScheduleBuilder;
+        this.timeout = TaskManager.getInstance().getTimerWheel().schedule(this::run, this.nextRunTime - currentTime,
+                                                                          TimeUnit.NANOSECONDS);
     }
 }
@@ -53,6 +53,12 @@ public class TaskConstants {
     public static final BString FIELD_INTERVAL = StringUtils.fromString("intervalInMillis");
     public static final BString FIELD_DELAY = StringUtils.fromString("initialDelayInMillis");
 
+    // Fields used in TimerConfiguration and AppointmentConfiguration to control the runs of the task
+    public static final BString FIELD_MAX_CONCURRENT_RUNS = StringUtils.fromString("maxConcurrentRuns");
+    public static final BString FIELD_OVERRUN_POLICY = StringUtils.fromString("overrunPolicy");
+    public static final BString FIELD_MAX_QUEUED_RUNS = StringUtils.fromString("maxQueuedRuns");
+    public static final BString FIELD_JITTER = StringUtils.fromString("jitterInMillis");
+
     // Fields used in AppointmentData
     static final BString FIELD_SECONDS = StringUtils.fromString("seconds");
     static final BString FIELD_MINUTES = StringUtils.fromString("minutes");
@@ -81,4 +87,16 @@ public class TaskConstants {
     public static final String QUARTZ_THREAD_COUNT_VALUE = "10";
     // Defines how late the trigger should be to be considered misfired
     public static final String QUARTZ_MISFIRE_THRESHOLD_VALUE = "5000";
+
+    // Metrics of the runs of the tasks
+    static final String METRIC_EXECUTION_DURATION = "task_execution_duration_seconds";
+    static final String METRIC_TRIGGER_LAG = "task_trigger_lag_seconds";
+    static final String METRIC_OVERRUNS = "task_overruns_total";
+
+    // Timer wheel used to run the timers
+    public static final String TIMER_WHEEL_THREAD_NAME = "ballerina-task-timer";
+    public static final long TIMER_WHEEL_TICK_DURATION_MILLIS = 10;
+    public static final int TIMER_WHEEL_SIZE = 512;
+    // Defines how late a timer should be to skip the missed runs, as the misfire threshold of Quartz
+    public static final long TIMER_MISFIRE_THRESHOLD_MILLIS = 5000;
 }
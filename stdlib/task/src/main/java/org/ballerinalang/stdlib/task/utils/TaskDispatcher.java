@@ -0,0 +1,240 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.utils;
+
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.values.BError;
+import org.ballerinalang.stdlib.task.objects.OverrunPolicy;
+import org.ballerinalang.stdlib.task.objects.ServiceInformation;
+import org.ballerinalang.stdlib.task.objects.Task;
+import org.ballerinalang.stdlib.task.objects.TaskManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Dispatches the triggers of a task to the services attached to it.
+ * </p>
+ * <p>
+ * A run of the task is in progress until the {@code onTrigger} resources of all the services return. Once the maximum
+ * number of runs are in progress, further triggers are skipped, queued or coalesced as per the overrun policy, so that
+ * slow services do not pile up strands. A random delay of up to the jitter could be added to each trigger, so that the
+ * tasks scheduled at the same time are not dispatched at once.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class TaskDispatcher {
+
+    private final Task task;
+    private final int maxConcurrentRuns;
+    private final OverrunPolicy overrunPolicy;
+    private final int maxQueuedRuns;
+    private final long jitterNanos;
+    // Guarded by this object
+    private int activeRuns;
+    private final Deque<Long> waitingTriggers = new ArrayDeque<>();
+    // Number of times the task was stopped, so that the triggers delayed by the jitter before a stop are dropped
+    private int stopCount;
+
+    /**
+     * Creates a dispatcher which does not limit the runs of the task.
+     *
+     * @param task Task of which the triggers are dispatched.
+     */
+    public TaskDispatcher(Task task) {
+        this(task, 0, OverrunPolicy.SKIP, 0, 0);
+    }
+
+    /**
+     * Creates a dispatcher of the triggers of a task.
+     *
+     * @param task              Task of which the triggers are dispatched.
+     * @param maxConcurrentRuns Maximum number of runs in progress at once, or 0 if the runs are not limited.
+     * @param overrunPolicy     Action taken for a trigger when the maximum number of runs are in progress.
+     * @param maxQueuedRuns     Maximum number of triggers queued with {@link OverrunPolicy#QUEUE}.
+     * @param jitterMillis      Maximum random delay added to each trigger, in milliseconds.
+     */
+    public TaskDispatcher(Task task, int maxConcurrentRuns, OverrunPolicy overrunPolicy, int maxQueuedRuns,
+                          long jitterMillis) {
+        this.task = task;
+        this.maxConcurrentRuns = maxConcurrentRuns;
+        this.overrunPolicy = overrunPolicy;
+        this.maxQueuedRuns = maxQueuedRuns;
+        this.jitterNanos = TimeUnit.MILLISECONDS.toNanos(jitterMillis);
+    }
+
+    /**
+     * Dispatches a trigger of the task.
+     *
+     * @param scheduledTime Time at which the trigger was scheduled, as per {@link System#nanoTime()}.
+     */
+    public void trigger(long scheduledTime) {
+        if (jitterNanos > 0) {
+            long jitter = ThreadLocalRandom.current().nextLong(jitterNanos + 1);
+            int stops;
+            synchronized (this) {
+                stops = stopCount;
+            }
+            TaskManager.getInstance().getTimerWheel().schedule(() -> dispatchDelayed(scheduledTime + jitter, stops),
+                                                               jitter, TimeUnit.NANOSECONDS);
+        } else {
+            dispatch(scheduledTime);
+        }
+    }
+
+    /**
+     * Drops the triggers which are delayed by the jitter or queued, as the task is stopped. The runs in progress are
+     * not affected, and the triggers after the task is started again are dispatched as usual.
+     */
+    public synchronized void stop() {
+        stopCount++;
+        waitingTriggers.clear();
+    }
+
+    /**
+     * Gets the number of runs of the task in progress.
+     *
+     * @return number of runs in progress.
+     */
+    public synchronized int getActiveRuns() {
+        return activeRuns;
+    }
+
+    private void dispatchDelayed(long scheduledTime, int stops) {
+        synchronized (this) {
+            if (stops != stopCount) {
+                return;
+            }
+        }
+        dispatch(scheduledTime);
+    }
+
+    private void dispatch(long scheduledTime) {
+        synchronized (this) {
+            if (maxConcurrentRuns > 0 && activeRuns >= maxConcurrentRuns) {
+                overrun(scheduledTime);
+                return;
+            }
+            activeRuns++;
+        }
+        run(scheduledTime);
+    }
+
+    private void overrun(long scheduledTime) {
+        Consumer<TaskMetrics> overrunMetric;
+        if (overrunPolicy == OverrunPolicy.QUEUE && waitingTriggers.size() < maxQueuedRuns) {
+            waitingTriggers.add(scheduledTime);
+            overrunMetric = TaskMetrics::triggerQueued;
+        } else if (overrunPolicy == OverrunPolicy.COALESCE && !waitingTriggers.isEmpty()) {
+            // The waiting trigger is kept, so that the lag is measured from the earliest trigger
+            overrunMetric = TaskMetrics::triggerCoalesced;
+        } else if (overrunPolicy == OverrunPolicy.COALESCE) {
+            waitingTriggers.add(scheduledTime);
+            overrunMetric = TaskMetrics::triggerQueued;
+        } else {
+            overrunMetric = TaskMetrics::triggerSkipped;
+        }
+        if (TaskMetrics.isEnabled()) {
+            for (ServiceInformation service : getServices()) {
+                overrunMetric.accept(TaskMetrics.getMetrics(service.getServiceName()));
+            }
+        }
+    }
+
+    private void run(long scheduledTime) {
+        ServiceInformation[] services = getServices();
+        if (services.length == 0) {
+            runCompleted();
+            return;
+        }
+        // Completion of the services is only tracked to limit the runs or to measure their duration
+        boolean tracked = maxConcurrentRuns > 0 || TaskMetrics.isEnabled();
+        long startTime = System.nanoTime();
+        AtomicInteger pendingServices = new AtomicInteger(services.length);
+        for (ServiceInformation service : services) {
+            TaskMetrics metrics = TaskMetrics.getMetrics(service.getServiceName());
+            if (metrics != null) {
+                metrics.recordTriggerLag(startTime - scheduledTime);
+            }
+            TaskExecutor.executeFunction(service,
+                                         tracked ? new RunCallback(metrics, startTime, pendingServices) : null);
+        }
+        if (!tracked) {
+            runCompleted();
+        }
+    }
+
+    private void runCompleted() {
+        long scheduledTime;
+        synchronized (this) {
+            Long waitingTrigger = waitingTriggers.poll();
+            if (waitingTrigger == null) {
+                activeRuns--;
+                return;
+            }
+            scheduledTime = waitingTrigger;
+        }
+        run(scheduledTime);
+    }
+
+    private ServiceInformation[] getServices() {
+        return task.getServicesMap().values().toArray(new ServiceInformation[0]);
+    }
+
+    /**
+     * Callback of the {@code onTrigger} resource of a service, which completes the run once all the services of the
+     * run return.
+     */
+    private class RunCallback implements Callback {
+
+        private final TaskMetrics metrics;
+        private final long startTime;
+        private final AtomicInteger pendingServices;
+
+        RunCallback(TaskMetrics metrics, long startTime, AtomicInteger pendingServices) {
+            this.metrics = metrics;
+            this.startTime = startTime;
+            this.pendingServices = pendingServices;
+        }
+
+        @Override
+        public void notifySuccess() {
+            serviceCompleted();
+        }
+
+        @Override
+        public void notifyFailure(BError error) {
+            serviceCompleted();
+        }
+
+        private void serviceCompleted() {
+            if (metrics != null) {
+                metrics.recordExecutionDuration(System.nanoTime() - startTime);
+            }
+            if (pendingServices.decrementAndGet() == 0) {
+                runCompleted();
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.ballerinalang.stdlib.task.utils;
 
 import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.async.Callback;
 import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.types.AttachedFunctionType;
 import org.ballerinalang.stdlib.task.objects.ServiceInformation;
@@ -36,12 +37,12 @@ public class TaskExecutor {
     private static final StrandMetadata TASK_METADATA =
             new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX, PACKAGE_NAME, PACKAGE_VERSION, RESOURCE_ON_TRIGGER);
 
-    public static void executeFunction(ServiceInformation serviceInformation) {
+    public static void executeFunction(ServiceInformation serviceInformation, Callback callback) {
         AttachedFunctionType onTriggerFunction = serviceInformation.getOnTriggerFunction();
         Object[] onTriggerFunctionArgs = getParameterList(onTriggerFunction, serviceInformation);
 
         Runtime runtime = serviceInformation.getRuntime();
-        runtime.invokeMethodAsync(serviceInformation.getService(), RESOURCE_ON_TRIGGER, null, TASK_METADATA, null,
+        runtime.invokeMethodAsync(serviceInformation.getService(), RESOURCE_ON_TRIGGER, null, TASK_METADATA, callback,
                                   onTriggerFunctionArgs);
     }
 
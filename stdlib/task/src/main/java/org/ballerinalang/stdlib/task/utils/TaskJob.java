@@ -17,12 +17,14 @@
  */
 package org.ballerinalang.stdlib.task.utils;
 
-import org.ballerinalang.stdlib.task.objects.ServiceInformation;
 import org.ballerinalang.stdlib.task.objects.Task;
 import org.quartz.Job;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.TASK_OBJECT;
 
 /**
@@ -40,8 +42,18 @@ public class TaskJob implements Job {
     public void execute(JobExecutionContext jobExecutionContext) {
         JobDataMap jobDataMap = jobExecutionContext.getMergedJobDataMap();
         Task task = (Task) jobDataMap.get(TASK_OBJECT);
-        for (ServiceInformation serviceInformation : task.getServicesMap().values()) {
-            TaskExecutor.executeFunction(serviceInformation);
+        task.trigger(getScheduledTime(jobExecutionContext.getScheduledFireTime()));
+    }
+
+    /**
+     * Converts the scheduled fire time of a trigger to the time source of {@link System#nanoTime()}.
+     */
+    private static long getScheduledTime(Date scheduledFireTime) {
+        long currentTime = System.nanoTime();
+        if (scheduledFireTime == null) {
+            return currentTime;
         }
+        long lateness = System.currentTimeMillis() - scheduledFireTime.getTime();
+        return currentTime - TimeUnit.MILLISECONDS.toNanos(lateness);
     }
 }
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.utils;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of the runs of the services attached to the tasks, which are recorded once metrics are enabled. The
+ * metrics are tagged by the name of the service, and their handles are cached by the service name.
+ *
+ * @since 2.0.0
+ */
+public class TaskMetrics {
+
+    private static final String TAG_SERVICE = "service";
+    private static final String TAG_ACTION = "action";
+    private static final StatisticConfig[] DURATION_STATISTIC_CONFIGS = new StatisticConfig[]{StatisticConfig.DEFAULT};
+    private static final Map<String, TaskMetrics> serviceMetrics = new ConcurrentHashMap<>();
+
+    private final Gauge executionDuration;
+    private final Gauge triggerLag;
+    private final Counter skippedTriggers;
+    private final Counter queuedTriggers;
+    private final Counter coalescedTriggers;
+
+    private TaskMetrics(MetricRegistry registry, String serviceName) {
+        Set<Tag> tags = Set.of(new Tag(TAG_SERVICE, serviceName));
+        this.executionDuration = registry.gauge(new MetricId(TaskConstants.METRIC_EXECUTION_DURATION,
+                "Duration of the onTrigger resource of a task service", tags), DURATION_STATISTIC_CONFIGS);
+        this.triggerLag = registry.gauge(new MetricId(TaskConstants.METRIC_TRIGGER_LAG,
+                "Delay between the scheduled time of a trigger and the dispatch of the service", tags),
+                DURATION_STATISTIC_CONFIGS);
+        this.skippedTriggers = overrunCounter(registry, serviceName, "skipped");
+        this.queuedTriggers = overrunCounter(registry, serviceName, "queued");
+        this.coalescedTriggers = overrunCounter(registry, serviceName, "coalesced");
+    }
+
+    /**
+     * Gets the metrics of a service.
+     *
+     * @param serviceName Name of the service.
+     * @return the metrics of the service, or null if metrics are not enabled.
+     */
+    public static TaskMetrics getMetrics(String serviceName) {
+        if (!isEnabled()) {
+            return null;
+        }
+        return serviceMetrics.computeIfAbsent(serviceName,
+                                              name -> new TaskMetrics(DefaultMetricRegistry.getInstance(), name));
+    }
+
+    public static boolean isEnabled() {
+        return ObserveUtils.isMetricsEnabled();
+    }
+
+    public void recordExecutionDuration(long durationNanos) {
+        executionDuration.setValue(toSeconds(durationNanos));
+    }
+
+    public void recordTriggerLag(long lagNanos) {
+        triggerLag.setValue(toSeconds(Math.max(lagNanos, 0)));
+    }
+
+    public void triggerSkipped() {
+        skippedTriggers.increment();
+    }
+
+    public void triggerQueued() {
+        queuedTriggers.increment();
+    }
+
+    public void triggerCoalesced() {
+        coalescedTriggers.increment();
+    }
+
+    private static Counter overrunCounter(MetricRegistry registry, String serviceName, String action) {
+        return registry.counter(new MetricId(TaskConstants.METRIC_OVERRUNS,
+                "Triggers of a task which overran the maximum number of concurrent runs",
+                Set.of(new Tag(TAG_SERVICE, serviceName), new Tag(TAG_ACTION, action))));
+    }
+
+    private static double toSeconds(long nanos) {
+        return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.utils;
+
+import java.io.PrintStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * Hashed timing wheel which runs the tasks scheduled on it from a single thread.
+ * </p>
+ * <p>
+ * The wheel is an array of buckets, each of which holds the timeouts expiring in a tick of the wheel. A timeout due
+ * after more than a full turn of the wheel is kept in its bucket with the number of turns remaining. Scheduling and
+ * cancelling a timeout take constant time, and each tick only visits the timeouts of one bucket, so that a large
+ * number of timers could be handled without a thread or a queue ordered by the deadlines. The timeouts expire at the
+ * tick following their deadlines, hence the tick duration is the precision of the wheel.
+ * </p>
+ * <p>
+ * The tasks are run by the thread of the wheel, and should hand over any work which could block.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class TimerWheel {
+
+    private static final PrintStream console = System.err;
+    // Number of new timeouts moved to the buckets in a tick, so that a burst of timeouts does not delay the tick
+    private static final int MAX_TIMEOUTS_PER_TICK = 100000;
+
+    private final long tickDuration;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean started;
+    private volatile boolean stopped;
+    private volatile long startTime;
+    // Only accessed by the thread of the wheel
+    private long tick;
+
+    /**
+     * Creates a timing wheel. The thread of the wheel is started when the first timeout is scheduled.
+     *
+     * @param threadName   Name of the thread which runs the tasks.
+     * @param tickDuration Duration of a tick of the wheel.
+     * @param unit         Time unit of the tick duration.
+     * @param wheelSize    Number of ticks of the wheel, which is rounded up to a power of two.
+     */
+    public TimerWheel(String threadName, long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tick duration should be positive: " + tickDuration);
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("wheel size should be positive and at most 2^30: " + wheelSize);
+        }
+        this.tickDuration = unit.toNanos(tickDuration);
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Schedules a task to be run once after the given delay.
+     *
+     * @param task  Task to be run.
+     * @param delay Delay after which the task is run. A delay which is not positive runs the task at the next tick.
+     * @param unit  Time unit of the delay.
+     * @return the timeout of the task, which could be used to cancel it.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (stopped) {
+            throw new IllegalStateException("cannot schedule a task on a stopped timer wheel");
+        }
+        start();
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        Timeout timeout = new Timeout(this, task, Math.max(deadline, 0));
+        pendingTimeouts.incrementAndGet();
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Gets the number of timeouts which are neither expired nor cancelled.
+     *
+     * @return number of pending timeouts.
+     */
+    public long getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * Stops the thread of the wheel. The pending timeouts are not run.
+     */
+    public void stop() {
+        stopped = true;
+        LockSupport.unpark(worker);
+    }
+
+    private void start() {
+        if (started) {
+            return;
+        }
+        synchronized (this) {
+            if (!started) {
+                startTime = System.nanoTime();
+                worker.start();
+                started = true;
+            }
+        }
+    }
+
+    private void run() {
+        while (waitForNextTick()) {
+            removeCancelledTimeouts();
+            transferNewTimeouts();
+            wheel[(int) (tick & mask)].expireTimeouts();
+            tick++;
+        }
+    }
+
+    /**
+     * Waits until the end of the current tick, and returns false if the wheel was stopped in the meantime.
+     */
+    private boolean waitForNextTick() {
+        long deadline = tickDuration * (tick + 1);
+        while (!stopped) {
+            long sleepTime = deadline - (System.nanoTime() - startTime);
+            if (sleepTime <= 0) {
+                return true;
+            }
+            LockSupport.parkNanos(this, sleepTime);
+        }
+        return false;
+    }
+
+    private void transferNewTimeouts() {
+        for (int i = 0; i < MAX_TIMEOUTS_PER_TICK; i++) {
+            Timeout timeout = newTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() == Timeout.CANCELLED) {
+                continue;
+            }
+            long expiryTick = timeout.deadline / tickDuration;
+            timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+            // Timeouts which are already due expire at the current tick
+            timeout.bucket = wheel[(int) (Math.max(expiryTick, tick) & mask)];
+            timeout.bucket.add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * Timeout of a task scheduled on a {@link TimerWheel}.
+     */
+    public static class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final TimerWheel timerWheel;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        // Only accessed by the thread of the wheel
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout previous;
+
+        private Timeout(TimerWheel timerWheel, Runnable task, long deadline) {
+            this.timerWheel = timerWheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout, so that its task is not run.
+         *
+         * @return true if the timeout was cancelled, or false if it was already expired or cancelled.
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            timerWheel.pendingTimeouts.decrementAndGet();
+            timerWheel.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(PENDING, EXPIRED)) {
+                return;
+            }
+            timerWheel.pendingTimeouts.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable e) {
+                // The worker thread must survive, since it runs the tasks of all the other timeouts
+                console.println("ballerina: error while running a timer task: " + e);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts expiring in a tick of the wheel.
+     */
+    private static class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+        }
+
+        /**
+         * Expires the timeouts of the current round. A bucket is visited at the end of its tick, hence their
+         * deadlines have passed.
+         */
+        private void expireTimeouts() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            Timeout next = timeout.next;
+            if (timeout.previous != null) {
+                timeout.previous.next = next;
+            }
+            if (next != null) {
+                next.previous = timeout.previous;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.previous;
+            }
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -27,7 +27,9 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.ballerinalang.stdlib.task.objects.AbstractTask;
 import org.ballerinalang.stdlib.task.objects.Appointment;
+import org.ballerinalang.stdlib.task.objects.OverrunPolicy;
 import org.ballerinalang.stdlib.task.objects.ServiceInformation;
 import org.ballerinalang.stdlib.task.objects.Timer;
 
@@ -38,9 +40,13 @@ import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_DAYS_OF_WE
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_DELAY;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_HOURS;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_INTERVAL;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_JITTER;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_MAX_CONCURRENT_RUNS;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_MAX_QUEUED_RUNS;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_MINUTES;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_MONTHS;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_NO_OF_RUNS;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_OVERRUN_POLICY;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_SECONDS;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.FIELD_YEAR;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.LISTENER_ERROR;
@@ -148,6 +154,7 @@ public class Utils {
             long noOfRuns = configurations.getIntValue(FIELD_NO_OF_RUNS);
             task = new Timer(delay, interval, noOfRuns);
         }
+        processRunLimits(task, configurations);
         return task;
     }
 
@@ -162,6 +169,25 @@ public class Utils {
             long noOfRuns = configurations.getIntValue(FIELD_NO_OF_RUNS);
             appointment = new Appointment(cronExpression, noOfRuns);
         }
+        processRunLimits(appointment, configurations);
         return appointment;
     }
+
+    private static void processRunLimits(AbstractTask task, BMap<BString, Object> configurations)
+            throws SchedulingException {
+        int maxConcurrentRuns = 0;
+        if (configurations.get(FIELD_MAX_CONCURRENT_RUNS) != null) {
+            long value = configurations.getIntValue(FIELD_MAX_CONCURRENT_RUNS);
+            if (value < 1 || value > Integer.MAX_VALUE) {
+                throw new SchedulingException("Task maxConcurrentRuns should be a positive integer.");
+            }
+            maxConcurrentRuns = (int) value;
+        }
+        OverrunPolicy overrunPolicy = OverrunPolicy.valueOf(configurations.getStringValue(FIELD_OVERRUN_POLICY)
+                                                                    .getValue());
+        long maxQueuedRuns = configurations.getIntValue(FIELD_MAX_QUEUED_RUNS);
+        long jitter = configurations.getIntValue(FIELD_JITTER);
+        task.setRunLimits(maxConcurrentRuns, overrunPolicy, (int) Math.min(maxQueuedRuns, Integer.MAX_VALUE),
+                          jitter);
+    }
 }
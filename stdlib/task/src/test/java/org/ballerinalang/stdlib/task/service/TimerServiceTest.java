@@ -20,6 +20,7 @@ package org.ballerinalang.stdlib.task.service;
 import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BValue;
 import org.ballerinalang.core.util.exceptions.BLangRuntimeException;
+import org.ballerinalang.stdlib.task.utils.TaskMetricsTest;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
 import org.ballerinalang.test.util.CompileResult;
@@ -107,6 +108,71 @@ public class TimerServiceTest {
         BCompileUtil.compileOffline(getFilePath(getTestPath("zero_interval.bal")));
     }
 
+    @Test(description = "Tests skipping the triggers of a timer while its run is in progress")
+    public void testListenerTimerSkipOverruns() throws InterruptedException {
+        CompileResult compileResult = BCompileUtil.compileOffline(true,
+                getFilePath(getTestPath("service_overrun_skip.bal")));
+        await().atMost(10000, TimeUnit.MILLISECONDS).until(() -> getCount(compileResult) == 1);
+        Thread.sleep(500);
+        Assert.assertEquals(getCount(compileResult), 1);
+    }
+
+    @Test(description = "Tests reporting the triggers of a timer skipped while its run is in progress")
+    public void testListenerTimerSkipOverrunsMetrics() throws InterruptedException {
+        CompileResult compileResult = BCompileUtil.compileOffline(true,
+                getFilePath(getTestPath("service_overrun_skip_metrics.bal")));
+        // The 4 triggers received during the first run of 1 s are skipped, and they are counted as recurrences
+        await().atMost(10000, TimeUnit.MILLISECONDS).until(
+                () -> TaskMetricsTest.getOverruns("skipMetricsService", "skipped") == 4);
+        Thread.sleep(1500);
+        Assert.assertEquals(getCount(compileResult), 1);
+        Assert.assertEquals(TaskMetricsTest.getOverruns("skipMetricsService", "skipped"), 4);
+    }
+
+    @Test(description = "Tests coalescing the triggers of a timer while its run is in progress")
+    public void testListenerTimerCoalesceOverruns() throws InterruptedException {
+        CompileResult compileResult = BCompileUtil.compileOffline(true,
+                getFilePath(getTestPath("service_overrun_coalesce.bal")));
+        // The 4 triggers received during the first run of 500 ms are merged into a single run, which follows it
+        await().atMost(10000, TimeUnit.MILLISECONDS).until(() -> getCount(compileResult) == 2);
+        Thread.sleep(1000);
+        Assert.assertEquals(getCount(compileResult), 2);
+    }
+
+    @Test(description = "Tests queueing the triggers of a timer while its run is in progress")
+    public void testListenerTimerQueueOverruns() throws InterruptedException {
+        CompileResult compileResult = BCompileUtil.compileOffline(true,
+                getFilePath(getTestPath("service_overrun_queue.bal")));
+        // 2 of the 4 triggers received during the first run of 500 ms are queued, and the rest are skipped
+        await().atMost(10000, TimeUnit.MILLISECONDS).until(() -> getCount(compileResult) == 3);
+        Thread.sleep(1000);
+        Assert.assertEquals(getCount(compileResult), 3);
+    }
+
+    @Test(description = "Tests dispatching all the triggers of a timer delayed by the jitter")
+    public void testTimerJitter() {
+        CompileResult compileResult = BCompileUtil.compileOffline(true, getFilePath(getTestPath("service_jitter.bal")));
+        BValue[] result = BRunUtil.invoke(compileResult, "runJitteredTimer");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 5);
+    }
+
+    @Test(description = "Tests dropping the triggers delayed by the jitter once the timer is stopped")
+    public void testStopTimerWithJitter() throws InterruptedException {
+        CompileResult compileResult = BCompileUtil.compileOffline(true, getFilePath(getTestPath("service_jitter.bal")));
+        BValue[] result = BRunUtil.invoke(compileResult, "stopJitteredTimer");
+        long countAtStop = ((BInteger) result[0]).intValue();
+        // The triggers scheduled before the timer was stopped would otherwise be dispatched within the jitter
+        Thread.sleep(1500);
+        Assert.assertEquals(getCount(compileResult), countAtStop);
+    }
+
+    private static long getCount(CompileResult compileResult) {
+        BValue[] count = BRunUtil.invoke(compileResult, "getCount");
+        Assert.assertEquals(count.length, 1);
+        Assert.assertTrue(count[0] instanceof BInteger);
+        return ((BInteger) count[0]).intValue();
+    }
+
     private static Path getTestPath(String fileName) {
         return Paths.get("listener", "timer", fileName);
     }
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.utils;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.observe.metrics.extension.defaultimpl.DefaultMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_METRICS_ENABLED;
+
+/**
+ * Tests for the metrics of the runs of the task services.
+ */
+@Test
+public class TaskMetricsTest {
+
+    /**
+     * Enables metrics for the test suite, so that the metrics of the tasks run by the other tests could be checked.
+     */
+    @BeforeSuite
+    public void enableMetrics() {
+        ConfigRegistry.getInstance().addConfiguration(CONFIG_METRICS_ENABLED, String.valueOf(Boolean.TRUE));
+        DefaultMetricProvider metricProvider = new DefaultMetricProvider();
+        metricProvider.init();
+        DefaultMetricRegistry.setInstance(new MetricRegistry(metricProvider));
+    }
+
+    @Test(description = "Tests recording the duration of the runs of a service")
+    public void testExecutionDuration() {
+        TaskMetrics metrics = TaskMetrics.getMetrics("durationService");
+        Assert.assertNotNull(metrics);
+        metrics.recordExecutionDuration(TimeUnit.MILLISECONDS.toNanos(1500));
+        metrics.recordExecutionDuration(TimeUnit.MILLISECONDS.toNanos(250));
+
+        Gauge duration = getGauge(TaskConstants.METRIC_EXECUTION_DURATION, "durationService");
+        Assert.assertEquals(duration.getValue(), 0.25);
+        Assert.assertEquals(duration.getCount(), 2);
+        Assert.assertEquals(duration.getSum(), 1.75);
+    }
+
+    @Test(description = "Tests recording the delay of the triggers of a service")
+    public void testTriggerLag() {
+        TaskMetrics metrics = TaskMetrics.getMetrics("lagService");
+        metrics.recordTriggerLag(TimeUnit.MILLISECONDS.toNanos(20));
+        Gauge lag = getGauge(TaskConstants.METRIC_TRIGGER_LAG, "lagService");
+        Assert.assertEquals(lag.getValue(), 0.02);
+
+        // A trigger dispatched before its scheduled time, as measured by the clock, is not lagging
+        metrics.recordTriggerLag(-TimeUnit.MILLISECONDS.toNanos(1));
+        Assert.assertEquals(lag.getValue(), 0.0);
+        Assert.assertEquals(lag.getCount(), 2);
+    }
+
+    @Test(description = "Tests counting the triggers which overran the runs of a service by the action taken")
+    public void testOverruns() {
+        TaskMetrics metrics = TaskMetrics.getMetrics("overrunService");
+        metrics.triggerSkipped();
+        metrics.triggerSkipped();
+        metrics.triggerQueued();
+        metrics.triggerCoalesced();
+
+        Assert.assertEquals(getOverruns("overrunService", "skipped"), 2);
+        Assert.assertEquals(getOverruns("overrunService", "queued"), 1);
+        Assert.assertEquals(getOverruns("overrunService", "coalesced"), 1);
+        Assert.assertEquals(getOverruns("durationService", "skipped"), 0);
+    }
+
+    @Test(description = "Tests reusing the metrics of a service")
+    public void testMetricsCachedByService() {
+        Assert.assertSame(TaskMetrics.getMetrics("cachedService"), TaskMetrics.getMetrics("cachedService"));
+        Assert.assertNotSame(TaskMetrics.getMetrics("cachedService"), TaskMetrics.getMetrics("otherService"));
+    }
+
+    /**
+     * Gets the number of the triggers of a service which overran its runs, as reported by the default registry.
+     *
+     * @param serviceName Name of the service.
+     * @param action      Action taken for the triggers.
+     * @return number of triggers, or 0 if none overran the runs.
+     */
+    public static long getOverruns(String serviceName, String action) {
+        Counter counter = (Counter) DefaultMetricRegistry.getInstance().lookup(new MetricId(
+                TaskConstants.METRIC_OVERRUNS, "", Set.of(new Tag("service", serviceName), new Tag("action", action))));
+        return counter == null ? 0 : counter.getValue();
+    }
+
+    private static Gauge getGauge(String name, String serviceName) {
+        Gauge gauge = (Gauge) DefaultMetricRegistry.getInstance().lookup(
+                new MetricId(name, "", Set.of(new Tag("service", serviceName))));
+        Assert.assertNotNull(gauge);
+        return gauge;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests for the timer wheel which runs the Ballerina task timers.
+ */
+@Test
+public class TimerWheelTest {
+
+    @Test(description = "Tests running tasks scheduled over several rounds of the wheel")
+    public void testTimeoutsExpireAfterDelay() throws InterruptedException {
+        TimerWheel timerWheel = new TimerWheel("test-timer", 1, TimeUnit.MILLISECONDS, 8);
+        try {
+            int timeouts = 20;
+            CountDownLatch latch = new CountDownLatch(timeouts);
+            AtomicLong earlyRuns = new AtomicLong();
+            for (int i = 0; i < timeouts; i++) {
+                long delay = i * 5;
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+                timerWheel.schedule(() -> {
+                    if (System.nanoTime() < deadline) {
+                        earlyRuns.incrementAndGet();
+                    }
+                    latch.countDown();
+                }, delay, TimeUnit.MILLISECONDS);
+            }
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(earlyRuns.get(), 0);
+            Assert.assertEquals(timerWheel.getPendingTimeouts(), 0);
+        } finally {
+            timerWheel.stop();
+        }
+    }
+
+    @Test(description = "Tests cancelling a scheduled task")
+    public void testCancelledTimeoutNotRun() throws InterruptedException {
+        TimerWheel timerWheel = new TimerWheel("test-timer", 1, TimeUnit.MILLISECONDS, 8);
+        try {
+            AtomicLong cancelledRuns = new AtomicLong();
+            TimerWheel.Timeout cancelled = timerWheel.schedule(cancelledRuns::incrementAndGet, 20,
+                                                               TimeUnit.MILLISECONDS);
+            CountDownLatch latch = new CountDownLatch(1);
+            TimerWheel.Timeout expired = timerWheel.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+            Assert.assertTrue(cancelled.cancel());
+            Assert.assertFalse(cancelled.cancel());
+
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(cancelledRuns.get(), 0);
+            Assert.assertTrue(cancelled.isCancelled());
+            Assert.assertTrue(expired.isExpired());
+            Assert.assertFalse(expired.cancel());
+            Assert.assertEquals(timerWheel.getPendingTimeouts(), 0);
+        } finally {
+            timerWheel.stop();
+        }
+    }
+
+    @Test(description = "Tests running tasks after a task has thrown an error")
+    public void testTimeoutsExpireAfterError() throws InterruptedException {
+        TimerWheel timerWheel = new TimerWheel("test-timer", 1, TimeUnit.MILLISECONDS, 8);
+        try {
+            TimerWheel.Timeout failed = timerWheel.schedule(() -> {
+                throw new StackOverflowError();
+            }, 10, TimeUnit.MILLISECONDS);
+            CountDownLatch latch = new CountDownLatch(1);
+            timerWheel.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+            Assert.assertTrue(failed.isExpired());
+            Assert.assertEquals(timerWheel.getPendingTimeouts(), 0);
+        } finally {
+            timerWheel.stop();
+        }
+    }
+
+    @Test(
+            description = "Tests scheduling a task on a stopped timer wheel",
+            expectedExceptions = IllegalStateException.class
+    )
+    public void testScheduleOnStoppedWheel() {
+        TimerWheel timerWheel = new TimerWheel("test-timer", 1, TimeUnit.MILLISECONDS, 8);
+        timerWheel.stop();
+        timerWheel.schedule(() -> { }, 0, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/runtime;
+import ballerina/task;
+
+int count = 0;
+
+service timerService = service {
+    resource function onTrigger() {
+        lock {
+            count = count + 1;
+        }
+    }
+};
+
+function getCount() returns int {
+    lock {
+        return count;
+    }
+}
+
+function runJitteredTimer() returns int|error {
+    task:Scheduler timer = new({
+        intervalInMillis: 50,
+        initialDelayInMillis: 0,
+        noOfRecurrences: 5,
+        jitterInMillis: 300
+    });
+    check timer.attach(timerService);
+    check timer.'start();
+    runtime:sleep(1000);
+    return getCount();
+}
+
+function stopJitteredTimer() returns int|error {
+    task:Scheduler timer = new({
+        intervalInMillis: 100,
+        initialDelayInMillis: 0,
+        jitterInMillis: 1000
+    });
+    check timer.attach(timerService);
+    check timer.'start();
+    runtime:sleep(350);
+    check timer.stop();
+    // Runs which were dispatched before the timer was stopped are let to complete
+    runtime:sleep(100);
+    return getCount();
+}
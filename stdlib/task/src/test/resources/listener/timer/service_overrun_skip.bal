@@ -0,0 +1,44 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/runtime;
+import ballerina/task;
+
+task:TimerConfiguration configuration = {
+    intervalInMillis: 50,
+    initialDelayInMillis: 50,
+    maxConcurrentRuns: 1,
+    overrunPolicy: task:OVERRUN_SKIP
+};
+
+int count = 0;
+
+listener task:Listener timer = new(configuration);
+
+function getCount() returns int {
+    lock {
+        return count;
+    }
+}
+
+service timerService on timer {
+    resource function onTrigger() {
+        lock {
+            count = count + 1;
+        }
+        runtime:sleep(3000);
+    }
+}
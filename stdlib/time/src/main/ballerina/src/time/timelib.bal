@@ -215,6 +215,23 @@ public function getTime(Time time) returns [int, int, int, int] = @java:Method {
     'class: "org.ballerinalang.stdlib.time.nativeimpl.ExternMethods"
 } external;
 
+# Returns the date and time representations of the given time at once, which is cheaper than getting each of them
+# separately.
+# ```ballerina
+#  time:TimeZone zoneValue = {id: "America/Panama"};
+#  time:Time time = {time: 1578488382444, zone: zoneValue};
+#  [int, int, int, int, int, int, int] fields = time:getFields(time);
+# ```
+#
+# + time - The Time record
+# + return - The year, the month-of-year from 1 (January) to 12 (December), the day-of-month from 1 to 31,
+#            the hour-of-day from 0 to 23, the minute-of-hour from 0 to 59, the second-of-minute from 0 to 59,
+#            and the milli-of-second from 0 to 999
+public function getFields(Time time) returns [int, int, int, int, int, int, int] = @java:Method {
+    name: "getFields",
+    'class: "org.ballerinalang.stdlib.time.nativeimpl.ExternMethods"
+} external;
+
 # Add specified durations to the given time value.
 # ```ballerina
 #  string timeText = "2020-06-26T09:46:22.444-0500";
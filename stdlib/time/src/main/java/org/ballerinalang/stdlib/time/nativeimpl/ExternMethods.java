@@ -29,6 +29,7 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import org.ballerinalang.stdlib.time.util.TimeUtils;
 
+import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -60,6 +61,12 @@ public class ExternMethods {
     private static final TupleType getTimeTupleType = TypeCreator.createTupleType(
             Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_INT,
                           PredefinedTypes.TYPE_INT));
+    private static final TupleType getFieldsTupleType = TypeCreator.createTupleType(
+            Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_INT,
+                          PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_INT,
+                          PredefinedTypes.TYPE_INT));
+    private static final BString[] weekdays = Arrays.stream(DayOfWeek.values())
+            .map(dayOfWeek -> StringUtils.fromString(dayOfWeek.toString())).toArray(BString[]::new);
 
     public static BString toString(BMap<BString, Object> timeRecord) {
         return getDefaultString(timeRecord);
@@ -95,7 +102,7 @@ public class ExternMethods {
 
     public static BString getWeekday(BMap<BString, Object> timeRecord) {
         ZonedDateTime dateTime = getZonedDateTime(timeRecord);
-        return StringUtils.fromString(dateTime.getDayOfWeek().toString());
+        return weekdays[dateTime.getDayOfWeek().ordinal()];
     }
 
     public static long getHour(BMap<BString, Object> timeRecord) {
@@ -119,22 +126,37 @@ public class ExternMethods {
     }
 
     public static BArray getDate(BMap<BString, Object> timeRecord) {
+        ZonedDateTime dateTime = getZonedDateTime(timeRecord);
         BArray date = ValueCreator.createTupleValue(getDateTupleType);
-        date.add(0, Long.valueOf(getYear(timeRecord)));
-        date.add(1, Long.valueOf(getMonth(timeRecord)));
-        date.add(2, Long.valueOf(getDay(timeRecord)));
+        date.add(0, dateTime.getYear());
+        date.add(1, dateTime.getMonthValue());
+        date.add(2, dateTime.getDayOfMonth());
         return date;
     }
 
     public static BArray getTime(BMap<BString, Object> timeRecord) {
+        ZonedDateTime dateTime = getZonedDateTime(timeRecord);
         BArray time = ValueCreator.createTupleValue(getTimeTupleType);
-        time.add(0, Long.valueOf(getHour(timeRecord)));
-        time.add(1, Long.valueOf(getMinute(timeRecord)));
-        time.add(2, Long.valueOf(getSecond(timeRecord)));
-        time.add(3, Long.valueOf(getMilliSecond(timeRecord)));
+        time.add(0, dateTime.getHour());
+        time.add(1, dateTime.getMinute());
+        time.add(2, dateTime.getSecond());
+        time.add(3, dateTime.getNano() / MULTIPLIER_TO_NANO);
         return time;
     }
 
+    public static BArray getFields(BMap<BString, Object> timeRecord) {
+        ZonedDateTime dateTime = getZonedDateTime(timeRecord);
+        BArray fields = ValueCreator.createTupleValue(getFieldsTupleType);
+        fields.add(0, dateTime.getYear());
+        fields.add(1, dateTime.getMonthValue());
+        fields.add(2, dateTime.getDayOfMonth());
+        fields.add(3, dateTime.getHour());
+        fields.add(4, dateTime.getMinute());
+        fields.add(5, dateTime.getSecond());
+        fields.add(6, dateTime.getNano() / MULTIPLIER_TO_NANO);
+        return fields;
+    }
+
     public static BMap<BString, Object> addDuration(BMap<BString, Object> timeRecord, long years, long months,
                                                     long days, long hours, long minutes, long seconds,
                                                     long milliSeconds) {
@@ -19,6 +19,8 @@
 package org.ballerinalang.stdlib.time.util;
 
 import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_BUILTIN_PKG_PREFIX;
 /**
@@ -37,9 +39,12 @@ public class Constants {
 
     public static final String TIME_ERROR = "TimeError";
     public static final String KEY_ZONED_DATETIME = "ZonedDateTime";
-    public static final String TIME_FIELD = "time";
-    public static final String ZONE_FIELD = "zone";
-    public static final String ZONE_ID_FIELD = "id";
+    public static final BString TIME_FIELD = StringUtils.fromString("time");
+    public static final BString ZONE_FIELD = StringUtils.fromString("zone");
+    public static final BString ZONE_ID_FIELD = StringUtils.fromString("id");
 
     public static final int MULTIPLIER_TO_NANO = 1000000;
+
+    // Maximum number of distinct patterns of which the compiled formatters are cached
+    public static final int MAX_CACHED_FORMATTERS = 64;
 }
@@ -35,9 +35,12 @@ import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.time.zone.ZoneRulesException;
 import java.util.Date;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.ballerinalang.stdlib.time.util.Constants.KEY_ZONED_DATETIME;
+import static org.ballerinalang.stdlib.time.util.Constants.MAX_CACHED_FORMATTERS;
 import static org.ballerinalang.stdlib.time.util.Constants.STRUCT_TYPE_TIME;
 import static org.ballerinalang.stdlib.time.util.Constants.STRUCT_TYPE_TIMEZONE;
 import static org.ballerinalang.stdlib.time.util.Constants.TIME_FIELD;
@@ -52,6 +55,8 @@ import static org.ballerinalang.stdlib.time.util.Constants.ZONE_ID_FIELD;
  */
 public class TimeUtils {
 
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
     public static BMap<BString, Object> createTimeZone(BMap<BString, Object> timeZoneRecord,
                                                        BString zoneIdValue) {
         ZoneId zoneId = getTimeZone(zoneIdValue);
@@ -128,8 +133,26 @@ public class TimeUtils {
     public static BString getFormattedString(BMap<BString, Object> timeRecord, BString pattern)
             throws IllegalArgumentException {
         ZonedDateTime dateTime = getZonedDateTime(timeRecord);
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(pattern.getValue());
-        return StringUtils.fromString(dateTime.format(dateTimeFormatter));
+        return StringUtils.fromString(dateTime.format(getFormatter(pattern.getValue())));
+    }
+
+    /**
+     * Gets the formatter of a pattern. Compiled formatters are cached for a bounded number of distinct patterns, and
+     * the formatters of further patterns are compiled at each call.
+     *
+     * @param pattern pattern of the formatter
+     * @return formatter of the pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter getFormatter(String pattern) {
+        DateTimeFormatter formatter = FORMATTERS.get(pattern);
+        if (formatter == null) {
+            formatter = DateTimeFormatter.ofPattern(pattern);
+            if (FORMATTERS.size() < MAX_CACHED_FORMATTERS) {
+                FORMATTERS.putIfAbsent(pattern, formatter);
+            }
+        }
+        return formatter;
     }
 
     public static BString getDefaultString(BMap<BString, Object> timeRecord) {
@@ -139,7 +162,7 @@ public class TimeUtils {
 
     public static BMap<BString, Object> parseTime(BString dateValue, BString pattern) {
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern.getValue());
+            DateTimeFormatter formatter = getFormatter(pattern.getValue());
             TemporalAccessor temporalAccessor = formatter.parse(dateValue.getValue());
             //Initialize with default values
             int year = 1970;
@@ -196,16 +219,16 @@ public class TimeUtils {
         if (dateTime != null) {
             return dateTime;
         }
-        long timeData = timeRecord.getIntValue(StringUtils.fromString(TIME_FIELD));
+        long timeData = timeRecord.getIntValue(TIME_FIELD);
         BMap<BString, Object> zoneData =
-                (BMap<BString, Object>) timeRecord.getMapValue(StringUtils.fromString(ZONE_FIELD));
+                (BMap<BString, Object>) timeRecord.getMapValue(ZONE_FIELD);
         ZoneId zoneId;
         if (zoneData != null) {
-            String zoneIdName = zoneData.getStringValue(StringUtils.fromString(ZONE_ID_FIELD)).toString();
-            if (zoneIdName.isEmpty()) {
+            BString zoneIdName = zoneData.getStringValue(ZONE_ID_FIELD);
+            if (zoneIdName.getValue().isEmpty()) {
                 zoneId = ZoneId.systemDefault();
             } else {
-                zoneId = TimeUtils.getTimeZone(StringUtils.fromString(zoneIdName));
+                zoneId = TimeUtils.getTimeZone(zoneIdName);
             }
         } else {
             zoneId = ZoneId.systemDefault();
@@ -217,7 +240,7 @@ public class TimeUtils {
 
     public static BMap<BString, Object> changeTimezone(BMap<BString, Object> timeRecord, BString zoneId) {
         BMap<BString, Object> timezone = TimeUtils.createTimeZone(TimeUtils.getTimeZoneRecord(), zoneId);
-        timeRecord.put(StringUtils.fromString(ZONE_FIELD), timezone);
+        timeRecord.put(ZONE_FIELD, timezone);
         clearRecordCache(timeRecord);
         return timeRecord;
     }
@@ -228,7 +251,7 @@ public class TimeUtils {
 
     public static BString getZoneId(BMap<BString, Object> timeRecord) {
         BMap<BString, Object> zoneData =
-                (BMap<BString, Object>) timeRecord.getMapValue(StringUtils.fromString(ZONE_FIELD));
-        return zoneData.getStringValue(StringUtils.fromString(ZONE_ID_FIELD));
+                (BMap<BString, Object>) timeRecord.getMapValue(ZONE_FIELD);
+        return zoneData.getStringValue(ZONE_ID_FIELD);
     }
 }
@@ -159,6 +159,26 @@ public class TimeTest {
         Assert.assertEquals(((BInteger) returns[3]).intValue(), 555);
     }
 
+    @Test(description = "Test Get Fields Function.")
+    public void testGetFieldsFunction() {
+        BValue[] returns = BRunUtil.invoke(result, "testGetFieldsFunction");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 2016);
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 3);
+        Assert.assertEquals(((BInteger) returns[2]).intValue(), 1);
+        Assert.assertEquals(((BInteger) returns[3]).intValue(), 18);
+        Assert.assertEquals(((BInteger) returns[4]).intValue(), 56);
+        Assert.assertEquals(((BInteger) returns[5]).intValue(), 23);
+        Assert.assertEquals(((BInteger) returns[6]).intValue(), 555);
+    }
+
+    @Test(description = "Test formatting times with a pattern of which the formatter is cached.")
+    public void testFormatTimeWithCachedPattern() {
+        BValue[] returns = BRunUtil.invoke(result, "testFormatTimeWithCachedPattern");
+        Assert.assertEquals((returns[0]).stringValue(), "2017-06-26T09:46:22.444-0500");
+        Assert.assertEquals((returns[1]).stringValue(), "2017-06-26T09:46:23.555-0500");
+        Assert.assertTrue(returns[2] instanceof BError);
+    }
+
     @Test(description = "Test add Duration to Time.")
     public void testAddDuration() {
         BValue[] returns = BRunUtil.invoke(result, "testAddDuration");
@@ -156,6 +156,20 @@ function testGetTimeFunction() returns [int, int, int, int] {
     return [hour, minute, second, milliSecond];
 }
 
+function testGetFieldsFunction() returns [int, int, int, int, int, int, int] {
+    time:TimeZone zoneValue = {id:"America/Panama"};
+    time:Time time = { time: 1456876583555, zone: zoneValue };
+    return time:getFields(time);
+}
+
+function testFormatTimeWithCachedPattern() returns [string|error, string|error, string|error] {
+    time:TimeZone zoneValue = {id:"America/Panama"};
+    time:Time time = { time: 1498488382444, zone: zoneValue };
+    time:Time nextTime = { time: 1498488383555, zone: zoneValue };
+    string pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
+    return [time:format(time, pattern), time:format(nextTime, pattern), time:format(time, "test")];
+}
+
 function testAddDuration() returns (string) {
     string formattedTime = "";
     var timeRet = time:parse("2017-06-26T09:46:22.444-0500", "yyyy-MM-dd'T'HH:mm:ss.SSSZ");